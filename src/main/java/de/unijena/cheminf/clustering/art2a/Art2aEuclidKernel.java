@@ -28,6 +28,7 @@ package de.unijena.cheminf.clustering.art2a;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
@@ -49,7 +50,19 @@ import java.util.stream.IntStream;
  * <br><br>
  * Note: For clustering of the SAME data with DIFFERENT vigilance parameters use
  * method getClusterResults() where the mode of calculation may be specified to
- * be sequential or concurrent (parallelized).
+ * be sequential or concurrent (parallelized). For clustering of the SAME data
+ * with DIFFERENT random seeds use method getEnsembleClusterResult() which
+ * performs the clustering runs concurrently and returns their consensus with
+ * a stability score of each data vector.
+ * <br><br>
+ * The clustering results for a random seed value do not depend on the
+ * number of threads, i.e., all parallelized calculations (Rho winner
+ * calculation, final assignment, mini-batch training and concurrent
+ * clustering runs with different vigilance parameters or random seeds) lead
+ * to results identical to a single thread (exception:
+ * getHogwildClusterResult()). The number of threads may be set by calling
+ * the clustering methods from a task of a ForkJoinPool with the desired
+ * parallelism.
  * <br><br>
  * All numerical calculations are performed in single (float) precision.
  * <br><br>
@@ -70,8 +83,15 @@ import java.util.stream.IntStream;
  * number of data row vectors will lead to roughly 2 MByte of additionally
  * allocated memory. Note, that memory for cluster vectors is only allocated if
  * needed, e.g. if specified parameter maximumNumberOfClusters allows 150
- * clusters but only 27 are needed, then only memory for these 27 cluster
- * vectors is allocated. The minimal memory allocation comes at the expense of
+ * clusters but only 27 are needed, then only memory for 32 cluster vectors
+ * is allocated (the contiguous cluster matrix grows geometrically, i.e., at
+ * most twice the memory of the needed cluster vectors is allocated). The
+ * buffers of a clustering run (the cluster matrices plus two int values per
+ * data vector for its cluster index and random index) are retained by the
+ * clustering instance (at most one set per available processor) and reused
+ * by successive clustering runs (see ClusteringWorkspace), they may be
+ * released with clearWorkspaces(). The
+ * minimal memory allocation comes at the expense of
  * clustering speed since preprocessing steps have to be executed repeatedly.
  * This also decreases the performance of some methods of the Art2aEuclidResult
  * object generated by the clustering process, e.g. getClusterRepresentatives().
@@ -133,6 +153,12 @@ public class Art2aEuclidKernel {
      * Value 1.0
      */
     private static final float ONE = 1.0f;
+    /**
+     * Maximum number of chunks of data vectors for the parallelized
+     * assignment of data vectors to clusters (for load balancing, the chunks
+     * do not depend on the number of threads)
+     */
+    private static final int MAXIMUM_NUMBER_OF_CHUNKS = 64;
     //</editor-fold>
     //<editor-fold desc="Private static final class variables">
     /**
@@ -174,6 +200,10 @@ public class Art2aEuclidKernel {
      * Learning parameter in interval (0,1)
      */
     private final float learningParameter;
+    /**
+     * Schedule of the learning parameter
+     */
+    private final LearningParameterSchedule learningParameterSchedule;
     /**
      * Random seed value
      */
@@ -182,6 +212,11 @@ public class Art2aEuclidKernel {
      * PreprocessedData object
      */
     private final PreprocessedData preprocessedData;
+    /**
+     * Pool of free workspaces of the clustering runs (bounded, see
+     * ClusteringWorkspace)
+     */
+    private final ConcurrentLinkedDeque<ClusteringWorkspace> workspaces;
     //</editor-fold>
 
     // <editor-fold desc="Public constructors">
@@ -214,6 +249,53 @@ public class Art2aEuclidKernel {
         float anOffsetForContrastEnhancement,
         long aRandomSeed,
         boolean anIsDataPreprocessing
+    ) throws IllegalArgumentException {
+        this(
+            aDataMatrix,
+            aMaximumNumberOfClusters,
+            aMaximumNumberOfEpochs,
+            aConvergenceThreshold,
+            aLearningParameter,
+            anOffsetForContrastEnhancement,
+            aRandomSeed,
+            anIsDataPreprocessing,
+            LearningParameterSchedule.getConstantSchedule()
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aDataMatrix Data matrix with data row vectors (IS NOT CHANGED)
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aDataMatrix])
+     * @param aMaximumNumberOfEpochs Maximum number of epochs for training
+     * (must be greater zero)
+     * @param aConvergenceThreshold Convergence threshold for cluster centroid
+     * distance (must be greater zero)
+     * @param aLearningParameter Learning parameter (must be in interval (0,1))
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @param aRandomSeed Random seed value for random number generator
+     * (must be greater zero)
+     * @param anIsDataPreprocessing True: Data preprocessing is performed, false:
+     * Otherwise.
+     * @param aLearningParameterSchedule Schedule of the learning parameter
+     * where aLearningParameter is the initial learning parameter (must not be
+     * null, see LearningParameterSchedule)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     *
+     */
+    public Art2aEuclidKernel(
+        float[][] aDataMatrix,
+        int aMaximumNumberOfClusters,
+        int aMaximumNumberOfEpochs,
+        float aConvergenceThreshold,
+        float aLearningParameter,
+        float anOffsetForContrastEnhancement,
+        long aRandomSeed,
+        boolean anIsDataPreprocessing,
+        LearningParameterSchedule aLearningParameterSchedule
     ) throws IllegalArgumentException {
         // <editor-fold desc="Checks">
         if(!Utils.isDataMatrixValid(aDataMatrix)) {
@@ -268,6 +350,13 @@ public class Art2aEuclidKernel {
             );
             throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aRandomSeed must be greater/equal 0.");
         }
+        if(aLearningParameterSchedule == null) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null.");
+        }
         //</editor-fold>
 
         if(anIsDataPreprocessing) {
@@ -290,6 +379,8 @@ public class Art2aEuclidKernel {
         this.convergenceThreshold = aConvergenceThreshold;
         this.learningParameter = aLearningParameter;
         this.randomSeed = aRandomSeed;
+        this.workspaces = new ConcurrentLinkedDeque<>();
+        this.learningParameterSchedule = aLearningParameterSchedule;
     }
 
     /**
@@ -345,6 +436,45 @@ public class Art2aEuclidKernel {
         float aConvergenceThreshold,
         float aLearningParameter,
         long aRandomSeed
+    ) throws IllegalArgumentException {
+        this(
+            aPreprocessedArt2aEuclidData,
+            aMaximumNumberOfClusters,
+            aMaximumNumberOfEpochs,
+            aConvergenceThreshold,
+            aLearningParameter,
+            aRandomSeed,
+            LearningParameterSchedule.getConstantSchedule()
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aPreprocessedArt2aEuclidData PreprocessedData object
+     * created by method Art2aEuclidKernel.getPreprocessedArt2aEuclidData()
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aDataMatrix])
+     * @param aMaximumNumberOfEpochs Maximum number of epochs for training
+     * (must be greater zero)
+     * @param aConvergenceThreshold Convergence threshold for cluster centroid
+     * distance (must be greater zero)
+     * @param aLearningParameter Learning parameter (must be in interval (0,1))
+     * @param aRandomSeed Random seed value for random number generator
+     * (must be greater zero)
+     * @param aLearningParameterSchedule Schedule of the learning parameter
+     * where aLearningParameter is the initial learning parameter (must not be
+     * null, see LearningParameterSchedule)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public Art2aEuclidKernel(
+        PreprocessedArt2aEuclidData aPreprocessedArt2aEuclidData,
+        int aMaximumNumberOfClusters,
+        int aMaximumNumberOfEpochs,
+        float aConvergenceThreshold,
+        float aLearningParameter,
+        long aRandomSeed,
+        LearningParameterSchedule aLearningParameterSchedule
     ) throws IllegalArgumentException {
         // <editor-fold desc="Checks">
         if(aPreprocessedArt2aEuclidData == null) {
@@ -361,8 +491,8 @@ public class Art2aEuclidKernel {
             );
             throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aMaximumNumberOfClusters must be greater 1.");
         }
-        if(aMaximumNumberOfClusters > aPreprocessedArt2aEuclidData.getPreprocessedMatrix().length) {
-            aMaximumNumberOfClusters = aPreprocessedArt2aEuclidData.getPreprocessedMatrix().length;
+        if(aMaximumNumberOfClusters > aPreprocessedArt2aEuclidData.getNumberOfDataVectors()) {
+            aMaximumNumberOfClusters = aPreprocessedArt2aEuclidData.getNumberOfDataVectors();
         }
         if(aMaximumNumberOfEpochs <= 0) {
             Art2aEuclidKernel.LOGGER.log(
@@ -392,6 +522,13 @@ public class Art2aEuclidKernel {
             );
             throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aRandomSeed must be greater/equal 0.");
         }
+        if(aLearningParameterSchedule == null) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null.");
+        }
         //</editor-fold>
 
         this.preprocessedData = aPreprocessedArt2aEuclidData;
@@ -400,6 +537,8 @@ public class Art2aEuclidKernel {
         this.convergenceThreshold = aConvergenceThreshold;
         this.learningParameter = aLearningParameter;
         this.randomSeed = aRandomSeed;
+        this.workspaces = new ConcurrentLinkedDeque<>();
+        this.learningParameterSchedule = aLearningParameterSchedule;
     }
 
     /**
@@ -426,230 +565,1761 @@ public class Art2aEuclidKernel {
             DEFAULT_RANDOM_SEED
         );
     }
-    //</editor-fold>
 
-    // <editor-fold desc="Public methods">
     /**
-     * Performs ART-2a-Euclid clustering and returns corresponding Art2aEuclidResult.
-     * Note: Parallelized Rho winner calculation is faster if many detected clusters, sequential Rho winner
-     * calculation is faster for a small number of formed clusters. The crossover between both must be evaluated
-     * experimentally.
+     * Constructor.
+     *
+     * @param aSparseDataMatrix Sparse data matrix with data row vectors (IS NOT
+     * CHANGED)
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aSparseDataMatrix])
+     * @param aMaximumNumberOfEpochs Maximum number of epochs for training
+     * (must be greater zero)
+     * @param aConvergenceThreshold Convergence threshold for cluster centroid
+     * distance (must be greater zero)
+     * @param aLearningParameter Learning parameter (must be in interval (0,1))
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @param aRandomSeed Random seed value for random number generator
+     * (must be greater zero)
+     * @param anIsDataPreprocessing True: Data preprocessing is performed, false:
+     * Otherwise.
+     * @throws IllegalArgumentException Thrown if an argument is illegal
      *
-     * @param aVigilance Vigilance parameter (must be in interval (0,1))
-     * @param anIsParallelRhoWinnerCalculation True: Rho winner calculation
-     * is parallelized, false: Rho winner calculation is sequential.
-     * @return Art2aEuclidResult instance
-     * @throws IllegalArgumentException Thrown if argument is illegal
-     * @throws Exception Thrown if exception occurs which should never happen
      */
-    public Art2aEuclidResult getClusterResult(
-        float aVigilance,
-        boolean anIsParallelRhoWinnerCalculation
-    ) throws IllegalArgumentException, Exception {
+    public Art2aEuclidKernel(
+        SparseDataMatrix aSparseDataMatrix,
+        int aMaximumNumberOfClusters,
+        int aMaximumNumberOfEpochs,
+        float aConvergenceThreshold,
+        float aLearningParameter,
+        float anOffsetForContrastEnhancement,
+        long aRandomSeed,
+        boolean anIsDataPreprocessing
+    ) throws IllegalArgumentException {
+        this(
+            aSparseDataMatrix,
+            aMaximumNumberOfClusters,
+            aMaximumNumberOfEpochs,
+            aConvergenceThreshold,
+            aLearningParameter,
+            anOffsetForContrastEnhancement,
+            aRandomSeed,
+            anIsDataPreprocessing,
+            LearningParameterSchedule.getConstantSchedule()
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aSparseDataMatrix Sparse data matrix with data row vectors (IS NOT
+     * CHANGED)
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aSparseDataMatrix])
+     * @param aMaximumNumberOfEpochs Maximum number of epochs for training
+     * (must be greater zero)
+     * @param aConvergenceThreshold Convergence threshold for cluster centroid
+     * distance (must be greater zero)
+     * @param aLearningParameter Learning parameter (must be in interval (0,1))
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @param aRandomSeed Random seed value for random number generator
+     * (must be greater zero)
+     * @param anIsDataPreprocessing True: Data preprocessing is performed, false:
+     * Otherwise.
+     * @param aLearningParameterSchedule Schedule of the learning parameter
+     * where aLearningParameter is the initial learning parameter (must not be
+     * null, see LearningParameterSchedule)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     *
+     */
+    public Art2aEuclidKernel(
+        SparseDataMatrix aSparseDataMatrix,
+        int aMaximumNumberOfClusters,
+        int aMaximumNumberOfEpochs,
+        float aConvergenceThreshold,
+        float aLearningParameter,
+        float anOffsetForContrastEnhancement,
+        long aRandomSeed,
+        boolean anIsDataPreprocessing,
+        LearningParameterSchedule aLearningParameterSchedule
+    ) throws IllegalArgumentException {
         // <editor-fold desc="Checks">
-        if(aVigilance <= 0.0f || aVigilance >= 1.0f) {
+        if(aSparseDataMatrix == null) {
             Art2aEuclidKernel.LOGGER.log(
                 Level.SEVERE,
-                "Art2aEuclidKernel.getClusterResult: aVigilance must be in interval (0,1)."
+                "Art2aEuclidKernel.Constructor: aSparseDataMatrix is null."
             );
-            throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResult: aVigilance must be in interval (0,1).");
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aSparseDataMatrix is null.");
+        }
+        if(aMaximumNumberOfClusters < 2) {
+            Art2aEuclidKernel.LOGGER.log(
+                    Level.SEVERE,
+                    "Art2aEuclidKernel.Constructor: aMaximumNumberOfClusters must be greater 1."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aMaximumNumberOfClusters must be greater 1.");
+        }
+        if(aMaximumNumberOfClusters > aSparseDataMatrix.getNumberOfRows()) {
+            aMaximumNumberOfClusters = aSparseDataMatrix.getNumberOfRows();
+        }
+        if(aMaximumNumberOfEpochs <= 0) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aMaximumNumberOfEpochs must be greater zero."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aMaximumNumberOfEpochs must be greater zero.");
+        }
+        if(aConvergenceThreshold <= 0.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aConvergenceThreshold must be greater zero."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aConvergenceThreshold must be greater zero.");
+        }
+        if(aLearningParameter <= 0.0f || aLearningParameter >= 1.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aLearningParameter must be in interval (0,1)."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aLearningParameter must be in interval (0,1).");
+        }
+        if(anOffsetForContrastEnhancement <= 0.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: anOffsetForContrastEnhancement must be greater zero."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: anOffsetForContrastEnhancement must be greater zero.");
+        }
+        if(aRandomSeed <= 0L) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aRandomSeed must be greater 0."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aRandomSeed must be greater/equal 0.");
+        }
+        if(aLearningParameterSchedule == null) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null.");
         }
         //</editor-fold>
 
-        try {
-            Random tmpRandomNumberGenerator = new Random(this.randomSeed);
-            boolean tmpIsClusterOverflow = false;
-
-            float[][] tmpDataMatrix = null;
-            float[][] tmpContrastEnhancedMatrix = null;
-            // Flags array that indicates if data row vectors have a length
-            // of zero (i.e. where all components are equal to zero). True:
-            // Data row vector has a length of zero, false: Otherwise.
-            boolean[] tmpDataVectorZeroLengthFlags = null;
-            int tmpNumberOfComponents = -1;
-            int tmpNumberOfDataVectors = -1;
-            if (this.preprocessedData.hasPreprocessedData()) {
-                tmpContrastEnhancedMatrix = this.preprocessedData.getPreprocessedMatrix();
-                tmpDataVectorZeroLengthFlags = this.preprocessedData.getDataVectorZeroLengthFlags();
-                tmpNumberOfDataVectors = tmpContrastEnhancedMatrix.length;
-                tmpNumberOfComponents = tmpContrastEnhancedMatrix[0].length;
-            } else {
-                tmpDataMatrix = this.preprocessedData.getDataMatrix();
-                tmpDataVectorZeroLengthFlags = new boolean[tmpDataMatrix.length];
-                Utils.fillVector(tmpDataVectorZeroLengthFlags, false);
-                tmpNumberOfDataVectors = tmpDataMatrix.length;
-                tmpNumberOfComponents = tmpDataMatrix[0].length;
-            }
-            Utils.MinMaxValue[] tmpMinMaxComponents = this.preprocessedData.getMinMaxComponentsOfDataMatrix();
-
-            // Set tmpRhoStar
-            float tmpRhoStar = tmpNumberOfComponents * (ONE - aVigilance);
-
-            // Definitions
-            float tmpThresholdForContrastEnhancement =
-                Utils.getThresholdForContrastEnhancement(
-                    tmpNumberOfComponents,
-                    this.preprocessedData.getOffsetForContrastEnhancement()
+        if(anIsDataPreprocessing) {
+            this.preprocessedData =
+                Art2aEuclidKernel.getPreprocessedArt2aEuclidData(
+                    aSparseDataMatrix,
+                    anOffsetForContrastEnhancement
                 );
-            // Scaling factor alpha
-            float tmpScalingFactor = tmpThresholdForContrastEnhancement;
-
-            // Initialize cluster matrix and that for previous epoch (old) with
-            // all row vectors being null
-            float[][] tmpClusterMatrix = new float[this.maximumNumberOfClusters][];
-            float[][] tmpClusterMatrixOld = new float[this.maximumNumberOfClusters][];
-            // Cluster usage flags. True: Cluster is used, false: Cluster is
-            // empty and can be removed.
-            boolean[] tmpClusterUsageFlags = new boolean[this.maximumNumberOfClusters];
-            // Buffer for Rho values for parallelized Rho winner evaluation
-            float[] tmpRhoValueBuffer = null;
-            if (anIsParallelRhoWinnerCalculation) {
-                tmpRhoValueBuffer = new float[this.maximumNumberOfClusters];
-            }
-
-            // Initialize cluster indices for data row vectors with -1 to
-            // indicate missing cluster assignment
-            int[] tmpClusterIndexOfDataVector = new int[tmpNumberOfDataVectors];
-            Utils.fillVector(tmpClusterIndexOfDataVector, -1);
-
-            // Initialize random indices
-            int[] tmpRandomIndices = new int[tmpNumberOfDataVectors];
-            for(int i = 0; i < tmpRandomIndices.length; i++) {
-                tmpRandomIndices[i] = i;
-            }
+        } else {
+            this.preprocessedData =
+                new PreprocessedData(
+                    aSparseDataMatrix,
+                    Utils.getMinMaxComponents(aSparseDataMatrix),
+                    anOffsetForContrastEnhancement
+                );
+        }
 
-            // Initialize buffer vector for vector operations
-            float[] tmpBufferVector = new float[tmpNumberOfComponents];
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        this.maximumNumberOfEpochs = aMaximumNumberOfEpochs;
+        this.convergenceThreshold = aConvergenceThreshold;
+        this.learningParameter = aLearningParameter;
+        this.randomSeed = aRandomSeed;
+        this.workspaces = new ConcurrentLinkedDeque<>();
+        this.learningParameterSchedule = aLearningParameterSchedule;
+    }
 
-            // Main clustering loop
-            int tmpCurrentNumberOfEpochs = 0;
-            int tmpNumberOfDetectedClusters = 0;
-            Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+    /**
+     * Constructor with default values for
+     * MAXIMUM_NUMBER_OF_EPOCHS (= 10), CONVERGENCE_THRESHOLD (= 0.1),
+     * LEARNING_PARAMETER (= 0.01), DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT
+     * (= 0.5) and RANDOM_SEED (= 1).
+     *
+     * @param aSparseDataMatrix Sparse data matrix with data row vectors (IS NOT
+     * CHANGED)
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aSparseDataMatrix])
+     * @param anIsDataPreprocessing True: Data preprocessing is performed, false:
+     * Otherwise.
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public Art2aEuclidKernel(
+        SparseDataMatrix aSparseDataMatrix,
+        int aMaximumNumberOfClusters,
+        boolean anIsDataPreprocessing
+    ) throws IllegalArgumentException {
+        this(
+            aSparseDataMatrix,
+            aMaximumNumberOfClusters,
+            DEFAULT_MAXIMUM_NUMBER_OF_EPOCHS,
+            DEFAULT_CONVERGENCE_THRESHOLD,
+            DEFAULT_LEARNING_PARAMETER,
+            DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT,
+            DEFAULT_RANDOM_SEED,
+            anIsDataPreprocessing
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aBinaryDataMatrix Binary data matrix with data row vectors (IS NOT
+     * CHANGED)
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aBinaryDataMatrix])
+     * @param aMaximumNumberOfEpochs Maximum number of epochs for training
+     * (must be greater zero)
+     * @param aConvergenceThreshold Convergence threshold for cluster centroid
+     * distance (must be greater zero)
+     * @param aLearningParameter Learning parameter (must be in interval (0,1))
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @param aRandomSeed Random seed value for random number generator
+     * (must be greater zero)
+     * @param anIsDataPreprocessing True: Data preprocessing is performed, false:
+     * Otherwise.
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     *
+     */
+    public Art2aEuclidKernel(
+        BinaryDataMatrix aBinaryDataMatrix,
+        int aMaximumNumberOfClusters,
+        int aMaximumNumberOfEpochs,
+        float aConvergenceThreshold,
+        float aLearningParameter,
+        float anOffsetForContrastEnhancement,
+        long aRandomSeed,
+        boolean anIsDataPreprocessing
+    ) throws IllegalArgumentException {
+        this(
+            aBinaryDataMatrix,
+            aMaximumNumberOfClusters,
+            aMaximumNumberOfEpochs,
+            aConvergenceThreshold,
+            aLearningParameter,
+            anOffsetForContrastEnhancement,
+            aRandomSeed,
+            anIsDataPreprocessing,
+            LearningParameterSchedule.getConstantSchedule()
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aBinaryDataMatrix Binary data matrix with data row vectors (IS NOT
+     * CHANGED)
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aBinaryDataMatrix])
+     * @param aMaximumNumberOfEpochs Maximum number of epochs for training
+     * (must be greater zero)
+     * @param aConvergenceThreshold Convergence threshold for cluster centroid
+     * distance (must be greater zero)
+     * @param aLearningParameter Learning parameter (must be in interval (0,1))
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @param aRandomSeed Random seed value for random number generator
+     * (must be greater zero)
+     * @param anIsDataPreprocessing True: Data preprocessing is performed, false:
+     * Otherwise.
+     * @param aLearningParameterSchedule Schedule of the learning parameter
+     * where aLearningParameter is the initial learning parameter (must not be
+     * null, see LearningParameterSchedule)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     *
+     */
+    public Art2aEuclidKernel(
+        BinaryDataMatrix aBinaryDataMatrix,
+        int aMaximumNumberOfClusters,
+        int aMaximumNumberOfEpochs,
+        float aConvergenceThreshold,
+        float aLearningParameter,
+        float anOffsetForContrastEnhancement,
+        long aRandomSeed,
+        boolean anIsDataPreprocessing,
+        LearningParameterSchedule aLearningParameterSchedule
+    ) throws IllegalArgumentException {
+        // <editor-fold desc="Checks">
+        if(aBinaryDataMatrix == null) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aBinaryDataMatrix is null."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aBinaryDataMatrix is null.");
+        }
+        if(aMaximumNumberOfClusters < 2) {
+            Art2aEuclidKernel.LOGGER.log(
+                    Level.SEVERE,
+                    "Art2aEuclidKernel.Constructor: aMaximumNumberOfClusters must be greater 1."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aMaximumNumberOfClusters must be greater 1.");
+        }
+        if(aMaximumNumberOfClusters > aBinaryDataMatrix.getNumberOfRows()) {
+            aMaximumNumberOfClusters = aBinaryDataMatrix.getNumberOfRows();
+        }
+        if(aMaximumNumberOfEpochs <= 0) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aMaximumNumberOfEpochs must be greater zero."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aMaximumNumberOfEpochs must be greater zero.");
+        }
+        if(aConvergenceThreshold <= 0.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aConvergenceThreshold must be greater zero."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aConvergenceThreshold must be greater zero.");
+        }
+        if(aLearningParameter <= 0.0f || aLearningParameter >= 1.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aLearningParameter must be in interval (0,1)."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aLearningParameter must be in interval (0,1).");
+        }
+        if(anOffsetForContrastEnhancement <= 0.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: anOffsetForContrastEnhancement must be greater zero."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: anOffsetForContrastEnhancement must be greater zero.");
+        }
+        if(aRandomSeed <= 0L) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aRandomSeed must be greater 0."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aRandomSeed must be greater/equal 0.");
+        }
+        if(aLearningParameterSchedule == null) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.Constructor: aLearningParameterSchedule is null.");
+        }
+        //</editor-fold>
+
+        if(anIsDataPreprocessing) {
+            this.preprocessedData =
+                Art2aEuclidKernel.getPreprocessedArt2aEuclidData(
+                    aBinaryDataMatrix,
+                    anOffsetForContrastEnhancement
+                );
+        } else {
+            this.preprocessedData =
+                new PreprocessedData(
+                    aBinaryDataMatrix,
+                    Utils.getMinMaxComponents(aBinaryDataMatrix),
+                    anOffsetForContrastEnhancement
+                );
+        }
+
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        this.maximumNumberOfEpochs = aMaximumNumberOfEpochs;
+        this.convergenceThreshold = aConvergenceThreshold;
+        this.learningParameter = aLearningParameter;
+        this.randomSeed = aRandomSeed;
+        this.workspaces = new ConcurrentLinkedDeque<>();
+        this.learningParameterSchedule = aLearningParameterSchedule;
+    }
+
+    /**
+     * Constructor with default values for
+     * MAXIMUM_NUMBER_OF_EPOCHS (= 10), CONVERGENCE_THRESHOLD (= 0.1),
+     * LEARNING_PARAMETER (= 0.01), DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT
+     * (= 0.5) and RANDOM_SEED (= 1).
+     *
+     * @param aBinaryDataMatrix Binary data matrix with data row vectors (IS NOT
+     * CHANGED)
+     * @param aMaximumNumberOfClusters Maximum number of clusters (must be in
+     * interval [2, number of data row vectors of aBinaryDataMatrix])
+     * @param anIsDataPreprocessing True: Data preprocessing is performed, false:
+     * Otherwise.
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public Art2aEuclidKernel(
+        BinaryDataMatrix aBinaryDataMatrix,
+        int aMaximumNumberOfClusters,
+        boolean anIsDataPreprocessing
+    ) throws IllegalArgumentException {
+        this(
+            aBinaryDataMatrix,
+            aMaximumNumberOfClusters,
+            DEFAULT_MAXIMUM_NUMBER_OF_EPOCHS,
+            DEFAULT_CONVERGENCE_THRESHOLD,
+            DEFAULT_LEARNING_PARAMETER,
+            DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT,
+            DEFAULT_RANDOM_SEED,
+            anIsDataPreprocessing
+        );
+    }
+    //</editor-fold>
+
+    // <editor-fold desc="Private constructor">
+    /**
+     * Constructor for a clustering run of an ensemble (see
+     * getEnsembleClusterResult()): The parameters, the preprocessed data and
+     * the pool of workspaces of the specified kernel are shared, only the
+     * random seed is replaced.
+     * Note: No checks are performed.
+     *
+     * @param aKernel Kernel (IS NOT CHANGED)
+     * @param aRandomSeed Random seed value for random number generator
+     */
+    private Art2aEuclidKernel(
+        Art2aEuclidKernel aKernel,
+        long aRandomSeed
+    ) {
+        this.maximumNumberOfClusters = aKernel.maximumNumberOfClusters;
+        this.maximumNumberOfEpochs = aKernel.maximumNumberOfEpochs;
+        this.convergenceThreshold = aKernel.convergenceThreshold;
+        this.learningParameter = aKernel.learningParameter;
+        this.learningParameterSchedule = aKernel.learningParameterSchedule;
+        this.randomSeed = aRandomSeed;
+        this.preprocessedData = aKernel.preprocessedData;
+        this.workspaces = aKernel.workspaces;
+    }
+    //</editor-fold>
+
+    // <editor-fold desc="Public methods">
+    /**
+     * Performs ART-2a-Euclid clustering with automatic execution and returns
+     * corresponding Art2aEuclidResult.
+     * Note: The cost of the Rho winner calculation is measured during the
+     * first epoch (see RhoWinnerWorkerTeam). Afterwards, the Rho winner
+     * calculation is only shared among the worker threads if the number of
+     * detected clusters is high enough to compensate the synchronization
+     * overhead, otherwise the calling thread calculates the Rho winner alone.
+     * The final assignment of data vectors to clusters is parallelized
+     * accordingly. The chosen execution plan is recorded in the result (see
+     * Art2aEuclidResult.getExecutionPlan()).
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getClusterResult(
+        float aVigilance
+    ) throws IllegalArgumentException, Exception {
+        return this.getClusterResult(aVigilance, ClusteringRunOptions.getRunOptions(Utils.EXECUTION_MODE_AUTOMATIC));
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering and returns corresponding Art2aEuclidResult.
+     * Note: Parallelized Rho winner calculation uses a team of persistent worker threads (see
+     * RhoWinnerWorkerTeam) that shares the calculation only if there are enough detected clusters, otherwise
+     * the calling thread calculates the Rho winner alone.
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param anIsParallelRhoWinnerCalculation True: Rho winner calculation
+     * and final assignment of data vectors to clusters are parallelized,
+     * false: Rho winner calculation and final assignment are sequential.
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getClusterResult(
+        float aVigilance,
+        boolean anIsParallelRhoWinnerCalculation
+    ) throws IllegalArgumentException, Exception {
+        return this.getClusterResult(aVigilance, anIsParallelRhoWinnerCalculation, false);
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering and returns corresponding Art2aEuclidResult.
+     * Note: Pruning of the sequential Rho winner calculation skips squared
+     * distances to cluster vectors that provably can not be the Rho winner
+     * with triangle inequality bounds (see EuclidRhoWinnerPruning for the
+     * additional memory) and leads to the same result as without pruning.
+     * Pruning is faster for many detected clusters that are well separated
+     * and for data vectors that keep their cluster. Pruning is ignored for
+     * parallelized Rho winner calculation.
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param anIsParallelRhoWinnerCalculation True: Rho winner calculation
+     * and final assignment of data vectors to clusters are parallelized,
+     * false: Rho winner calculation and final assignment are sequential.
+     * @param anIsRhoWinnerPruning True: Sequential Rho winner calculation is
+     * pruned, false: Otherwise
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getClusterResult(
+        float aVigilance,
+        boolean anIsParallelRhoWinnerCalculation,
+        boolean anIsRhoWinnerPruning
+    ) throws IllegalArgumentException, Exception {
+        return this.getClusterResult(
+            aVigilance,
+            ClusteringRunOptions.getRunOptions(
+                anIsParallelRhoWinnerCalculation ? Utils.EXECUTION_MODE_PARALLEL : Utils.EXECUTION_MODE_SEQUENTIAL,
+                anIsRhoWinnerPruning
+            )
+        );
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering with a speculative Rho winner
+     * calculation and returns corresponding Art2aEuclidResult.
+     * Note: The Rho values of a window of upcoming data vectors are
+     * calculated in parallel with a snapshot of the cluster vectors. The data
+     * vectors of the window are then processed in order and only their Rho
+     * values with cluster vectors that were modified or created since the
+     * snapshot are recalculated (see SpeculativeRhoWindow). The result is
+     * identical to the one of the sequential Rho winner calculation. The
+     * speculative Rho winner calculation is only faster for multiple
+     * processors and a high number of detected clusters compared to the
+     * number of cluster vectors that are modified within a window.
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getSpeculativeClusterResult(
+        float aVigilance
+    ) throws IllegalArgumentException, Exception {
+        return this.getClusterResult(aVigilance, ClusteringRunOptions.getRunOptions(Utils.EXECUTION_MODE_SPECULATIVE));
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering with bulk-synchronous mini-batch
+     * training and returns corresponding Art2aEuclidResult.
+     * Note: The Rho winners of a mini-batch of data vectors are calculated
+     * in parallel with the cluster vectors frozen at the beginning of the
+     * mini-batch. The data vectors of the mini-batch are then merged in
+     * order: The winner cluster vectors are modified one after the other and
+     * new cluster proposals (data vectors that fail the vigilance test) are
+     * deduplicated, i.e., a proposal is assigned to a cluster created by a
+     * preceding proposal of the same mini-batch if it passes the vigilance
+     * test with this cluster (see MiniBatch). In contrast to the sequential
+     * Rho winner calculation a data vector does not see the modifications of
+     * the frozen cluster vectors by the preceding data vectors of its
+     * mini-batch. Therefore the result may differ from the one of the
+     * sequential Rho winner calculation (a mini-batch size of 1 is identical)
+     * but it does not depend on the number of processors. The final
+     * assignment is parallelized.
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param aMiniBatchSize Number of data vectors of a mini-batch (must be
+     * greater than or equal to 1, values in the order of several hundreds
+     * to thousands allow a parallelization over several blocks of data
+     * vectors, see ClusterAssignment)
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getMiniBatchClusterResult(
+        float aVigilance,
+        int aMiniBatchSize
+    ) throws IllegalArgumentException, Exception {
+        // <editor-fold desc="Checks">
+        if (aMiniBatchSize < 1) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getMiniBatchClusterResult: aMiniBatchSize must be greater than or equal to 1."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getMiniBatchClusterResult: aMiniBatchSize must be greater than or equal to 1.");
+        }
+        //</editor-fold>
+        return this.getClusterResult(aVigilance, ClusteringRunOptions.getMiniBatchRunOptions(aMiniBatchSize));
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering with lock-free (Hogwild-style)
+     * concurrent cluster updates and returns corresponding
+     * Art2aEuclidResult.
+     * Note: The threads process disjoint slices of the random sequence of
+     * data vectors of an epoch concurrently and share the cluster vectors:
+     * Winner cluster vectors are modified without locks so that a thread may
+     * calculate Rho values with stale or partially modified cluster vectors.
+     * The creation of new cluster vectors is serialized, i.e., a data vector
+     * that fails the vigilance test is re-evaluated with the cluster vectors
+     * created by other threads in the meantime before it creates a new
+     * cluster vector (see HogwildClusterUpdates). The result depends on the
+     * thread scheduling and is therefore NOT reproducible for more than one
+     * thread (a single thread is identical to the sequential Rho winner
+     * calculation). The concurrent cluster updates are only faster for
+     * multiple processors and a high number of data vectors compared to the
+     * number of threads. The final assignment is parallelized.
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param aNumberOfThreads Number of threads (must be greater than or
+     * equal to 1, a good default value is the number of available
+     * processors)
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getHogwildClusterResult(
+        float aVigilance,
+        int aNumberOfThreads
+    ) throws IllegalArgumentException, Exception {
+        // <editor-fold desc="Checks">
+        if (aNumberOfThreads < 1) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getHogwildClusterResult: aNumberOfThreads must be greater than or equal to 1."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getHogwildClusterResult: aNumberOfThreads must be greater than or equal to 1.");
+        }
+        //</editor-fold>
+        return this.getClusterResult(aVigilance, ClusteringRunOptions.getHogwildRunOptions(aNumberOfThreads));
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering with an assignment-stability
+     * convergence criterion and returns corresponding Art2aEuclidResult.
+     * Note: The number of data vectors that are (re)assigned to a different
+     * cluster is counted in each epoch without an additional pass over the
+     * data (see Art2aEuclidResult.getNumbersOfReassignedDataVectors()). The
+     * clustering process is converged if the fraction of reassigned data
+     * vectors falls below the reassignment threshold (and if the cluster
+     * vectors are converged in addition if the centroid convergence criterion
+     * is also used, see convergence threshold of the kernel). Without the
+     * centroid convergence criterion the comparison of the cluster vectors
+     * with those of the previous epoch is skipped which often stops the
+     * clustering process earlier. Automatic execution (see
+     * getClusterResult(float)).
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param aReassignmentThreshold Threshold for the fraction of reassigned
+     * data vectors in an epoch (must be in interval (0,1], a good default
+     * value is 0.001f)
+     * @param anIsCentroidConvergence True: Clustering process is only
+     * converged if the cluster vectors are converged as well, false:
+     * Assignment-stability convergence criterion is used alone
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getClusterResultWithReassignmentConvergence(
+        float aVigilance,
+        float aReassignmentThreshold,
+        boolean anIsCentroidConvergence
+    ) throws IllegalArgumentException, Exception {
+        // <editor-fold desc="Checks">
+        if (aReassignmentThreshold <= 0.0f || aReassignmentThreshold > 1.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getClusterResultWithReassignmentConvergence: aReassignmentThreshold must be in interval (0,1]."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResultWithReassignmentConvergence: aReassignmentThreshold must be in interval (0,1].");
+        }
+        //</editor-fold>
+        return this.getClusterResult(
+            aVigilance,
+            ClusteringRunOptions.getReassignmentConvergenceRunOptions(aReassignmentThreshold, anIsCentroidConvergence)
+        );
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering with per-cluster freezing of converged
+     * cluster vectors and returns corresponding Art2aEuclidResult.
+     * Note: A cluster vector whose drift stays within the convergence
+     * threshold of the kernel for the specified number of consecutive epochs
+     * is frozen, i.e., it is no longer modified by the data vectors that are
+     * assigned to it and its convergence check is skipped. A frozen cluster
+     * is unfrozen automatically if the set of its assigned data vectors
+     * changes significantly (see ClusterFreezing). Freezing reduces the cost
+     * of epochs for long clustering runs with a high maximum number of epochs
+     * where large clusters stabilize early, but the result may differ
+     * slightly from that of getClusterResult(float). Automatic execution (see
+     * getClusterResult(float)).
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param aNumberOfEpochsForFreezing Number of consecutive epochs with
+     * converged cluster vector for freezing of the cluster (must be greater
+     * than or equal to 1, a good default value is 3)
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getClusterResultWithClusterFreezing(
+        float aVigilance,
+        int aNumberOfEpochsForFreezing
+    ) throws IllegalArgumentException, Exception {
+        // <editor-fold desc="Checks">
+        if (aNumberOfEpochsForFreezing < 1) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getClusterResultWithClusterFreezing: aNumberOfEpochsForFreezing must be greater than or equal to 1."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResultWithClusterFreezing: aNumberOfEpochsForFreezing must be greater than or equal to 1.");
+        }
+        //</editor-fold>
+        return this.getClusterResult(aVigilance, ClusteringRunOptions.getClusterFreezingRunOptions(aNumberOfEpochsForFreezing));
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering with a sample of the data vectors
+     * (sample-then-assign) and returns corresponding Art2aEuclidResult.
+     * Note: The cluster vectors are trained with the data vectors of a sample
+     * only which is drawn uniformly or stratified by the lengths of the data
+     * vectors with the random seed of the kernel (see DataVectorSample).
+     * Afterwards all data vectors are assigned to the learned cluster vectors
+     * in one parallelized pass and empty clusters are removed. With the
+     * refinement epoch the training with the sample is followed by one epoch
+     * with all data vectors (the last epoch if the training with the sample
+     * does not converge before) so that data vectors outside the sample may
+     * also modify or create cluster vectors: The separate assignment pass is
+     * then skipped. An epoch with the sample costs only a fraction of an
+     * epoch with all data vectors, i.e., the sample-then-assign clustering is
+     * suited for huge numbers of data vectors that are well represented by a
+     * sample (see Art2aEuclidResult.getSampleSize() and getSamplingTime()).
+     * Automatic execution (see getClusterResult(float)).
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param aSampleSize Number of data vectors of the sample (must be in
+     * interval [1, number of data vectors])
+     * @param anIsStratifiedSample True: Sample is stratified by the lengths
+     * of the data vectors, false: Sample is uniform
+     * @param anIsRefinementEpoch True: Training with the sample is followed
+     * by a refinement epoch with all data vectors, false: Otherwise
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public Art2aEuclidResult getSampleClusterResult(
+        float aVigilance,
+        int aSampleSize,
+        boolean anIsStratifiedSample,
+        boolean anIsRefinementEpoch
+    ) throws IllegalArgumentException, Exception {
+        // <editor-fold desc="Checks">
+        if (aSampleSize < 1 || aSampleSize > this.preprocessedData.getNumberOfDataVectors()) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getSampleClusterResult: aSampleSize must be in interval [1, number of data vectors]."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getSampleClusterResult: aSampleSize must be in interval [1, number of data vectors].");
+        }
+        //</editor-fold>
+        return this.getClusterResult(
+            aVigilance,
+            ClusteringRunOptions.getSampleRunOptions(aSampleSize, anIsStratifiedSample, anIsRefinementEpoch)
+        );
+    }
+
+    /**
+     * Performs an ensemble of ART-2a-Euclid clustering runs with the specified random
+     * seeds and returns the consensus of the runs as ConsensusResult.
+     * Note: The clustering runs share the preprocessed data of this kernel
+     * (only the random seed differs, i.e., the order of the data vectors in
+     * the epochs) and are performed concurrently with sequential Rho winner
+     * calculation (batch-parallel) if there are several processors,
+     * otherwise one after another with automatic execution (see
+     * getClusterResult(float)). Only the cluster indices of the data vectors
+     * of the runs are retained for the consensus which assigns each data
+     * vector to the consensus cluster that most runs vote for and scores its
+     * stability by the fraction of these votes (see ConsensusClustering). The
+     * memory of the consensus is linear in the number of data vectors times
+     * the number of random seeds. The consensus result does not depend on the
+     * number of threads.
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param aRandomSeeds Random seed values of the clustering runs (must
+     * not be null, must contain at least one random seed and each random
+     * seed must be greater zero, IS NOT CHANGED)
+     * @return ConsensusResult instance or null if a clustering result could
+     * not be calculated
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public ConsensusResult getEnsembleClusterResult(
+        float aVigilance,
+        long[] aRandomSeeds
+    ) throws IllegalArgumentException {
+        // <editor-fold desc="Checks">
+        if(aVigilance <= 0.0f || aVigilance >= 1.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getEnsembleClusterResult: aVigilance must be in interval (0,1)."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getEnsembleClusterResult: aVigilance must be in interval (0,1).");
+        }
+        if (aRandomSeeds == null || aRandomSeeds.length == 0) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getEnsembleClusterResult: aRandomSeeds is null or has length 0."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getEnsembleClusterResult: aRandomSeeds is null or has length 0.");
+        }
+        for (long tmpRandomSeed : aRandomSeeds) {
+            if(tmpRandomSeed <= 0L) {
+                Art2aEuclidKernel.LOGGER.log(
+                    Level.SEVERE,
+                    "Art2aEuclidKernel.getEnsembleClusterResult: Random seed must be greater 0."
+                );
+                throw new IllegalArgumentException("Art2aEuclidKernel.getEnsembleClusterResult: Random seed must be greater 0.");
+            }
+        }
+        //</editor-fold>
+
+        long[] tmpRandomSeeds = Arrays.copyOf(aRandomSeeds, aRandomSeeds.length);
+        int[][] tmpClusterIndicesOfRuns = new int[tmpRandomSeeds.length][];
+        int[] tmpNumbersOfDetectedClustersOfRuns = new int[tmpRandomSeeds.length];
+        int tmpExecutionMode;
+        if (tmpRandomSeeds.length > 1 && Utils.getParallelism() > 1) {
+            // Note: Batch-parallel mode implies sequential Rho winner calculation.
+            tmpExecutionMode = Utils.EXECUTION_MODE_BATCH_PARALLEL;
+        } else {
+            tmpExecutionMode = Utils.EXECUTION_MODE_AUTOMATIC;
+        }
+        // Options of the clustering runs (shared by all runs)
+        ClusteringRunOptions tmpRunOptions = ClusteringRunOptions.getRunOptions(tmpExecutionMode);
+        // Advise by Oracle: Parallel streams should use the common fork-join pool.
+        IntStream tmpRuns = IntStream.range(0, tmpRandomSeeds.length);
+        if (tmpExecutionMode == Utils.EXECUTION_MODE_BATCH_PARALLEL) {
+            tmpRuns = tmpRuns.parallel();
+        }
+        try {
+            tmpRuns.forEach(
+                i ->
+                {
+                    try {
+                        Art2aEuclidResult tmpResult =
+                            new Art2aEuclidKernel(this, tmpRandomSeeds[i]).getClusterResult(aVigilance, tmpRunOptions);
+                        tmpClusterIndicesOfRuns[i] = tmpResult.getClusterIndexOfDataVector();
+                        tmpNumbersOfDetectedClustersOfRuns[i] = tmpResult.getNumberOfDetectedClusters();
+                    } catch (Exception anException) {
+                        Art2aEuclidKernel.LOGGER.log(
+                            Level.SEVERE,
+                            "Art2aEuclidKernel.getEnsembleClusterResult: An exception occurred in common fork-join pool: This should never happen."
+                        );
+                        tmpClusterIndicesOfRuns[i] = null;
+                    }
+                }
+            );
+        } catch (Exception anException) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getEnsembleClusterResult: An exception occurred: This should never happen."
+            );
+            return null;
+        }
+        for (int[] tmpClusterIndexOfRun : tmpClusterIndicesOfRuns) {
+            if (tmpClusterIndexOfRun == null) {
+                return null;
+            }
+        }
+        ConsensusClustering tmpConsensusClustering =
+            new ConsensusClustering(tmpClusterIndicesOfRuns, tmpNumbersOfDetectedClustersOfRuns);
+        return new ConsensusResult(
+            aVigilance,
+            tmpRandomSeeds,
+            tmpNumbersOfDetectedClustersOfRuns,
+            tmpConsensusClustering.getNumberOfClusters(),
+            tmpConsensusClustering.getClusterIndexOfDataVector(),
+            tmpConsensusClustering.getStabilities(),
+            tmpConsensusClustering.getNumberOfCoAssociationPairs(),
+            tmpConsensusClustering.getNumberOfVotingRounds()
+        );
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering for specified vigilance parameters and returns corresponding Art2aEuclidResult
+     * objects.
+     * Note: Parallelized Rho winner evaluation is disabled.
+     *
+     * @param aVigilances Vigilance parameters (must each be in interval (0,1))
+     * @param anIsParallelCalculation True: Calculations are parallelized, false: Calculations are sequential (one
+     *                                after another)
+     * @return Art2aEuclidResult objects or null if clustering result could
+     * not be calculated.
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public Art2aEuclidResult[] getClusterResults(
+            float[] aVigilances,
+            boolean anIsParallelCalculation
+    ) throws IllegalArgumentException {
+        return this.getClusterResults(
+            aVigilances,
+            anIsParallelCalculation ? Utils.EXECUTION_MODE_BATCH_PARALLEL : Utils.EXECUTION_MODE_SEQUENTIAL
+        );
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering for specified vigilance parameters with
+     * automatic execution and returns corresponding Art2aEuclidResult
+     * objects.
+     * Note: If there are several vigilance parameters and processors, the
+     * clustering runs are performed concurrently with sequential Rho winner
+     * calculation (batch-parallel), otherwise the clustering runs are
+     * performed one after another with automatic execution (see
+     * getClusterResult(float)).
+     *
+     * @param aVigilances Vigilance parameters (must each be in interval (0,1))
+     * @return Art2aEuclidResult objects or null if clustering result could not be calculated.
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public Art2aEuclidResult[] getClusterResults(
+            float[] aVigilances
+    ) throws IllegalArgumentException {
+        if (aVigilances != null && aVigilances.length > 1 && Utils.getParallelism() > 1) {
+            return this.getClusterResults(aVigilances, Utils.EXECUTION_MODE_BATCH_PARALLEL);
+        } else {
+            return this.getClusterResults(aVigilances, Utils.EXECUTION_MODE_AUTOMATIC);
+        }
+    }
+
+    /**
+     * Nearest (smaller) indices of approximants to the desired number of
+     * representatives.
+     *
+     * @param aNumberOfRepresentatives Number of representatives (MUST be
+     * greater or equal to 2)
+     * @param aVigilanceMin Minimal vigilance parameter (must be in interval
+     * (0,1), a good default value is 0.0001f)
+     * @param aVigilanceMax Maximal vigilance parameter (must be in interval
+     * (0,1), a good default value is 0.9999f)
+     * @param aNumberOfTrialSteps Number of trial steps (MUST be greater or
+     * equal to 1, a good default value is 32)
+     * @param anIsParallelRhoWinnerCalculation True: Rho winner calculation
+     * is parallelized, false: Rho winner calculation is sequential.
+     * @return Nearest (smaller) indices of approximants to the desired number
+     * of representatives.
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public int[] getRepresentatives(
+        int aNumberOfRepresentatives,
+        float aVigilanceMin,
+        float aVigilanceMax,
+        int aNumberOfTrialSteps,
+        boolean anIsParallelRhoWinnerCalculation
+    ) throws IllegalArgumentException, Exception {
+        return this.getRepresentatives(
+            aNumberOfRepresentatives,
+            aVigilanceMin,
+            aVigilanceMax,
+            aNumberOfTrialSteps,
+            anIsParallelRhoWinnerCalculation ? Utils.EXECUTION_MODE_PARALLEL : Utils.EXECUTION_MODE_SEQUENTIAL
+        );
+    }
+
+    /**
+     * Nearest (smaller) indices of approximants to the desired number of
+     * representatives.
+     * Note: Automatic execution (see getClusterResult(float)).
+     *
+     * @param aNumberOfRepresentatives Number of representatives (MUST be
+     * greater or equal to 2)
+     * @param aVigilanceMin Minimal vigilance parameter (must be in interval
+     * (0,1), a good default value is 0.0001f)
+     * @param aVigilanceMax Maximal vigilance parameter (must be in interval
+     * (0,1), a good default value is 0.9999f)
+     * @param aNumberOfTrialSteps Number of trial steps (MUST be greater or
+     * equal to 1, a good default value is 32)
+     * @return Nearest (smaller) indices of approximants to the desired number
+     * of representatives.
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    public int[] getRepresentatives(
+        int aNumberOfRepresentatives,
+        float aVigilanceMin,
+        float aVigilanceMax,
+        int aNumberOfTrialSteps
+    ) throws IllegalArgumentException, Exception {
+        return this.getRepresentatives(
+            aNumberOfRepresentatives,
+            aVigilanceMin,
+            aVigilanceMax,
+            aNumberOfTrialSteps,
+            Utils.EXECUTION_MODE_AUTOMATIC
+        );
+    }
+
+    /**
+     * Removes the retained buffers of finished clustering runs so that their
+     * memory may be garbage collected. The buffers are allocated again by
+     * the next clustering run (see ClusteringWorkspace).
+     */
+    public void clearWorkspaces() {
+        this.workspaces.clear();
+    }
+    //</editor-fold>
+    // <editor-fold desc="Public static methods">
+    /**
+     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data for maximum
+     * speed  of the clustering process. The PreprocessedData object allocates
+     * about the same memory as aDataMatrix.
+     * <br>
+     * Note: There a no checks! Check aDataMatrix in advance with method
+     * Utils.isDataMatrixValid().
+     * <br>
+     * Note: aDataMatrix could be set to null after this operation to release
+     * its memory.
+
+     * @param aDataMatrix Data matrix (IS NOT CHANGED and MUST BE VALID: Check
+     * with Utils.isDataMatrixValid() in advance)
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @return PreprocessedData object for maximum clustering speed but with
+     * additionally allocated memory (about the same memory as aDataMatrix)
+     */
+    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
+        float[][] aDataMatrix,
+        float anOffsetForContrastEnhancement
+    ) {
+        int tmpNumberOfComponents = aDataMatrix[0].length;
+        float tmpThresholdForContrastEnhancement =
+            Utils.getThresholdForContrastEnhancement(
+                tmpNumberOfComponents,
+                anOffsetForContrastEnhancement
+            );
+
+        // Initialize flags array for scaled data row vectors which have a
+        // length of zero (i.e. where all components are equal to zero)
+        boolean[] tmpDataVectorZeroLengthFlags = new boolean[aDataMatrix.length];
+        Utils.fillVector(tmpDataVectorZeroLengthFlags, false);
+
+        float[][] tmpContrastEnhancedMatrix = new float[aDataMatrix.length][];
+
+        Utils.MinMaxValue[] tmpMinMaxComponents = Utils.getMinMaxComponents(aDataMatrix);
+
+        for(int i = 0; i < aDataMatrix.length; i++) {
+            float[] tmpContrastEnhancedVector = new float[tmpNumberOfComponents];
+            tmpDataVectorZeroLengthFlags[i] =
+                Art2aEuclidUtils.setContrastEnhancedVector(
+                    aDataMatrix[i],
+                    tmpContrastEnhancedVector,
+                    tmpMinMaxComponents,
+                    tmpThresholdForContrastEnhancement
+                );
+            tmpContrastEnhancedMatrix[i] = tmpContrastEnhancedVector;
+        }
+        return new PreprocessedArt2aEuclidData(
+            tmpContrastEnhancedMatrix,
+            tmpDataVectorZeroLengthFlags,
+            tmpMinMaxComponents,
+            anOffsetForContrastEnhancement
+        );
+    }
+
+    /**
+     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data for maximum
+     * speed of the clustering process. The PreprocessedData object allocates
+     * about twice the memory of aDataMatrix. A default value of 1.0 is used
+     * for the offset for contrast enhancement.
+     * <br>
+     * Note: aDataMatrix could be set to null after this operation to release
+     * its memory.
+
+     * @param aDataMatrix Data matrix (IS NOT CHANGED and MUST BE VALID: Check
+     * with Utils.isDataMatrixValid() in advance)
+     * @return PreprocessedData object for maximum clustering speed but with
+     * additionally allocated memory (about the same memory as aDataMatrix)
+     */
+    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
+        float[][] aDataMatrix
+    ) {
+        return Art2aEuclidKernel.getPreprocessedArt2aEuclidData(aDataMatrix, DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT);
+    }
+
+    /**
+     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data of a
+     * sparse data matrix for maximum speed of the clustering process. The
+     * preprocessed data are again sparse and allocate at most the memory of
+     * aSparseDataMatrix.
+     * <br>
+     * Note: aSparseDataMatrix could be set to null after this operation to
+     * release its memory.
+     *
+     * @param aSparseDataMatrix Sparse data matrix (IS NOT CHANGED)
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @return PreprocessedData object for maximum clustering speed but with
+     * additionally allocated memory (at most the memory of aSparseDataMatrix)
+     */
+    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
+        SparseDataMatrix aSparseDataMatrix,
+        float anOffsetForContrastEnhancement
+    ) {
+        int tmpNumberOfComponents = aSparseDataMatrix.getNumberOfColumns();
+        int tmpNumberOfDataVectors = aSparseDataMatrix.getNumberOfRows();
+        float tmpThresholdForContrastEnhancement =
+            Utils.getThresholdForContrastEnhancement(
+                tmpNumberOfComponents,
+                anOffsetForContrastEnhancement
+            );
+
+        // Initialize flags array for scaled data row vectors which have a
+        // length of zero (i.e. where all components are equal to zero)
+        boolean[] tmpDataVectorZeroLengthFlags = new boolean[tmpNumberOfDataVectors];
+        Utils.fillVector(tmpDataVectorZeroLengthFlags, false);
+
+        Utils.MinMaxValue[] tmpMinMaxComponents = Utils.getMinMaxComponents(aSparseDataMatrix);
+
+        // Preprocessed data row vectors have at most the non-zero components
+        // of the original data row vectors
+        int[] tmpRowOffsets = new int[tmpNumberOfDataVectors + 1];
+        int[] tmpColumnIndices = new int[aSparseDataMatrix.getNumberOfNonZeros()];
+        float[] tmpValues = new float[aSparseDataMatrix.getNumberOfNonZeros()];
+        Utils.SparseVector tmpSparseBufferVector = new Utils.SparseVector(tmpNumberOfComponents);
+        for(int i = 0; i < tmpNumberOfDataVectors; i++) {
+            tmpDataVectorZeroLengthFlags[i] =
+                Art2aEuclidUtils.setContrastEnhancedVector(
+                    aSparseDataMatrix,
+                    i,
+                    tmpSparseBufferVector,
+                    tmpMinMaxComponents,
+                    tmpThresholdForContrastEnhancement
+                );
+            int tmpNumberOfNonZeros = 0;
+            if (!tmpDataVectorZeroLengthFlags[i]) {
+                tmpNumberOfNonZeros = tmpSparseBufferVector.getNumberOfNonZeros();
+                System.arraycopy(tmpSparseBufferVector.getIndices(), 0, tmpColumnIndices, tmpRowOffsets[i], tmpNumberOfNonZeros);
+                System.arraycopy(tmpSparseBufferVector.getValues(), 0, tmpValues, tmpRowOffsets[i], tmpNumberOfNonZeros);
+            }
+            tmpRowOffsets[i + 1] = tmpRowOffsets[i] + tmpNumberOfNonZeros;
+        }
+        SparseDataMatrix tmpSparseContrastEnhancedMatrix =
+            new SparseDataMatrix(
+                tmpNumberOfComponents,
+                tmpRowOffsets,
+                Arrays.copyOf(tmpColumnIndices, tmpRowOffsets[tmpNumberOfDataVectors]),
+                Arrays.copyOf(tmpValues, tmpRowOffsets[tmpNumberOfDataVectors])
+            );
+        return new PreprocessedArt2aEuclidData(
+            tmpSparseContrastEnhancedMatrix,
+            tmpDataVectorZeroLengthFlags,
+            tmpMinMaxComponents,
+            anOffsetForContrastEnhancement
+        );
+    }
+
+    /**
+     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data of a
+     * sparse data matrix for maximum speed of the clustering process. A
+     * default value of 1.0 is used for the offset for contrast enhancement.
+     * <br>
+     * Note: aSparseDataMatrix could be set to null after this operation to
+     * release its memory.
+     *
+     * @param aSparseDataMatrix Sparse data matrix (IS NOT CHANGED)
+     * @return PreprocessedData object for maximum clustering speed but with
+     * additionally allocated memory (at most the memory of aSparseDataMatrix)
+     */
+    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
+        SparseDataMatrix aSparseDataMatrix
+    ) {
+        return Art2aEuclidKernel.getPreprocessedArt2aEuclidData(aSparseDataMatrix, DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT);
+    }
+
+    /**
+     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data of a
+     * binary data matrix for maximum speed of the clustering process. Only
+     * the flags for data row vectors with a length of zero are additionally
+     * allocated since the contrast enhanced vectors are directly derived from
+     * the set bits of aBinaryDataMatrix during clustering.
+     * <br>
+     * Note: aBinaryDataMatrix is referenced by the PreprocessedData object
+     * and must not be changed.
+     *
+     * @param aBinaryDataMatrix Binary data matrix (IS NOT CHANGED)
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @return PreprocessedData object for maximum clustering speed
+     */
+    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
+        BinaryDataMatrix aBinaryDataMatrix,
+        float anOffsetForContrastEnhancement
+    ) {
+        int tmpNumberOfDataVectors = aBinaryDataMatrix.getNumberOfRows();
+        Utils.MinMaxValue[] tmpMinMaxComponents = Utils.getMinMaxComponents(aBinaryDataMatrix);
+        long[] tmpBinaryColumnMask = Utils.getBinaryColumnMask(tmpMinMaxComponents);
+
+        // Initialize flags array for scaled data row vectors which have a
+        // length of zero (i.e. where all components are equal to zero)
+        boolean[] tmpDataVectorZeroLengthFlags = new boolean[tmpNumberOfDataVectors];
+        long[] tmpWords = aBinaryDataMatrix.getWords();
+        int tmpNumberOfWordsPerRow = aBinaryDataMatrix.getNumberOfWordsPerRow();
+        for(int i = 0; i < tmpNumberOfDataVectors; i++) {
+            tmpDataVectorZeroLengthFlags[i] = true;
+            for (int j = 0; j < tmpNumberOfWordsPerRow; j++) {
+                if ((tmpWords[i * tmpNumberOfWordsPerRow + j] & tmpBinaryColumnMask[j]) != 0L) {
+                    tmpDataVectorZeroLengthFlags[i] = false;
+                    break;
+                }
+            }
+        }
+        return new PreprocessedArt2aEuclidData(
+            aBinaryDataMatrix,
+            tmpDataVectorZeroLengthFlags,
+            tmpMinMaxComponents,
+            anOffsetForContrastEnhancement
+        );
+    }
+
+    /**
+     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data of a
+     * binary data matrix for maximum speed of the clustering process. A
+     * default value of 1.0 is used for the offset for contrast enhancement.
+     * <br>
+     * Note: aBinaryDataMatrix is referenced by the PreprocessedData object
+     * and must not be changed.
+     *
+     * @param aBinaryDataMatrix Binary data matrix (IS NOT CHANGED)
+     * @return PreprocessedData object for maximum clustering speed
+     */
+    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
+        BinaryDataMatrix aBinaryDataMatrix
+    ) {
+        return Art2aEuclidKernel.getPreprocessedArt2aEuclidData(aBinaryDataMatrix, DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns the number of retained workspaces of finished clustering runs
+     * (see ClusteringWorkspace).
+     *
+     * @return Number of retained workspaces
+     */
+    protected int getNumberOfWorkspaces() {
+        return this.workspaces.size();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Performs ART-2a-Euclid clustering and returns corresponding
+     * Art2aEuclidResult (see public getClusterResult(),
+     * getSpeculativeClusterResult(), getMiniBatchClusterResult(),
+     * getHogwildClusterResult(), getClusterResultWithReassignmentConvergence(),
+     * getClusterResultWithClusterFreezing() and getSampleClusterResult()
+     * methods).
+     *
+     * @param aVigilance Vigilance parameter (must be in interval (0,1))
+     * @param aRunOptions Options of the clustering run (see
+     * ClusteringRunOptions)
+     * @return Art2aEuclidResult instance
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     * @throws Exception Thrown if exception occurs which should never happen
+     */
+    private Art2aEuclidResult getClusterResult(
+        float aVigilance,
+        ClusteringRunOptions aRunOptions
+    ) throws IllegalArgumentException, Exception {
+        // <editor-fold desc="Checks">
+        if(aVigilance <= 0.0f || aVigilance >= 1.0f) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getClusterResult: aVigilance must be in interval (0,1)."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResult: aVigilance must be in interval (0,1).");
+        }
+        //</editor-fold>
+
+        // Execution mode of the clustering run
+        int tmpExecutionMode = aRunOptions.getExecutionMode();
+        // True: Rho winner calculation is parallelized (in automatic mode
+        // only if calibrated to be faster, see RhoWinnerWorkerTeam)
+        boolean tmpIsParallelRhoWinnerCalculation =
+            tmpExecutionMode == Utils.EXECUTION_MODE_PARALLEL || tmpExecutionMode == Utils.EXECUTION_MODE_AUTOMATIC;
+        // Worker team for parallelized Rho winner calculation
+        RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = null;
+        // Lock-free concurrent cluster updates
+        HogwildClusterUpdates tmpHogwildClusterUpdates = null;
+        // Reusable buffers of the clustering run
+        ClusteringWorkspace tmpWorkspace = null;
+        try {
+            tmpWorkspace =
+                ClusteringWorkspace.acquire(
+                    this.workspaces,
+                    this.preprocessedData.getNumberOfDataVectors(),
+                    this.preprocessedData.getNumberOfComponents(),
+                    this.maximumNumberOfClusters
+                );
+            Random tmpRandomNumberGenerator = new Random(this.randomSeed);
+            // Sample of data vectors for the training (null: All data
+            // vectors are used for the training)
+            DataVectorSample tmpDataVectorSample = aRunOptions.getDataVectorSample(this.preprocessedData, this.randomSeed);
+            boolean tmpIsClusterOverflow = false;
+
+            float[][] tmpDataMatrix = null;
+            float[][] tmpContrastEnhancedMatrix = null;
+            SparseDataMatrix tmpSparseDataMatrix = null;
+            SparseDataMatrix tmpSparseContrastEnhancedMatrix = null;
+            boolean tmpIsSparse = this.preprocessedData.isSparse();
+            // Binary data (for original and preprocessed data)
+            BinaryDataMatrix tmpBinaryDataMatrix = this.preprocessedData.getBinaryDataMatrix();
+            long[] tmpBinaryColumnMask = this.preprocessedData.getBinaryColumnMask();
+            // Flags array that indicates if data row vectors have a length
+            // of zero (i.e. where all components are equal to zero). True:
+            // Data row vector has a length of zero, false: Otherwise.
+            boolean[] tmpDataVectorZeroLengthFlags = null;
+            int tmpNumberOfComponents = this.preprocessedData.getNumberOfComponents();
+            int tmpNumberOfDataVectors = this.preprocessedData.getNumberOfDataVectors();
+            // True: Preprocessed data are used, false: Contrast enhanced
+            // vectors are calculated on the fly
+            boolean tmpIsPreprocessedData = this.preprocessedData.hasPreprocessedData();
+            if (tmpIsPreprocessedData) {
+                tmpContrastEnhancedMatrix = this.preprocessedData.getPreprocessedMatrix();
+                tmpSparseContrastEnhancedMatrix = this.preprocessedData.getSparsePreprocessedMatrix();
+                tmpDataVectorZeroLengthFlags = this.preprocessedData.getDataVectorZeroLengthFlags();
+            } else {
+                tmpDataMatrix = this.preprocessedData.getDataMatrix();
+                tmpSparseDataMatrix = this.preprocessedData.getSparseDataMatrix();
+                tmpDataVectorZeroLengthFlags = tmpWorkspace.getDataVectorZeroLengthFlags();
+            }
+            Utils.MinMaxValue[] tmpMinMaxComponents = this.preprocessedData.getMinMaxComponentsOfDataMatrix();
+
+            // Set tmpRhoStar
+            float tmpRhoStar = tmpNumberOfComponents * (ONE - aVigilance);
+
+            // Definitions
+            float tmpThresholdForContrastEnhancement =
+                Utils.getThresholdForContrastEnhancement(
+                    tmpNumberOfComponents,
+                    this.preprocessedData.getOffsetForContrastEnhancement()
+                );
+            // Scaling factor alpha
+            float tmpScalingFactor = tmpThresholdForContrastEnhancement;
+
+            // Initialize contiguous cluster matrix and that for previous epoch
+            // (old) without any cluster vectors (squared lengths of cluster
+            // vectors are needed for squared distances of sparse vectors, the
+            // support of sparse cluster vectors is tracked for cheaper rho
+            // values of dense vectors but not for concurrent cluster updates)
+            boolean tmpIsHogwild = tmpExecutionMode == Utils.EXECUTION_MODE_HOGWILD;
+            ClusterMatrix tmpClusterMatrix = tmpWorkspace.getClusterMatrix(tmpIsSparse, !tmpIsSparse && !tmpIsHogwild);
+            ClusterMatrix tmpClusterMatrixOld = tmpWorkspace.getClusterMatrixOld();
+            // Cluster usage flags. True: Cluster is used, false: Cluster is
+            // empty and can be removed.
+            boolean[] tmpClusterUsageFlags = tmpWorkspace.getClusterUsageFlags();
+            if (tmpIsParallelRhoWinnerCalculation || tmpExecutionMode == Utils.EXECUTION_MODE_SPECULATIVE) {
+                tmpRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(false);
+                if (tmpExecutionMode == Utils.EXECUTION_MODE_AUTOMATIC) {
+                    // Measure Rho winner calculation cost during first epoch
+                    tmpRhoWinnerWorkerTeam.startCalibration();
+                }
+            }
+            // Speculative Rho winner calculation with a window of upcoming
+            // data vectors
+            SpeculativeRhoWindow tmpSpeculativeRhoWindow = null;
+            if (tmpExecutionMode == Utils.EXECUTION_MODE_SPECULATIVE) {
+                tmpSpeculativeRhoWindow =
+                    new SpeculativeRhoWindow(
+                        false,
+                        tmpRhoWinnerWorkerTeam,
+                        tmpNumberOfComponents,
+                        tmpIsSparse
+                    );
+            }
+            // Bulk-synchronous mini-batch training with frozen cluster
+            // vectors
+            MiniBatch tmpMiniBatch = null;
+            if (tmpExecutionMode == Utils.EXECUTION_MODE_MINI_BATCH) {
+                tmpMiniBatch = new MiniBatch(false, aRunOptions.getMiniBatchSize(), tmpNumberOfComponents, tmpIsSparse);
+            }
+            // Window of upcoming data vectors (speculative Rho winner
+            // calculation or mini-batch training)
+            DataVectorWindow tmpDataVectorWindow = tmpSpeculativeRhoWindow != null ? tmpSpeculativeRhoWindow : tmpMiniBatch;
+            if (tmpIsHogwild) {
+                tmpHogwildClusterUpdates = new HogwildClusterUpdates(aRunOptions.getNumberOfThreads(), this.maximumNumberOfClusters);
+                // The components array must not be replaced during
+                // concurrent cluster updates
+                tmpClusterMatrix.allocateMaximumCapacity();
+            }
+
+            // Pruning of sequential Rho winner calculation
+            EuclidRhoWinnerPruning tmpRhoWinnerPruning = null;
+            if (aRunOptions.isRhoWinnerPruning() && !tmpIsParallelRhoWinnerCalculation) {
+                tmpRhoWinnerPruning = new EuclidRhoWinnerPruning(tmpNumberOfDataVectors, this.maximumNumberOfClusters, tmpNumberOfComponents);
+            }
+            // Rho winner calculation of a data vector in the main clustering
+            // loop (sequential by default)
+            RhoWinnerCalculation tmpRhoWinnerCalculation;
+            if (tmpRhoWinnerPruning != null) {
+                tmpRhoWinnerCalculation = tmpRhoWinnerPruning;
+            } else if (tmpDataVectorWindow != null) {
+                tmpRhoWinnerCalculation = tmpDataVectorWindow;
+            } else if (tmpIsParallelRhoWinnerCalculation) {
+                tmpRhoWinnerCalculation = tmpRhoWinnerWorkerTeam;
+            } else {
+                tmpRhoWinnerCalculation = new RhoWinnerCalculation(false);
+            }
+
+            // Freezing of converged cluster vectors
+            ClusterFreezing tmpClusterFreezing = null;
+            if (aRunOptions.getNumberOfEpochsForFreezing() > 0) {
+                tmpClusterFreezing =
+                    new ClusterFreezing(
+                        this.maximumNumberOfClusters,
+                        aRunOptions.getNumberOfEpochsForFreezing(),
+                        this.convergenceThreshold,
+                        false
+                    );
+            }
+
+            // Initialize cluster indices for data row vectors with -1 to
+            // indicate missing cluster assignment
+            int[] tmpClusterIndexOfDataVector = tmpWorkspace.getClusterIndexOfDataVector();
+
+            // Initialize random indices
+            int[] tmpRandomIndices = tmpWorkspace.getRandomIndices();
+            // Indices of training data vectors (sample or all data vectors)
+            int[] tmpTrainingIndices = tmpDataVectorSample != null ? tmpDataVectorSample.getIndices() : tmpRandomIndices;
+
+            // Initialize buffer vector for vector operations
+            float[] tmpBufferVector = tmpWorkspace.getBufferVector();
+            // Initialize sparse buffer vector for sparse data
+            Utils.SparseVector tmpSparseBufferVector = null;
+            if (tmpIsSparse) {
+                tmpSparseBufferVector = tmpWorkspace.getSparseBufferVector();
+            }
+
+            // Main clustering loop
+            int tmpCurrentNumberOfEpochs = 0;
+            int tmpNumberOfDetectedClusters = 0;
+            Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
             Utils.ClusterRemovalInfo tmpClusterRemovalInfo = new Utils.ClusterRemovalInfo();
             boolean tmpIsConverged = false;
-            while(!tmpIsConverged && tmpCurrentNumberOfEpochs < this.maximumNumberOfEpochs) {
+            // Numbers of data vectors that are (re)assigned to a different
+            // cluster in each epoch (counted in the main loop)
+            int[] tmpNumbersOfReassignedDataVectors = new int[this.maximumNumberOfEpochs];
+            // Numbers of data vectors that were assigned to a cluster so far
+            // (only for the cluster count decay of the learning parameter)
+            int[] tmpNumbersOfClusterAssignments = null;
+            if (this.learningParameterSchedule.isClusterCountDecay()) {
+                tmpNumbersOfClusterAssignments = new int[this.maximumNumberOfClusters];
+            }
+            while(
+                (tmpDataVectorSample == null ? !tmpIsConverged : tmpDataVectorSample.isTraining(tmpIsConverged)) &&
+                    tmpCurrentNumberOfEpochs < this.maximumNumberOfEpochs
+            ) {
                 tmpCurrentNumberOfEpochs++;
+                if (
+                    tmpDataVectorSample != null &&
+                        tmpDataVectorSample.isRefinementEpochDue(tmpIsConverged || tmpCurrentNumberOfEpochs == this.maximumNumberOfEpochs)
+                ) {
+                    // Refinement epoch with all data vectors
+                    tmpTrainingIndices = tmpRandomIndices;
+                }
+                int tmpNumberOfReassignedDataVectors = 0;
+                // Number of data vectors with non-zero length in this epoch
+                // (denominator of the fraction of reassigned data vectors)
+                int tmpNumberOfNonZeroLengthDataVectors = 0;
+                // Learning parameter of the epoch
+                float tmpLearningParameter = this.learningParameterSchedule.getLearningParameter(this.learningParameter, tmpCurrentNumberOfEpochs);
 
                 // Get random sequence of indices for data row vectors
-                Utils.shuffleIndices(tmpRandomIndices, tmpRandomNumberGenerator);
+                Utils.shuffleIndices(tmpTrainingIndices, tmpRandomNumberGenerator);
 
                 Arrays.fill(tmpClusterUsageFlags, false);
-                for(int i = 0; i < tmpNumberOfDataVectors; i++) {
-                    int tmpRandomIndex = tmpRandomIndices[i];
-
-                    if (tmpDataVectorZeroLengthFlags[tmpRandomIndex]) {
-                        // Shifted data row vector has length of zero: Ignore!
-                        continue;
-                    }
+                tmpRhoWinnerCalculation.setSnapshot(tmpClusterMatrix, tmpNumberOfDetectedClusters);
+                if (tmpHogwildClusterUpdates != null) {
+                    // Lock-free concurrent processing of disjoint slices of
+                    // the random sequence of indices (see
+                    // HogwildClusterUpdates)
+                    HogwildClusterUpdates tmpHogwild = tmpHogwildClusterUpdates;
+                    boolean[] tmpZeroLengthFlags = tmpDataVectorZeroLengthFlags;
+                    int[] tmpNumbersOfAssignments = tmpNumbersOfClusterAssignments;
+                    int[] tmpIndices = tmpTrainingIndices;
+                    tmpHogwild.setNumberOfClusters(tmpNumberOfDetectedClusters);
+                    tmpNumberOfReassignedDataVectors =
+                        tmpHogwild.run(
+                            i -> Art2aEuclidKernel.processDataVectorRangeHogwild(
+                                tmpHogwild.getStartIndex(i, tmpIndices.length),
+                                tmpHogwild.getStartIndex(i + 1, tmpIndices.length),
+                                tmpIndices,
+                                tmpZeroLengthFlags,
+                                this.preprocessedData,
+                                tmpThresholdForContrastEnhancement,
+                                tmpRhoStar,
+                                tmpLearningParameter,
+                                this.learningParameterSchedule,
+                                tmpNumbersOfAssignments,
+                                tmpClusterMatrix,
+                                tmpHogwild,
+                                tmpClusterIndexOfDataVector,
+                                tmpClusterUsageFlags
+                            )
+                        );
+                    tmpNumberOfDetectedClusters = tmpHogwild.getNumberOfClusters();
+                    tmpClusterMatrix.setNumberOfClusters(tmpNumberOfDetectedClusters);
+                    tmpIsClusterOverflow |= tmpHogwild.isClusterOverflow();
+                } else {
+                    for(int i = 0; i < tmpTrainingIndices.length; i++) {
+                        int tmpRandomIndex = tmpTrainingIndices[i];
 
-                    if (this.preprocessedData.hasPreprocessedData()) {
-                        Utils.copyVector(tmpContrastEnhancedMatrix[tmpRandomIndex], tmpBufferVector);
-                    } else {
-                        tmpDataVectorZeroLengthFlags[tmpRandomIndex] =
-                            Art2aEuclidUtils.setContrastEnhancedVector(
-                                tmpDataMatrix[tmpRandomIndex],
-                                tmpBufferVector,
-                                tmpMinMaxComponents,
-                                tmpThresholdForContrastEnhancement
+                        if (tmpDataVectorWindow != null && !tmpDataVectorWindow.hasNextDataVector() && !tmpDataVectorZeroLengthFlags[tmpRandomIndex]) {
+                            // Fill window with upcoming data vectors (zero length
+                            // flags may be set)
+                            Art2aEuclidKernel.fillDataVectorWindow(
+                                i,
+                                tmpTrainingIndices,
+                                tmpDataVectorZeroLengthFlags,
+                                this.preprocessedData,
+                                tmpThresholdForContrastEnhancement,
+                                tmpDataVectorWindow
                             );
+                            tmpDataVectorWindow.setRhoValues(tmpClusterMatrix, tmpNumberOfDetectedClusters);
+                        }
+
                         if (tmpDataVectorZeroLengthFlags[tmpRandomIndex]) {
+                            // Shifted data row vector has length of zero: Ignore!
                             continue;
                         }
-                    }
 
-                    if(tmpNumberOfDetectedClusters == 0) {
-                        // Create first cluster
-                        Utils.setRowVector(tmpClusterMatrix, tmpBufferVector, tmpNumberOfDetectedClusters);
-                        tmpClusterIndexOfDataVector[tmpRandomIndex] = tmpNumberOfDetectedClusters;
-                        tmpClusterUsageFlags[tmpNumberOfDetectedClusters] = true;
-                        tmpNumberOfDetectedClusters++;
-                    } else {
-                        // Cluster number is greater than or equal to 1
-                        if (anIsParallelRhoWinnerCalculation) {
-                            Art2aEuclidKernel.setRhoWinnerParallel(
-                                tmpBufferVector,
-                                tmpClusterMatrix,
-                                tmpNumberOfDetectedClusters,
-                                tmpScalingFactor,
-                                tmpRhoValueBuffer,
-                                tmpRhoWinner
-                            );
+                        // Contrast enhanced vector of data vector
+                        float[] tmpContrastEnhancedVector = tmpBufferVector;
+
+                        if (tmpDataVectorWindow != null) {
+                            // Contrast enhanced vector of the window (IS NOT
+                            // CHANGED, the sparse buffer vector is replaced by the
+                            // one of the window)
+                            float[] tmpDenseVectorOfWindow = tmpDataVectorWindow.nextDataVector();
+                            if (tmpIsSparse) {
+                                tmpSparseBufferVector = tmpDataVectorWindow.getSparseVector();
+                            } else {
+                                tmpContrastEnhancedVector = tmpDenseVectorOfWindow;
+                            }
+                        } else if (tmpIsSparse) {
+                            if (tmpBinaryDataMatrix != null) {
+                                // Note: Zero length is only possible without preprocessing
+                                if (Art2aEuclidUtils.setContrastEnhancedVector(tmpBinaryDataMatrix, tmpRandomIndex, tmpBinaryColumnMask, tmpSparseBufferVector)) {
+                                    tmpDataVectorZeroLengthFlags[tmpRandomIndex] = true;
+                                    continue;
+                                }
+                            } else if (tmpIsPreprocessedData) {
+                                tmpSparseBufferVector.setRow(tmpSparseContrastEnhancedMatrix, tmpRandomIndex);
+                            } else {
+                                tmpDataVectorZeroLengthFlags[tmpRandomIndex] =
+                                    Art2aEuclidUtils.setContrastEnhancedVector(
+                                        tmpSparseDataMatrix,
+                                        tmpRandomIndex,
+                                        tmpSparseBufferVector,
+                                        tmpMinMaxComponents,
+                                        tmpThresholdForContrastEnhancement
+                                    );
+                                if (tmpDataVectorZeroLengthFlags[tmpRandomIndex]) {
+                                    continue;
+                                }
+                            }
+                        } else if (tmpIsPreprocessedData) {
+                            // Row of preprocessed matrix is read directly (IS NOT CHANGED)
+                            tmpContrastEnhancedVector = tmpContrastEnhancedMatrix[tmpRandomIndex];
+                        } else {
+                            tmpDataVectorZeroLengthFlags[tmpRandomIndex] =
+                                Art2aEuclidUtils.setContrastEnhancedVector(
+                                    tmpDataMatrix[tmpRandomIndex],
+                                    tmpBufferVector,
+                                    tmpMinMaxComponents,
+                                    tmpThresholdForContrastEnhancement
+                                );
+                            if (tmpDataVectorZeroLengthFlags[tmpRandomIndex]) {
+                                continue;
+                            }
+                        }
+
+                        tmpNumberOfNonZeroLengthDataVectors++;
+
+                        if(tmpNumberOfDetectedClusters == 0) {
+                            // Create first cluster
+                            if (tmpIsSparse) {
+                                Utils.setDenseVector(tmpSparseBufferVector, tmpBufferVector);
+                            }
+                            tmpClusterMatrix.addCluster(tmpContrastEnhancedVector);
+                            tmpRhoWinnerCalculation.setNewCluster(tmpClusterMatrix, tmpNumberOfDetectedClusters);
+                            tmpRhoWinnerCalculation.setAssignment(tmpRandomIndex, -1);
+                            if (tmpClusterFreezing != null) {
+                                tmpClusterFreezing.addAssignment(tmpNumberOfDetectedClusters, tmpClusterIndexOfDataVector[tmpRandomIndex]);
+                            }
+                            tmpClusterIndexOfDataVector[tmpRandomIndex] = tmpNumberOfDetectedClusters;
+                            tmpClusterUsageFlags[tmpNumberOfDetectedClusters] = true;
+                            if (tmpNumbersOfClusterAssignments != null) {
+                                tmpNumbersOfClusterAssignments[tmpNumberOfDetectedClusters] = 1;
+                            }
+                            tmpNumberOfDetectedClusters++;
+                            tmpNumberOfReassignedDataVectors++;
                         } else {
-                            Art2aEuclidKernel.setRhoWinnerSequential(
-                                tmpBufferVector,
+                            // Cluster number is greater than or equal to 1
+                            tmpRhoWinnerCalculation.setRhoWinnerOfDataVector(
+                                tmpRandomIndex,
+                                tmpIsSparse ? null : tmpContrastEnhancedVector,
+                                tmpIsSparse ? tmpSparseBufferVector : null,
                                 tmpClusterMatrix,
                                 tmpNumberOfDetectedClusters,
                                 tmpScalingFactor,
+                                tmpRhoStar,
+                                tmpClusterIndexOfDataVector[tmpRandomIndex],
                                 tmpRhoWinner
                             );
-                        }
-                        // Assign to existing cluster or increment clusters
-                        if(tmpRhoWinner.getIndexOfCluster() < 0 || tmpRhoWinner.getRhoValue() > tmpRhoStar) {
-                            // Increment clusters (if possible)
-                            if (tmpNumberOfDetectedClusters == this.maximumNumberOfClusters) {
-                                tmpIsClusterOverflow = true;
+                            if (tmpIsSparse) {
+                                // Dense buffer vector is needed for cluster creation or modification
+                                Utils.setDenseVector(tmpSparseBufferVector, tmpBufferVector);
+                            }
+                            // Assign to existing cluster or increment clusters
+                            if(tmpRhoWinner.getIndexOfCluster() < 0 || tmpRhoWinner.getRhoValue() > tmpRhoStar) {
+                                // Increment clusters (if possible)
+                                if (tmpNumberOfDetectedClusters == this.maximumNumberOfClusters) {
+                                    tmpIsClusterOverflow = true;
+                                    tmpRhoWinnerCalculation.setAssignment(tmpRandomIndex, -1);
+                                } else {
+                                    // Increment clusters
+                                    tmpClusterMatrix.addCluster(tmpContrastEnhancedVector);
+                                    tmpRhoWinnerCalculation.setNewCluster(tmpClusterMatrix, tmpNumberOfDetectedClusters);
+                                    tmpRhoWinnerCalculation.setAssignment(tmpRandomIndex, tmpNumberOfDetectedClusters);
+                                    if (tmpClusterFreezing != null) {
+                                        tmpClusterFreezing.addAssignment(tmpNumberOfDetectedClusters, tmpClusterIndexOfDataVector[tmpRandomIndex]);
+                                    }
+                                    tmpClusterIndexOfDataVector[tmpRandomIndex] = tmpNumberOfDetectedClusters;
+                                    tmpClusterUsageFlags[tmpNumberOfDetectedClusters] = true;
+                                    if (tmpNumbersOfClusterAssignments != null) {
+                                        tmpNumbersOfClusterAssignments[tmpNumberOfDetectedClusters] = 1;
+                                    }
+                                    tmpNumberOfDetectedClusters++;
+                                    tmpNumberOfReassignedDataVectors++;
+                                }
                             } else {
-                                // Increment clusters
-                                Utils.setRowVector(tmpClusterMatrix, tmpBufferVector, tmpNumberOfDetectedClusters);
-                                tmpClusterIndexOfDataVector[tmpRandomIndex] = tmpNumberOfDetectedClusters;
-                                tmpClusterUsageFlags[tmpNumberOfDetectedClusters] = true;
-                                tmpNumberOfDetectedClusters++;
+                                // Assign to existing winner cluster with modification
+                                // (modification of a frozen cluster is skipped)
+                                if (tmpClusterFreezing != null) {
+                                    tmpClusterFreezing.addAssignment(tmpRhoWinner.getIndexOfCluster(), tmpClusterIndexOfDataVector[tmpRandomIndex]);
+                                }
+                                if (tmpClusterFreezing == null || !tmpClusterFreezing.isFrozen(tmpRhoWinner.getIndexOfCluster())) {
+                                    // Note: tmpBufferVector is used as scratch buffer
+                                    // for modification
+                                    Art2aEuclidKernel.modifyWinnerCluster(
+                                        tmpContrastEnhancedVector,
+                                        tmpBufferVector,
+                                        tmpClusterMatrix.getComponents(),
+                                        tmpClusterMatrix.getOffset(tmpRhoWinner.getIndexOfCluster()),
+                                        tmpThresholdForContrastEnhancement,
+                                        tmpNumbersOfClusterAssignments == null ?
+                                            tmpLearningParameter :
+                                            this.learningParameterSchedule.getClusterLearningParameter(
+                                                tmpLearningParameter,
+                                                tmpNumbersOfClusterAssignments[tmpRhoWinner.getIndexOfCluster()]
+                                            )
+                                    );
+                                    if (tmpIsSparse) {
+                                        tmpClusterMatrix.updateSquaredLength(tmpRhoWinner.getIndexOfCluster());
+                                    }
+                                    tmpRhoWinnerCalculation.setModifiedCluster(tmpClusterMatrix, tmpRhoWinner.getIndexOfCluster());
+                                }
+                                tmpRhoWinnerCalculation.setAssignment(tmpRandomIndex, tmpRhoWinner.getIndexOfCluster());
+                                if (tmpNumbersOfClusterAssignments != null) {
+                                    tmpNumbersOfClusterAssignments[tmpRhoWinner.getIndexOfCluster()]++;
+                                }
+                                if (tmpClusterIndexOfDataVector[tmpRandomIndex] != tmpRhoWinner.getIndexOfCluster()) {
+                                    tmpNumberOfReassignedDataVectors++;
+                                }
+                                tmpClusterIndexOfDataVector[tmpRandomIndex] = tmpRhoWinner.getIndexOfCluster();
+                                tmpClusterUsageFlags[tmpRhoWinner.getIndexOfCluster()] = true;
                             }
-                        } else {
-                            // Assign to existing winner cluster with modification
-                            // Note: tmpBufferVector (= contrast enhanced unit vector)
-                            // is used for modification
-                            Art2aEuclidKernel.modifyWinnerCluster(
-                                tmpBufferVector,
-                                tmpClusterMatrix[tmpRhoWinner.getIndexOfCluster()],
-                                tmpThresholdForContrastEnhancement,
-                                this.learningParameter
-                            );
-                            tmpClusterIndexOfDataVector[tmpRandomIndex] = tmpRhoWinner.getIndexOfCluster();
-                            tmpClusterUsageFlags[tmpRhoWinner.getIndexOfCluster()] = true;
                         }
                     }
                 }
 
-                Utils.removeEmptyClusters(
+                if (tmpCurrentNumberOfEpochs == 1 && tmpRhoWinnerWorkerTeam != null) {
+                    tmpRhoWinnerWorkerTeam.finishCalibration();
+                }
+                tmpNumbersOfReassignedDataVectors[tmpCurrentNumberOfEpochs - 1] = tmpNumberOfReassignedDataVectors;
+                tmpClusterMatrix.removeEmptyClusters(
                     tmpClusterUsageFlags,
-                    tmpClusterMatrix,
-                    tmpNumberOfDetectedClusters,
                     tmpClusterRemovalInfo
                 );
                 if (tmpClusterRemovalInfo.isClusterRemoved()) {
                     tmpNumberOfDetectedClusters = tmpClusterRemovalInfo.getNumberOfDetectedClusters();
                     tmpIsConverged = false;
+                    // Cluster indices changed: Stored cluster indices of the
+                    // data vectors are compared in the next epoch
+                    Utils.removeEmptyClusterIndices(
+                        tmpClusterIndexOfDataVector,
+                        tmpClusterUsageFlags,
+                        tmpWorkspace.getNewClusterIndices()
+                    );
+                    // Cluster indices changed
+                    tmpRhoWinnerCalculation.resetClusterIndices(tmpClusterMatrix, tmpNumberOfDetectedClusters);
+                    if (tmpClusterFreezing != null) {
+                        // Cluster indices changed
+                        tmpClusterFreezing.reset();
+                    }
+                    if (tmpNumbersOfClusterAssignments != null) {
+                        // Cluster indices changed
+                        Utils.removeEmptyClusterValues(tmpNumbersOfClusterAssignments, tmpClusterUsageFlags);
+                    }
                 } else {
-                    tmpIsConverged =
-                        Art2aEuclidKernel.isConverged(
-                            tmpNumberOfDetectedClusters,
-                            tmpCurrentNumberOfEpochs,
-                            tmpClusterMatrix,
-                            tmpClusterMatrixOld,
-                            this.maximumNumberOfEpochs,
-                            this.convergenceThreshold
-                        );
+                    tmpIsConverged = true;
+                    if (aRunOptions.getReassignmentThreshold() > 0.0f) {
+                        tmpIsConverged =
+                            Art2aEuclidKernel.isConverged(
+                                tmpNumberOfReassignedDataVectors,
+                                tmpNumberOfNonZeroLengthDataVectors,
+                                tmpCurrentNumberOfEpochs,
+                                this.maximumNumberOfEpochs,
+                                aRunOptions.getReassignmentThreshold()
+                            );
+                    }
+                    // Note: Convergence of cluster vectors is always
+                    // evaluated if used (to keep the cluster vectors of the
+                    // previous epoch up to date) or if clusters are frozen
+                    // (to update the frozen clusters)
+                    boolean tmpIsCentroidConvergence = aRunOptions.getReassignmentThreshold() == 0.0f || aRunOptions.isCentroidConvergence();
+                    if (tmpClusterFreezing != null) {
+                        boolean tmpIsCentroidConverged =
+                            tmpClusterFreezing.isConverged(
+                                tmpClusterMatrix,
+                                tmpNumberOfDetectedClusters,
+                                tmpCurrentNumberOfEpochs,
+                                this.maximumNumberOfEpochs
+                            );
+                        if (tmpIsCentroidConvergence) {
+                            tmpIsConverged = tmpIsCentroidConverged && tmpIsConverged;
+                        }
+                    } else if (tmpIsCentroidConvergence) {
+                        tmpIsConverged =
+                            Art2aEuclidKernel.isConverged(
+                                tmpNumberOfDetectedClusters,
+                                tmpCurrentNumberOfEpochs,
+                                tmpClusterMatrix,
+                                tmpClusterMatrixOld,
+                                this.maximumNumberOfEpochs,
+                                this.convergenceThreshold
+                            ) && tmpIsConverged;
+                    }
                 }
             }
-            // Check if cluster overflow occurred
-            if (tmpIsClusterOverflow) {
-                // Cluster overflow occurred: Finally assign ALL data vectors
+            // Final assignment is parallelized in automatic and speculative
+            // mode only if there is enough work for all workers (but always
+            // after the training with a sample)
+            boolean tmpIsParallelAssignment =
+                tmpExecutionMode == Utils.EXECUTION_MODE_PARALLEL ||
+                tmpDataVectorSample != null ||
+                tmpExecutionMode == Utils.EXECUTION_MODE_MINI_BATCH ||
+                tmpIsHogwild ||
+                (tmpExecutionMode == Utils.EXECUTION_MODE_AUTOMATIC || tmpExecutionMode == Utils.EXECUTION_MODE_SPECULATIVE) &&
+                    tmpRhoWinnerWorkerTeam.isParallelBatch(
+                        (long) tmpNumberOfDataVectors * tmpNumberOfDetectedClusters * tmpNumberOfComponents
+                    );
+            // Check if cluster overflow occurred or if data vectors outside
+            // the sample were not processed (no refinement epoch)
+            if (tmpIsClusterOverflow || tmpDataVectorSample != null && !tmpDataVectorSample.isRefined()) {
+                // Cluster overflow occurred or training with sample: Finally
+                // assign ALL data vectors
                 Art2aEuclidKernel.assignDataVectorsToClusters(
                     tmpNumberOfDetectedClusters,
                     tmpDataVectorZeroLengthFlags,
                     this.preprocessedData,
-                    tmpBufferVector,
                     tmpThresholdForContrastEnhancement,
                     tmpClusterMatrix,
                     tmpClusterIndexOfDataVector,
-                    tmpClusterUsageFlags
+                    tmpClusterUsageFlags,
+                    tmpIsParallelAssignment
                 );
                 // Remove possible empty clusters
-                Utils.removeEmptyClusters(
+                tmpClusterMatrix.removeEmptyClusters(
                     tmpClusterUsageFlags,
-                    tmpClusterMatrix,
-                    tmpNumberOfDetectedClusters,
                     tmpClusterRemovalInfo
                 );
                 tmpNumberOfDetectedClusters = tmpClusterRemovalInfo.getNumberOfDetectedClusters();
@@ -662,31 +2332,47 @@ public class Art2aEuclidKernel {
                     tmpNumberOfDetectedClusters,
                     tmpDataVectorZeroLengthFlags,
                     this.preprocessedData,
-                    tmpBufferVector,
                     tmpThresholdForContrastEnhancement,
                     tmpClusterMatrix,
                     tmpClusterIndexOfDataVector,
-                    tmpClusterUsageFlags
+                    tmpClusterUsageFlags,
+                    tmpIsParallelAssignment
                 );
-                Utils.removeEmptyClusters(
+                tmpClusterMatrix.removeEmptyClusters(
                     tmpClusterUsageFlags,
-                    tmpClusterMatrix,
-                    tmpNumberOfDetectedClusters,
                     tmpClusterRemovalInfo
                 );
                 tmpNumberOfDetectedClusters = tmpClusterRemovalInfo.getNumberOfDetectedClusters();
             }
+            // Note: The buffers of the workspace are reused, i.e., arrays of
+            // the result must be copied
             return new Art2aEuclidResult(
                 aVigilance,
                 tmpThresholdForContrastEnhancement,
                 tmpCurrentNumberOfEpochs,
                 tmpNumberOfDetectedClusters,
-                tmpClusterIndexOfDataVector,
-                tmpClusterMatrix,
-                tmpDataVectorZeroLengthFlags,
+                Arrays.copyOf(tmpClusterIndexOfDataVector, tmpNumberOfDataVectors),
+                tmpClusterMatrix.getTrimmedComponents(),
+                tmpNumberOfComponents,
+                tmpIsPreprocessedData ? tmpDataVectorZeroLengthFlags : Arrays.copyOf(tmpDataVectorZeroLengthFlags, tmpNumberOfDataVectors),
                 tmpIsClusterOverflow,
                 tmpIsConverged,
-                this.preprocessedData
+                this.preprocessedData,
+                tmpRhoWinnerPruning != null ? tmpRhoWinnerPruning.getNumberOfPrunedRhoValues() : 0L,
+                Utils.getExecutionPlan(
+                    tmpExecutionMode,
+                    tmpRhoWinnerWorkerTeam,
+                    tmpSpeculativeRhoWindow,
+                    tmpMiniBatch,
+                    tmpHogwildClusterUpdates,
+                    tmpDataVectorSample,
+                    tmpRhoWinnerPruning != null,
+                    false,
+                    tmpIsParallelAssignment
+                ),
+                tmpNumbersOfReassignedDataVectors,
+                tmpDataVectorSample != null ? tmpDataVectorSample.getSampleSize() : tmpNumberOfDataVectors,
+                tmpDataVectorSample != null ? tmpDataVectorSample.getSamplingTime() : 0L
             );
         } catch (Exception anException) {
             Art2aEuclidKernel.LOGGER.log(
@@ -699,95 +2385,15 @@ public class Art2aEuclidKernel {
                 anException
             );
             throw new Exception("Art2aEuclidKernel.getClusterResult: An exception occurred: This should never happen!");
-        }
-    }
-
-    /**
-     * Performs ART-2a-Euclid clustering for specified vigilance parameters and returns corresponding Art2aEuclidResult
-     * objects.
-     * Note: Parallelized Rho winner evaluation is disabled.
-     *
-     * @param aVigilances Vigilance parameters (must each be in interval (0,1))
-     * @param anIsParallelCalculation True: Calculations are parallelized, false: Calculations are sequential (one
-     *                                after another)
-     * @return Art2aEuclidResult objects or null if clustering result could
-     * not be calculated.
-     * @throws IllegalArgumentException Thrown if argument is illegal
-     */
-    public Art2aEuclidResult[] getClusterResults(
-        float[] aVigilances,
-        boolean anIsParallelCalculation
-    ) throws IllegalArgumentException {
-        // <editor-fold desc="Checks">
-        if (aVigilances == null || aVigilances.length == 0) {
-            Art2aEuclidKernel.LOGGER.log(
-                Level.SEVERE,
-                "Art2aEuclidKernel.getClusterResults: aVigilances is null or has length 0."
-            );
-            throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResults: aVigilances is null or has length 0.");
-        }
-        for (float tmpVigilance : aVigilances) {
-            if(tmpVigilance <= 0.0f || tmpVigilance >= 1.0f) {
-                Art2aEuclidKernel.LOGGER.log(
-                    Level.SEVERE,
-                    "Art2aEuclidKernel.getClusterResults: Vigilance parameter must be in interval (0,1)."
-                );
-                throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResults: Vigilance parameter must be in interval (0,1).");
+        } finally {
+            if (tmpRhoWinnerWorkerTeam != null) {
+                tmpRhoWinnerWorkerTeam.close();
             }
-        }
-        //</editor-fold>
-
-        if (anIsParallelCalculation) {
-            try {
-                Art2aEuclidResult[] tmpParallelResults = new Art2aEuclidResult[aVigilances.length];
-                IntStream.range(0, aVigilances.length).parallel().forEach(
-                        i ->
-                        {
-                            try {
-                                // Note: Parallel Rho winner calculation is disabled: Parameter false.
-                                tmpParallelResults[i] = this.getClusterResult(aVigilances[i], false);
-                            } catch (Exception anException) {
-                                Art2aEuclidKernel.LOGGER.log(
-                                        Level.SEVERE,
-                                        "Art2aEuclidKernel.getClusterResults: An exception occurred in common fork-join pool: This should never happen."
-                                );
-                                tmpParallelResults[i] = null;
-                            }
-                        }
-                );
-                boolean tmpIsSuccessful = true;
-                for (int i = 0; i < aVigilances.length; i++) {
-                    if (tmpParallelResults[i] == null) {
-                        tmpIsSuccessful = false;
-                        break;
-                    }
-                }
-                if (tmpIsSuccessful) {
-                    return tmpParallelResults;
-                } else {
-                    return null;
-                }
-            } catch (Exception anException) {
-                Art2aEuclidKernel.LOGGER.log(
-                        Level.SEVERE,
-                        "Art2aEuclidKernel.getClusterResults: An exception occurred: This should never happen."
-                );
-                return null;
+            if (tmpHogwildClusterUpdates != null) {
+                tmpHogwildClusterUpdates.close();
             }
-        } else {
-            try {
-                Art2aEuclidResult[] tmpSequentialResults = new Art2aEuclidResult[aVigilances.length];
-                for (int i = 0; i < aVigilances.length; i++) {
-                    // Note: Parallel Rho winner evaluations is disabled: Parameter false.
-                    tmpSequentialResults[i] = this.getClusterResult(aVigilances[i], false);
-                }
-                return tmpSequentialResults;
-            } catch (Exception anException) {
-                Art2aEuclidKernel.LOGGER.log(
-                        Level.SEVERE,
-                        "Art2aEuclidKernel.getClusterResults: An exception occurred: This should never happen."
-                );
-                return null;
+            if (tmpWorkspace != null) {
+                tmpWorkspace.release(this.workspaces);
             }
         }
     }
@@ -804,19 +2410,19 @@ public class Art2aEuclidKernel {
      * (0,1), a good default value is 0.9999f)
      * @param aNumberOfTrialSteps Number of trial steps (MUST be greater or
      * equal to 1, a good default value is 32)
-     * @param anIsParallelRhoWinnerCalculation True: Rho winner calculation
-     * is parallelized, false: Rho winner calculation is sequential.
+     * @param anExecutionMode Execution mode (see Utils.EXECUTION_MODE
+     * constants)
      * @return Nearest (smaller) indices of approximants to the desired number
      * of representatives.
      * @throws IllegalArgumentException Thrown if an argument is illegal
      * @throws Exception Thrown if exception occurs which should never happen
      */
-    public int[] getRepresentatives(
+    private int[] getRepresentatives(
         int aNumberOfRepresentatives,
         float aVigilanceMin,
         float aVigilanceMax,
         int aNumberOfTrialSteps,
-        boolean anIsParallelRhoWinnerCalculation
+        int anExecutionMode
     ) throws IllegalArgumentException, Exception {
         // <editor-fold desc="Checks">
         if(aNumberOfRepresentatives < 2) {
@@ -856,13 +2462,16 @@ public class Art2aEuclidKernel {
         }
         //</editor-fold>
 
+        // Options of the clustering runs
+        ClusteringRunOptions tmpRunOptions = ClusteringRunOptions.getRunOptions(anExecutionMode);
+
         try {
-            Art2aEuclidResult tmpArt2aEuclidResult = this.getClusterResult(aVigilanceMin, anIsParallelRhoWinnerCalculation);
+            Art2aEuclidResult tmpArt2aEuclidResult = this.getClusterResult(aVigilanceMin, tmpRunOptions);
             int[] tmpRepresentativeIndicesOfClusters = tmpArt2aEuclidResult.getRepresentativeIndicesOfClusters();
             if (tmpArt2aEuclidResult.getNumberOfDetectedClusters() > aNumberOfRepresentatives) {
                 return tmpRepresentativeIndicesOfClusters;
             }
-            tmpArt2aEuclidResult = this.getClusterResult(aVigilanceMax, anIsParallelRhoWinnerCalculation);
+            tmpArt2aEuclidResult = this.getClusterResult(aVigilanceMax, tmpRunOptions);
             if (tmpArt2aEuclidResult.getNumberOfDetectedClusters() < aNumberOfRepresentatives) {
                 return tmpArt2aEuclidResult.getRepresentativeIndicesOfClusters();
             }
@@ -871,7 +2480,7 @@ public class Art2aEuclidKernel {
             float tmpVigilanceMax = aVigilanceMax;
             for (int i = 0; i < aNumberOfTrialSteps; i++) {
                 float tmpVigilanceMean = (tmpVigilanceMin + tmpVigilanceMax) / 2.0f;
-                tmpArt2aEuclidResult = this.getClusterResult(tmpVigilanceMean, anIsParallelRhoWinnerCalculation);
+                tmpArt2aEuclidResult = this.getClusterResult(tmpVigilanceMean, tmpRunOptions);
                 if (tmpArt2aEuclidResult.getNumberOfDetectedClusters() > aNumberOfRepresentatives) {
                     tmpVigilanceMax = tmpVigilanceMean;
                 } else if (tmpArt2aEuclidResult.getNumberOfDetectedClusters() < aNumberOfRepresentatives) {
@@ -881,181 +2490,389 @@ public class Art2aEuclidKernel {
                     return tmpArt2aEuclidResult.getRepresentativeIndicesOfClusters();
                 }
             }
-            return tmpRepresentativeIndicesOfClusters;
-        } catch (Exception anException) {
-            Art2aEuclidKernel.LOGGER.log(
-                Level.SEVERE,
-                "Art2aEuclidKernel.getRepresentatives: An exception occurred: This should never happen!"
-            );
-            Art2aEuclidKernel.LOGGER.log(
-                Level.SEVERE,
-                anException.toString(),
-                anException
-            );
-            throw anException;
+            return tmpRepresentativeIndicesOfClusters;
+        } catch (Exception anException) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getRepresentatives: An exception occurred: This should never happen!"
+            );
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                anException.toString(),
+                anException
+            );
+            throw anException;
+        }
+    }
+
+    /**
+     * Performs ART-2a-Euclid clustering for specified vigilance parameters and returns corresponding Art2aEuclidResult
+     * objects.
+     *
+     * @param aVigilances Vigilance parameters (must each be in interval (0,1))
+     * @param anExecutionMode Execution mode (see Utils.EXECUTION_MODE
+     * constants): Utils.EXECUTION_MODE_BATCH_PARALLEL performs the clustering
+     * runs concurrently, otherwise one after another
+     * @return Art2aEuclidResult objects or null if clustering result could
+     * not be calculated.
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    private Art2aEuclidResult[] getClusterResults(
+        float[] aVigilances,
+        int anExecutionMode
+    ) throws IllegalArgumentException {
+        // <editor-fold desc="Checks">
+        if (aVigilances == null || aVigilances.length == 0) {
+            Art2aEuclidKernel.LOGGER.log(
+                Level.SEVERE,
+                "Art2aEuclidKernel.getClusterResults: aVigilances is null or has length 0."
+            );
+            throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResults: aVigilances is null or has length 0.");
+        }
+        for (float tmpVigilance : aVigilances) {
+            if(tmpVigilance <= 0.0f || tmpVigilance >= 1.0f) {
+                Art2aEuclidKernel.LOGGER.log(
+                    Level.SEVERE,
+                    "Art2aEuclidKernel.getClusterResults: Vigilance parameter must be in interval (0,1)."
+                );
+                throw new IllegalArgumentException("Art2aEuclidKernel.getClusterResults: Vigilance parameter must be in interval (0,1).");
+            }
+        }
+        //</editor-fold>
+
+        // Options of the clustering runs
+        ClusteringRunOptions tmpRunOptions = ClusteringRunOptions.getRunOptions(anExecutionMode);
+
+        if (anExecutionMode == Utils.EXECUTION_MODE_BATCH_PARALLEL) {
+            try {
+                Art2aEuclidResult[] tmpParallelResults = new Art2aEuclidResult[aVigilances.length];
+                IntStream.range(0, aVigilances.length).parallel().forEach(
+                        i ->
+                        {
+                            try {
+                                // Note: Batch-parallel mode implies sequential Rho winner calculation.
+                                tmpParallelResults[i] = this.getClusterResult(aVigilances[i], tmpRunOptions);
+                            } catch (Exception anException) {
+                                Art2aEuclidKernel.LOGGER.log(
+                                        Level.SEVERE,
+                                        "Art2aEuclidKernel.getClusterResults: An exception occurred in common fork-join pool: This should never happen."
+                                );
+                                tmpParallelResults[i] = null;
+                            }
+                        }
+                );
+                boolean tmpIsSuccessful = true;
+                for (int i = 0; i < aVigilances.length; i++) {
+                    if (tmpParallelResults[i] == null) {
+                        tmpIsSuccessful = false;
+                        break;
+                    }
+                }
+                if (tmpIsSuccessful) {
+                    return tmpParallelResults;
+                } else {
+                    return null;
+                }
+            } catch (Exception anException) {
+                Art2aEuclidKernel.LOGGER.log(
+                        Level.SEVERE,
+                        "Art2aEuclidKernel.getClusterResults: An exception occurred: This should never happen."
+                );
+                return null;
+            }
+        } else {
+            try {
+                Art2aEuclidResult[] tmpSequentialResults = new Art2aEuclidResult[aVigilances.length];
+                for (int i = 0; i < aVigilances.length; i++) {
+                    // Note: Sequential or automatic Rho winner calculation.
+                    tmpSequentialResults[i] = this.getClusterResult(aVigilances[i], tmpRunOptions);
+                }
+                return tmpSequentialResults;
+            } catch (Exception anException) {
+                Art2aEuclidKernel.LOGGER.log(
+                        Level.SEVERE,
+                        "Art2aEuclidKernel.getClusterResults: An exception occurred: This should never happen."
+                );
+                return null;
+            }
         }
     }
     //</editor-fold>
-    // <editor-fold desc="Public static methods">
-    /**
-     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data for maximum
-     * speed  of the clustering process. The PreprocessedData object allocates
-     * about the same memory as aDataMatrix.
-     * <br>
-     * Note: There a no checks! Check aDataMatrix in advance with method
-     * Utils.isDataMatrixValid().
-     * <br>
-     * Note: aDataMatrix could be set to null after this operation to release
-     * its memory.
 
-     * @param aDataMatrix Data matrix (IS NOT CHANGED and MUST BE VALID: Check
-     * with Utils.isDataMatrixValid() in advance)
-     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
-     * (must be greater zero)
-     * @return PreprocessedData object for maximum clustering speed but with
-     * additionally allocated memory (about the same memory as aDataMatrix)
+    //<editor-fold desc="Private static methods">
+    /**
+     * Assigns data vectors to clusters. The data vectors are assigned in
+     * blocks (see ClusterAssignment) with results identical to a one-by-one
+     * assignment. If parallelized, the data vectors are split into contiguous
+     * chunks that are assigned concurrently (each with its own buffers and
+     * cluster usage flags that are OR-reduced afterwards). Since each data
+     * vector is assigned independently, the cluster indices are identical to
+     * the sequential assignment.
+     *
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise (MAY BE CHANGED).
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance (IS NOT CHANGED)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndexOfDataVector Cluster index of data vector (MAY BE
+     * CHANGED and MUST ALREADY BE INSTANTIATED)
+     * @param aClusterUsageFlags Flags for cluster usage. True: Cluster is used,
+     * false: Cluster is empty and has to be removed (MAY BE CHANGED and MUST
+     * ALREADY BE INSTANTIATED)
+     * @param anIsParallelAssignment True: Assignment is parallelized, false:
+     * Assignment is sequential
      */
-    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
-        float[][] aDataMatrix,
-        float anOffsetForContrastEnhancement
+    private static void assignDataVectorsToClusters(
+            int aNumberOfDetectedClusters,
+            boolean[] aDataVectorZeroLengthFlags,
+            PreprocessedData aPreprocessedArt2aEuclidData,
+            float aThresholdForContrastEnhancement,
+            ClusterMatrix aClusterMatrix,
+            int[] aClusterIndexOfDataVector,
+            boolean[] aClusterUsageFlags,
+            boolean anIsParallelAssignment
     ) {
-        int tmpNumberOfComponents = aDataMatrix[0].length;
-        float tmpThresholdForContrastEnhancement =
-            Utils.getThresholdForContrastEnhancement(
-                tmpNumberOfComponents,
-                anOffsetForContrastEnhancement
-            );
-
-        // Initialize flags array for scaled data row vectors which have a
-        // length of zero (i.e. where all components are equal to zero)
-        boolean[] tmpDataVectorZeroLengthFlags = new boolean[aDataMatrix.length];
-        Utils.fillVector(tmpDataVectorZeroLengthFlags, false);
-
-        float[][] tmpContrastEnhancedMatrix = new float[aDataMatrix.length][];
-
-        Utils.MinMaxValue[] tmpMinMaxComponents = Utils.getMinMaxComponents(aDataMatrix);
-
-        for(int i = 0; i < aDataMatrix.length; i++) {
-            float[] tmpContrastEnhancedVector = new float[tmpNumberOfComponents];
-            tmpDataVectorZeroLengthFlags[i] =
-                Art2aEuclidUtils.setContrastEnhancedVector(
-                    aDataMatrix[i],
-                    tmpContrastEnhancedVector,
-                    tmpMinMaxComponents,
-                    tmpThresholdForContrastEnhancement
+        Arrays.fill(aClusterUsageFlags, false);
+        int tmpNumberOfDataVectors = aDataVectorZeroLengthFlags.length;
+        int tmpBlockSize = ClusterAssignment.getBlockSize(aClusterMatrix.getNumberOfComponents());
+        int tmpNumberOfChunks = 1;
+        if (anIsParallelAssignment) {
+            tmpNumberOfChunks =
+                Math.min(
+                    MAXIMUM_NUMBER_OF_CHUNKS,
+                    (tmpNumberOfDataVectors + tmpBlockSize - 1) / tmpBlockSize
                 );
-            tmpContrastEnhancedMatrix[i] = tmpContrastEnhancedVector;
         }
-        return new PreprocessedArt2aEuclidData(
-            tmpContrastEnhancedMatrix,
-            tmpDataVectorZeroLengthFlags,
-            tmpMinMaxComponents,
-            anOffsetForContrastEnhancement
-        );
-    }
-
-    /**
-     * Creates PreprocessedData object with preprocessed ART-2a-Euclid data for maximum
-     * speed of the clustering process. The PreprocessedData object allocates
-     * about twice the memory of aDataMatrix. A default value of 1.0 is used
-     * for the offset for contrast enhancement.
-     * <br>
-     * Note: aDataMatrix could be set to null after this operation to release
-     * its memory.
-
-     * @param aDataMatrix Data matrix (IS NOT CHANGED and MUST BE VALID: Check
-     * with Utils.isDataMatrixValid() in advance)
-     * @return PreprocessedData object for maximum clustering speed but with
-     * additionally allocated memory (about the same memory as aDataMatrix)
-     */
-    public static PreprocessedArt2aEuclidData getPreprocessedArt2aEuclidData(
-        float[][] aDataMatrix
-    ) {
-        return Art2aEuclidKernel.getPreprocessedArt2aEuclidData(aDataMatrix, DEFAULT_OFFSET_FOR_CONTRAST_ENHANCEMENT);
+        if (tmpNumberOfChunks <= 1) {
+            Art2aEuclidKernel.assignDataVectorRangeToClusters(
+                0,
+                tmpNumberOfDataVectors,
+                aNumberOfDetectedClusters,
+                aDataVectorZeroLengthFlags,
+                aPreprocessedArt2aEuclidData,
+                aThresholdForContrastEnhancement,
+                aClusterMatrix,
+                aClusterIndexOfDataVector,
+                aClusterUsageFlags
+            );
+        } else {
+            int tmpChunkSize = (tmpNumberOfDataVectors + tmpNumberOfChunks - 1) / tmpNumberOfChunks;
+            boolean[][] tmpChunkClusterUsageFlags = new boolean[tmpNumberOfChunks][aClusterUsageFlags.length];
+            IntStream.range(0, tmpNumberOfChunks).parallel().forEach(
+                i -> Art2aEuclidKernel.assignDataVectorRangeToClusters(
+                    i * tmpChunkSize,
+                    Math.min(tmpNumberOfDataVectors, (i + 1) * tmpChunkSize),
+                    aNumberOfDetectedClusters,
+                    aDataVectorZeroLengthFlags,
+                    aPreprocessedArt2aEuclidData,
+                    aThresholdForContrastEnhancement,
+                    aClusterMatrix,
+                    aClusterIndexOfDataVector,
+                    tmpChunkClusterUsageFlags[i]
+                )
+            );
+            // OR-reduction of cluster usage flags of chunks
+            for (boolean[] tmpClusterUsageFlagsOfChunk : tmpChunkClusterUsageFlags) {
+                for (int j = 0; j < aNumberOfDetectedClusters; j++) {
+                    aClusterUsageFlags[j] |= tmpClusterUsageFlagsOfChunk[j];
+                }
+            }
+        }
     }
-    //</editor-fold>
 
-    //<editor-fold desc="Private static methods">
     /**
-     * Assigns data vectors to clusters
+     * Assigns data vectors with indices in interval [aStartIndex, anEndIndex)
+     * to clusters. The data vectors are assigned in blocks (see
+     * ClusterAssignment) with results identical to a one-by-one assignment.
+     * All buffers are allocated by this method so that disjoint intervals may
+     * be assigned concurrently.
      *
+     * @param aStartIndex Start index of data vectors (inclusive)
+     * @param anEndIndex End index of data vectors (exclusive)
      * @param aNumberOfDetectedClusters Number of detected clusters
      * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
      * data row vectors have a length of zero (i.e. where all components are
      * equal to zero). True: Scaled data row vector has a length of zero
      * (corresponding contrast enhanced unit vector is set to null in this
-     * case), false: Otherwise.
+     * case), false: Otherwise (MAY BE CHANGED).
      * @param aPreprocessedArt2aEuclidData PreprocessedData instance (IS NOT CHANGED)
-     * @param aBufferVector Buffer vector (MUST BE ALREADY INSTANTIATED)
      * @param aThresholdForContrastEnhancement Threshold for contrast
      * enhancement
      * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
      * @param aClusterIndexOfDataVector Cluster index of data vector (MAY BE
      * CHANGED and MUST ALREADY BE INSTANTIATED)
      * @param aClusterUsageFlags Flags for cluster usage. True: Cluster is used,
-     * false: Cluster is empty and has to be removed (MAY BE CHANGED and MUST
+     * false: Cluster is empty and has to be removed (flags of used clusters
+     * are set to true but flags are NOT cleared, MAY BE CHANGED and MUST
      * ALREADY BE INSTANTIATED)
      */
-    private static void assignDataVectorsToClusters(
+    private static void assignDataVectorRangeToClusters(
+            int aStartIndex,
+            int anEndIndex,
             int aNumberOfDetectedClusters,
             boolean[] aDataVectorZeroLengthFlags,
             PreprocessedData aPreprocessedArt2aEuclidData,
-            float[] aBufferVector,
             float aThresholdForContrastEnhancement,
-            float[][]aClusterMatrix,
+            ClusterMatrix aClusterMatrix,
             int[] aClusterIndexOfDataVector,
             boolean[] aClusterUsageFlags
     ) {
-        // Assign data vectors to clusters (last pass)
-        Arrays.fill(aClusterUsageFlags, false);
-        for (int i = 0; i < aDataVectorZeroLengthFlags.length; i++) {
+        if (aPreprocessedArt2aEuclidData.isSparse()) {
+            Art2aEuclidKernel.assignSparseDataVectorRangeToClusters(
+                aStartIndex,
+                anEndIndex,
+                aNumberOfDetectedClusters,
+                aDataVectorZeroLengthFlags,
+                aPreprocessedArt2aEuclidData,
+                aThresholdForContrastEnhancement,
+                aClusterMatrix,
+                aClusterIndexOfDataVector,
+                aClusterUsageFlags
+            );
+            return;
+        }
+        int tmpNumberOfComponents = aClusterMatrix.getNumberOfComponents();
+        int tmpBlockSize = ClusterAssignment.getBlockSize(tmpNumberOfComponents);
+        // Block of data vectors with their indices and assigned cluster indices
+        float[][] tmpBlockVectors = new float[tmpBlockSize][];
+        int[] tmpBlockDataVectorIndices = new int[tmpBlockSize];
+        int[] tmpBlockClusterIndices = new int[tmpBlockSize];
+        float[] tmpBestValues = new float[tmpBlockSize];
+        float[] tmpSquaredLengths = new float[tmpBlockSize];
+        float[] tmpResultBuffer = new float[4];
+        // Buffer vectors for data vectors without preprocessing
+        float[][] tmpBufferVectors = null;
+        if (!aPreprocessedArt2aEuclidData.hasPreprocessedData()) {
+            tmpBufferVectors = new float[tmpBlockSize][tmpNumberOfComponents];
+        }
+        int tmpNumberOfBlockVectors = 0;
+        for (int i = aStartIndex; i < anEndIndex; i++) {
             if (!aDataVectorZeroLengthFlags[i]) {
                 if (aPreprocessedArt2aEuclidData.hasPreprocessedData()) {
-                    aBufferVector = aPreprocessedArt2aEuclidData.getPreprocessedMatrix()[i];
+                    tmpBlockVectors[tmpNumberOfBlockVectors] = aPreprocessedArt2aEuclidData.getPreprocessedMatrix()[i];
                 } else {
-                    // Check of length is NOT necessary
-                    Art2aEuclidUtils.setContrastEnhancedVector(
+                    // Note: Zero length is only possible for data vectors
+                    // outside the sample of the training (see
+                    // DataVectorSample)
+                    aDataVectorZeroLengthFlags[i] =
+                        Art2aEuclidUtils.setContrastEnhancedVector(
                             aPreprocessedArt2aEuclidData.getDataMatrix()[i],
-                            aBufferVector,
+                            tmpBufferVectors[tmpNumberOfBlockVectors],
                             aPreprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
                             aThresholdForContrastEnhancement
-                    );
-                }
-                int tmpWinnerClusterIndex =
-                        Art2aEuclidKernel.getClusterIndex(
-                            aBufferVector,
-                            aNumberOfDetectedClusters,
-                            aClusterMatrix
                         );
-                aClusterIndexOfDataVector[i] = tmpWinnerClusterIndex;
-                aClusterUsageFlags[tmpWinnerClusterIndex] = true;
+                    tmpBlockVectors[tmpNumberOfBlockVectors] = tmpBufferVectors[tmpNumberOfBlockVectors];
+                }
+                if (!aDataVectorZeroLengthFlags[i]) {
+                    tmpBlockDataVectorIndices[tmpNumberOfBlockVectors] = i;
+                    tmpNumberOfBlockVectors++;
+                }
+            }
+            if (
+                tmpNumberOfBlockVectors == tmpBlockSize ||
+                    (tmpNumberOfBlockVectors > 0 && i == anEndIndex - 1)
+            ) {
+                ClusterAssignment.setClusterIndices(
+                    tmpBlockVectors,
+                    tmpNumberOfBlockVectors,
+                    aClusterMatrix,
+                    aNumberOfDetectedClusters,
+                    false,
+                    tmpBestValues,
+                    tmpSquaredLengths,
+                    tmpResultBuffer,
+                    tmpBlockClusterIndices
+                );
+                for (int j = 0; j < tmpNumberOfBlockVectors; j++) {
+                    aClusterIndexOfDataVector[tmpBlockDataVectorIndices[j]] = tmpBlockClusterIndices[j];
+                    aClusterUsageFlags[tmpBlockClusterIndices[j]] = true;
+                }
+                tmpNumberOfBlockVectors = 0;
             }
         }
     }
 
     /**
-     * Returns index of cluster for contrast enhanced vector
+     * Assigns data vectors with indices in interval [aStartIndex, anEndIndex)
+     * of a sparse data matrix to clusters (see
+     * ClusterAssignment.getClusterIndex()). All buffers are allocated by this
+     * method so that disjoint intervals may be assigned concurrently.
      *
-     * @param aContrastEnhancedVector Contrast enhanced vector
+     * @param aStartIndex Start index of data vectors (inclusive)
+     * @param anEndIndex End index of data vectors (exclusive)
      * @param aNumberOfDetectedClusters Number of detected clusters
-     * @param aClusterMatrix Cluster matrix
-     * @return Index of cluster for contrast enhanced unit vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise (MAY BE CHANGED).
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance (IS NOT CHANGED)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aClusterMatrix Cluster matrix with tracked squared lengths (IS
+     * NOT CHANGED)
+     * @param aClusterIndexOfDataVector Cluster index of data vector (MAY BE
+     * CHANGED and MUST ALREADY BE INSTANTIATED)
+     * @param aClusterUsageFlags Flags for cluster usage. True: Cluster is used,
+     * false: Cluster is empty and has to be removed (flags of used clusters
+     * are set to true but flags are NOT cleared, MAY BE CHANGED and MUST
+     * ALREADY BE INSTANTIATED)
      */
-    private static int getClusterIndex(
-            float[] aContrastEnhancedVector,
+    private static void assignSparseDataVectorRangeToClusters(
+            int aStartIndex,
+            int anEndIndex,
             int aNumberOfDetectedClusters,
-            float[][] aClusterMatrix
+            boolean[] aDataVectorZeroLengthFlags,
+            PreprocessedData aPreprocessedArt2aEuclidData,
+            float aThresholdForContrastEnhancement,
+            ClusterMatrix aClusterMatrix,
+            int[] aClusterIndexOfDataVector,
+            boolean[] aClusterUsageFlags
     ) {
-        float tmpMinSquaredDistance = Float.MAX_VALUE;
-        int tmpWinnerClusterIndex = -1;
-        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
-            float tmpSquaredDistance = Utils.getSquaredDistance(aContrastEnhancedVector, aClusterMatrix[i]);
-            if (tmpSquaredDistance < tmpMinSquaredDistance) {
-                tmpMinSquaredDistance = tmpSquaredDistance;
-                tmpWinnerClusterIndex = i;
+        Utils.SparseVector tmpSparseBufferVector = new Utils.SparseVector(aClusterMatrix.getNumberOfComponents());
+        for (int i = aStartIndex; i < anEndIndex; i++) {
+            if (!aDataVectorZeroLengthFlags[i]) {
+                // Note: Zero length is only possible for data vectors outside
+                // the sample of the training (see DataVectorSample)
+                if (aPreprocessedArt2aEuclidData.isBinary()) {
+                    aDataVectorZeroLengthFlags[i] =
+                        Art2aEuclidUtils.setContrastEnhancedVector(
+                            aPreprocessedArt2aEuclidData.getBinaryDataMatrix(),
+                            i,
+                            aPreprocessedArt2aEuclidData.getBinaryColumnMask(),
+                            tmpSparseBufferVector
+                        );
+                } else if (aPreprocessedArt2aEuclidData.hasPreprocessedData()) {
+                    tmpSparseBufferVector.setRow(aPreprocessedArt2aEuclidData.getSparsePreprocessedMatrix(), i);
+                } else {
+                    aDataVectorZeroLengthFlags[i] =
+                        Art2aEuclidUtils.setContrastEnhancedVector(
+                            aPreprocessedArt2aEuclidData.getSparseDataMatrix(),
+                            i,
+                            tmpSparseBufferVector,
+                            aPreprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
+                            aThresholdForContrastEnhancement
+                        );
+                }
+                if (aDataVectorZeroLengthFlags[i]) {
+                    continue;
+                }
+                int tmpClusterIndex =
+                    ClusterAssignment.getClusterIndex(
+                        tmpSparseBufferVector,
+                        aClusterMatrix,
+                        aNumberOfDetectedClusters,
+                        false
+                    );
+                aClusterIndexOfDataVector[i] = tmpClusterIndex;
+                aClusterUsageFlags[tmpClusterIndex] = true;
             }
         }
-        return tmpWinnerClusterIndex;
     }
 
     /**
@@ -1075,14 +2892,14 @@ public class Art2aEuclidKernel {
     private static boolean isConverged(
             int aNumberOfDetectedClusters,
             int anEpoch,
-            float[][] aClusterCentroidMatrix,
-            float[][] aClusterCentroidMatrixOld,
+            ClusterMatrix aClusterCentroidMatrix,
+            ClusterMatrix aClusterCentroidMatrixOld,
             int aMaximumNumberOfEpochs,
             float aConvergenceThreshold
     ) {
         if (anEpoch == 1) {
             // Convergence check needs at least 2 epochs
-            Utils.copyRows(aClusterCentroidMatrix, aClusterCentroidMatrixOld, aNumberOfDetectedClusters);
+            aClusterCentroidMatrix.copyTo(aClusterCentroidMatrixOld);
             return false;
         } else {
             float tmpSquaredConvergenceThreshold = aConvergenceThreshold * aConvergenceThreshold;
@@ -1090,13 +2907,20 @@ public class Art2aEuclidKernel {
             if(anEpoch < aMaximumNumberOfEpochs) {
                 // Check convergence by evaluating the similarity (scalar product)
                 // of the cluster vectors of this and the previous epoch
+                float[] tmpComponents = aClusterCentroidMatrix.getComponents();
+                float[] tmpComponentsOld = aClusterCentroidMatrixOld.getComponents();
+                int tmpNumberOfComponents = aClusterCentroidMatrix.getNumberOfComponents();
+                int tmpStride = aClusterCentroidMatrix.getStride();
                 tmpIsConverged = true;
                 for (int i = 0; i < aNumberOfDetectedClusters; i++) {
                     if (
-                            aClusterCentroidMatrixOld[i] == null ||
+                            i >= aClusterCentroidMatrixOld.getNumberOfClusters() ||
                                     Utils.getSquaredDistance(
-                                            aClusterCentroidMatrix[i],
-                                            aClusterCentroidMatrixOld[i]
+                                            tmpComponents,
+                                            i * tmpStride,
+                                            tmpComponentsOld,
+                                            i * tmpStride,
+                                            tmpNumberOfComponents
                                     ) > tmpSquaredConvergenceThreshold
                     ) {
                         tmpIsConverged = false;
@@ -1104,117 +2928,359 @@ public class Art2aEuclidKernel {
                     }
                 }
                 if(!tmpIsConverged) {
-                    Utils.copyRows(aClusterCentroidMatrix, aClusterCentroidMatrixOld, aNumberOfDetectedClusters);
+                    aClusterCentroidMatrix.copyTo(aClusterCentroidMatrixOld);
                 }
             }
             return tmpIsConverged;
         }
     }
 
+    /**
+     * Determines convergence of clustering process by assignment stability,
+     * i.e., the fraction of data vectors that were (re)assigned to a
+     * different cluster in the current epoch must be smaller than the
+     * reassignment threshold.
+     * Note: No checks are performed.
+     *
+     * @param aNumberOfReassignedDataVectors Number of data vectors that were
+     * (re)assigned to a different cluster in the current epoch
+     * @param aNumberOfNonZeroLengthDataVectors Number of data vectors with
+     * non-zero length in the current epoch
+     * @param anEpoch Current epoch
+     * @param aMaximumNumberOfEpochs Maximum number of epochs
+     * @param aReassignmentThreshold Reassignment threshold
+     * @return True if clustering process has converged, false otherwise.
+     */
+    private static boolean isConverged(
+            int aNumberOfReassignedDataVectors,
+            int aNumberOfNonZeroLengthDataVectors,
+            int anEpoch,
+            int aMaximumNumberOfEpochs,
+            float aReassignmentThreshold
+    ) {
+        // Convergence check needs at least 2 epochs since all data vectors
+        // are assigned in the first epoch
+        return
+            anEpoch > 1 &&
+            anEpoch < aMaximumNumberOfEpochs &&
+            aNumberOfReassignedDataVectors < aReassignmentThreshold * aNumberOfNonZeroLengthDataVectors;
+    }
+
     /**
      * Modifies winner cluster (see code).
-     * Note: aContrastEnhancedVector is used for modification and may be
-     * changed.
+     * Note: aBufferVector is used for modification and is changed. It may be
+     * identical to aContrastEnhancedVector.
      * Note: No checks are performed.
      *
      * @param aContrastEnhancedVector Contrast enhanced unit vector for
-     * modification (MAY BE CHANGED)
-     * @param aWinnerClusterVector Winner cluster centroid vector (MAY BE CHANGED)
+     * modification (IS NOT CHANGED if not identical to aBufferVector)
+     * @param aBufferVector Buffer vector for modification (IS CHANGED)
+     * @param aClusterMatrixComponents Row-major components of cluster matrix
+     * with winner cluster centroid vector (MAY BE CHANGED)
+     * @param aWinnerOffset Offset of winner cluster centroid vector in
+     * aClusterMatrixComponents
      * @param aThresholdForContrastEnhancement Threshold for contrast enhancement
      * @param aLearningParameter  Learning parameter
      */
     private static void modifyWinnerCluster(
             float[] aContrastEnhancedVector,
-            float[] aWinnerClusterVector,
+            float[] aBufferVector,
+            float[] aClusterMatrixComponents,
+            int aWinnerOffset,
             float aThresholdForContrastEnhancement,
             float aLearningParameter
     ) {
-        // Note: aContrastEnhancedVector is used for modification
-        for(int j = 0; j < aWinnerClusterVector.length; j++) {
-            if(aWinnerClusterVector[j] <= aThresholdForContrastEnhancement) {
-                aContrastEnhancedVector[j] = 0.0f;
+        // Note: aBufferVector is used for modification
+        for(int j = 0; j < aBufferVector.length; j++) {
+            if(aClusterMatrixComponents[aWinnerOffset + j] <= aThresholdForContrastEnhancement) {
+                aBufferVector[j] = 0.0f;
+            } else {
+                aBufferVector[j] = aContrastEnhancedVector[j];
             }
         }
         float tmpFactor = ONE - aLearningParameter;
-        for(int j = 0; j < aWinnerClusterVector.length; j++) {
-            aContrastEnhancedVector[j] = aLearningParameter * aContrastEnhancedVector[j] + tmpFactor * aWinnerClusterVector[j];
+        for(int j = 0; j < aBufferVector.length; j++) {
+            aBufferVector[j] = aLearningParameter * aBufferVector[j] + tmpFactor * aClusterMatrixComponents[aWinnerOffset + j];
         }
-        Utils.copyVector(aContrastEnhancedVector, aWinnerClusterVector);
+        System.arraycopy(aBufferVector, 0, aClusterMatrixComponents, aWinnerOffset, aBufferVector.length);
     }
 
     /**
-     * Sets rho winner with the rho value and the cluster index of the winner
-     * (see code). If the cluster index is negative the first scaled rho value
-     * is the winner.
+     * Fills the window with the upcoming data vectors of the random sequence
+     * of indices (beginning at aStartIndex, see SpeculativeRhoWindow and
+     * MiniBatch). Data vectors with a length of zero are skipped and their
+     * zero length flags are set.
      *
-     * @param aContrastEnhancedVector Contrast enhanced unit vector (IS NOT CHANGED)
-     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
-     * @param aNumberOfDetectedClusters Number of detected clusters
-     * @param aScalingFactor Scaling factor
-     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
-     * index of the winner. If the cluster index is negative the first scaled
-     * rho value is the winner.
+     * @param aStartIndex Start index in the random sequence of indices
+     * @param aRandomIndices Random sequence of indices of data vectors (IS
+     * NOT CHANGED)
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if data
+     * row vectors have a length of zero (MAY BE CHANGED)
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance (IS NOT CHANGED)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aDataVectorWindow Window of data vectors (IS CHANGED)
      */
-    private static void setRhoWinnerSequential(
-            float[] aContrastEnhancedVector,
-            float[][] aClusterMatrix,
-            int aNumberOfDetectedClusters,
-            float aScalingFactor,
-            Utils.RhoWinner aRhoWinner
+    private static void fillDataVectorWindow(
+            int aStartIndex,
+            int[] aRandomIndices,
+            boolean[] aDataVectorZeroLengthFlags,
+            PreprocessedData aPreprocessedArt2aEuclidData,
+            float aThresholdForContrastEnhancement,
+            DataVectorWindow aDataVectorWindow
     ) {
-        // Calculate first rho value
-        float tmpRhoValue = Utils.getSumOfSquaredDifferences(aContrastEnhancedVector, aScalingFactor);
-        // Set winner index to negative value
-        int tmpIndex = -1;
-        // Calculate other rho values
-        for(int i = 0; i < aNumberOfDetectedClusters; i++) {
-            float tmpRhoForCluster = Utils.getSquaredDistance(aContrastEnhancedVector, aClusterMatrix[i]);
-            if(tmpRhoForCluster < tmpRhoValue) {
-                tmpRhoValue = tmpRhoForCluster;
-                tmpIndex = i;
+        aDataVectorWindow.clear();
+        for (int i = aStartIndex; i < aRandomIndices.length && !aDataVectorWindow.isFull(); i++) {
+            int tmpIndex = aRandomIndices[i];
+            if (aDataVectorZeroLengthFlags[tmpIndex]) {
+                continue;
+            }
+            if (aPreprocessedArt2aEuclidData.isBinary()) {
+                aDataVectorZeroLengthFlags[tmpIndex] =
+                    Art2aEuclidUtils.setContrastEnhancedVector(
+                        aPreprocessedArt2aEuclidData.getBinaryDataMatrix(),
+                        tmpIndex,
+                        aPreprocessedArt2aEuclidData.getBinaryColumnMask(),
+                        aDataVectorWindow.getSparseBufferVector()
+                    );
+            } else if (aPreprocessedArt2aEuclidData.isSparse()) {
+                if (aPreprocessedArt2aEuclidData.hasPreprocessedData()) {
+                    aDataVectorWindow.getSparseBufferVector().setRow(aPreprocessedArt2aEuclidData.getSparsePreprocessedMatrix(), tmpIndex);
+                } else {
+                    aDataVectorZeroLengthFlags[tmpIndex] =
+                        Art2aEuclidUtils.setContrastEnhancedVector(
+                            aPreprocessedArt2aEuclidData.getSparseDataMatrix(),
+                            tmpIndex,
+                            aDataVectorWindow.getSparseBufferVector(),
+                            aPreprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
+                            aThresholdForContrastEnhancement
+                        );
+                }
+            } else if (aPreprocessedArt2aEuclidData.hasPreprocessedData()) {
+                // Row of preprocessed matrix is read directly (IS NOT CHANGED)
+                aDataVectorWindow.addDataVector(aPreprocessedArt2aEuclidData.getPreprocessedMatrix()[tmpIndex]);
+                continue;
+            } else {
+                aDataVectorZeroLengthFlags[tmpIndex] =
+                    Art2aEuclidUtils.setContrastEnhancedVector(
+                        aPreprocessedArt2aEuclidData.getDataMatrix()[tmpIndex],
+                        aDataVectorWindow.getBufferVector(),
+                        aPreprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
+                        aThresholdForContrastEnhancement
+                    );
+            }
+            if (!aDataVectorZeroLengthFlags[tmpIndex]) {
+                aDataVectorWindow.addDataVector(aDataVectorWindow.getBufferVector());
             }
         }
-        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
     }
 
     /**
-     * Sets rho winner with the rho value and the cluster index of the winner
-     * (see code). If the cluster index is negative the first scaled rho value
-     * is the winner.
-     * Note: A parallelized stream is used for calculation.
+     * Processes the data vectors with indices in interval [aStartIndex,
+     * anEndIndex) of the random sequence of indices with lock-free
+     * concurrent cluster updates (see HogwildClusterUpdates): The Rho winner
+     * is calculated with all published cluster vectors and the winner
+     * cluster vector is modified without locks. A new cluster vector is only
+     * created with a reserved index, otherwise the Rho winner is
+     * re-evaluated with the cluster vectors published by other threads in
+     * the meantime. All buffers are allocated by this method so that
+     * disjoint intervals may be processed concurrently.
      *
-     * @param aContrastEnhancedVector Contrast enhanced vector (IS NOT CHANGED)
-     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
-     * @param aNumberOfDetectedClusters Number of detected clusters
-     * @param aScalingFactor Scaling factor
-     * @param aRhoValueBuffer Buffer for Rho values
-     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
-     * index of the winner. If the cluster index is negative the first scaled
-     * rho value is the winner.
+     * @param aStartIndex Start index in the random sequence of indices
+     * (inclusive)
+     * @param anEndIndex End index in the random sequence of indices
+     * (exclusive)
+     * @param aRandomIndices Random sequence of indices of data vectors (IS
+     * NOT CHANGED)
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if data
+     * row vectors have a length of zero (MAY BE CHANGED)
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance (IS NOT CHANGED)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aRhoStar Maximum squared distance of the vigilance test
+     * @param aLearningParameter Learning parameter of the epoch
+     * @param aLearningParameterSchedule Schedule of the learning parameter
+     * @param aNumbersOfClusterAssignments Numbers of data vectors that were
+     * assigned to a cluster so far (null if not used, MAY BE CHANGED, updated
+     * without locks)
+     * @param aClusterMatrix Cluster matrix with allocated memory for the
+     * maximum number of clusters (MAY BE CHANGED)
+     * @param aHogwildClusterUpdates Concurrent cluster updates
+     * @param aClusterIndexOfDataVector Cluster index of data vector (MAY BE
+     * CHANGED)
+     * @param aClusterUsageFlags Flags for cluster usage (flags of used
+     * clusters are set to true, MAY BE CHANGED)
+     * @return Number of data vectors that are (re)assigned to a different
+     * cluster
      */
-    private static void setRhoWinnerParallel(
-            float[] aContrastEnhancedVector,
-            float[][] aClusterMatrix,
-            int aNumberOfDetectedClusters,
-            float aScalingFactor,
-            float[] aRhoValueBuffer,
-            Utils.RhoWinner aRhoWinner
+    private static int processDataVectorRangeHogwild(
+            int aStartIndex,
+            int anEndIndex,
+            int[] aRandomIndices,
+            boolean[] aDataVectorZeroLengthFlags,
+            PreprocessedData aPreprocessedArt2aEuclidData,
+            float aThresholdForContrastEnhancement,
+            float aRhoStar,
+            float aLearningParameter,
+            LearningParameterSchedule aLearningParameterSchedule,
+            int[] aNumbersOfClusterAssignments,
+            ClusterMatrix aClusterMatrix,
+            HogwildClusterUpdates aHogwildClusterUpdates,
+            int[] aClusterIndexOfDataVector,
+            boolean[] aClusterUsageFlags
     ) {
-        // Calculate first rho value
-        float tmpRhoValue = Utils.getSumOfSquaredDifferences(aContrastEnhancedVector, aScalingFactor);
-        // Set winner index to negative value
-        int tmpIndex = -1;
-        // Calculate other rho values
-        IntStream.range(0, aNumberOfDetectedClusters).parallel().forEach(
-                i -> aRhoValueBuffer[i] = Utils.getSquaredDistance(aContrastEnhancedVector, aClusterMatrix[i])
-        );
-        for(int i = 0; i < aNumberOfDetectedClusters; i++) {
-            if(aRhoValueBuffer[i] < tmpRhoValue) {
-                tmpRhoValue = aRhoValueBuffer[i];
-                tmpIndex = i;
+        boolean tmpIsSparse = aPreprocessedArt2aEuclidData.isSparse();
+        int tmpNumberOfComponents = aPreprocessedArt2aEuclidData.getNumberOfComponents();
+        float[] tmpBufferVector = new float[tmpNumberOfComponents];
+        Utils.SparseVector tmpSparseBufferVector = null;
+        if (tmpIsSparse) {
+            tmpSparseBufferVector = new Utils.SparseVector(tmpNumberOfComponents);
+        }
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        int tmpNumberOfReassignedDataVectors = 0;
+        for (int i = aStartIndex; i < anEndIndex; i++) {
+            int tmpRandomIndex = aRandomIndices[i];
+            if (aDataVectorZeroLengthFlags[tmpRandomIndex]) {
+                // Shifted data row vector has length of zero: Ignore!
+                continue;
+            }
+
+            // Contrast enhanced vector of data vector
+            float[] tmpContrastEnhancedVector = tmpBufferVector;
+            if (aPreprocessedArt2aEuclidData.isBinary()) {
+                // Note: Zero length is only possible without preprocessing
+                if (Art2aEuclidUtils.setContrastEnhancedVector(
+                        aPreprocessedArt2aEuclidData.getBinaryDataMatrix(),
+                        tmpRandomIndex,
+                        aPreprocessedArt2aEuclidData.getBinaryColumnMask(),
+                        tmpSparseBufferVector
+                    )
+                ) {
+                    aDataVectorZeroLengthFlags[tmpRandomIndex] = true;
+                    continue;
+                }
+            } else if (tmpIsSparse) {
+                if (aPreprocessedArt2aEuclidData.hasPreprocessedData()) {
+                    tmpSparseBufferVector.setRow(aPreprocessedArt2aEuclidData.getSparsePreprocessedMatrix(), tmpRandomIndex);
+                } else {
+                    aDataVectorZeroLengthFlags[tmpRandomIndex] =
+                        Art2aEuclidUtils.setContrastEnhancedVector(
+                            aPreprocessedArt2aEuclidData.getSparseDataMatrix(),
+                            tmpRandomIndex,
+                            tmpSparseBufferVector,
+                            aPreprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
+                            aThresholdForContrastEnhancement
+                        );
+                    if (aDataVectorZeroLengthFlags[tmpRandomIndex]) {
+                        continue;
+                    }
+                }
+            } else if (aPreprocessedArt2aEuclidData.hasPreprocessedData()) {
+                // Row of preprocessed matrix is read directly (IS NOT CHANGED)
+                tmpContrastEnhancedVector = aPreprocessedArt2aEuclidData.getPreprocessedMatrix()[tmpRandomIndex];
+            } else {
+                aDataVectorZeroLengthFlags[tmpRandomIndex] =
+                    Art2aEuclidUtils.setContrastEnhancedVector(
+                        aPreprocessedArt2aEuclidData.getDataMatrix()[tmpRandomIndex],
+                        tmpBufferVector,
+                        aPreprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
+                        aThresholdForContrastEnhancement
+                    );
+                if (aDataVectorZeroLengthFlags[tmpRandomIndex]) {
+                    continue;
+                }
+            }
+
+            // Number of published cluster vectors of the last Rho winner
+            // calculation (-1: No Rho winner calculation)
+            int tmpNumberOfEvaluatedClusters = -1;
+            while (true) {
+                int tmpNumberOfDetectedClusters = aHogwildClusterUpdates.getNumberOfClusters();
+                if (tmpNumberOfDetectedClusters != tmpNumberOfEvaluatedClusters) {
+                    if (tmpNumberOfEvaluatedClusters >= 0) {
+                        // Another thread published a new cluster vector
+                        aHogwildClusterUpdates.addReevaluation();
+                    }
+                    tmpNumberOfEvaluatedClusters = tmpNumberOfDetectedClusters;
+                    if (tmpIsSparse) {
+                        Art2aEuclidUtils.setRhoWinner(
+                            tmpSparseBufferVector,
+                            aClusterMatrix,
+                            tmpNumberOfDetectedClusters,
+                            aThresholdForContrastEnhancement,
+                            tmpRhoWinner
+                        );
+                    } else {
+                        Art2aEuclidUtils.setRhoWinner(
+                            tmpContrastEnhancedVector,
+                            aClusterMatrix,
+                            tmpNumberOfDetectedClusters,
+                            aThresholdForContrastEnhancement,
+                            tmpRhoWinner
+                        );
+                    }
+                    if (tmpRhoWinner.getIndexOfCluster() >= 0 && tmpRhoWinner.getRhoValue() <= aRhoStar) {
+                        // Assign to existing winner cluster with modification
+                        // (without locks)
+                        int tmpWinnerIndex = tmpRhoWinner.getIndexOfCluster();
+                        if (tmpIsSparse) {
+                            // Dense buffer vector is needed for modification
+                            Utils.setDenseVector(tmpSparseBufferVector, tmpBufferVector);
+                        }
+                        // Note: tmpBufferVector is used as scratch buffer for
+                        // modification
+                        Art2aEuclidKernel.modifyWinnerCluster(
+                            tmpContrastEnhancedVector,
+                            tmpBufferVector,
+                            aClusterMatrix.getComponents(),
+                            aClusterMatrix.getOffset(tmpWinnerIndex),
+                            aThresholdForContrastEnhancement,
+                            aNumbersOfClusterAssignments == null ?
+                                aLearningParameter :
+                                aLearningParameterSchedule.getClusterLearningParameter(
+                                    aLearningParameter,
+                                    aNumbersOfClusterAssignments[tmpWinnerIndex]
+                                )
+                        );
+                        if (tmpIsSparse) {
+                            aClusterMatrix.updateSquaredLength(tmpWinnerIndex);
+                        }
+                        if (aNumbersOfClusterAssignments != null) {
+                            aNumbersOfClusterAssignments[tmpWinnerIndex]++;
+                        }
+                        if (aClusterIndexOfDataVector[tmpRandomIndex] != tmpWinnerIndex) {
+                            tmpNumberOfReassignedDataVectors++;
+                        }
+                        aClusterIndexOfDataVector[tmpRandomIndex] = tmpWinnerIndex;
+                        aClusterUsageFlags[tmpWinnerIndex] = true;
+                        break;
+                    }
+                }
+                if (tmpNumberOfDetectedClusters == aHogwildClusterUpdates.getMaximumNumberOfClusters()) {
+                    aHogwildClusterUpdates.setClusterOverflow();
+                    break;
+                }
+                if (aHogwildClusterUpdates.reserveCluster(tmpNumberOfDetectedClusters)) {
+                    // Create new cluster vector with reserved index
+                    if (tmpIsSparse) {
+                        Utils.setDenseVector(tmpSparseBufferVector, tmpBufferVector);
+                    }
+                    aClusterMatrix.setCluster(tmpNumberOfDetectedClusters, tmpContrastEnhancedVector);
+                    if (aNumbersOfClusterAssignments != null) {
+                        aNumbersOfClusterAssignments[tmpNumberOfDetectedClusters] = 1;
+                    }
+                    aHogwildClusterUpdates.publishCluster(tmpNumberOfDetectedClusters);
+                    aClusterIndexOfDataVector[tmpRandomIndex] = tmpNumberOfDetectedClusters;
+                    aClusterUsageFlags[tmpNumberOfDetectedClusters] = true;
+                    tmpNumberOfReassignedDataVectors++;
+                    break;
+                }
+                // Wait for the publication of the cluster vector that another
+                // thread reserved
+                Thread.yield();
             }
         }
-        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+        return tmpNumberOfReassignedDataVectors;
     }
     //</editor-fold>
 
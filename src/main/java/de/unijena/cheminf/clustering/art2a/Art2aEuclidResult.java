@@ -72,9 +72,14 @@ public class Art2aEuclidResult {
      */
     private final int numberOfDetectedClusters;
     /**
-     * Cluster matrix
+     * Row-major cluster matrix with numberOfDetectedClusters cluster vectors
+     * of numberOfComponents components each
      */
-    private final float[][] clusterMatrix;
+    private final float[] clusterMatrix;
+    /**
+     * Number of components of a cluster vector
+     */
+    private final int numberOfComponents;
     /**
      * Array with flags. True: Scaled data vector has a length of zero
      * (corresponding contrast enhanced unit vector is set to null in this
@@ -93,6 +98,27 @@ public class Art2aEuclidResult {
      * PreprocessedData object
      */
     private final PreprocessedData preprocessedArt2aEuclidData;
+    /**
+     * Number of rho values (squared distances) that were skipped by pruning
+     */
+    private final long numberOfPrunedRhoValues;
+    /**
+     * Execution plan of the clustering run (null if not specified)
+     */
+    private final String executionPlan;
+    /**
+     * Numbers of data vectors that were (re)assigned to a different cluster in
+     * each epoch (null if not specified)
+     */
+    private final int[] numbersOfReassignedDataVectors;
+    /**
+     * Number of data vectors that were used for the training (sample size)
+     */
+    private final int sampleSize;
+    /**
+     * Time for drawing the sample of data vectors in nanoseconds
+     */
+    private final long samplingTime;
     //</editor-fold>
     //<editor-fold desc="Private record IndexedValue">
     /**
@@ -129,7 +155,10 @@ public class Art2aEuclidResult {
      * @param aNumberOfEpochs Number of epochs used for clustering
      * @param aNumberOfDetectedClusters Number of detected clusters
      * @param aClusterIndexOfDataVector Cluster index of data vector
-     * @param aClusterMatrix Cluster matrix
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
      * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
      * data row vectors have a length of zero (i.e. where all components are
      * equal to zero). True: Scaled data row vector has a length of zero
@@ -146,11 +175,263 @@ public class Art2aEuclidResult {
         int aNumberOfEpochs,
         int aNumberOfDetectedClusters,
         int[] aClusterIndexOfDataVector,
-        float[][] aClusterMatrix,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
         boolean[] aDataVectorZeroLengthFlags,
         boolean anIsClusterOverflow,
         boolean anIsConverged,
         PreprocessedData aPreprocessedArt2aEuclidData
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aEuclidData,
+            0L
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: Clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (squared
+     * distances) that were skipped by pruning
+     */
+    public Art2aEuclidResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aEuclidData,
+        long aNumberOfPrunedRhoValues
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aEuclidData,
+            aNumberOfPrunedRhoValues,
+            null
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: Clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (squared
+     * distances) that were skipped by pruning
+     * @param anExecutionPlan Execution plan of the clustering run
+     */
+    public Art2aEuclidResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aEuclidData,
+        long aNumberOfPrunedRhoValues,
+        String anExecutionPlan
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aEuclidData,
+            aNumberOfPrunedRhoValues,
+            anExecutionPlan,
+            null
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: Clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (squared
+     * distances) that were skipped by pruning
+     * @param anExecutionPlan Execution plan of the clustering run
+     * @param aNumbersOfReassignedDataVectors Numbers of data vectors that were
+     * (re)assigned to a different cluster in each epoch (with a length of at
+     * least aNumberOfEpochs, may be null)
+     */
+    public Art2aEuclidResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aEuclidData,
+        long aNumberOfPrunedRhoValues,
+        String anExecutionPlan,
+        int[] aNumbersOfReassignedDataVectors
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aEuclidData,
+            aNumberOfPrunedRhoValues,
+            anExecutionPlan,
+            aNumbersOfReassignedDataVectors,
+            aClusterIndexOfDataVector.length,
+            0L
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: Clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aEuclidData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (squared
+     * distances) that were skipped by pruning
+     * @param anExecutionPlan Execution plan of the clustering run
+     * @param aNumbersOfReassignedDataVectors Numbers of data vectors that were
+     * (re)assigned to a different cluster in each epoch (with a length of at
+     * least aNumberOfEpochs, may be null)
+     * @param aSampleSize Number of data vectors that were used for the
+     * training (sample size)
+     * @param aSamplingTime Time for drawing the sample of data vectors in
+     * nanoseconds (0 if no sample was drawn)
+     */
+    public Art2aEuclidResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aEuclidData,
+        long aNumberOfPrunedRhoValues,
+        String anExecutionPlan,
+        int[] aNumbersOfReassignedDataVectors,
+        int aSampleSize,
+        long aSamplingTime
     ) {
         this.vigilance = aVigilance;
         this.thresholdForContrastEnhancement = aThresholdForContrastEnhancement;
@@ -158,20 +439,26 @@ public class Art2aEuclidResult {
         this.numberOfDetectedClusters = aNumberOfDetectedClusters;
         this.clusterIndexOfDataVector = aClusterIndexOfDataVector;
         this.clusterMatrix = aClusterMatrix;
+        this.numberOfComponents = aNumberOfComponents;
         this.dataVectorZeroLengthFlags = aDataVectorZeroLengthFlags;
         this.isClusterOverflow = anIsClusterOverflow;
         this.isConverged = anIsConverged;
         this.preprocessedArt2aEuclidData = aPreprocessedArt2aEuclidData;
+        this.numberOfPrunedRhoValues = aNumberOfPrunedRhoValues;
+        this.executionPlan = anExecutionPlan;
+        this.numbersOfReassignedDataVectors = aNumbersOfReassignedDataVectors;
+        this.sampleSize = aSampleSize;
+        this.samplingTime = aSamplingTime;
     }
     //</editor-fold>
 
     //<editor-fold desc="Public methods">
     /**
-     * Returns specified cluster vector with index aClusterIndex in
+     * Returns (copy of) specified cluster vector with index aClusterIndex in
      * clusterMatrix.
      *
      * @param aClusterIndex Index of cluster vector in clusterMatrix
-     * @return Specified cluster vector
+     * @return Specified cluster vector (copy)
      * @throws IllegalArgumentException Thrown if argument is illegal.
      */
     public float[] getClusterVector(
@@ -186,7 +473,7 @@ public class Art2aEuclidResult {
             throw new IllegalArgumentException("Art2aEuclidResult.getClusterVector: aClusterIndex is illegal.");
         }
         //</editor-fold>
-        return this.clusterMatrix[aClusterIndex];
+        return this.getCopyOfClusterVector(aClusterIndex);
     }
 
     /**
@@ -210,7 +497,7 @@ public class Art2aEuclidResult {
             throw new IllegalArgumentException("Art2aEuclidResult.getClusterVector: aClusterIndex is illegal.");
         }
         //</editor-fold>
-        return Utils.getScaledVector(this.clusterMatrix[aClusterIndex]);
+        return Utils.getScaledVector(this.getCopyOfClusterVector(aClusterIndex));
     }
 
     /**
@@ -300,8 +587,11 @@ public class Art2aEuclidResult {
             return
                 (float) Math.sqrt(
                     Utils.getSquaredDistance(
-                        this.clusterMatrix[aClusterIndex1],
-                        this.clusterMatrix[aClusterIndex2]
+                        this.clusterMatrix,
+                        aClusterIndex1 * this.numberOfComponents,
+                        this.clusterMatrix,
+                        aClusterIndex2 * this.numberOfComponents,
+                        this.numberOfComponents
                     )
                 );
         }
@@ -385,16 +675,42 @@ public class Art2aEuclidResult {
         if (tmpDataVectorIndicesOfCluster.length == 1) {
             return tmpDataVectorIndicesOfCluster[0];
         }
-        float[] tmpClusterVector = this.clusterMatrix[aClusterIndex];
+        int tmpClusterOffset = aClusterIndex * this.numberOfComponents;
         int tmpBestIndex = 0;
         float tmpMinimumDistance = Float.MAX_VALUE;
         float[] tmpContrastEnhancedVector = null;
-        if (!this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
-            tmpContrastEnhancedVector = new float[tmpClusterVector.length];
+        Utils.SparseVector tmpSparseBufferVector = null;
+        float tmpClusterSquaredLength = 0.0f;
+        if (this.preprocessedArt2aEuclidData.isSparse()) {
+            tmpSparseBufferVector = new Utils.SparseVector(this.numberOfComponents);
+            tmpClusterSquaredLength = Utils.getScalarProduct(this.clusterMatrix, tmpClusterOffset, this.clusterMatrix, tmpClusterOffset, this.numberOfComponents);
+        } else if (!this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
+            tmpContrastEnhancedVector = new float[this.numberOfComponents];
         }
         for (int i = 0; i < tmpDataVectorIndicesOfCluster.length; i++) {
             int tmpIndex = tmpDataVectorIndicesOfCluster[i];
-            if (this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
+            if (this.preprocessedArt2aEuclidData.isSparse()) {
+                if (this.preprocessedArt2aEuclidData.isBinary()) {
+                    // Check of length is NOT necessary
+                    Art2aEuclidUtils.setContrastEnhancedVector(
+                        this.preprocessedArt2aEuclidData.getBinaryDataMatrix(),
+                        tmpIndex,
+                        this.preprocessedArt2aEuclidData.getBinaryColumnMask(),
+                        tmpSparseBufferVector
+                    );
+                } else if (this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
+                    tmpSparseBufferVector.setRow(this.preprocessedArt2aEuclidData.getSparsePreprocessedMatrix(), tmpIndex);
+                } else {
+                    // Check of length is NOT necessary
+                    Art2aEuclidUtils.setContrastEnhancedVector(
+                        this.preprocessedArt2aEuclidData.getSparseDataMatrix(),
+                        tmpIndex,
+                        tmpSparseBufferVector,
+                        this.preprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
+                        this.thresholdForContrastEnhancement
+                    );
+                }
+            } else if (this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
                 tmpContrastEnhancedVector = this.preprocessedArt2aEuclidData.getPreprocessedMatrix()[tmpIndex];
             } else {
                 // Check of length is NOT necessary
@@ -405,7 +721,12 @@ public class Art2aEuclidResult {
                     this.thresholdForContrastEnhancement
                 );
             }
-            float tmpSquaredDistance = Utils.getSquaredDistance(tmpContrastEnhancedVector, tmpClusterVector);
+            float tmpSquaredDistance;
+            if (this.preprocessedArt2aEuclidData.isSparse()) {
+                tmpSquaredDistance = Utils.getSquaredDistance(tmpSparseBufferVector, this.clusterMatrix, tmpClusterOffset, tmpClusterSquaredLength);
+            } else {
+                tmpSquaredDistance = Utils.getSquaredDistance(tmpContrastEnhancedVector, this.clusterMatrix, tmpClusterOffset);
+            }
             if (tmpSquaredDistance < tmpMinimumDistance) {
                 tmpBestIndex = tmpIndex;
                 tmpMinimumDistance = tmpSquaredDistance;
@@ -441,15 +762,41 @@ public class Art2aEuclidResult {
         if (tmpDataVectorIndicesOfCluster.length == 1) {
             return tmpDataVectorIndicesOfCluster;
         }
-        float[] tmpClusterVector = this.clusterMatrix[aClusterIndex];
+        int tmpClusterOffset = aClusterIndex * this.numberOfComponents;
         IndexedValue[] tmpIndexedValues = new IndexedValue[tmpDataVectorIndicesOfCluster.length];
         float[] tmpContrastEnhancedVector = null;
-        if (!this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
-            tmpContrastEnhancedVector = new float[tmpClusterVector.length];
+        Utils.SparseVector tmpSparseBufferVector = null;
+        float tmpClusterSquaredLength = 0.0f;
+        if (this.preprocessedArt2aEuclidData.isSparse()) {
+            tmpSparseBufferVector = new Utils.SparseVector(this.numberOfComponents);
+            tmpClusterSquaredLength = Utils.getScalarProduct(this.clusterMatrix, tmpClusterOffset, this.clusterMatrix, tmpClusterOffset, this.numberOfComponents);
+        } else if (!this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
+            tmpContrastEnhancedVector = new float[this.numberOfComponents];
         }
         for (int i = 0; i < tmpDataVectorIndicesOfCluster.length; i++) {
             int tmpIndex = tmpDataVectorIndicesOfCluster[i];
-            if (this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
+            if (this.preprocessedArt2aEuclidData.isSparse()) {
+                if (this.preprocessedArt2aEuclidData.isBinary()) {
+                    // Check of length is NOT necessary
+                    Art2aEuclidUtils.setContrastEnhancedVector(
+                        this.preprocessedArt2aEuclidData.getBinaryDataMatrix(),
+                        tmpIndex,
+                        this.preprocessedArt2aEuclidData.getBinaryColumnMask(),
+                        tmpSparseBufferVector
+                    );
+                } else if (this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
+                    tmpSparseBufferVector.setRow(this.preprocessedArt2aEuclidData.getSparsePreprocessedMatrix(), tmpIndex);
+                } else {
+                    // Check of length is NOT necessary
+                    Art2aEuclidUtils.setContrastEnhancedVector(
+                        this.preprocessedArt2aEuclidData.getSparseDataMatrix(),
+                        tmpIndex,
+                        tmpSparseBufferVector,
+                        this.preprocessedArt2aEuclidData.getMinMaxComponentsOfDataMatrix(),
+                        this.thresholdForContrastEnhancement
+                    );
+                }
+            } else if (this.preprocessedArt2aEuclidData.hasPreprocessedData()) {
                 tmpContrastEnhancedVector = this.preprocessedArt2aEuclidData.getPreprocessedMatrix()[tmpIndex];
             } else {
                 // Check of length is NOT necessary
@@ -460,7 +807,11 @@ public class Art2aEuclidResult {
                     this.thresholdForContrastEnhancement
                 );
             }
-            tmpIndexedValues[i] = new IndexedValue(tmpIndex, Utils.getSquaredDistance(tmpContrastEnhancedVector, tmpClusterVector));
+            if (this.preprocessedArt2aEuclidData.isSparse()) {
+                tmpIndexedValues[i] = new IndexedValue(tmpIndex, Utils.getSquaredDistance(tmpSparseBufferVector, this.clusterMatrix, tmpClusterOffset, tmpClusterSquaredLength));
+            } else {
+                tmpIndexedValues[i] = new IndexedValue(tmpIndex, Utils.getSquaredDistance(tmpContrastEnhancedVector, this.clusterMatrix, tmpClusterOffset));
+            }
         }
         // NOTE: SMALLEST squared distance FIRST!
         Arrays.sort(tmpIndexedValues);
@@ -510,6 +861,94 @@ public class Art2aEuclidResult {
     public int getNumberOfDetectedClusters() {
         return this.numberOfDetectedClusters;
     }
+
+    /**
+     * Number of rho values (squared distances) that were skipped by pruning
+     * of the rho winner calculation (0 if pruning was not used)
+     *
+     * @return Number of pruned rho values
+     */
+    public long getNumberOfPrunedRhoValues() {
+        return this.numberOfPrunedRhoValues;
+    }
+
+    /**
+     * Execution plan of the clustering run, i.e., the chosen strategies of the
+     * rho winner calculation and the final assignment of data vectors to
+     * clusters with calibration data (for auditing, null if not specified)
+     *
+     * @return Execution plan
+     */
+    public String getExecutionPlan() {
+        return this.executionPlan;
+    }
+
+    /**
+     * Numbers of data vectors that were (re)assigned to a different cluster in
+     * each epoch of the clustering run, i.e., index i corresponds to epoch
+     * i + 1. In the first epoch every data vector with a length greater than
+     * zero is counted as assigned (null if not specified).
+     *
+     * @return Numbers of (re)assigned data vectors with a length equal to the
+     * number of epochs or null
+     */
+    public int[] getNumbersOfReassignedDataVectors() {
+        if (this.numbersOfReassignedDataVectors == null) {
+            return null;
+        }
+        return Arrays.copyOf(this.numbersOfReassignedDataVectors, this.numberOfEpochs);
+    }
+
+    /**
+     * Number of data vectors that were used for the training, i.e., the
+     * sample size of a sample-then-assign clustering (the number of data
+     * vectors otherwise, see Art2aEuclidKernel.getSampleClusterResult())
+     *
+     * @return Number of data vectors that were used for the training
+     */
+    public int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     * Time for drawing the sample of data vectors of a sample-then-assign
+     * clustering (0 otherwise, see Art2aEuclidKernel.getSampleClusterResult())
+     *
+     * @return Sampling time in nanoseconds
+     */
+    public long getSamplingTime() {
+        return this.samplingTime;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns the cluster indices of the data vectors (for the consensus of
+     * an ensemble of clustering runs, see ConsensusClustering).
+     * Note: The returned array is NOT a copy and must NOT be changed.
+     *
+     * @return Cluster index of data vector
+     */
+    protected int[] getClusterIndexOfDataVector() {
+        return this.clusterIndexOfDataVector;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Returns copy of specified cluster vector with index aClusterIndex in
+     * clusterMatrix.
+     * Note: No checks are performed.
+     *
+     * @param aClusterIndex Index of cluster vector in clusterMatrix
+     * @return Copy of specified cluster vector
+     */
+    private float[] getCopyOfClusterVector(
+        int aClusterIndex
+    ) {
+        int tmpClusterOffset = aClusterIndex * this.numberOfComponents;
+        return Arrays.copyOfRange(this.clusterMatrix, tmpClusterOffset, tmpClusterOffset + this.numberOfComponents);
+    }
     //</editor-fold>
 
 }
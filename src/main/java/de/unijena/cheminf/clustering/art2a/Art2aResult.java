@@ -79,9 +79,14 @@ public class Art2aResult {
      */
     private final int numberOfDetectedClusters;
     /**
-     * Cluster matrix
+     * Row-major cluster matrix with numberOfDetectedClusters cluster vectors
+     * of numberOfComponents components each
      */
-    private final float[][] clusterMatrix;
+    private final float[] clusterMatrix;
+    /**
+     * Number of components of a cluster vector
+     */
+    private final int numberOfComponents;
     /**
      * Array with flags. True: Scaled data vector has a length of zero
      * (corresponding contrast enhanced unit vector is set to null in this
@@ -100,6 +105,36 @@ public class Art2aResult {
      * PreprocessedData object
      */
     private final PreprocessedData preprocessedArt2aData;
+    /**
+     * Number of rho values (scalar products) that were skipped by pruning
+     */
+    private final long numberOfPrunedRhoValues;
+    /**
+     * Estimated recall of the approximate rho winner calculation
+     */
+    private final float rhoWinnerRecall;
+    /**
+     * Fraction of approximate rho winner calculations where the exact rho
+     * winner calculation was performed instead
+     */
+    private final float rhoWinnerFallbackFraction;
+    /**
+     * Execution plan of the clustering run (null if not specified)
+     */
+    private final String executionPlan;
+    /**
+     * Numbers of data vectors that were (re)assigned to a different cluster in
+     * each epoch (null if not specified)
+     */
+    private final int[] numbersOfReassignedDataVectors;
+    /**
+     * Number of data vectors that were used for the training (sample size)
+     */
+    private final int sampleSize;
+    /**
+     * Time for drawing the sample of data vectors in nanoseconds
+     */
+    private final long samplingTime;
     //</editor-fold>
 
     //<editor-fold desc="Private record IndexedValue">
@@ -137,7 +172,10 @@ public class Art2aResult {
      * @param aNumberOfEpochs Number of epochs used for clustering
      * @param aNumberOfDetectedClusters Number of detected clusters
      * @param aClusterIndexOfDataVector Cluster index of data vector
-     * @param aClusterMatrix Cluster matrix
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
      * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
      * data row vectors have a length of zero (i.e., where all components are
      * equal to zero). True: Scaled data row vector has a length of zero
@@ -154,11 +192,355 @@ public class Art2aResult {
         int aNumberOfEpochs,
         int aNumberOfDetectedClusters,
         int[] aClusterIndexOfDataVector,
-        float[][] aClusterMatrix,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
         boolean[] aDataVectorZeroLengthFlags,
         boolean anIsClusterOverflow,
         boolean anIsConverged,
         PreprocessedData aPreprocessedArt2aData
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aData,
+            0L
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e., where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: The clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (scalar products)
+     * that were skipped by pruning
+     */
+    public Art2aResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aData,
+        long aNumberOfPrunedRhoValues
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aData,
+            aNumberOfPrunedRhoValues,
+            1.0f,
+            0.0f
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e., where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: The clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (scalar products)
+     * that were skipped by pruning
+     * @param aRhoWinnerRecall Estimated recall of the approximate rho winner
+     * calculation (1 for the exact rho winner calculation)
+     * @param aRhoWinnerFallbackFraction Fraction of approximate rho winner
+     * calculations where the exact rho winner calculation was performed
+     * instead (0 for the exact rho winner calculation)
+     */
+    public Art2aResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aData,
+        long aNumberOfPrunedRhoValues,
+        float aRhoWinnerRecall,
+        float aRhoWinnerFallbackFraction
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aData,
+            aNumberOfPrunedRhoValues,
+            aRhoWinnerRecall,
+            aRhoWinnerFallbackFraction,
+            null
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e., where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: The clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (scalar products)
+     * that were skipped by pruning
+     * @param aRhoWinnerRecall Estimated recall of the approximate rho winner
+     * calculation (1 for the exact rho winner calculation)
+     * @param aRhoWinnerFallbackFraction Fraction of approximate rho winner
+     * calculations where the exact rho winner calculation was performed
+     * instead (0 for the exact rho winner calculation)
+     * @param anExecutionPlan Execution plan of the clustering run
+     */
+    public Art2aResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aData,
+        long aNumberOfPrunedRhoValues,
+        float aRhoWinnerRecall,
+        float aRhoWinnerFallbackFraction,
+        String anExecutionPlan
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aData,
+            aNumberOfPrunedRhoValues,
+            aRhoWinnerRecall,
+            aRhoWinnerFallbackFraction,
+            anExecutionPlan,
+            null
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e., where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: The clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (scalar products)
+     * that were skipped by pruning
+     * @param aRhoWinnerRecall Estimated recall of the approximate rho winner
+     * calculation (1 for the exact rho winner calculation)
+     * @param aRhoWinnerFallbackFraction Fraction of approximate rho winner
+     * calculations where the exact rho winner calculation was performed
+     * instead (0 for the exact rho winner calculation)
+     * @param anExecutionPlan Execution plan of the clustering run
+     * @param aNumbersOfReassignedDataVectors Numbers of data vectors that were
+     * (re)assigned to a different cluster in each epoch (with a length of at
+     * least aNumberOfEpochs, may be null)
+     */
+    public Art2aResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aData,
+        long aNumberOfPrunedRhoValues,
+        float aRhoWinnerRecall,
+        float aRhoWinnerFallbackFraction,
+        String anExecutionPlan,
+        int[] aNumbersOfReassignedDataVectors
+    ) {
+        this(
+            aVigilance,
+            aThresholdForContrastEnhancement,
+            aNumberOfEpochs,
+            aNumberOfDetectedClusters,
+            aClusterIndexOfDataVector,
+            aClusterMatrix,
+            aNumberOfComponents,
+            aDataVectorZeroLengthFlags,
+            anIsClusterOverflow,
+            anIsConverged,
+            aPreprocessedArt2aData,
+            aNumberOfPrunedRhoValues,
+            aRhoWinnerRecall,
+            aRhoWinnerFallbackFraction,
+            anExecutionPlan,
+            aNumbersOfReassignedDataVectors,
+            aClusterIndexOfDataVector.length,
+            0L
+        );
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @param aNumberOfEpochs Number of epochs used for clustering
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aClusterIndexOfDataVector Cluster index of data vector
+     * @param aClusterMatrix Row-major cluster matrix with
+     * aNumberOfDetectedClusters cluster vectors (without padding, see
+     * ClusterMatrix.getTrimmedComponents())
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e., where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding contrast enhanced unit vector is set to null in this
+     * case), false: Otherwise.
+     * @param anIsClusterOverflow True: Cluster overflow occurred, false:
+     * Otherwise
+     * @param anIsConverged True: The clustering process converged, false: Otherwise
+     * @param aPreprocessedArt2aData PreprocessedData instance
+     * @param aNumberOfPrunedRhoValues Number of rho values (scalar products)
+     * that were skipped by pruning
+     * @param aRhoWinnerRecall Estimated recall of the approximate rho winner
+     * calculation (1 for the exact rho winner calculation)
+     * @param aRhoWinnerFallbackFraction Fraction of approximate rho winner
+     * calculations where the exact rho winner calculation was performed
+     * instead (0 for the exact rho winner calculation)
+     * @param anExecutionPlan Execution plan of the clustering run
+     * @param aNumbersOfReassignedDataVectors Numbers of data vectors that were
+     * (re)assigned to a different cluster in each epoch (with a length of at
+     * least aNumberOfEpochs, may be null)
+     * @param aSampleSize Number of data vectors that were used for the
+     * training (sample size)
+     * @param aSamplingTime Time for drawing the sample of data vectors in
+     * nanoseconds (0 if no sample was drawn)
+     */
+    public Art2aResult(
+        float aVigilance,
+        float aThresholdForContrastEnhancement,
+        int aNumberOfEpochs,
+        int aNumberOfDetectedClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aClusterMatrix,
+        int aNumberOfComponents,
+        boolean[] aDataVectorZeroLengthFlags,
+        boolean anIsClusterOverflow,
+        boolean anIsConverged,
+        PreprocessedData aPreprocessedArt2aData,
+        long aNumberOfPrunedRhoValues,
+        float aRhoWinnerRecall,
+        float aRhoWinnerFallbackFraction,
+        String anExecutionPlan,
+        int[] aNumbersOfReassignedDataVectors,
+        int aSampleSize,
+        long aSamplingTime
     ) {
         this.vigilance = aVigilance;
         this.thresholdForContrastEnhancement = aThresholdForContrastEnhancement;
@@ -166,20 +548,28 @@ public class Art2aResult {
         this.numberOfDetectedClusters = aNumberOfDetectedClusters;
         this.clusterIndexOfDataVector = aClusterIndexOfDataVector;
         this.clusterMatrix = aClusterMatrix;
+        this.numberOfComponents = aNumberOfComponents;
         this.dataVectorZeroLengthFlags = aDataVectorZeroLengthFlags;
         this.isClusterOverflow = anIsClusterOverflow;
         this.isConverged = anIsConverged;
         this.preprocessedArt2aData = aPreprocessedArt2aData;
+        this.numberOfPrunedRhoValues = aNumberOfPrunedRhoValues;
+        this.rhoWinnerRecall = aRhoWinnerRecall;
+        this.rhoWinnerFallbackFraction = aRhoWinnerFallbackFraction;
+        this.executionPlan = anExecutionPlan;
+        this.numbersOfReassignedDataVectors = aNumbersOfReassignedDataVectors;
+        this.sampleSize = aSampleSize;
+        this.samplingTime = aSamplingTime;
     }
     //</editor-fold>
 
     //<editor-fold desc="Public methods">
     /**
-     * Returns specified cluster vector with index aClusterIndex in
+     * Returns (copy of) specified cluster vector with index aClusterIndex in
      * clusterMatrix.
      *
      * @param aClusterIndex Index of cluster vector in clusterMatrix
-     * @return Specified cluster vector
+     * @return Specified cluster vector (copy)
      * @throws IllegalArgumentException Thrown if argument is illegal.
      */
     public float[] getClusterVector(
@@ -194,7 +584,7 @@ public class Art2aResult {
             throw new IllegalArgumentException("Art2aResult.getClusterVector: aClusterIndex is illegal.");
         }
         //</editor-fold>
-        return this.clusterMatrix[aClusterIndex];
+        return this.getCopyOfClusterVector(aClusterIndex);
     }
 
     /**
@@ -218,7 +608,7 @@ public class Art2aResult {
             throw new IllegalArgumentException("Art2aResult.getClusterVector: aClusterIndex is illegal.");
         }
         //</editor-fold>
-        return Utils.getScaledVector(this.clusterMatrix[aClusterIndex]);
+        return Utils.getScaledVector(this.getCopyOfClusterVector(aClusterIndex));
     }
 
     /**
@@ -306,8 +696,11 @@ public class Art2aResult {
             return
                 (float) Math.acos(
                     Utils.getScalarProduct(
-                        this.clusterMatrix[aClusterIndex1],
-                        this.clusterMatrix[aClusterIndex2]
+                        this.clusterMatrix,
+                        aClusterIndex1 * this.numberOfComponents,
+                        this.clusterMatrix,
+                        aClusterIndex2 * this.numberOfComponents,
+                        this.numberOfComponents
                     )
                 ) * CONVERSION_TO_DEGREE;
         }
@@ -391,16 +784,40 @@ public class Art2aResult {
         if (tmpDataVectorIndicesOfCluster.length == 1) {
             return tmpDataVectorIndicesOfCluster[0];
         }
-        float[] tmpClusterVector = this.clusterMatrix[aClusterIndex];
+        int tmpClusterOffset = aClusterIndex * this.numberOfComponents;
         int tmpBestIndex = 0;
         float tmpMaximumScalarProduct = Float.MIN_VALUE;
         float[] tmpContrastEnhancedUnitVector = null;
-        if (!this.preprocessedArt2aData.hasPreprocessedData()) {
-            tmpContrastEnhancedUnitVector = new float[tmpClusterVector.length];
+        Utils.SparseVector tmpSparseBufferVector = null;
+        if (this.preprocessedArt2aData.isSparse()) {
+            tmpSparseBufferVector = new Utils.SparseVector(this.numberOfComponents);
+        } else if (!this.preprocessedArt2aData.hasPreprocessedData()) {
+            tmpContrastEnhancedUnitVector = new float[this.numberOfComponents];
         }
         for (int i = 0; i < tmpDataVectorIndicesOfCluster.length; i++) {
             int tmpIndex = tmpDataVectorIndicesOfCluster[i];
-            if (this.preprocessedArt2aData.hasPreprocessedData()) {
+            if (this.preprocessedArt2aData.isSparse()) {
+                if (this.preprocessedArt2aData.isBinary()) {
+                    // Check of length is NOT necessary
+                    Art2aUtils.setContrastEnhancedUnitVector(
+                        this.preprocessedArt2aData.getBinaryDataMatrix(),
+                        tmpIndex,
+                        this.preprocessedArt2aData.getBinaryColumnMask(),
+                        tmpSparseBufferVector
+                    );
+                } else if (this.preprocessedArt2aData.hasPreprocessedData()) {
+                    tmpSparseBufferVector.setRow(this.preprocessedArt2aData.getSparsePreprocessedMatrix(), tmpIndex);
+                } else {
+                    // Check of length is NOT necessary
+                    Art2aUtils.setContrastEnhancedUnitVector(
+                        this.preprocessedArt2aData.getSparseDataMatrix(),
+                        tmpIndex,
+                        tmpSparseBufferVector,
+                        this.preprocessedArt2aData.getMinMaxComponentsOfDataMatrix(),
+                        this.thresholdForContrastEnhancement
+                    );
+                }
+            } else if (this.preprocessedArt2aData.hasPreprocessedData()) {
                 tmpContrastEnhancedUnitVector = this.preprocessedArt2aData.getPreprocessedMatrix()[tmpIndex];
             } else {
                 // Check of length is NOT necessary
@@ -411,7 +828,12 @@ public class Art2aResult {
                     this.thresholdForContrastEnhancement
                 );
             }
-            float tmpScalarProduct = Utils.getScalarProduct(tmpContrastEnhancedUnitVector, tmpClusterVector);
+            float tmpScalarProduct;
+            if (this.preprocessedArt2aData.isSparse()) {
+                tmpScalarProduct = Utils.getScalarProduct(tmpSparseBufferVector, this.clusterMatrix, tmpClusterOffset);
+            } else {
+                tmpScalarProduct = Utils.getScalarProduct(tmpContrastEnhancedUnitVector, this.clusterMatrix, tmpClusterOffset);
+            }
             if (tmpScalarProduct > tmpMaximumScalarProduct) {
                 tmpBestIndex = tmpIndex;
                 tmpMaximumScalarProduct = tmpScalarProduct;
@@ -447,15 +869,39 @@ public class Art2aResult {
         if (tmpDataVectorIndicesOfCluster.length == 1) {
             return tmpDataVectorIndicesOfCluster;
         }
-        float[] tmpClusterVector = this.clusterMatrix[aClusterIndex];
+        int tmpClusterOffset = aClusterIndex * this.numberOfComponents;
         IndexedValue[] tmpIndexedValues = new IndexedValue[tmpDataVectorIndicesOfCluster.length];
         float[] tmpContrastEnhancedUnitVector = null;
-        if (!this.preprocessedArt2aData.hasPreprocessedData()) {
-            tmpContrastEnhancedUnitVector = new float[tmpClusterVector.length];
+        Utils.SparseVector tmpSparseBufferVector = null;
+        if (this.preprocessedArt2aData.isSparse()) {
+            tmpSparseBufferVector = new Utils.SparseVector(this.numberOfComponents);
+        } else if (!this.preprocessedArt2aData.hasPreprocessedData()) {
+            tmpContrastEnhancedUnitVector = new float[this.numberOfComponents];
         }
         for (int i = 0; i < tmpDataVectorIndicesOfCluster.length; i++) {
             int tmpIndex = tmpDataVectorIndicesOfCluster[i];
-            if (this.preprocessedArt2aData.hasPreprocessedData()) {
+            if (this.preprocessedArt2aData.isSparse()) {
+                if (this.preprocessedArt2aData.isBinary()) {
+                    // Check of length is NOT necessary
+                    Art2aUtils.setContrastEnhancedUnitVector(
+                        this.preprocessedArt2aData.getBinaryDataMatrix(),
+                        tmpIndex,
+                        this.preprocessedArt2aData.getBinaryColumnMask(),
+                        tmpSparseBufferVector
+                    );
+                } else if (this.preprocessedArt2aData.hasPreprocessedData()) {
+                    tmpSparseBufferVector.setRow(this.preprocessedArt2aData.getSparsePreprocessedMatrix(), tmpIndex);
+                } else {
+                    // Check of length is NOT necessary
+                    Art2aUtils.setContrastEnhancedUnitVector(
+                        this.preprocessedArt2aData.getSparseDataMatrix(),
+                        tmpIndex,
+                        tmpSparseBufferVector,
+                        this.preprocessedArt2aData.getMinMaxComponentsOfDataMatrix(),
+                        this.thresholdForContrastEnhancement
+                    );
+                }
+            } else if (this.preprocessedArt2aData.hasPreprocessedData()) {
                 tmpContrastEnhancedUnitVector = this.preprocessedArt2aData.getPreprocessedMatrix()[tmpIndex];
             } else {
                 // Check of length is NOT necessary
@@ -466,7 +912,11 @@ public class Art2aResult {
                     this.thresholdForContrastEnhancement
                 );
             }
-            tmpIndexedValues[i] = new IndexedValue(tmpIndex, Utils.getScalarProduct(tmpContrastEnhancedUnitVector, tmpClusterVector));
+            if (this.preprocessedArt2aData.isSparse()) {
+                tmpIndexedValues[i] = new IndexedValue(tmpIndex, Utils.getScalarProduct(tmpSparseBufferVector, this.clusterMatrix, tmpClusterOffset));
+            } else {
+                tmpIndexedValues[i] = new IndexedValue(tmpIndex, Utils.getScalarProduct(tmpContrastEnhancedUnitVector, this.clusterMatrix, tmpClusterOffset));
+            }
         }
         // NOTE: LARGEST scalar product FIRST!
         Arrays.sort(tmpIndexedValues, Collections.reverseOrder());
@@ -582,6 +1032,123 @@ public class Art2aResult {
     public int getNumberOfDetectedClusters() {
         return this.numberOfDetectedClusters;
     }
+
+    /**
+     * Number of rho values (scalar products) that were skipped by pruning of
+     * the rho winner calculation (0 if pruning was not used)
+     *
+     * @return Number of pruned rho values
+     */
+    public long getNumberOfPrunedRhoValues() {
+        return this.numberOfPrunedRhoValues;
+    }
+
+    /**
+     * Estimated recall of the approximate rho winner calculation, i.e., the
+     * fraction of sampled data vectors where the approximate rho winner is
+     * identical to the exact one (1 if the exact rho winner calculation was
+     * used, see Art2aKernel.getApproximateClusterResult()). Note: The recall
+     * only covers data vectors where a candidate cluster vector passed the
+     * vigilance test. Data vectors without such a candidate fall back to the
+     * exact rho winner calculation (see getRhoWinnerFallbackFraction()).
+     *
+     * @return Estimated recall in interval [0,1]
+     */
+    public float getRhoWinnerRecall() {
+        return this.rhoWinnerRecall;
+    }
+
+    /**
+     * Fraction of approximate rho winner calculations where no candidate
+     * cluster vector passed the vigilance test so that the exact rho winner
+     * calculation was performed instead (0 if the exact rho winner
+     * calculation was used, see Art2aKernel.getApproximateClusterResult()).
+     * A high fraction means that the approximate calculation saves little
+     * time.
+     *
+     * @return Fraction of fallbacks in interval [0,1]
+     */
+    public float getRhoWinnerFallbackFraction() {
+        return this.rhoWinnerFallbackFraction;
+    }
+
+    /**
+     * Execution plan of the clustering run, i.e., the chosen strategies of the
+     * rho winner calculation and the final assignment of data vectors to
+     * clusters with calibration data (for auditing, null if not specified)
+     *
+     * @return Execution plan
+     */
+    public String getExecutionPlan() {
+        return this.executionPlan;
+    }
+
+    /**
+     * Numbers of data vectors that were (re)assigned to a different cluster in
+     * each epoch of the clustering run, i.e., index i corresponds to epoch
+     * i + 1. In the first epoch every data vector with a length greater than
+     * zero is counted as assigned (null if not specified).
+     *
+     * @return Numbers of (re)assigned data vectors with a length equal to the
+     * number of epochs or null
+     */
+    public int[] getNumbersOfReassignedDataVectors() {
+        if (this.numbersOfReassignedDataVectors == null) {
+            return null;
+        }
+        return Arrays.copyOf(this.numbersOfReassignedDataVectors, this.numberOfEpochs);
+    }
+
+    /**
+     * Number of data vectors that were used for the training, i.e., the
+     * sample size of a sample-then-assign clustering (the number of data
+     * vectors otherwise, see Art2aKernel.getSampleClusterResult())
+     *
+     * @return Number of data vectors that were used for the training
+     */
+    public int getSampleSize() {
+        return this.sampleSize;
+    }
+
+    /**
+     * Time for drawing the sample of data vectors of a sample-then-assign
+     * clustering (0 otherwise, see Art2aKernel.getSampleClusterResult())
+     *
+     * @return Sampling time in nanoseconds
+     */
+    public long getSamplingTime() {
+        return this.samplingTime;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns the cluster indices of the data vectors (for the consensus of
+     * an ensemble of clustering runs, see ConsensusClustering).
+     * Note: The returned array is NOT a copy and must NOT be changed.
+     *
+     * @return Cluster index of data vector
+     */
+    protected int[] getClusterIndexOfDataVector() {
+        return this.clusterIndexOfDataVector;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Returns copy of specified cluster vector with index aClusterIndex in
+     * clusterMatrix.
+     * Note: No checks are performed.
+     *
+     * @param aClusterIndex Index of cluster vector in clusterMatrix
+     * @return Copy of specified cluster vector
+     */
+    private float[] getCopyOfClusterVector(
+        int aClusterIndex
+    ) {
+        int tmpClusterOffset = aClusterIndex * this.numberOfComponents;
+        return Arrays.copyOfRange(this.clusterMatrix, tmpClusterOffset, tmpClusterOffset + this.numberOfComponents);
+    }
     //</editor-fold>
 
 }
@@ -81,6 +81,163 @@ public class Art2aUtils {
             return false;
         }
     }
+
+    /**
+     * Transforms the specified row of a sparse data matrix into the
+     * corresponding contrast enhanced unit sparse vector (see dense
+     * variant).
+     * Note: No checks are performed.
+     *
+     * @param aSparseDataMatrix Sparse data matrix (IS NOT CHANGED)
+     * @param aRowIndex Index of row of sparse data matrix
+     * @param aSparseBufferVector Sparse buffer vector for contrast enhanced
+     * unit vector derived from data vector (MUST ALREADY BE INSTANTIATED and
+     * is set within the method)
+     * @param aMinMaxComponents Min-max components of original sparse data
+     * matrix
+     * @param aThresholdForContrastEnhancement Threshold for contrast
+     * enhancement
+     * @return True: Scaled data vector has a length of zero, false: Otherwise
+     */
+    protected static boolean setContrastEnhancedUnitVector(
+            SparseDataMatrix aSparseDataMatrix,
+            int aRowIndex,
+            Utils.SparseVector aSparseBufferVector,
+            Utils.MinMaxValue[] aMinMaxComponents,
+            float aThresholdForContrastEnhancement
+    ) {
+        // Already allocated memory of aSparseBufferVector is reused
+        aSparseBufferVector.setRow(aSparseDataMatrix, aRowIndex);
+        // Scale components of vector to interval [0,1]
+        Utils.scaleVector(aSparseBufferVector, aMinMaxComponents);
+        // Check length
+        if (Utils.hasLengthOfZero(aSparseBufferVector)) {
+            // True: Scaled source vector has a length of zero
+            return true;
+        } else {
+            Utils.normalizeVector(aSparseBufferVector);
+            // Enhance contrast
+            if (Utils.isContrastEnhanced(aSparseBufferVector, aThresholdForContrastEnhancement)) {
+                Utils.normalizeVector(aSparseBufferVector);
+            }
+            // False: Scaled data vector has a length different from zero
+            return false;
+        }
+    }
+
+    /**
+     * Transforms the specified row of a binary data matrix into the
+     * corresponding contrast enhanced unit binary sparse vector: Scaling only removes the
+     * set bits of columns with a constant value (see
+     * Utils.getBinaryColumnMask()), so that no floating-point operations on
+     * the components are necessary.
+     * Note: No checks are performed.
+     *
+     * @param aBinaryDataMatrix Binary data matrix (IS NOT CHANGED)
+     * @param aRowIndex Index of row of binary data matrix
+     * @param aColumnMask Column mask of binary data matrix (IS NOT CHANGED)
+     * @param aSparseBufferVector Sparse buffer vector for contrast enhanced unit vector
+     * derived from data vector (MUST ALREADY BE INSTANTIATED and is set within
+     * the method)
+     * @return True: Scaled data vector has a length of zero, false: Otherwise
+     */
+    protected static boolean setContrastEnhancedUnitVector(
+        BinaryDataMatrix aBinaryDataMatrix,
+        int aRowIndex,
+        long[] aColumnMask,
+        Utils.SparseVector aSparseBufferVector
+    ) {
+        // Already allocated memory of aSparseBufferVector is reused
+        aSparseBufferVector.setRow(aBinaryDataMatrix, aRowIndex, aColumnMask);
+        // Check length
+        if (aSparseBufferVector.getNumberOfNonZeros() == 0) {
+            // True: Scaled source vector has a length of zero
+            return true;
+        } else {
+            // Normalize: Note, that contrast enhancement never changes a
+            // binary unit vector since its components 1/sqrt(k) are always
+            // greater than the threshold 1/sqrt(n + offset) (k <= n)
+            aSparseBufferVector.setBinaryValue(1.0f / (float) Math.sqrt(aSparseBufferVector.getNumberOfNonZeros()));
+            // False: Scaled data vector has a length different from zero
+            return false;
+        }
+    }
+
+    /**
+     * Sets rho winner with the rho value and the cluster index of the winner
+     * (see code). If the cluster index is negative, the first scaled rho value
+     * is the winner.
+     * Note: No checks are performed.
+     *
+     * @param aContrastEnhancedUnitVector Contrast enhanced unit vector (IS NOT
+     * CHANGED)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner. If the cluster index is negative, the first scaled
+     * rho value is the winner.
+     */
+    protected static void setRhoWinner(
+            float[] aContrastEnhancedUnitVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        // Calculate first rho value
+        float tmpRhoValue = aScalingFactor * Utils.getSumOfComponents(aContrastEnhancedUnitVector);
+        // Set winner index to negative value
+        int tmpIndex = -1;
+        // Calculate other rho values
+        for(int i = 0; i < aNumberOfDetectedClusters; i++) {
+            float tmpRhoForCluster = aClusterMatrix.getScalarProduct(aContrastEnhancedUnitVector, i);
+            if(tmpRhoForCluster > tmpRhoValue) {
+                tmpRhoValue = tmpRhoForCluster;
+                tmpIndex = i;
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+    }
+
+    /**
+     * Sets rho winner with the rho value and the cluster index of the winner
+     * for a sparse vector (see code). If the cluster index is negative, the
+     * first scaled rho value is the winner.
+     * Note: No checks are performed.
+     *
+     * @param aSparseContrastEnhancedUnitVector Sparse contrast enhanced unit
+     * vector (IS NOT CHANGED)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner. If the cluster index is negative, the first scaled
+     * rho value is the winner.
+     */
+    protected static void setRhoWinner(
+            Utils.SparseVector aSparseContrastEnhancedUnitVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        float[] tmpClusterComponents = aClusterMatrix.getComponents();
+        int tmpStride = aClusterMatrix.getStride();
+        // Calculate first rho value
+        float tmpRhoValue = aScalingFactor * Utils.getSumOfComponents(aSparseContrastEnhancedUnitVector);
+        // Set winner index to negative value
+        int tmpIndex = -1;
+        // Calculate other rho values
+        for(int i = 0; i < aNumberOfDetectedClusters; i++) {
+            float tmpRhoForCluster = Utils.getScalarProduct(aSparseContrastEnhancedUnitVector, tmpClusterComponents, i * tmpStride);
+            if(tmpRhoForCluster > tmpRhoValue) {
+                tmpRhoValue = tmpRhoForCluster;
+                tmpIndex = i;
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+    }
     //</editor-fold>
 
 }
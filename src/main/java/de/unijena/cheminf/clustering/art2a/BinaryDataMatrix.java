@@ -0,0 +1,232 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Binary data matrix with bit-packed data row vectors: Component j of data
+ * row vector i is 1 if bit (j % 64) of word
+ * words[i * numberOfWordsPerRow + j / 64] is set and 0 otherwise
+ * (numberOfWordsPerRow = (numberOfColumns + 63) / 64).
+ * <br><br>
+ * A binary data matrix is suitable for binary data (e.g. chemical
+ * fingerprints with 0/1 components): Memory is 32 times smaller than for a
+ * float[][] data matrix, and the contrast enhanced (unit) vectors of the data
+ * row vectors have a constant value for all set bits, so that rho values are
+ * scaled sums of cluster vector components at the set bits (see
+ * Utils.SparseVector, Art2aKernel and Art2aEuclidKernel).
+ * <br><br>
+ * Note: Bits beyond the number of columns must not be set. The specified
+ * array is NOT copied and must not be changed after construction.
+ * <br><br>
+ * Note: BinaryDataMatrix is a read-only class, i.e. thread-safe.
+ */
+public class BinaryDataMatrix {
+
+    //<editor-fold desc="Private static final LOGGER">
+    /**
+     * Logger of this class
+     */
+    private static final Logger LOGGER = Logger.getLogger(BinaryDataMatrix.class.getName());
+    //</editor-fold>
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Number of bits of a word
+     */
+    private static final int NUMBER_OF_BITS_PER_WORD = 64;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of columns, i.e. number of components of a data row vector
+     */
+    private final int numberOfColumns;
+    /**
+     * Number of rows, i.e. number of data row vectors
+     */
+    private final int numberOfRows;
+    /**
+     * Number of words of a data row vector
+     */
+    private final int numberOfWordsPerRow;
+    /**
+     * Row-major bit-packed words of all data row vectors
+     */
+    private final long[] words;
+    //</editor-fold>
+
+    //<editor-fold desc="Public constructor">
+    /**
+     * Constructor
+     *
+     * @param aNumberOfColumns Number of columns, i.e. number of components of
+     * a data row vector (must be greater 1)
+     * @param aWords Row-major bit-packed words of all data row vectors (length
+     * must be a non-zero multiple of getNumberOfWordsPerRow(aNumberOfColumns),
+     * bits beyond aNumberOfColumns must not be set, IS NOT CHANGED)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public BinaryDataMatrix(
+        int aNumberOfColumns,
+        long[] aWords
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if (aNumberOfColumns < 2) {
+            BinaryDataMatrix.LOGGER.log(
+                Level.SEVERE,
+                "BinaryDataMatrix.Constructor: aNumberOfColumns must be greater 1."
+            );
+            throw new IllegalArgumentException("BinaryDataMatrix.Constructor: aNumberOfColumns must be greater 1.");
+        }
+        int tmpNumberOfWordsPerRow = BinaryDataMatrix.getNumberOfWordsPerRow(aNumberOfColumns);
+        if (aWords == null || aWords.length == 0 || aWords.length % tmpNumberOfWordsPerRow != 0) {
+            BinaryDataMatrix.LOGGER.log(
+                Level.SEVERE,
+                "BinaryDataMatrix.Constructor: Length of aWords is illegal."
+            );
+            throw new IllegalArgumentException("BinaryDataMatrix.Constructor: Length of aWords is illegal.");
+        }
+        int tmpNumberOfUsedBitsOfLastWord = aNumberOfColumns % NUMBER_OF_BITS_PER_WORD;
+        if (tmpNumberOfUsedBitsOfLastWord > 0) {
+            long tmpUnusedBitsMask = -1L << tmpNumberOfUsedBitsOfLastWord;
+            for (int i = tmpNumberOfWordsPerRow - 1; i < aWords.length; i += tmpNumberOfWordsPerRow) {
+                if ((aWords[i] & tmpUnusedBitsMask) != 0L) {
+                    BinaryDataMatrix.LOGGER.log(
+                        Level.SEVERE,
+                        "BinaryDataMatrix.Constructor: aWords has set bits beyond aNumberOfColumns."
+                    );
+                    throw new IllegalArgumentException("BinaryDataMatrix.Constructor: aWords has set bits beyond aNumberOfColumns.");
+                }
+            }
+        }
+        //</editor-fold>
+        this.numberOfColumns = aNumberOfColumns;
+        this.numberOfWordsPerRow = tmpNumberOfWordsPerRow;
+        this.numberOfRows = aWords.length / tmpNumberOfWordsPerRow;
+        this.words = aWords;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public static methods">
+    /**
+     * Creates binary data matrix with the components of the specified
+     * (dense) data matrix.
+     *
+     * @param aDataMatrix Data matrix with data row vectors (IS NOT CHANGED and
+     * must be valid, see Utils.isDataMatrixValid(), with components that are
+     * either 0 or 1)
+     * @return Binary data matrix
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public static BinaryDataMatrix getBinaryDataMatrix(
+        float[][] aDataMatrix
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if (!Utils.isDataMatrixValid(aDataMatrix)) {
+            BinaryDataMatrix.LOGGER.log(
+                Level.SEVERE,
+                "BinaryDataMatrix.getBinaryDataMatrix: aDataMatrix is not valid."
+            );
+            throw new IllegalArgumentException("BinaryDataMatrix.getBinaryDataMatrix: aDataMatrix is not valid.");
+        }
+        //</editor-fold>
+        int tmpNumberOfWordsPerRow = BinaryDataMatrix.getNumberOfWordsPerRow(aDataMatrix[0].length);
+        long[] tmpWords = new long[aDataMatrix.length * tmpNumberOfWordsPerRow];
+        for (int i = 0; i < aDataMatrix.length; i++) {
+            int tmpRowOffset = i * tmpNumberOfWordsPerRow;
+            for (int j = 0; j < aDataMatrix[i].length; j++) {
+                if (aDataMatrix[i][j] == 1.0f) {
+                    tmpWords[tmpRowOffset + j / NUMBER_OF_BITS_PER_WORD] |= 1L << (j % NUMBER_OF_BITS_PER_WORD);
+                } else if (aDataMatrix[i][j] != 0.0f) {
+                    BinaryDataMatrix.LOGGER.log(
+                        Level.SEVERE,
+                        "BinaryDataMatrix.getBinaryDataMatrix: aDataMatrix has components that are neither 0 nor 1."
+                    );
+                    throw new IllegalArgumentException("BinaryDataMatrix.getBinaryDataMatrix: aDataMatrix has components that are neither 0 nor 1.");
+                }
+            }
+        }
+        return new BinaryDataMatrix(aDataMatrix[0].length, tmpWords);
+    }
+
+    /**
+     * Number of words of a data row vector with the specified number of
+     * columns
+     *
+     * @param aNumberOfColumns Number of columns
+     * @return Number of words of a data row vector
+     */
+    public static int getNumberOfWordsPerRow(
+        int aNumberOfColumns
+    ) {
+        return (aNumberOfColumns + NUMBER_OF_BITS_PER_WORD - 1) / NUMBER_OF_BITS_PER_WORD;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public get methods">
+    /**
+     * Number of columns, i.e. number of components of a data row vector
+     *
+     * @return Number of columns
+     */
+    public int getNumberOfColumns() {
+        return this.numberOfColumns;
+    }
+
+    /**
+     * Number of rows, i.e. number of data row vectors
+     *
+     * @return Number of rows
+     */
+    public int getNumberOfRows() {
+        return this.numberOfRows;
+    }
+
+    /**
+     * Number of words of a data row vector
+     *
+     * @return Number of words of a data row vector
+     */
+    public int getNumberOfWordsPerRow() {
+        return this.numberOfWordsPerRow;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Row-major bit-packed words of all data row vectors
+     * Note: The returned array is NOT a copy and must not be changed.
+     *
+     * @return Row-major bit-packed words
+     */
+    protected long[] getWords() {
+        return this.words;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,863 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Vantage-point tree (VP-tree) over the cluster vectors of a ClusterMatrix
+ * for exact rho winner queries with a very high number of clusters: Maximum
+ * scalar product (ART-2a) or minimum squared distance (ART-2a-Euclid). For
+ * ART-2a the cluster vectors and the contrast enhanced vector are unit
+ * vectors so that the maximum scalar product corresponds to the minimum
+ * (Euclidean) distance with |x - c|^2 = 2 - 2 x*c, i.e. the tree is an
+ * angular tree in this case.
+ * <br><br>
+ * Each node of the tree has a vantage point (a cluster vector) and a radius
+ * mu: The cluster vectors of the inside subtree have a distance to the
+ * vantage point that is less than or equal to mu at build time, those of the
+ * outside subtree a distance greater than or equal to mu. With the distance d
+ * between the contrast enhanced vector and the vantage point, subtrees with a
+ * lower bound (d - mu or mu - d) that exceeds the distance that corresponds
+ * to the best rho value found so far are skipped.
+ * <br><br>
+ * The cluster vectors are modified after the build of the tree: The drift of
+ * each cluster vector (distance to its position at build time) and the
+ * maximum drift of each subtree are maintained and subtracted from the
+ * lower bounds so that queries remain exact. A new cluster vector is a
+ * pending cluster vector that is evaluated by every query (cheap insertion).
+ * The tree is rebuilt lazily by the next query if there are too many
+ * pending cluster vectors or the drift exceeds a tolerance (relative to the
+ * mean radius of the nodes) and enough queries were performed since the last
+ * build to amortize the build.
+ * <br><br>
+ * The rho winner of a query is identical to the one of a full scan in
+ * ascending index order (ties are resolved in favor of the lower cluster
+ * index and the first rho value wins ties). A small tolerance accounts for
+ * rounding.
+ * <br><br>
+ * The tree is only applicable for a high number of clusters (see
+ * isApplicable()) since a linear scan is faster otherwise.
+ * <br><br>
+ * Note: CentroidIndex is NOT thread-safe. No checks are performed.
+ */
+public class CentroidIndex {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Minimum number of clusters for which the tree is applicable
+     */
+    private static final int MINIMUM_NUMBER_OF_CLUSTERS = 2048;
+    /**
+     * Maximum number of cluster vectors of a leaf
+     */
+    private static final int LEAF_SIZE = 16;
+    /**
+     * Relative tolerance for the comparison of a squared lower bound with a
+     * squared distance to account for rounding
+     */
+    private static final float DISTANCE_TOLERANCE = 1.0e-3f;
+    /**
+     * Absolute tolerance that is subtracted from lower bounds to account for
+     * rounding of distances
+     */
+    private static final float BOUND_TOLERANCE = 1.0e-3f;
+    /**
+     * Fraction of the mean radius of the nodes that the maximum drift may
+     * exceed before a rebuild
+     */
+    private static final float REBUILD_DRIFT_FRACTION = 0.25f;
+    /**
+     * A rebuild is performed if the number of pending cluster vectors times
+     * this factor exceeds the number of indexed cluster vectors
+     */
+    private static final int PENDING_FACTOR = 8;
+    /**
+     * A rebuild is only performed if the number of queries since the last
+     * build times this factor is at least the number of indexed cluster
+     * vectors
+     */
+    private static final int QUERY_FACTOR = 8;
+    /**
+     * Seed for the random selection of vantage points
+     */
+    private static final long RANDOM_SEED = 1L;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * True: Maximum scalar product (ART-2a), false: Minimum squared distance
+     * (ART-2a-Euclid)
+     */
+    private final boolean isScalarProduct;
+    /**
+     * Number of components of a cluster vector
+     */
+    private final int numberOfComponents;
+    /**
+     * Random number generator for the selection of vantage points
+     */
+    private final Random randomNumberGenerator;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Row-major cluster vectors at build time (without padding)
+     */
+    private float[] indexedComponents;
+    /**
+     * Drift distances of the cluster vectors since build time
+     */
+    private float[] driftDistances;
+    /**
+     * Cluster indices in tree order
+     */
+    private int[] clusterIndices;
+    /**
+     * Position of a cluster index in clusterIndices
+     */
+    private int[] positions;
+    /**
+     * Node of a cluster vector (vantage point or leaf)
+     */
+    private int[] nodeOfClusters;
+    /**
+     * Buffer for distances to a vantage point at build time
+     */
+    private float[] distanceBuffer;
+    /**
+     * Start position of node in clusterIndices (inclusive, the vantage point
+     * of an inner node is at the start position)
+     */
+    private int[] nodeStarts;
+    /**
+     * End position of node in clusterIndices (exclusive)
+     */
+    private int[] nodeEnds;
+    /**
+     * Parent node (negative for the root)
+     */
+    private int[] nodeParents;
+    /**
+     * Inside child node of an inner node (negative for a leaf)
+     */
+    private int[] nodeInsides;
+    /**
+     * Outside child node of an inner node (negative for a leaf)
+     */
+    private int[] nodeOutsides;
+    /**
+     * Radius mu of an inner node
+     */
+    private float[] nodeRadii;
+    /**
+     * Maximum drift distance of the cluster vectors of a node
+     */
+    private float[] nodeMaximumDriftDistances;
+    /**
+     * Number of nodes
+     */
+    private int numberOfNodes;
+    /**
+     * Stack of nodes for queries
+     */
+    private int[] nodeStack;
+    /**
+     * Lower bounds of the nodes of the stack
+     */
+    private float[] lowerBoundStack;
+    /**
+     * Number of indexed cluster vectors (cluster vectors with a higher index
+     * are pending)
+     */
+    private int numberOfIndexedClusters;
+    /**
+     * Maximum drift distance of all indexed cluster vectors
+     */
+    private float maximumDriftDistance;
+    /**
+     * Drift tolerance for a rebuild
+     */
+    private float driftTolerance;
+    /**
+     * Number of queries since the last build
+     */
+    private long numberOfQueriesSinceBuild;
+    /**
+     * Number of skipped (pruned) rho values
+     */
+    private long numberOfPrunedRhoValues;
+    /**
+     * Best rho value of the current query
+     */
+    private float bestRhoValue;
+    /**
+     * Cluster index of the best rho value of the current query (negative if
+     * the first rho value is the best)
+     */
+    private int bestClusterIndex;
+    /**
+     * Threshold rho value of the current query
+     */
+    private float thresholdRhoValue;
+    /**
+     * Index of the nearest evaluated cluster vector of the last query
+     */
+    private int nearestClusterIndex;
+    /**
+     * Squared distance to the nearest evaluated cluster vector of the last
+     * query
+     */
+    private float nearestSquaredDistance;
+    /**
+     * Lower bound for the squared distance to all other cluster vectors of the
+     * last query
+     */
+    private float secondNearestSquaredLowerBound;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param anIsScalarProduct True: Maximum scalar product (ART-2a), false:
+     * Minimum squared distance (ART-2a-Euclid)
+     */
+    protected CentroidIndex(
+            int aMaximumNumberOfClusters,
+            int aNumberOfComponents,
+            boolean anIsScalarProduct
+    ) {
+        this.isScalarProduct = anIsScalarProduct;
+        this.numberOfComponents = aNumberOfComponents;
+        this.randomNumberGenerator = new Random(RANDOM_SEED);
+        this.indexedComponents = new float[0];
+        this.driftDistances = new float[aMaximumNumberOfClusters];
+        this.clusterIndices = new int[0];
+        this.positions = new int[aMaximumNumberOfClusters];
+        this.nodeOfClusters = new int[aMaximumNumberOfClusters];
+        this.distanceBuffer = new float[0];
+        this.setNodeCapacity(0);
+        this.numberOfNodes = 0;
+        this.numberOfIndexedClusters = 0;
+        this.maximumDriftDistance = 0.0f;
+        this.driftTolerance = Float.MAX_VALUE;
+        this.numberOfQueriesSinceBuild = 0L;
+        this.numberOfPrunedRhoValues = 0L;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected static methods">
+    /**
+     * Returns if the tree is applicable for the specified number of clusters
+     * (heuristic: a linear scan is faster for a lower number of clusters).
+     *
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @return True: Tree is applicable, false: Otherwise
+     */
+    protected static boolean isApplicable(
+            int aNumberOfDetectedClusters
+    ) {
+        return aNumberOfDetectedClusters >= MINIMUM_NUMBER_OF_CLUSTERS;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Resets the tree so that all cluster vectors are pending (to be called if
+     * cluster indices change, i.e., after removal of empty clusters). The
+     * tree is rebuilt by the next query.
+     */
+    protected void reset() {
+        this.numberOfIndexedClusters = 0;
+        this.numberOfNodes = 0;
+    }
+
+    /**
+     * Updates the drift distance of the specified (modified) cluster vector.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of modified cluster vector
+     */
+    protected void updateDriftDistance(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        if (aClusterIndex >= this.numberOfIndexedClusters) {
+            // Pending cluster vector
+            return;
+        }
+        float tmpDriftDistance =
+            (float) Math.sqrt(
+                Utils.getSquaredDistance(
+                    aClusterMatrix.getComponents(),
+                    aClusterMatrix.getOffset(aClusterIndex),
+                    this.indexedComponents,
+                    aClusterIndex * this.numberOfComponents,
+                    this.numberOfComponents
+                )
+            );
+        this.driftDistances[aClusterIndex] = tmpDriftDistance;
+        if (tmpDriftDistance > this.maximumDriftDistance) {
+            this.maximumDriftDistance = tmpDriftDistance;
+        }
+        // Propagate maximum drift distance to the root
+        int tmpNode = this.nodeOfClusters[aClusterIndex];
+        while (tmpNode >= 0 && this.nodeMaximumDriftDistances[tmpNode] < tmpDriftDistance) {
+            this.nodeMaximumDriftDistances[tmpNode] = tmpDriftDistance;
+            tmpNode = this.nodeParents[tmpNode];
+        }
+    }
+
+    /**
+     * Sets rho winner with the rho value and the cluster index of the winner
+     * (see class description). If the cluster index is negative, the first
+     * rho value is the winner or no cluster vector exceeds the threshold.
+     *
+     * @param aContrastEnhancedVector Contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aSparseContrastEnhancedVector is specified)
+     * @param aSparseContrastEnhancedVector Sparse contrast enhanced (unit)
+     * vector (IS NOT CHANGED, must be null if aContrastEnhancedVector is
+     * specified)
+     * @param aClusterMatrix Cluster matrix (with tracked squared lengths for
+     * a sparse vector and minimum squared distance, IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aFirstRhoValue First rho value
+     * @param aThresholdRhoValue Rho value that a cluster vector must exceed
+     * to be relevant (the first rho value or a value that corresponds to the
+     * vigilance)
+     * @param aHintClusterIndex Index of the cluster vector that is evaluated
+     * first (e.g. the previous cluster of the data vector, negative if not
+     * available)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner. If the cluster index is negative, the first rho
+     * value is the winner.
+     */
+    protected void setRhoWinner(
+            float[] aContrastEnhancedVector,
+            Utils.SparseVector aSparseContrastEnhancedVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aFirstRhoValue,
+            float aThresholdRhoValue,
+            int aHintClusterIndex,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        if (this.isRebuildRequired(aNumberOfDetectedClusters)) {
+            this.build(aClusterMatrix, aNumberOfDetectedClusters);
+        }
+        this.numberOfQueriesSinceBuild++;
+        // Squared length for squared distances of sparse cluster vectors
+        float tmpSquaredLength = 0.0f;
+        if (aContrastEnhancedVector != null && !this.isScalarProduct) {
+            tmpSquaredLength = aClusterMatrix.getSquaredLengthForSquaredDistance(aContrastEnhancedVector);
+        }
+        this.bestRhoValue = aFirstRhoValue;
+        this.bestClusterIndex = -1;
+        this.thresholdRhoValue = aThresholdRhoValue;
+        this.nearestClusterIndex = -1;
+        this.nearestSquaredDistance = Float.MAX_VALUE;
+        this.secondNearestSquaredLowerBound = Float.MAX_VALUE;
+        // Hint cluster vector
+        int tmpHintClusterIndex = -1;
+        float tmpHintRhoValue = 0.0f;
+        if (aHintClusterIndex >= 0 && aHintClusterIndex < aNumberOfDetectedClusters) {
+            tmpHintClusterIndex = aHintClusterIndex;
+            tmpHintRhoValue = this.getRhoValue(aContrastEnhancedVector, aSparseContrastEnhancedVector, tmpSquaredLength, aClusterMatrix, tmpHintClusterIndex);
+            this.consider(tmpHintClusterIndex, tmpHintRhoValue);
+        }
+        // Pending cluster vectors
+        for (int i = this.numberOfIndexedClusters; i < aNumberOfDetectedClusters; i++) {
+            if (i != tmpHintClusterIndex) {
+                this.consider(i, this.getRhoValue(aContrastEnhancedVector, aSparseContrastEnhancedVector, tmpSquaredLength, aClusterMatrix, i));
+            }
+        }
+        // Depth-first traversal of the tree with the nearer subtree first
+        int tmpStackSize = 0;
+        if (this.numberOfNodes > 0) {
+            this.nodeStack[tmpStackSize] = 0;
+            this.lowerBoundStack[tmpStackSize] = 0.0f;
+            tmpStackSize++;
+        }
+        while (tmpStackSize > 0) {
+            tmpStackSize--;
+            int tmpNode = this.nodeStack[tmpStackSize];
+            float tmpLowerBound = this.lowerBoundStack[tmpStackSize];
+            int tmpStart = this.nodeStarts[tmpNode];
+            int tmpEnd = this.nodeEnds[tmpNode];
+            if (this.isPruned(tmpLowerBound)) {
+                int tmpNumberOfPrunedRhoValues = tmpEnd - tmpStart;
+                if (
+                    tmpHintClusterIndex >= 0 &&
+                        tmpHintClusterIndex < this.numberOfIndexedClusters &&
+                        this.positions[tmpHintClusterIndex] >= tmpStart &&
+                        this.positions[tmpHintClusterIndex] < tmpEnd
+                ) {
+                    tmpNumberOfPrunedRhoValues--;
+                }
+                this.numberOfPrunedRhoValues += tmpNumberOfPrunedRhoValues;
+                float tmpSquaredLowerBound = tmpLowerBound * tmpLowerBound;
+                if (tmpSquaredLowerBound < this.secondNearestSquaredLowerBound) {
+                    this.secondNearestSquaredLowerBound = tmpSquaredLowerBound;
+                }
+                continue;
+            }
+            if (this.nodeInsides[tmpNode] < 0) {
+                // Leaf
+                for (int i = tmpStart; i < tmpEnd; i++) {
+                    int tmpClusterIndex = this.clusterIndices[i];
+                    if (tmpClusterIndex != tmpHintClusterIndex) {
+                        this.consider(
+                            tmpClusterIndex,
+                            this.getRhoValue(aContrastEnhancedVector, aSparseContrastEnhancedVector, tmpSquaredLength, aClusterMatrix, tmpClusterIndex)
+                        );
+                    }
+                }
+                continue;
+            }
+            // Inner node
+            int tmpVantagePoint = this.clusterIndices[tmpStart];
+            float tmpRhoValue;
+            if (tmpVantagePoint == tmpHintClusterIndex) {
+                tmpRhoValue = tmpHintRhoValue;
+            } else {
+                tmpRhoValue = this.getRhoValue(aContrastEnhancedVector, aSparseContrastEnhancedVector, tmpSquaredLength, aClusterMatrix, tmpVantagePoint);
+                this.consider(tmpVantagePoint, tmpRhoValue);
+            }
+            float tmpDistance = (float) Math.sqrt(this.getSquaredDistance(tmpRhoValue));
+            float tmpRadius = this.nodeRadii[tmpNode];
+            int tmpInside = this.nodeInsides[tmpNode];
+            int tmpOutside = this.nodeOutsides[tmpNode];
+            float tmpInsideLowerBound =
+                Math.max(
+                    tmpLowerBound,
+                    tmpDistance - tmpRadius - this.driftDistances[tmpVantagePoint] - this.nodeMaximumDriftDistances[tmpInside] - BOUND_TOLERANCE
+                );
+            float tmpOutsideLowerBound =
+                Math.max(
+                    tmpLowerBound,
+                    tmpRadius - tmpDistance - this.driftDistances[tmpVantagePoint] - this.nodeMaximumDriftDistances[tmpOutside] - BOUND_TOLERANCE
+                );
+            // Push farther subtree first so that the nearer one is traversed first
+            if (tmpDistance < tmpRadius) {
+                this.nodeStack[tmpStackSize] = tmpOutside;
+                this.lowerBoundStack[tmpStackSize++] = tmpOutsideLowerBound;
+                this.nodeStack[tmpStackSize] = tmpInside;
+                this.lowerBoundStack[tmpStackSize++] = tmpInsideLowerBound;
+            } else {
+                this.nodeStack[tmpStackSize] = tmpInside;
+                this.lowerBoundStack[tmpStackSize++] = tmpInsideLowerBound;
+                this.nodeStack[tmpStackSize] = tmpOutside;
+                this.lowerBoundStack[tmpStackSize++] = tmpOutsideLowerBound;
+            }
+        }
+        aRhoWinner.setRhoWinner(this.bestRhoValue, this.bestClusterIndex);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Number of skipped (pruned) rho values
+     *
+     * @return Number of skipped (pruned) rho values
+     */
+    protected long getNumberOfPrunedRhoValues() {
+        return this.numberOfPrunedRhoValues;
+    }
+
+    /**
+     * Index of the nearest evaluated cluster vector of the last query
+     * (negative if no cluster vector was evaluated)
+     *
+     * @return Index of the nearest evaluated cluster vector
+     */
+    protected int getNearestClusterIndex() {
+        return this.nearestClusterIndex;
+    }
+
+    /**
+     * Distance to the nearest evaluated cluster vector of the last query
+     *
+     * @return Distance to the nearest evaluated cluster vector
+     */
+    protected float getNearestDistance() {
+        return (float) Math.sqrt(this.nearestSquaredDistance);
+    }
+
+    /**
+     * Lower bound for the distance to all cluster vectors of the last query
+     * other than the nearest evaluated one
+     *
+     * @return Lower bound for the distance to all other cluster vectors
+     */
+    protected float getSecondNearestLowerBound() {
+        return (float) Math.sqrt(this.secondNearestSquaredLowerBound);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Returns if the tree must be rebuilt before the next query.
+     *
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @return True: Tree must be rebuilt, false: Otherwise
+     */
+    private boolean isRebuildRequired(
+            int aNumberOfDetectedClusters
+    ) {
+        if (this.numberOfIndexedClusters > aNumberOfDetectedClusters) {
+            return true;
+        }
+        boolean tmpIsOutdated =
+            (aNumberOfDetectedClusters - this.numberOfIndexedClusters) * PENDING_FACTOR > this.numberOfIndexedClusters ||
+                this.maximumDriftDistance > this.driftTolerance;
+        return tmpIsOutdated && this.numberOfQueriesSinceBuild * QUERY_FACTOR >= this.numberOfIndexedClusters;
+    }
+
+    /**
+     * Builds the tree for the specified cluster vectors.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    private void build(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters
+    ) {
+        if (this.clusterIndices.length < aNumberOfDetectedClusters) {
+            // Geometric growth up to the maximum number of clusters avoids
+            // reallocation in every rebuild with new clusters
+            int tmpCapacity =
+                Math.max(aNumberOfDetectedClusters, Math.min(2 * this.clusterIndices.length, this.driftDistances.length));
+            this.indexedComponents = new float[tmpCapacity * this.numberOfComponents];
+            this.clusterIndices = new int[tmpCapacity];
+            this.distanceBuffer = new float[tmpCapacity];
+            // Upper bound for the number of nodes since leaves have at least
+            // LEAF_SIZE / 2 cluster vectors (or the root is a leaf)
+            this.setNodeCapacity(4 * tmpCapacity / LEAF_SIZE + 4);
+        }
+        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
+            System.arraycopy(
+                aClusterMatrix.getComponents(),
+                aClusterMatrix.getOffset(i),
+                this.indexedComponents,
+                i * this.numberOfComponents,
+                this.numberOfComponents
+            );
+            this.clusterIndices[i] = i;
+        }
+        Arrays.fill(this.driftDistances, 0, aNumberOfDetectedClusters, 0.0f);
+        this.numberOfNodes = 0;
+        this.buildNode(0, aNumberOfDetectedClusters, -1);
+        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
+            this.positions[this.clusterIndices[i]] = i;
+        }
+        // Drift tolerance relative to the mean radius of the inner nodes
+        float tmpRadiusSum = 0.0f;
+        int tmpNumberOfInnerNodes = 0;
+        for (int i = 0; i < this.numberOfNodes; i++) {
+            if (this.nodeInsides[i] >= 0) {
+                tmpRadiusSum += this.nodeRadii[i];
+                tmpNumberOfInnerNodes++;
+            }
+        }
+        if (tmpNumberOfInnerNodes > 0) {
+            this.driftTolerance = REBUILD_DRIFT_FRACTION * tmpRadiusSum / tmpNumberOfInnerNodes;
+        } else {
+            this.driftTolerance = Float.MAX_VALUE;
+        }
+        this.numberOfIndexedClusters = aNumberOfDetectedClusters;
+        this.maximumDriftDistance = 0.0f;
+        this.numberOfQueriesSinceBuild = 0L;
+    }
+
+    /**
+     * Builds the (sub)tree for the cluster vectors in interval [aStart,
+     * anEnd) of clusterIndices (recursive).
+     *
+     * @param aStart Start position (inclusive)
+     * @param anEnd End position (exclusive)
+     * @param aParent Parent node (negative for the root)
+     * @return Node of the (sub)tree
+     */
+    private int buildNode(
+            int aStart,
+            int anEnd,
+            int aParent
+    ) {
+        int tmpNode = this.numberOfNodes++;
+        this.nodeStarts[tmpNode] = aStart;
+        this.nodeEnds[tmpNode] = anEnd;
+        this.nodeParents[tmpNode] = aParent;
+        this.nodeMaximumDriftDistances[tmpNode] = 0.0f;
+        this.nodeRadii[tmpNode] = 0.0f;
+        this.nodeInsides[tmpNode] = -1;
+        this.nodeOutsides[tmpNode] = -1;
+        if (anEnd - aStart <= LEAF_SIZE) {
+            for (int i = aStart; i < anEnd; i++) {
+                this.nodeOfClusters[this.clusterIndices[i]] = tmpNode;
+            }
+            return tmpNode;
+        }
+        // Random vantage point is moved to start position
+        this.swap(aStart, aStart + this.randomNumberGenerator.nextInt(anEnd - aStart));
+        int tmpVantagePoint = this.clusterIndices[aStart];
+        this.nodeOfClusters[tmpVantagePoint] = tmpNode;
+        for (int i = aStart + 1; i < anEnd; i++) {
+            this.distanceBuffer[i] =
+                (float) Math.sqrt(
+                    Utils.getSquaredDistance(
+                        this.indexedComponents,
+                        tmpVantagePoint * this.numberOfComponents,
+                        this.indexedComponents,
+                        this.clusterIndices[i] * this.numberOfComponents,
+                        this.numberOfComponents
+                    )
+                );
+        }
+        // Split at median distance: Distances in [aStart + 1, tmpMiddle) are
+        // less than or equal to the radius, distances in [tmpMiddle, anEnd)
+        // are greater than or equal to the radius
+        int tmpMiddle = (aStart + 1 + anEnd) >>> 1;
+        this.select(aStart + 1, anEnd, tmpMiddle);
+        this.nodeRadii[tmpNode] = this.distanceBuffer[tmpMiddle];
+        int tmpInside = this.buildNode(aStart + 1, tmpMiddle, tmpNode);
+        int tmpOutside = this.buildNode(tmpMiddle, anEnd, tmpNode);
+        this.nodeInsides[tmpNode] = tmpInside;
+        this.nodeOutsides[tmpNode] = tmpOutside;
+        return tmpNode;
+    }
+
+    /**
+     * Partially sorts interval [aStart, anEnd) of clusterIndices according to
+     * distanceBuffer so that position aPosition has the value of a sorted
+     * interval, all values before are less than or equal and all values
+     * after are greater than or equal (quickselect).
+     *
+     * @param aStart Start position (inclusive)
+     * @param anEnd End position (exclusive)
+     * @param aPosition Position to select
+     */
+    private void select(
+            int aStart,
+            int anEnd,
+            int aPosition
+    ) {
+        int tmpLeft = aStart;
+        int tmpRight = anEnd - 1;
+        while (tmpRight > tmpLeft) {
+            float tmpPivot = this.distanceBuffer[(tmpLeft + tmpRight) >>> 1];
+            int i = tmpLeft;
+            int j = tmpRight;
+            while (i <= j) {
+                while (this.distanceBuffer[i] < tmpPivot) {
+                    i++;
+                }
+                while (this.distanceBuffer[j] > tmpPivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    this.swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (aPosition <= j) {
+                tmpRight = j;
+            } else if (aPosition >= i) {
+                tmpLeft = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Swaps positions of clusterIndices and distanceBuffer.
+     *
+     * @param aPosition1 Position 1
+     * @param aPosition2 Position 2
+     */
+    private void swap(
+            int aPosition1,
+            int aPosition2
+    ) {
+        int tmpClusterIndex = this.clusterIndices[aPosition1];
+        this.clusterIndices[aPosition1] = this.clusterIndices[aPosition2];
+        this.clusterIndices[aPosition2] = tmpClusterIndex;
+        float tmpDistance = this.distanceBuffer[aPosition1];
+        this.distanceBuffer[aPosition1] = this.distanceBuffer[aPosition2];
+        this.distanceBuffer[aPosition2] = tmpDistance;
+    }
+
+    /**
+     * Allocates node arrays with specified capacity.
+     *
+     * @param aCapacity Capacity
+     */
+    private void setNodeCapacity(
+            int aCapacity
+    ) {
+        this.nodeStarts = new int[aCapacity];
+        this.nodeEnds = new int[aCapacity];
+        this.nodeParents = new int[aCapacity];
+        this.nodeInsides = new int[aCapacity];
+        this.nodeOutsides = new int[aCapacity];
+        this.nodeRadii = new float[aCapacity];
+        this.nodeMaximumDriftDistances = new float[aCapacity];
+        this.nodeStack = new int[aCapacity];
+        this.lowerBoundStack = new float[aCapacity];
+    }
+
+    /**
+     * Considers the rho value of the specified cluster vector for the rho
+     * winner, the threshold and the nearest cluster vector.
+     *
+     * @param aClusterIndex Cluster index
+     * @param aRhoValue Rho value
+     */
+    private void consider(
+            int aClusterIndex,
+            float aRhoValue
+    ) {
+        if (
+            this.isBetter(aRhoValue, this.bestRhoValue) ||
+                (aRhoValue == this.bestRhoValue && this.bestClusterIndex >= 0 && aClusterIndex < this.bestClusterIndex)
+        ) {
+            this.bestRhoValue = aRhoValue;
+            this.bestClusterIndex = aClusterIndex;
+        }
+        if (this.isBetter(aRhoValue, this.thresholdRhoValue)) {
+            this.thresholdRhoValue = aRhoValue;
+        }
+        float tmpSquaredDistance = this.getSquaredDistance(aRhoValue);
+        if (tmpSquaredDistance < this.nearestSquaredDistance) {
+            if (this.nearestSquaredDistance < this.secondNearestSquaredLowerBound) {
+                this.secondNearestSquaredLowerBound = this.nearestSquaredDistance;
+            }
+            this.nearestSquaredDistance = tmpSquaredDistance;
+            this.nearestClusterIndex = aClusterIndex;
+        } else if (tmpSquaredDistance < this.secondNearestSquaredLowerBound) {
+            this.secondNearestSquaredLowerBound = tmpSquaredDistance;
+        }
+    }
+
+    /**
+     * Returns if a (sub)tree with the specified lower bound for the distance
+     * can be skipped since it can not exceed the threshold.
+     *
+     * @param aLowerBound Lower bound for the distance
+     * @return True: (Sub)tree can be skipped, false: Otherwise
+     */
+    private boolean isPruned(
+            float aLowerBound
+    ) {
+        float tmpSquaredThreshold = this.getSquaredDistance(this.thresholdRhoValue);
+        return aLowerBound > 0.0f && aLowerBound * aLowerBound > tmpSquaredThreshold + DISTANCE_TOLERANCE * (1.0f + tmpSquaredThreshold);
+    }
+
+    /**
+     * Returns if rho value 1 is better than rho value 2.
+     *
+     * @param aRhoValue1 Rho value 1
+     * @param aRhoValue2 Rho value 2
+     * @return True: Rho value 1 is better, false: Otherwise
+     */
+    private boolean isBetter(
+            float aRhoValue1,
+            float aRhoValue2
+    ) {
+        if (this.isScalarProduct) {
+            return aRhoValue1 > aRhoValue2;
+        } else {
+            return aRhoValue1 < aRhoValue2;
+        }
+    }
+
+    /**
+     * Returns the squared distance that corresponds to the rho value.
+     *
+     * @param aRhoValue Rho value
+     * @return Squared distance
+     */
+    private float getSquaredDistance(
+            float aRhoValue
+    ) {
+        if (this.isScalarProduct) {
+            // Unit vectors
+            return Math.max(0.0f, 2.0f - 2.0f * aRhoValue);
+        } else {
+            return Math.max(0.0f, aRhoValue);
+        }
+    }
+
+    /**
+     * Calculates the rho value of the dense or sparse contrast enhanced vector
+     * and the specified cluster vector.
+     *
+     * @param aContrastEnhancedVector Contrast enhanced vector (IS NOT CHANGED,
+     * null if aSparseContrastEnhancedVector is specified)
+     * @param aSparseContrastEnhancedVector Sparse contrast enhanced vector (IS
+     * NOT CHANGED, null if aContrastEnhancedVector is specified)
+     * @param aSquaredLength Squared length of aContrastEnhancedVector for
+     * squared distances (see
+     * ClusterMatrix.getSquaredLengthForSquaredDistance())
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of cluster vector
+     * @return Rho value
+     */
+    private float getRhoValue(
+            float[] aContrastEnhancedVector,
+            Utils.SparseVector aSparseContrastEnhancedVector,
+            float aSquaredLength,
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        int tmpOffset = aClusterMatrix.getOffset(aClusterIndex);
+        if (this.isScalarProduct) {
+            if (aSparseContrastEnhancedVector != null) {
+                return Utils.getScalarProduct(aSparseContrastEnhancedVector, aClusterMatrix.getComponents(), tmpOffset);
+            } else {
+                return aClusterMatrix.getScalarProduct(aContrastEnhancedVector, aClusterIndex);
+            }
+        } else {
+            if (aSparseContrastEnhancedVector != null) {
+                return Utils.getSquaredDistance(
+                    aSparseContrastEnhancedVector,
+                    aClusterMatrix.getComponents(),
+                    tmpOffset,
+                    aClusterMatrix.getSquaredLength(aClusterIndex)
+                );
+            } else {
+                return aClusterMatrix.getSquaredDistance(aContrastEnhancedVector, aSquaredLength, aClusterIndex);
+            }
+        }
+    }
+    //</editor-fold>
+
+}
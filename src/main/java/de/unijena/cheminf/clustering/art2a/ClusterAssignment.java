@@ -0,0 +1,270 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+/**
+ * Blocked (tiled) assignment of a block of data row vectors to their nearest
+ * cluster vectors of a ClusterMatrix: Maximum scalar product (ART-2a) or
+ * minimum squared distance (ART-2a-Euclid).
+ * <br><br>
+ * Instead of one matrix-vector product per data row vector (which streams the
+ * complete cluster matrix once per data row vector from memory) the cluster
+ * vectors are processed in tiles of about TILE_SIZE_IN_FLOATS components.
+ * Each cluster vector of a tile is evaluated against 4 data row vectors at
+ * once (so every component of a cluster vector is loaded once for 4 data row
+ * vectors) and the tile is reused from the cache for all data row vectors of
+ * the block. The block size returned by getBlockSize() is chosen so that the
+ * data row vectors of a block fit into a cache of similar size.
+ * <br><br>
+ * The summation order of each single scalar product or squared distance is
+ * identical to Utils.getScalarProduct() and Utils.getSquaredDistance(), and
+ * cluster vectors are compared in ascending index order, i.e. the resulting
+ * cluster indices are identical to a one-by-one evaluation (ties are resolved
+ * in favor of the lower cluster index). Sparse cluster vectors (see
+ * ClusterMatrix) are evaluated one-by-one with the gathering kernels of
+ * ClusterMatrix.getScalarProduct() and ClusterMatrix.getSquaredDistance().
+ * <br><br>
+ * Note: No checks are performed.
+ */
+public class ClusterAssignment {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Number of data row vectors that are evaluated at once against a
+     * cluster vector
+     */
+    private static final int NUMBER_OF_VECTORS_AT_ONCE = 4;
+    /**
+     * Approximate number of float components of a tile of cluster vectors and
+     * of a block of data row vectors (128 KByte)
+     */
+    private static final int TILE_SIZE_IN_FLOATS = 32768;
+    /**
+     * Maximum number of data row vectors of a block
+     */
+    private static final int MAXIMUM_BLOCK_SIZE = 256;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor
+     */
+    protected ClusterAssignment() {}
+    //</editor-fold>
+
+    //<editor-fold desc="Protected static methods">
+    /**
+     * Returns number of data row vectors of a block for the specified number
+     * of components (a multiple of 4 in interval [4, MAXIMUM_BLOCK_SIZE]).
+     *
+     * @param aNumberOfComponents Number of components
+     * @return Number of data row vectors of a block
+     */
+    protected static int getBlockSize(
+            int aNumberOfComponents
+    ) {
+        int tmpBlockSize = TILE_SIZE_IN_FLOATS / Math.max(1, aNumberOfComponents);
+        tmpBlockSize = (tmpBlockSize / NUMBER_OF_VECTORS_AT_ONCE) * NUMBER_OF_VECTORS_AT_ONCE;
+        return Math.max(NUMBER_OF_VECTORS_AT_ONCE, Math.min(MAXIMUM_BLOCK_SIZE, tmpBlockSize));
+    }
+
+    /**
+     * Returns the index of the nearest cluster vector for a sparse data row
+     * vector: Maximum scalar product for anIsScalarProduct = true, minimum
+     * squared distance otherwise (ties are resolved in favor of the lower
+     * cluster index). Sparse data row vectors are not blocked since each
+     * sparse-dense product only touches the non-zero components.
+     * Note: For anIsScalarProduct = false the squared lengths of the cluster
+     * vectors must be tracked by aClusterMatrix.
+     *
+     * @param aSparseVector Sparse data row vector (IS NOT CHANGED)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param anIsScalarProduct True: Maximum scalar product (ART-2a), false:
+     * Minimum squared distance (ART-2a-Euclid)
+     * @return Index of the nearest cluster vector
+     */
+    protected static int getClusterIndex(
+            Utils.SparseVector aSparseVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            boolean anIsScalarProduct
+    ) {
+        float[] tmpClusterComponents = aClusterMatrix.getComponents();
+        int tmpStride = aClusterMatrix.getStride();
+        // Note: Scalar product is always greater or equal to 0
+        float tmpBestValue = anIsScalarProduct ? -1.0f : Float.MAX_VALUE;
+        int tmpClusterIndex = -1;
+        for (int j = 0; j < aNumberOfDetectedClusters; j++) {
+            if (anIsScalarProduct) {
+                float tmpValue = Utils.getScalarProduct(aSparseVector, tmpClusterComponents, j * tmpStride);
+                if (tmpValue > tmpBestValue) {
+                    tmpBestValue = tmpValue;
+                    tmpClusterIndex = j;
+                }
+            } else {
+                float tmpValue = Utils.getSquaredDistance(aSparseVector, tmpClusterComponents, j * tmpStride, aClusterMatrix.getSquaredLength(j));
+                if (tmpValue < tmpBestValue) {
+                    tmpBestValue = tmpValue;
+                    tmpClusterIndex = j;
+                }
+            }
+        }
+        return tmpClusterIndex;
+    }
+
+    /**
+     * Sets the indices of the nearest cluster vectors for a block of data row
+     * vectors: Maximum scalar product for anIsScalarProduct = true, minimum
+     * squared distance otherwise.
+     *
+     * @param aDataVectors Block of data row vectors with the number of
+     * components of the cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDataVectors Number of data row vectors of the block to
+     * be evaluated
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param anIsScalarProduct True: Maximum scalar product (ART-2a), false:
+     * Minimum squared distance (ART-2a-Euclid)
+     * @param aBestValues Buffer for best values with length of at least
+     * aNumberOfDataVectors (MUST ALREADY BE INSTANTIATED and IS CHANGED)
+     * @param aSquaredLengths Buffer for squared lengths of the data row
+     * vectors with length of at least aNumberOfDataVectors (MUST ALREADY BE
+     * INSTANTIATED for anIsScalarProduct = false and IS CHANGED, may be null
+     * otherwise)
+     * @param aResultBuffer Buffer for results with length of at least 4 (MUST
+     * ALREADY BE INSTANTIATED and IS CHANGED)
+     * @param aClusterIndices Indices of the nearest cluster vectors of the
+     * data row vectors (MUST ALREADY BE INSTANTIATED with length of at least
+     * aNumberOfDataVectors and IS CHANGED)
+     */
+    protected static void setClusterIndices(
+            float[][] aDataVectors,
+            int aNumberOfDataVectors,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            boolean anIsScalarProduct,
+            float[] aBestValues,
+            float[] aSquaredLengths,
+            float[] aResultBuffer,
+            int[] aClusterIndices
+    ) {
+        float[] tmpClusterComponents = aClusterMatrix.getComponents();
+        int tmpStride = aClusterMatrix.getStride();
+        // Note: Scalar product is always greater or equal to 0
+        float tmpInitialValue = anIsScalarProduct ? -1.0f : Float.MAX_VALUE;
+        for (int i = 0; i < aNumberOfDataVectors; i++) {
+            aBestValues[i] = tmpInitialValue;
+            aClusterIndices[i] = -1;
+            if (!anIsScalarProduct) {
+                aSquaredLengths[i] = aClusterMatrix.getSquaredLengthForSquaredDistance(aDataVectors[i]);
+            }
+        }
+        int tmpTileSize = Math.max(1, TILE_SIZE_IN_FLOATS / Math.max(1, tmpStride));
+        int tmpUpperBound = aNumberOfDataVectors - aNumberOfDataVectors % NUMBER_OF_VECTORS_AT_ONCE;
+        for (int tmpTileStart = 0; tmpTileStart < aNumberOfDetectedClusters; tmpTileStart += tmpTileSize) {
+            int tmpTileEnd = Math.min(aNumberOfDetectedClusters, tmpTileStart + tmpTileSize);
+            int i = 0;
+            for (; i < tmpUpperBound; i += NUMBER_OF_VECTORS_AT_ONCE) {
+                for (int j = tmpTileStart; j < tmpTileEnd; j++) {
+                    if (aClusterMatrix.isSparse(j)) {
+                        for (int k = 0; k < NUMBER_OF_VECTORS_AT_ONCE; k++) {
+                            if (anIsScalarProduct) {
+                                aResultBuffer[k] = aClusterMatrix.getScalarProduct(aDataVectors[i + k], j);
+                            } else {
+                                aResultBuffer[k] = aClusterMatrix.getSquaredDistance(aDataVectors[i + k], aSquaredLengths[i + k], j);
+                            }
+                        }
+                    } else if (anIsScalarProduct) {
+                        Utils.setScalarProducts(
+                            aDataVectors[i],
+                            aDataVectors[i + 1],
+                            aDataVectors[i + 2],
+                            aDataVectors[i + 3],
+                            tmpClusterComponents,
+                            j * tmpStride,
+                            aResultBuffer
+                        );
+                    } else {
+                        Utils.setSquaredDistances(
+                            aDataVectors[i],
+                            aDataVectors[i + 1],
+                            aDataVectors[i + 2],
+                            aDataVectors[i + 3],
+                            tmpClusterComponents,
+                            j * tmpStride,
+                            aResultBuffer
+                        );
+                    }
+                    for (int k = 0; k < NUMBER_OF_VECTORS_AT_ONCE; k++) {
+                        ClusterAssignment.update(i + k, j, aResultBuffer[k], anIsScalarProduct, aBestValues, aClusterIndices);
+                    }
+                }
+            }
+            for (; i < aNumberOfDataVectors; i++) {
+                for (int j = tmpTileStart; j < tmpTileEnd; j++) {
+                    float tmpValue;
+                    if (anIsScalarProduct) {
+                        tmpValue = aClusterMatrix.getScalarProduct(aDataVectors[i], j);
+                    } else {
+                        tmpValue = aClusterMatrix.getSquaredDistance(aDataVectors[i], aSquaredLengths[i], j);
+                    }
+                    ClusterAssignment.update(i, j, tmpValue, anIsScalarProduct, aBestValues, aClusterIndices);
+                }
+            }
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private static methods">
+    /**
+     * Updates best value and nearest cluster index of a data row vector.
+     *
+     * @param aDataVectorIndex Index of data row vector in block
+     * @param aClusterIndex Index of cluster vector
+     * @param aValue Scalar product or squared distance
+     * @param anIsScalarProduct True: Maximum scalar product, false: Minimum
+     * squared distance
+     * @param aBestValues Best values (MAY BE CHANGED)
+     * @param aClusterIndices Nearest cluster indices (MAY BE CHANGED)
+     */
+    private static void update(
+            int aDataVectorIndex,
+            int aClusterIndex,
+            float aValue,
+            boolean anIsScalarProduct,
+            float[] aBestValues,
+            int[] aClusterIndices
+    ) {
+        if (anIsScalarProduct ? aValue > aBestValues[aDataVectorIndex] : aValue < aBestValues[aDataVectorIndex]) {
+            aBestValues[aDataVectorIndex] = aValue;
+            aClusterIndices[aDataVectorIndex] = aClusterIndex;
+        }
+    }
+    //</editor-fold>
+
+}
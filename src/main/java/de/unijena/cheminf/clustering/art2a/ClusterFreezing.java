@@ -0,0 +1,340 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+
+/**
+ * Per-cluster freezing of converged cluster vectors during the clustering
+ * process (ART-2a and ART-2a-Euclid).
+ * <br><br>
+ * At the end of each epoch the drift of each cluster vector with respect to
+ * its reference (the cluster vector at the end of the epoch where its last
+ * drift check failed) is checked with the convergence threshold: Scalar
+ * product (ART-2a) or distance (ART-2a-Euclid). A cluster vector whose drift
+ * check succeeds for numberOfEpochsForFreezing consecutive epochs is
+ * frozen: It is not modified by data vectors that are assigned to it, its
+ * drift check is skipped and its reference is no longer updated.
+ * <br><br>
+ * During an epoch the number of data vectors that are assigned to a cluster
+ * and the number of data vectors that enter or leave the cluster are
+ * counted. A frozen cluster is unfrozen at the end of an epoch if the
+ * number of changed assignments exceeds MAXIMUM_FRACTION_OF_CHANGED_ASSIGNMENTS
+ * of its assigned data vectors. After the removal of empty clusters the
+ * cluster indices are shifted and all clusters are unfrozen (see reset()).
+ * <br><br>
+ * Note: ClusterFreezing is NOT thread-safe. No checks are performed.
+ */
+public class ClusterFreezing {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Maximum fraction of changed assignments (data vectors that enter or
+     * leave the cluster in an epoch) of the assigned data vectors of a
+     * frozen cluster before it is unfrozen
+     */
+    private static final float MAXIMUM_FRACTION_OF_CHANGED_ASSIGNMENTS = 0.05f;
+    /**
+     * Initial number of reference cluster vectors
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * True: Drift check with scalar product (ART-2a), false: Drift check with
+     * squared distance (ART-2a-Euclid)
+     */
+    private final boolean isScalarProduct;
+    /**
+     * Convergence threshold: Minimum scalar product (ART-2a) or maximum
+     * squared distance (ART-2a-Euclid) of a cluster vector and its reference
+     */
+    private final float convergenceThreshold;
+    /**
+     * Number of consecutive epochs with successful drift check for freezing
+     */
+    private final int numberOfEpochsForFreezing;
+    /**
+     * Maximum number of clusters
+     */
+    private final int maximumNumberOfClusters;
+    /**
+     * Number of consecutive epochs with successful drift check of a cluster
+     * vector
+     */
+    private final int[] numbersOfStableEpochs;
+    /**
+     * Flags for frozen clusters. True: Cluster is frozen, false: Otherwise
+     */
+    private final boolean[] frozenFlags;
+    /**
+     * Number of data vectors that are assigned to a cluster in the current
+     * epoch
+     */
+    private final int[] numbersOfAssignments;
+    /**
+     * Number of data vectors that enter or leave a cluster in the current
+     * epoch
+     */
+    private final int[] numbersOfChangedAssignments;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Row-major reference cluster vectors (with stride of the cluster matrix)
+     */
+    private float[] referenceComponents;
+    /**
+     * Number of valid reference cluster vectors
+     */
+    private int numberOfReferenceClusters;
+    /**
+     * Number of frozen clusters
+     */
+    private int numberOfFrozenClusters;
+    /**
+     * Number of skipped modifications of frozen cluster vectors
+     */
+    private long numberOfSkippedModifications;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfEpochsForFreezing Number of consecutive epochs with
+     * successful drift check for freezing of a cluster vector
+     * @param aConvergenceThreshold Convergence threshold of the kernel
+     * @param anIsScalarProduct True: Drift check with scalar product
+     * (ART-2a), false: Drift check with distance (ART-2a-Euclid)
+     */
+    protected ClusterFreezing(
+            int aMaximumNumberOfClusters,
+            int aNumberOfEpochsForFreezing,
+            float aConvergenceThreshold,
+            boolean anIsScalarProduct
+    ) {
+        this.isScalarProduct = anIsScalarProduct;
+        if (anIsScalarProduct) {
+            this.convergenceThreshold = aConvergenceThreshold;
+        } else {
+            this.convergenceThreshold = aConvergenceThreshold * aConvergenceThreshold;
+        }
+        this.numberOfEpochsForFreezing = aNumberOfEpochsForFreezing;
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        this.numbersOfStableEpochs = new int[aMaximumNumberOfClusters];
+        this.frozenFlags = new boolean[aMaximumNumberOfClusters];
+        this.numbersOfAssignments = new int[aMaximumNumberOfClusters];
+        this.numbersOfChangedAssignments = new int[aMaximumNumberOfClusters];
+        this.referenceComponents = new float[0];
+        this.numberOfReferenceClusters = 0;
+        this.numberOfFrozenClusters = 0;
+        this.numberOfSkippedModifications = 0L;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Counts the assignment of a data vector to the specified cluster (to be
+     * called for every assignment during an epoch, also for a new cluster).
+     *
+     * @param aClusterIndex Index of cluster the data vector is assigned to
+     * @param aPreviousClusterIndex Cluster index of the data vector in the
+     * previous epoch (negative if not available)
+     */
+    protected void addAssignment(
+            int aClusterIndex,
+            int aPreviousClusterIndex
+    ) {
+        this.numbersOfAssignments[aClusterIndex]++;
+        if (aClusterIndex != aPreviousClusterIndex) {
+            this.numbersOfChangedAssignments[aClusterIndex]++;
+            if (aPreviousClusterIndex >= 0) {
+                this.numbersOfChangedAssignments[aPreviousClusterIndex]++;
+            }
+        }
+    }
+
+    /**
+     * Returns if the specified cluster is frozen, i.e., if the modification
+     * of its cluster vector is skipped. Skipped modifications are counted.
+     *
+     * @param aClusterIndex Index of cluster
+     * @return True: Cluster is frozen (modification is skipped), false:
+     * Otherwise
+     */
+    protected boolean isFrozen(
+            int aClusterIndex
+    ) {
+        if (this.frozenFlags[aClusterIndex]) {
+            this.numberOfSkippedModifications++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Unfreezes all clusters and invalidates all references (to be called if
+     * cluster indices change, i.e., after removal of empty clusters).
+     */
+    protected void reset() {
+        Utils.fillVector(this.numbersOfStableEpochs, 0);
+        Utils.fillVector(this.frozenFlags, false);
+        Utils.fillVector(this.numbersOfAssignments, 0);
+        Utils.fillVector(this.numbersOfChangedAssignments, 0);
+        this.numberOfReferenceClusters = 0;
+        this.numberOfFrozenClusters = 0;
+    }
+
+    /**
+     * Updates the frozen clusters and determines convergence of the
+     * clustering process at the end of an epoch (see class description): The
+     * clustering process has converged if no cluster was unfrozen and the
+     * drift checks of all cluster vectors that are not frozen succeed. The
+     * assignment counts of the epoch are reset.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param anEpoch Current epoch
+     * @param aMaximumNumberOfEpochs Maximum number of epochs
+     * @return True if clustering process has converged, false otherwise.
+     */
+    protected boolean isConverged(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            int anEpoch,
+            int aMaximumNumberOfEpochs
+    ) {
+        float[] tmpComponents = aClusterMatrix.getComponents();
+        int tmpNumberOfComponents = aClusterMatrix.getNumberOfComponents();
+        int tmpStride = aClusterMatrix.getStride();
+        this.ensureCapacity(aNumberOfDetectedClusters, tmpStride);
+        boolean tmpIsConverged = true;
+        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
+            int tmpOffset = i * tmpStride;
+            if (this.frozenFlags[i]) {
+                if (this.numbersOfChangedAssignments[i] > MAXIMUM_FRACTION_OF_CHANGED_ASSIGNMENTS * this.numbersOfAssignments[i]) {
+                    // Assignment set changed significantly: Unfreeze with
+                    // current cluster vector as reference
+                    this.frozenFlags[i] = false;
+                    this.numberOfFrozenClusters--;
+                    this.numbersOfStableEpochs[i] = 0;
+                    System.arraycopy(tmpComponents, tmpOffset, this.referenceComponents, tmpOffset, tmpNumberOfComponents);
+                    tmpIsConverged = false;
+                }
+            } else if (i < this.numberOfReferenceClusters && this.isStable(tmpComponents, tmpOffset, tmpNumberOfComponents)) {
+                this.numbersOfStableEpochs[i]++;
+                if (this.numbersOfStableEpochs[i] >= this.numberOfEpochsForFreezing) {
+                    this.frozenFlags[i] = true;
+                    this.numberOfFrozenClusters++;
+                }
+            } else {
+                this.numbersOfStableEpochs[i] = 0;
+                System.arraycopy(tmpComponents, tmpOffset, this.referenceComponents, tmpOffset, tmpNumberOfComponents);
+                tmpIsConverged = false;
+            }
+            this.numbersOfAssignments[i] = 0;
+            this.numbersOfChangedAssignments[i] = 0;
+        }
+        this.numberOfReferenceClusters = aNumberOfDetectedClusters;
+        return tmpIsConverged && anEpoch > 1 && anEpoch < aMaximumNumberOfEpochs;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Number of frozen clusters
+     *
+     * @return Number of frozen clusters
+     */
+    protected int getNumberOfFrozenClusters() {
+        return this.numberOfFrozenClusters;
+    }
+
+    /**
+     * Number of skipped modifications of frozen cluster vectors
+     *
+     * @return Number of skipped modifications
+     */
+    protected long getNumberOfSkippedModifications() {
+        return this.numberOfSkippedModifications;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Returns if the drift of the specified cluster vector with respect to
+     * its reference is within the convergence threshold.
+     *
+     * @param aComponents Components of cluster matrix (IS NOT CHANGED)
+     * @param anOffset Offset of cluster vector in aComponents and
+     * referenceComponents
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @return True: Drift is within convergence threshold, false: Otherwise
+     */
+    private boolean isStable(
+            float[] aComponents,
+            int anOffset,
+            int aNumberOfComponents
+    ) {
+        if (this.isScalarProduct) {
+            return
+                Utils.getScalarProduct(aComponents, anOffset, this.referenceComponents, anOffset, aNumberOfComponents) >=
+                    this.convergenceThreshold;
+        } else {
+            return
+                Utils.getSquaredDistance(aComponents, anOffset, this.referenceComponents, anOffset, aNumberOfComponents) <=
+                    this.convergenceThreshold;
+        }
+    }
+
+    /**
+     * Ensures capacity of referenceComponents for the specified number of
+     * cluster vectors (geometric growth, valid references are retained).
+     *
+     * @param aNumberOfClusters Number of cluster vectors
+     * @param aStride Stride of a cluster vector
+     */
+    private void ensureCapacity(
+            int aNumberOfClusters,
+            int aStride
+    ) {
+        if (this.referenceComponents.length < aNumberOfClusters * aStride) {
+            int tmpCapacity =
+                Math.max(
+                    aNumberOfClusters,
+                    Math.min(
+                        Math.max(INITIAL_CAPACITY, 2 * this.referenceComponents.length / aStride),
+                        this.maximumNumberOfClusters
+                    )
+                );
+            this.referenceComponents = Arrays.copyOf(this.referenceComponents, tmpCapacity * aStride);
+        }
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,662 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+
+/**
+ * Contiguous cluster matrix: All cluster (centroid) vectors are stored
+ * row-major in a single float array where cluster vector i starts at
+ * offset i x stride. Only the first numberOfClusters row vectors are active.
+ * <br><br>
+ * For a large number of components the stride is padded to a multiple of a
+ * cache line (16 floats) so that row vectors start at the same position
+ * within a cache line relative to the start of the array. Note, that the JVM
+ * does not expose the alignment of the array start itself. Padded components
+ * are always zero and never part of any vector operation.
+ * <br><br>
+ * Memory for cluster vectors is allocated on demand: The capacity grows
+ * geometrically up to the maximum number of clusters, i.e., at most twice the
+ * memory of the needed cluster vectors is allocated.
+ * <br><br>
+ * Optionally, the squared lengths of the cluster vectors are tracked (e.g.
+ * for squared distances between sparse vectors and cluster vectors, see
+ * Utils.getSquaredDistance()). Note, that updateSquaredLength() must be
+ * called after a cluster vector was modified externally.
+ * <br><br>
+ * Optionally, the support (indices of the non-zero components) of sparse
+ * cluster vectors is tracked: A cluster vector with a density below
+ * MAXIMUM_DENSITY_OF_SPARSE_CLUSTER_VECTORS keeps the indices of its non-zero
+ * components so that getScalarProduct() and getSquaredDistance() only
+ * gather these components from a dense vector instead of evaluating all
+ * components (the values remain in the contiguous row-major array). The
+ * support is determined once by addCluster(): The ART-2a and ART-2a-Euclid
+ * modifications of a winner cluster vector set all components to zero that
+ * are zero in the cluster vector, i.e. the support of a cluster vector never
+ * grows. Note, that a cluster vector that is modified externally must
+ * retain this property.
+ * <br><br>
+ * Note: ClusterMatrix is NOT thread-safe except for setCluster() with
+ * different indices. No checks are performed.
+ */
+public class ClusterMatrix {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Number of float values of a cache line (64 bytes)
+     */
+    private static final int CACHE_LINE_FLOATS = 16;
+    /**
+     * Minimum number of components for padding of the stride to a multiple
+     * of a cache line (padding is not worth the additional memory for short
+     * row vectors)
+     */
+    private static final int MINIMUM_NUMBER_OF_COMPONENTS_FOR_PADDING = 64;
+    /**
+     * Initial capacity in number of cluster vectors
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * Minimum number of components for tracking of the support of sparse
+     * cluster vectors (a dense scalar product of short row vectors is always
+     * cheaper)
+     */
+    private static final int MINIMUM_NUMBER_OF_COMPONENTS_FOR_SPARSE_CLUSTER_VECTORS = 64;
+    /**
+     * Maximum density (fraction of non-zero components) of a sparse cluster
+     * vector: Gathering the non-zero components from a dense vector is
+     * several times slower per component than a (vectorized) contiguous
+     * dense scalar product (break-even at a density of about 5 percent)
+     */
+    private static final float MAXIMUM_DENSITY_OF_SPARSE_CLUSTER_VECTORS = 0.03125f;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of components of a cluster vector
+     */
+    private final int numberOfComponents;
+    /**
+     * Stride between the starts of consecutive cluster vectors
+     */
+    private final int stride;
+    /**
+     * Maximum number of clusters
+     */
+    private final int maximumNumberOfClusters;
+    /**
+     * Maximum number of non-zero components of a sparse cluster vector (0 if
+     * the support of sparse cluster vectors is not tracked)
+     */
+    private final int maximumNumberOfNonZeros;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Row-major components of all cluster vectors
+     */
+    private float[] components;
+    /**
+     * Squared lengths of the cluster vectors (null if squared lengths are
+     * not tracked)
+     */
+    private float[] squaredLengths;
+    /**
+     * Indices of the non-zero components of the sparse cluster vectors:
+     * Cluster vector i starts at i x maximumNumberOfNonZeros (null if the
+     * support is not tracked)
+     */
+    private int[] supportIndices;
+    /**
+     * Number of non-zero components of the cluster vectors (-1 for a dense
+     * cluster vector, null if the support is not tracked)
+     */
+    private int[] supportSizes;
+    /**
+     * Number of active sparse cluster vectors
+     */
+    private int numberOfSparseClusters;
+    /**
+     * Number of active cluster vectors
+     */
+    private int numberOfClusters;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors">
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfComponents Number of components of a cluster vector
+     */
+    protected ClusterMatrix(
+        int aMaximumNumberOfClusters,
+        int aNumberOfComponents
+    ) {
+        this(aMaximumNumberOfClusters, aNumberOfComponents, false);
+    }
+
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param anIsSquaredLengthTracking True: Squared lengths of the cluster
+     * vectors are tracked, false: Otherwise
+     */
+    protected ClusterMatrix(
+        int aMaximumNumberOfClusters,
+        int aNumberOfComponents,
+        boolean anIsSquaredLengthTracking
+    ) {
+        this(aMaximumNumberOfClusters, aNumberOfComponents, anIsSquaredLengthTracking, false);
+    }
+
+    /**
+     * Constructor. The support of sparse cluster vectors is only tracked for
+     * at least MINIMUM_NUMBER_OF_COMPONENTS_FOR_SPARSE_CLUSTER_VECTORS
+     * components.
+     * Note: No checks are performed.
+     *
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfComponents Number of components of a cluster vector
+     * @param anIsSquaredLengthTracking True: Squared lengths of the cluster
+     * vectors are tracked, false: Otherwise
+     * @param anIsSupportTracking True: Support of sparse cluster vectors is
+     * tracked, false: Otherwise
+     */
+    protected ClusterMatrix(
+        int aMaximumNumberOfClusters,
+        int aNumberOfComponents,
+        boolean anIsSquaredLengthTracking,
+        boolean anIsSupportTracking
+    ) {
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        this.numberOfComponents = aNumberOfComponents;
+        if (aNumberOfComponents >= MINIMUM_NUMBER_OF_COMPONENTS_FOR_PADDING) {
+            this.stride = ((aNumberOfComponents + CACHE_LINE_FLOATS - 1) / CACHE_LINE_FLOATS) * CACHE_LINE_FLOATS;
+        } else {
+            this.stride = aNumberOfComponents;
+        }
+        this.components = new float[Math.min(INITIAL_CAPACITY, aMaximumNumberOfClusters) * this.stride];
+        if (anIsSquaredLengthTracking) {
+            this.squaredLengths = new float[Math.min(INITIAL_CAPACITY, aMaximumNumberOfClusters)];
+        } else {
+            this.squaredLengths = null;
+        }
+        if (anIsSupportTracking && aNumberOfComponents >= MINIMUM_NUMBER_OF_COMPONENTS_FOR_SPARSE_CLUSTER_VECTORS) {
+            this.maximumNumberOfNonZeros = (int) (aNumberOfComponents * MAXIMUM_DENSITY_OF_SPARSE_CLUSTER_VECTORS);
+            this.supportIndices = new int[Math.min(INITIAL_CAPACITY, aMaximumNumberOfClusters) * this.maximumNumberOfNonZeros];
+            this.supportSizes = new int[Math.min(INITIAL_CAPACITY, aMaximumNumberOfClusters)];
+        } else {
+            this.maximumNumberOfNonZeros = 0;
+            this.supportIndices = null;
+            this.supportSizes = null;
+        }
+        this.numberOfSparseClusters = 0;
+        this.numberOfClusters = 0;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Appends copy of specified vector as new cluster vector.
+     * Note: The array returned by getComponents() may be replaced.
+     *
+     * @param aVector Vector with numberOfComponents components (IS NOT CHANGED)
+     * @return Index of the new cluster vector
+     */
+    protected int addCluster(
+        float[] aVector
+    ) {
+        this.ensureCapacity(this.numberOfClusters + 1);
+        System.arraycopy(aVector, 0, this.components, this.numberOfClusters * this.stride, this.numberOfComponents);
+        if (this.squaredLengths != null) {
+            this.updateSquaredLength(this.numberOfClusters);
+        }
+        if (this.supportSizes != null) {
+            this.setSupport(this.numberOfClusters);
+        }
+        return this.numberOfClusters++;
+    }
+
+    /**
+     * Allocates the memory for the maximum number of clusters so that the
+     * array returned by getComponents() is no longer replaced (e.g. for the
+     * concurrent modification of cluster vectors, see HogwildClusterUpdates).
+     */
+    protected void allocateMaximumCapacity() {
+        this.ensureCapacity(this.maximumNumberOfClusters);
+    }
+
+    /**
+     * Sets copy of specified vector as cluster vector with specified index
+     * without changing the number of clusters (see setNumberOfClusters()).
+     * Cluster vectors with different indices may be set concurrently if the
+     * memory for the maximum number of clusters is allocated (see
+     * allocateMaximumCapacity()).
+     * Note: The support of sparse cluster vectors must not be tracked.
+     *
+     * @param aClusterIndex Index of cluster vector (must be less than the
+     * allocated capacity)
+     * @param aVector Vector with numberOfComponents components (IS NOT CHANGED)
+     */
+    protected void setCluster(
+        int aClusterIndex,
+        float[] aVector
+    ) {
+        System.arraycopy(aVector, 0, this.components, aClusterIndex * this.stride, this.numberOfComponents);
+        if (this.squaredLengths != null) {
+            this.updateSquaredLength(aClusterIndex);
+        }
+    }
+
+    /**
+     * Sets the number of active cluster vectors (e.g. after cluster vectors
+     * were set with setCluster()).
+     * Note: The support of sparse cluster vectors must not be tracked.
+     *
+     * @param aNumberOfClusters Number of active cluster vectors (must not be
+     * greater than the allocated capacity)
+     */
+    protected void setNumberOfClusters(
+        int aNumberOfClusters
+    ) {
+        this.numberOfClusters = aNumberOfClusters;
+    }
+
+    /**
+     * Removes all cluster vectors, i.e., the cluster matrix is reset to the
+     * state of a new cluster matrix but retains its allocated memory (e.g.
+     * for the reuse in successive clustering runs, see ClusteringWorkspace).
+     */
+    protected void clear() {
+        Arrays.fill(this.components, 0.0f);
+        if (this.squaredLengths != null) {
+            Arrays.fill(this.squaredLengths, 0.0f);
+        }
+        this.numberOfSparseClusters = 0;
+        this.numberOfClusters = 0;
+    }
+
+    /**
+     * Copies all active cluster vectors to the destination cluster matrix.
+     * The number of clusters of the destination is the maximum of its
+     * current number and the number of clusters of this cluster matrix, i.e.,
+     * row vectors of the destination beyond the copied ones are retained.
+     * Squared lengths and supports are copied if tracked by both cluster
+     * matrices.
+     *
+     * @param aDestination Destination cluster matrix with same number of
+     * components (IS CHANGED)
+     */
+    protected void copyTo(
+        ClusterMatrix aDestination
+    ) {
+        aDestination.ensureCapacity(this.numberOfClusters);
+        System.arraycopy(this.components, 0, aDestination.components, 0, this.numberOfClusters * this.stride);
+        if (this.squaredLengths != null && aDestination.squaredLengths != null) {
+            System.arraycopy(this.squaredLengths, 0, aDestination.squaredLengths, 0, this.numberOfClusters);
+        }
+        if (aDestination.numberOfClusters < this.numberOfClusters) {
+            aDestination.numberOfClusters = this.numberOfClusters;
+        }
+        if (this.supportSizes != null && aDestination.supportSizes != null) {
+            System.arraycopy(this.supportIndices, 0, aDestination.supportIndices, 0, this.numberOfClusters * this.maximumNumberOfNonZeros);
+            System.arraycopy(this.supportSizes, 0, aDestination.supportSizes, 0, this.numberOfClusters);
+            aDestination.setNumberOfSparseClusters();
+        }
+    }
+
+    /**
+     * Calculates the scalar product (dot product) of aVector and the
+     * specified cluster vector with the cheapest kernel: Only the non-zero
+     * components of a sparse cluster vector are gathered (in ascending index
+     * order, i.e., the summation order is identical to the scalar code of
+     * Utils.getScalarProduct()), otherwise the dense scalar product is used.
+     *
+     * @param aVector Vector with numberOfComponents components (IS NOT CHANGED)
+     * @param aClusterIndex Index of cluster vector
+     * @return Scalar product (dot product)
+     */
+    protected float getScalarProduct(
+        float[] aVector,
+        int aClusterIndex
+    ) {
+        int tmpOffset = aClusterIndex * this.stride;
+        if (this.supportSizes == null || this.supportSizes[aClusterIndex] < 0) {
+            return Utils.getScalarProduct(aVector, this.components, tmpOffset);
+        }
+        int tmpSupportOffset = aClusterIndex * this.maximumNumberOfNonZeros;
+        int tmpSupportEnd = tmpSupportOffset + this.supportSizes[aClusterIndex];
+        float tmpSum = 0.0f;
+        for (int i = tmpSupportOffset; i < tmpSupportEnd; i++) {
+            int tmpIndex = this.supportIndices[i];
+            tmpSum = Math.fma(aVector[tmpIndex], this.components[tmpOffset + tmpIndex], tmpSum);
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the squared distance between aVector and the specified
+     * cluster vector with the cheapest kernel: For a sparse cluster vector
+     * only its non-zero components are gathered with the squared length of
+     * aVector: |x - c|^2 = |x|^2 - (sum of x_j^2 over non-zero c_j) + (sum of
+     * (x_j - c_j)^2 over non-zero c_j), otherwise the dense squared distance
+     * is used.
+     * Note: A negative result due to rounding is set to zero.
+     *
+     * @param aVector Vector with numberOfComponents components (IS NOT CHANGED)
+     * @param aSquaredLength Squared length of aVector (see
+     * getSquaredLengthForSquaredDistance())
+     * @param aClusterIndex Index of cluster vector
+     * @return Squared distance
+     */
+    protected float getSquaredDistance(
+        float[] aVector,
+        float aSquaredLength,
+        int aClusterIndex
+    ) {
+        int tmpOffset = aClusterIndex * this.stride;
+        if (this.supportSizes == null || this.supportSizes[aClusterIndex] < 0) {
+            return Utils.getSquaredDistance(aVector, this.components, tmpOffset);
+        }
+        int tmpSupportOffset = aClusterIndex * this.maximumNumberOfNonZeros;
+        int tmpSupportEnd = tmpSupportOffset + this.supportSizes[aClusterIndex];
+        float tmpSum = aSquaredLength;
+        for (int i = tmpSupportOffset; i < tmpSupportEnd; i++) {
+            int tmpIndex = this.supportIndices[i];
+            float tmpComponent = aVector[tmpIndex];
+            float tmpDelta = tmpComponent - this.components[tmpOffset + tmpIndex];
+            // tmpSum += (x_j - c_j)^2 - x_j^2
+            tmpSum = Math.fma(tmpDelta, tmpDelta, Math.fma(-tmpComponent, tmpComponent, tmpSum));
+        }
+        return Math.max(0.0f, tmpSum);
+    }
+
+    /**
+     * Returns the squared length of aVector that is needed by
+     * getSquaredDistance() for sparse cluster vectors. If there is no sparse
+     * cluster vector the squared length is not needed and not calculated.
+     *
+     * @param aVector Vector with numberOfComponents components (IS NOT CHANGED)
+     * @return Squared length of aVector or 0 if there is no sparse cluster
+     * vector
+     */
+    protected float getSquaredLengthForSquaredDistance(
+        float[] aVector
+    ) {
+        if (this.numberOfSparseClusters == 0) {
+            return 0.0f;
+        }
+        return Utils.getScalarProduct(aVector, aVector);
+    }
+
+    /**
+     * Returns trimmed row-major copy of all active cluster vectors without
+     * padding, i.e., the stride of the returned array is numberOfComponents.
+     *
+     * @return Trimmed row-major copy of all active cluster vectors
+     */
+    protected float[] getTrimmedComponents() {
+        float[] tmpTrimmedComponents = new float[this.numberOfClusters * this.numberOfComponents];
+        if (this.stride == this.numberOfComponents) {
+            System.arraycopy(this.components, 0, tmpTrimmedComponents, 0, tmpTrimmedComponents.length);
+        } else {
+            for (int i = 0; i < this.numberOfClusters; i++) {
+                System.arraycopy(
+                    this.components,
+                    i * this.stride,
+                    tmpTrimmedComponents,
+                    i * this.numberOfComponents,
+                    this.numberOfComponents
+                );
+            }
+        }
+        return tmpTrimmedComponents;
+    }
+
+    /**
+     * Removes empty clusters by in-place compaction of the used cluster
+     * vectors (the order of the used cluster vectors is retained).
+     *
+     * @param aClusterUsageFlags Flags for cluster usage. True: Cluster is used,
+     * false: Cluster is empty and has to be removed (IS NOT CHANGED)
+     * @param aClusterRemovalInfo Cluster removal info (is set according to the
+     * operations performed, IS CHANGED)
+     */
+    protected void removeEmptyClusters(
+        boolean[] aClusterUsageFlags,
+        Utils.ClusterRemovalInfo aClusterRemovalInfo
+    ) {
+        int tmpIndex = 0;
+        for (int i = 0; i < this.numberOfClusters; i++) {
+            if (aClusterUsageFlags[i]) {
+                if (tmpIndex != i) {
+                    System.arraycopy(this.components, i * this.stride, this.components, tmpIndex * this.stride, this.numberOfComponents);
+                    if (this.squaredLengths != null) {
+                        this.squaredLengths[tmpIndex] = this.squaredLengths[i];
+                    }
+                    if (this.supportSizes != null) {
+                        this.supportSizes[tmpIndex] = this.supportSizes[i];
+                        if (this.supportSizes[i] > 0) {
+                            System.arraycopy(
+                                this.supportIndices,
+                                i * this.maximumNumberOfNonZeros,
+                                this.supportIndices,
+                                tmpIndex * this.maximumNumberOfNonZeros,
+                                this.supportSizes[i]
+                            );
+                        }
+                    }
+                }
+                tmpIndex++;
+            }
+        }
+        boolean tmpIsEmptyClusterRemoval = tmpIndex < this.numberOfClusters;
+        this.numberOfClusters = tmpIndex;
+        if (this.supportSizes != null) {
+            this.setNumberOfSparseClusters();
+        }
+        aClusterRemovalInfo.setClusterRemovalInfo(tmpIsEmptyClusterRemoval, tmpIndex);
+    }
+
+    /**
+     * Updates the tracked squared length of the specified cluster vector
+     * (must be called after the cluster vector was modified).
+     * Note: Squared lengths must be tracked.
+     *
+     * @param aClusterIndex Index of cluster vector
+     */
+    protected void updateSquaredLength(
+        int aClusterIndex
+    ) {
+        int tmpOffset = aClusterIndex * this.stride;
+        this.squaredLengths[aClusterIndex] =
+            Utils.getScalarProduct(this.components, tmpOffset, this.components, tmpOffset, this.numberOfComponents);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Row-major components of all cluster vectors.
+     * Note: The returned array may be replaced by addCluster() or copyTo().
+     *
+     * @return Row-major components of all cluster vectors
+     */
+    protected float[] getComponents() {
+        return this.components;
+    }
+
+    /**
+     * Number of active cluster vectors
+     *
+     * @return Number of active cluster vectors
+     */
+    protected int getNumberOfClusters() {
+        return this.numberOfClusters;
+    }
+
+    /**
+     * Number of components of a cluster vector
+     *
+     * @return Number of components of a cluster vector
+     */
+    protected int getNumberOfComponents() {
+        return this.numberOfComponents;
+    }
+
+    /**
+     * Offset of the specified cluster vector in the array of components
+     *
+     * @param aClusterIndex Index of cluster vector
+     * @return Offset of the specified cluster vector
+     */
+    protected int getOffset(
+        int aClusterIndex
+    ) {
+        return aClusterIndex * this.stride;
+    }
+
+    /**
+     * Squared length of the specified cluster vector.
+     * Note: Squared lengths must be tracked.
+     *
+     * @param aClusterIndex Index of cluster vector
+     * @return Squared length of the specified cluster vector
+     */
+    protected float getSquaredLength(
+        int aClusterIndex
+    ) {
+        return this.squaredLengths[aClusterIndex];
+    }
+
+    /**
+     * Number of active sparse cluster vectors (see class description)
+     *
+     * @return Number of active sparse cluster vectors
+     */
+    protected int getNumberOfSparseClusters() {
+        return this.numberOfSparseClusters;
+    }
+
+    /**
+     * Stride between the starts of consecutive cluster vectors
+     *
+     * @return Stride between the starts of consecutive cluster vectors
+     */
+    protected int getStride() {
+        return this.stride;
+    }
+
+    /**
+     * True if the specified cluster vector is sparse (see class description),
+     * false otherwise
+     *
+     * @param aClusterIndex Index of cluster vector
+     * @return True if the specified cluster vector is sparse, false otherwise
+     */
+    protected boolean isSparse(
+        int aClusterIndex
+    ) {
+        return this.supportSizes != null && this.supportSizes[aClusterIndex] >= 0;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Ensures capacity for the specified number of cluster vectors (grows
+     * geometrically up to the maximum number of clusters).
+     *
+     * @param aNumberOfClusters Number of cluster vectors
+     */
+    private void ensureCapacity(
+        int aNumberOfClusters
+    ) {
+        int tmpCapacity = this.components.length / this.stride;
+        if (aNumberOfClusters > tmpCapacity) {
+            int tmpNewCapacity = Math.max(aNumberOfClusters, Math.min(2 * tmpCapacity, this.maximumNumberOfClusters));
+            float[] tmpNewComponents = new float[tmpNewCapacity * this.stride];
+            System.arraycopy(this.components, 0, tmpNewComponents, 0, this.numberOfClusters * this.stride);
+            this.components = tmpNewComponents;
+            if (this.squaredLengths != null) {
+                float[] tmpNewSquaredLengths = new float[tmpNewCapacity];
+                System.arraycopy(this.squaredLengths, 0, tmpNewSquaredLengths, 0, this.numberOfClusters);
+                this.squaredLengths = tmpNewSquaredLengths;
+            }
+            if (this.supportSizes != null) {
+                int[] tmpNewSupportIndices = new int[tmpNewCapacity * this.maximumNumberOfNonZeros];
+                System.arraycopy(this.supportIndices, 0, tmpNewSupportIndices, 0, this.numberOfClusters * this.maximumNumberOfNonZeros);
+                this.supportIndices = tmpNewSupportIndices;
+                int[] tmpNewSupportSizes = new int[tmpNewCapacity];
+                System.arraycopy(this.supportSizes, 0, tmpNewSupportSizes, 0, this.numberOfClusters);
+                this.supportSizes = tmpNewSupportSizes;
+            }
+        }
+    }
+
+    /**
+     * Sets the number of active sparse cluster vectors.
+     * Note: Support must be tracked.
+     */
+    private void setNumberOfSparseClusters() {
+        this.numberOfSparseClusters = 0;
+        for (int i = 0; i < this.numberOfClusters; i++) {
+            if (this.supportSizes[i] >= 0) {
+                this.numberOfSparseClusters++;
+            }
+        }
+    }
+
+    /**
+     * Sets the support of the specified cluster vector: The indices of its
+     * non-zero components if it is sparse, size -1 otherwise.
+     * Note: Support must be tracked.
+     *
+     * @param aClusterIndex Index of cluster vector
+     */
+    private void setSupport(
+        int aClusterIndex
+    ) {
+        int tmpOffset = aClusterIndex * this.stride;
+        int tmpSupportOffset = aClusterIndex * this.maximumNumberOfNonZeros;
+        int tmpSize = 0;
+        for (int i = 0; i < this.numberOfComponents; i++) {
+            if (this.components[tmpOffset + i] != 0.0f) {
+                if (tmpSize == this.maximumNumberOfNonZeros) {
+                    this.supportSizes[aClusterIndex] = -1;
+                    return;
+                }
+                this.supportIndices[tmpSupportOffset + tmpSize++] = i;
+            }
+        }
+        this.supportSizes[aClusterIndex] = tmpSize;
+        this.numberOfSparseClusters++;
+    }
+    //</editor-fold>
+
+}
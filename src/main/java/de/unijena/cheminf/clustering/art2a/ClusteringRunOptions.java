@@ -0,0 +1,413 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Random;
+
+/**
+ * Options of a single ART-2a or ART-2a-Euclid clustering run: The execution
+ * mode (see Utils.EXECUTION_MODE constants) and the parameters of the
+ * training variant that is selected by the public methods of Art2aKernel and
+ * Art2aEuclidKernel (e.g. getMiniBatchClusterResult() or
+ * getSampleClusterResult()). The options are created by the static methods
+ * with the defaults of all other parameters (exact Rho winner calculation
+ * without pruning, convergence criterion of the cluster vectors only, no
+ * freezing of clusters and training with all data vectors).
+ * <br><br>
+ * Note: ClusteringRunOptions is immutable and thread-safe. No checks are
+ * performed.
+ */
+public class ClusteringRunOptions {
+
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Execution mode (see Utils.EXECUTION_MODE constants)
+     */
+    private final int executionMode;
+    /**
+     * True: Sequential Rho winner calculation is pruned, false: Otherwise
+     */
+    private final boolean isRhoWinnerPruning;
+    /**
+     * Number of hash tables for approximate sequential Rho winner
+     * calculation (0: Exact Rho winner calculation, ART-2a only)
+     */
+    private final int numberOfHashTables;
+    /**
+     * Number of signature bits of a hash table for approximate sequential
+     * Rho winner calculation (ART-2a only)
+     */
+    private final int numberOfSignatureBits;
+    /**
+     * Threshold for the fraction of data vectors that are reassigned in an
+     * epoch (0: Assignment-stability convergence criterion is not used)
+     */
+    private final float reassignmentThreshold;
+    /**
+     * True: Convergence criterion of the cluster vectors is used (in addition
+     * to the assignment-stability criterion if reassignmentThreshold is
+     * greater than 0), false: Otherwise
+     */
+    private final boolean isCentroidConvergence;
+    /**
+     * Number of consecutive epochs with converged cluster vector for freezing
+     * of the cluster (0: Clusters are not frozen, see ClusterFreezing)
+     */
+    private final int numberOfEpochsForFreezing;
+    /**
+     * Number of data vectors of a mini-batch (only used for
+     * Utils.EXECUTION_MODE_MINI_BATCH, see MiniBatch)
+     */
+    private final int miniBatchSize;
+    /**
+     * Number of threads (only used for Utils.EXECUTION_MODE_HOGWILD, see
+     * HogwildClusterUpdates)
+     */
+    private final int numberOfThreads;
+    /**
+     * Number of data vectors of the sample for the training (0: All data
+     * vectors are used for the training, see DataVectorSample)
+     */
+    private final int sampleSize;
+    /**
+     * True: Sample is stratified by the lengths of the data vectors, false:
+     * Sample is uniform
+     */
+    private final boolean isStratifiedSample;
+    /**
+     * True: Training with the sample is followed by a refinement epoch with
+     * all data vectors, false: Otherwise
+     */
+    private final boolean isRefinementEpoch;
+    //</editor-fold>
+
+    //<editor-fold desc="Private constructor">
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param anExecutionMode Execution mode
+     * @param anIsRhoWinnerPruning True: Sequential Rho winner calculation is
+     * pruned, false: Otherwise
+     * @param aNumberOfHashTables Number of hash tables
+     * @param aNumberOfSignatureBits Number of signature bits of a hash table
+     * @param aReassignmentThreshold Threshold for the fraction of reassigned
+     * data vectors
+     * @param anIsCentroidConvergence True: Convergence criterion of the
+     * cluster vectors is used, false: Otherwise
+     * @param aNumberOfEpochsForFreezing Number of epochs for freezing
+     * @param aMiniBatchSize Number of data vectors of a mini-batch
+     * @param aNumberOfThreads Number of threads
+     * @param aSampleSize Number of data vectors of the sample
+     * @param anIsStratifiedSample True: Sample is stratified, false: Sample
+     * is uniform
+     * @param anIsRefinementEpoch True: Refinement epoch with all data
+     * vectors, false: Otherwise
+     */
+    private ClusteringRunOptions(
+        int anExecutionMode,
+        boolean anIsRhoWinnerPruning,
+        int aNumberOfHashTables,
+        int aNumberOfSignatureBits,
+        float aReassignmentThreshold,
+        boolean anIsCentroidConvergence,
+        int aNumberOfEpochsForFreezing,
+        int aMiniBatchSize,
+        int aNumberOfThreads,
+        int aSampleSize,
+        boolean anIsStratifiedSample,
+        boolean anIsRefinementEpoch
+    ) {
+        this.executionMode = anExecutionMode;
+        this.isRhoWinnerPruning = anIsRhoWinnerPruning;
+        this.numberOfHashTables = aNumberOfHashTables;
+        this.numberOfSignatureBits = aNumberOfSignatureBits;
+        this.reassignmentThreshold = aReassignmentThreshold;
+        this.isCentroidConvergence = anIsCentroidConvergence;
+        this.numberOfEpochsForFreezing = aNumberOfEpochsForFreezing;
+        this.miniBatchSize = aMiniBatchSize;
+        this.numberOfThreads = aNumberOfThreads;
+        this.sampleSize = aSampleSize;
+        this.isStratifiedSample = anIsStratifiedSample;
+        this.isRefinementEpoch = anIsRefinementEpoch;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected static methods">
+    /**
+     * Returns the options of a clustering run with the specified execution
+     * mode.
+     *
+     * @param anExecutionMode Execution mode (see Utils.EXECUTION_MODE
+     * constants)
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getRunOptions(
+        int anExecutionMode
+    ) {
+        return ClusteringRunOptions.getRunOptions(anExecutionMode, false);
+    }
+
+    /**
+     * Returns the options of a clustering run with the specified execution
+     * mode and optionally pruned sequential Rho winner calculation (see
+     * RhoWinnerPruning and EuclidRhoWinnerPruning).
+     *
+     * @param anExecutionMode Execution mode (see Utils.EXECUTION_MODE
+     * constants)
+     * @param anIsRhoWinnerPruning True: Sequential Rho winner calculation is
+     * pruned, false: Otherwise
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getRunOptions(
+        int anExecutionMode,
+        boolean anIsRhoWinnerPruning
+    ) {
+        return new ClusteringRunOptions(anExecutionMode, anIsRhoWinnerPruning, 0, 0, 0.0f, true, 0, 0, 0, 0, false, false);
+    }
+
+    /**
+     * Returns the options of a clustering run with approximate sequential
+     * Rho winner calculation (see SimHashIndex, ART-2a only).
+     *
+     * @param aNumberOfHashTables Number of hash tables
+     * @param aNumberOfSignatureBits Number of signature bits of a hash table
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getApproximateRunOptions(
+        int aNumberOfHashTables,
+        int aNumberOfSignatureBits
+    ) {
+        return new ClusteringRunOptions(
+            Utils.EXECUTION_MODE_SEQUENTIAL, false, aNumberOfHashTables, aNumberOfSignatureBits, 0.0f, true, 0, 0, 0, 0, false, false
+        );
+    }
+
+    /**
+     * Returns the options of a clustering run in automatic mode with the
+     * assignment-stability convergence criterion.
+     *
+     * @param aReassignmentThreshold Threshold for the fraction of data
+     * vectors that are reassigned in an epoch
+     * @param anIsCentroidConvergence True: Convergence criterion of the
+     * cluster vectors is used in addition, false: Otherwise
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getReassignmentConvergenceRunOptions(
+        float aReassignmentThreshold,
+        boolean anIsCentroidConvergence
+    ) {
+        return new ClusteringRunOptions(
+            Utils.EXECUTION_MODE_AUTOMATIC, false, 0, 0, aReassignmentThreshold, anIsCentroidConvergence, 0, 0, 0, 0, false, false
+        );
+    }
+
+    /**
+     * Returns the options of a clustering run in automatic mode with freezing
+     * of converged cluster vectors (see ClusterFreezing).
+     *
+     * @param aNumberOfEpochsForFreezing Number of consecutive epochs with
+     * converged cluster vector for freezing of the cluster
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getClusterFreezingRunOptions(
+        int aNumberOfEpochsForFreezing
+    ) {
+        return new ClusteringRunOptions(
+            Utils.EXECUTION_MODE_AUTOMATIC, false, 0, 0, 0.0f, true, aNumberOfEpochsForFreezing, 0, 0, 0, false, false
+        );
+    }
+
+    /**
+     * Returns the options of a clustering run with bulk-synchronous
+     * mini-batch training (see MiniBatch).
+     *
+     * @param aMiniBatchSize Number of data vectors of a mini-batch
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getMiniBatchRunOptions(
+        int aMiniBatchSize
+    ) {
+        return new ClusteringRunOptions(
+            Utils.EXECUTION_MODE_MINI_BATCH, false, 0, 0, 0.0f, true, 0, aMiniBatchSize, 0, 0, false, false
+        );
+    }
+
+    /**
+     * Returns the options of a clustering run with lock-free concurrent
+     * cluster updates (see HogwildClusterUpdates).
+     *
+     * @param aNumberOfThreads Number of threads
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getHogwildRunOptions(
+        int aNumberOfThreads
+    ) {
+        return new ClusteringRunOptions(
+            Utils.EXECUTION_MODE_HOGWILD, false, 0, 0, 0.0f, true, 0, 0, aNumberOfThreads, 0, false, false
+        );
+    }
+
+    /**
+     * Returns the options of a clustering run in automatic mode with the
+     * training with a sample of the data vectors (see DataVectorSample).
+     *
+     * @param aSampleSize Number of data vectors of the sample (greater zero)
+     * @param anIsStratifiedSample True: Sample is stratified by the lengths
+     * of the data vectors, false: Sample is uniform
+     * @param anIsRefinementEpoch True: Training with the sample is followed
+     * by a refinement epoch with all data vectors, false: Otherwise
+     * @return Options of the clustering run
+     */
+    protected static ClusteringRunOptions getSampleRunOptions(
+        int aSampleSize,
+        boolean anIsStratifiedSample,
+        boolean anIsRefinementEpoch
+    ) {
+        return new ClusteringRunOptions(
+            Utils.EXECUTION_MODE_AUTOMATIC, false, 0, 0, 0.0f, true, 0, 0, 0, aSampleSize, anIsStratifiedSample, anIsRefinementEpoch
+        );
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns the sample of data vectors for the training.
+     *
+     * @param aPreprocessedData PreprocessedData instance (IS NOT CHANGED)
+     * @param aRandomSeed Random seed of the kernel
+     * @return Sample of data vectors or null if all data vectors are used
+     * for the training
+     */
+    protected DataVectorSample getDataVectorSample(
+        PreprocessedData aPreprocessedData,
+        long aRandomSeed
+    ) {
+        if (this.sampleSize == 0) {
+            return null;
+        }
+        return new DataVectorSample(
+            aPreprocessedData,
+            this.sampleSize,
+            this.isStratifiedSample,
+            this.isRefinementEpoch,
+            new Random(aRandomSeed)
+        );
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Execution mode
+     *
+     * @return Execution mode (see Utils.EXECUTION_MODE constants)
+     */
+    protected int getExecutionMode() {
+        return this.executionMode;
+    }
+
+    /**
+     * True: Sequential Rho winner calculation is pruned, false: Otherwise
+     *
+     * @return True if sequential Rho winner calculation is pruned, false
+     * otherwise
+     */
+    protected boolean isRhoWinnerPruning() {
+        return this.isRhoWinnerPruning;
+    }
+
+    /**
+     * Number of hash tables for approximate sequential Rho winner
+     * calculation
+     *
+     * @return Number of hash tables (0: Exact Rho winner calculation)
+     */
+    protected int getNumberOfHashTables() {
+        return this.numberOfHashTables;
+    }
+
+    /**
+     * Number of signature bits of a hash table
+     *
+     * @return Number of signature bits
+     */
+    protected int getNumberOfSignatureBits() {
+        return this.numberOfSignatureBits;
+    }
+
+    /**
+     * Threshold for the fraction of data vectors that are reassigned in an
+     * epoch
+     *
+     * @return Threshold (0: Assignment-stability convergence criterion is
+     * not used)
+     */
+    protected float getReassignmentThreshold() {
+        return this.reassignmentThreshold;
+    }
+
+    /**
+     * True: Convergence criterion of the cluster vectors is used, false:
+     * Otherwise
+     *
+     * @return True if convergence criterion of the cluster vectors is used,
+     * false otherwise
+     */
+    protected boolean isCentroidConvergence() {
+        return this.isCentroidConvergence;
+    }
+
+    /**
+     * Number of consecutive epochs with converged cluster vector for
+     * freezing of the cluster
+     *
+     * @return Number of epochs (0: Clusters are not frozen)
+     */
+    protected int getNumberOfEpochsForFreezing() {
+        return this.numberOfEpochsForFreezing;
+    }
+
+    /**
+     * Number of data vectors of a mini-batch
+     *
+     * @return Number of data vectors of a mini-batch
+     */
+    protected int getMiniBatchSize() {
+        return this.miniBatchSize;
+    }
+
+    /**
+     * Number of threads for lock-free concurrent cluster updates
+     *
+     * @return Number of threads
+     */
+    protected int getNumberOfThreads() {
+        return this.numberOfThreads;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,325 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Reusable workspace of a clustering run (ART-2a and ART-2a-Euclid) with the
+ * buffers that are needed by each run: The cluster matrix and that of the
+ * previous epoch, the cluster usage flags, the new cluster indices after a
+ * removal of empty clusters, the cluster indices of the data vectors, the
+ * random indices, the zero-length flags of the data vectors
+ * (only without preprocessed data) and the (sparse) buffer vector.
+ * <br><br>
+ * A kernel keeps a pool of workspaces (see acquire() and release()): A
+ * clustering run takes a free workspace from the pool (or creates a new one
+ * if all workspaces are in use, e.g. by concurrent or nested clustering
+ * runs) and returns it to the pool when it is finished. Thus successive
+ * clustering runs with the same kernel (e.g. for different vigilance
+ * parameters, see getClusterResults() and getRepresentatives() of the
+ * kernels) do not allocate these buffers again. The pool retains at most
+ * Utils.getParallelism() free workspaces, surplus workspaces of concurrent
+ * clustering runs are dropped on release. Each getter resets its buffer to
+ * the state of a new buffer so that the results are identical to those with
+ * new buffers. The arrays that are part of a clustering result must be
+ * copied.
+ * <br><br>
+ * Note: ClusteringWorkspace is NOT thread-safe, i.e., a workspace must only
+ * be used by one clustering run at a time. No checks are performed.
+ */
+public class ClusteringWorkspace {
+
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of data vectors
+     */
+    private final int numberOfDataVectors;
+    /**
+     * Number of components of a data vector
+     */
+    private final int numberOfComponents;
+    /**
+     * Maximum number of clusters
+     */
+    private final int maximumNumberOfClusters;
+    /**
+     * Cluster usage flags
+     */
+    private final boolean[] clusterUsageFlags;
+    /**
+     * New cluster indices after a removal of empty clusters
+     */
+    private final int[] newClusterIndices;
+    /**
+     * Cluster index of data vector
+     */
+    private final int[] clusterIndexOfDataVector;
+    /**
+     * Random indices of data vectors
+     */
+    private final int[] randomIndices;
+    /**
+     * Buffer vector for vector operations
+     */
+    private final float[] bufferVector;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Cluster matrix (null if not yet needed)
+     */
+    private ClusterMatrix clusterMatrix;
+    /**
+     * True: Squared lengths of the cluster vectors of clusterMatrix are
+     * tracked, false: Otherwise
+     */
+    private boolean isSquaredLengthTracking;
+    /**
+     * True: Support of the sparse cluster vectors of clusterMatrix is
+     * tracked, false: Otherwise
+     */
+    private boolean isSupportTracking;
+    /**
+     * Cluster matrix of the previous epoch (null if not yet needed)
+     */
+    private ClusterMatrix clusterMatrixOld;
+    /**
+     * Zero-length flags of the data vectors (null if not yet needed)
+     */
+    private boolean[] dataVectorZeroLengthFlags;
+    /**
+     * Sparse buffer vector (null if not yet needed)
+     */
+    private Utils.SparseVector sparseBufferVector;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor.
+     *
+     * @param aNumberOfDataVectors Number of data vectors
+     * @param aNumberOfComponents Number of components of a data vector
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     */
+    protected ClusteringWorkspace(
+        int aNumberOfDataVectors,
+        int aNumberOfComponents,
+        int aMaximumNumberOfClusters
+    ) {
+        this.numberOfDataVectors = aNumberOfDataVectors;
+        this.numberOfComponents = aNumberOfComponents;
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        this.clusterUsageFlags = new boolean[aMaximumNumberOfClusters];
+        this.newClusterIndices = new int[aMaximumNumberOfClusters];
+        this.clusterIndexOfDataVector = new int[aNumberOfDataVectors];
+        this.randomIndices = new int[aNumberOfDataVectors];
+        this.bufferVector = new float[aNumberOfComponents];
+        this.clusterMatrix = null;
+        this.clusterMatrixOld = null;
+        this.dataVectorZeroLengthFlags = null;
+        this.sparseBufferVector = null;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected static methods">
+    /**
+     * Takes a free workspace from the specified pool or creates a new one if
+     * the pool is empty.
+     *
+     * @param aPool Pool of free workspaces (thread-safe, IS CHANGED)
+     * @param aNumberOfDataVectors Number of data vectors
+     * @param aNumberOfComponents Number of components of a data vector
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @return Workspace that must be returned to the pool (see release())
+     */
+    protected static ClusteringWorkspace acquire(
+        Deque<ClusteringWorkspace> aPool,
+        int aNumberOfDataVectors,
+        int aNumberOfComponents,
+        int aMaximumNumberOfClusters
+    ) {
+        ClusteringWorkspace tmpWorkspace = aPool.pollFirst();
+        if (tmpWorkspace == null) {
+            tmpWorkspace = new ClusteringWorkspace(aNumberOfDataVectors, aNumberOfComponents, aMaximumNumberOfClusters);
+        }
+        return tmpWorkspace;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns this workspace to the specified pool (the workspace must no
+     * longer be used by the clustering run). The workspace is dropped if the
+     * pool already retains Utils.getParallelism() free workspaces.
+     *
+     * @param aPool Pool of free workspaces (thread-safe, IS CHANGED)
+     */
+    protected void release(
+        Deque<ClusteringWorkspace> aPool
+    ) {
+        // Note: Releases are synchronized so that concurrent clustering runs
+        // can not exceed the bound of the pool
+        synchronized (aPool) {
+            if (aPool.size() < Utils.getParallelism()) {
+                aPool.offerFirst(this);
+            }
+        }
+    }
+
+    /**
+     * Returns the cleared cluster matrix (see ClusterMatrix.clear()). A new
+     * cluster matrix is created if the tracking options differ from those of
+     * the retained cluster matrix.
+     *
+     * @param anIsSquaredLengthTracking True: Squared lengths of the cluster
+     * vectors are tracked, false: Otherwise
+     * @param anIsSupportTracking True: Support of sparse cluster vectors is
+     * tracked, false: Otherwise
+     * @return Cluster matrix without cluster vectors
+     */
+    protected ClusterMatrix getClusterMatrix(
+        boolean anIsSquaredLengthTracking,
+        boolean anIsSupportTracking
+    ) {
+        if (
+            this.clusterMatrix == null ||
+                this.isSquaredLengthTracking != anIsSquaredLengthTracking ||
+                this.isSupportTracking != anIsSupportTracking
+        ) {
+            this.clusterMatrix =
+                new ClusterMatrix(
+                    this.maximumNumberOfClusters,
+                    this.numberOfComponents,
+                    anIsSquaredLengthTracking,
+                    anIsSupportTracking
+                );
+            this.isSquaredLengthTracking = anIsSquaredLengthTracking;
+            this.isSupportTracking = anIsSupportTracking;
+        } else {
+            this.clusterMatrix.clear();
+        }
+        return this.clusterMatrix;
+    }
+
+    /**
+     * Returns the cleared cluster matrix of the previous epoch (without
+     * tracking options).
+     *
+     * @return Cluster matrix without cluster vectors
+     */
+    protected ClusterMatrix getClusterMatrixOld() {
+        if (this.clusterMatrixOld == null) {
+            this.clusterMatrixOld = new ClusterMatrix(this.maximumNumberOfClusters, this.numberOfComponents);
+        } else {
+            this.clusterMatrixOld.clear();
+        }
+        return this.clusterMatrixOld;
+    }
+
+    /**
+     * Returns the cluster usage flags (all false).
+     *
+     * @return Cluster usage flags with maximum number of clusters length
+     */
+    protected boolean[] getClusterUsageFlags() {
+        Arrays.fill(this.clusterUsageFlags, false);
+        return this.clusterUsageFlags;
+    }
+
+    /**
+     * Returns the buffer for the new cluster indices after a removal of empty
+     * clusters (see Utils.removeEmptyClusterIndices()).
+     *
+     * @return Buffer for the new cluster indices with maximum number of
+     * clusters length
+     */
+    protected int[] getNewClusterIndices() {
+        return this.newClusterIndices;
+    }
+
+    /**
+     * Returns the array for the cluster indices of the data vectors (all -1,
+     * i.e., no cluster assignment).
+     *
+     * @return Array for the cluster indices with number of data vectors length
+     */
+    protected int[] getClusterIndexOfDataVector() {
+        Arrays.fill(this.clusterIndexOfDataVector, -1);
+        return this.clusterIndexOfDataVector;
+    }
+
+    /**
+     * Returns the random indices of the data vectors in ascending order
+     * (i.e., before shuffling).
+     *
+     * @return Random indices from 0 to (number of data vectors - 1)
+     */
+    protected int[] getRandomIndices() {
+        for (int i = 0; i < this.numberOfDataVectors; i++) {
+            this.randomIndices[i] = i;
+        }
+        return this.randomIndices;
+    }
+
+    /**
+     * Returns the zero-length flags of the data vectors (all false).
+     *
+     * @return Zero-length flags with number of data vectors length
+     */
+    protected boolean[] getDataVectorZeroLengthFlags() {
+        if (this.dataVectorZeroLengthFlags == null) {
+            this.dataVectorZeroLengthFlags = new boolean[this.numberOfDataVectors];
+        } else {
+            Arrays.fill(this.dataVectorZeroLengthFlags, false);
+        }
+        return this.dataVectorZeroLengthFlags;
+    }
+
+    /**
+     * Returns the buffer vector for vector operations (all components zero).
+     *
+     * @return Buffer vector with number of components length
+     */
+    protected float[] getBufferVector() {
+        Arrays.fill(this.bufferVector, 0.0f);
+        return this.bufferVector;
+    }
+
+    /**
+     * Returns the sparse buffer vector for sparse data.
+     *
+     * @return Sparse buffer vector
+     */
+    protected Utils.SparseVector getSparseBufferVector() {
+        if (this.sparseBufferVector == null) {
+            this.sparseBufferVector = new Utils.SparseVector(this.numberOfComponents);
+        }
+        return this.sparseBufferVector;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,311 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+
+/**
+ * Consensus of an ensemble of clustering runs of the same data vectors with
+ * different random seeds (ART-2a and ART-2a-Euclid) by cumulative voting.
+ * <br><br>
+ * The cluster indices of the runs are not comparable, i.e., each cluster of
+ * a run is first mapped to the consensus cluster with which it shares most
+ * data vectors (the co-occurrences of the cluster indices are counted
+ * sparsely, see SparseCounts). Each run then votes for a consensus cluster
+ * of each data vector: The sparse co-association counts of a data vector
+ * and a consensus cluster (only pairs of a data vector and a consensus
+ * cluster that were co-clustered at least once are stored, i.e., at most
+ * number of data vectors * number of runs counts, see
+ * getNumberOfCoAssociationPairs()) are the numbers of runs that assign the
+ * data vector to a cluster that is mapped to the consensus cluster. A data
+ * vector is assigned to the consensus cluster with the most votes (ties are
+ * broken in favour of the previous consensus cluster and then of the lower
+ * cluster index) and the fraction of these votes is the stability of the
+ * data vector in interval [0,1]. The consensus clusters are initialized
+ * with the clusters of the run with the most clusters (reference run) and
+ * the voting is repeated with the new consensus clusters (empty clusters
+ * are removed) until the consensus assignment does not change (or
+ * MAXIMUM_NUMBER_OF_VOTING_ROUNDS is reached): A cluster of the reference
+ * run that is split against the majority of the runs is thereby merged.
+ * <br><br>
+ * The memory is linear in the number of data vectors times the number of
+ * runs (NOT quadratic in the number of data vectors like a full
+ * co-association matrix). Data vectors with a negative cluster index in
+ * all runs (data vectors with a length of zero) get a consensus cluster
+ * index of -1 and a stability of 0.
+ * <br><br>
+ * Note: ConsensusClustering is NOT thread-safe. No checks are performed.
+ */
+public class ConsensusClustering {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Maximum number of voting rounds
+     */
+    private static final int MAXIMUM_NUMBER_OF_VOTING_ROUNDS = 10;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Consensus cluster index of data vector (-1 for data vectors that are
+     * not assigned in any run)
+     */
+    private final int[] clusterIndexOfDataVector;
+    /**
+     * Stability of data vector, i.e., fraction of runs that vote for its
+     * consensus cluster
+     */
+    private final float[] stabilities;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Number of consensus clusters
+     */
+    private int numberOfClusters;
+    /**
+     * Number of co-association pairs of data vectors and consensus clusters
+     * of the last voting round
+     */
+    private int numberOfCoAssociationPairs;
+    /**
+     * Number of voting rounds
+     */
+    private int numberOfVotingRounds;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor that calculates the consensus.
+     *
+     * @param aClusterIndicesOfRuns Cluster indices of the data vectors of
+     * each run, i.e., aClusterIndicesOfRuns[s][i] is the cluster index of
+     * data vector i in run s (negative for unassigned data vectors, IS NOT
+     * CHANGED)
+     * @param aNumbersOfClustersOfRuns Number of clusters of each run (IS NOT
+     * CHANGED)
+     */
+    protected ConsensusClustering(
+        int[][] aClusterIndicesOfRuns,
+        int[] aNumbersOfClustersOfRuns
+    ) {
+        int tmpNumberOfRuns = aClusterIndicesOfRuns.length;
+        int tmpNumberOfDataVectors = aClusterIndicesOfRuns[0].length;
+        // Reference run: Run with the most clusters
+        int tmpReferenceRun = 0;
+        for (int s = 1; s < tmpNumberOfRuns; s++) {
+            if (aNumbersOfClustersOfRuns[s] > aNumbersOfClustersOfRuns[tmpReferenceRun]) {
+                tmpReferenceRun = s;
+            }
+        }
+        int[] tmpClusterIndexOfDataVector = new int[tmpNumberOfDataVectors];
+        for (int i = 0; i < tmpNumberOfDataVectors; i++) {
+            tmpClusterIndexOfDataVector[i] = Math.max(-1, aClusterIndicesOfRuns[tmpReferenceRun][i]);
+        }
+        this.numberOfClusters = aNumbersOfClustersOfRuns[tmpReferenceRun];
+        this.stabilities = new float[tmpNumberOfDataVectors];
+        // Co-occurrences of the cluster indices of a run and the consensus
+        // cluster indices
+        SparseCounts tmpClusterCooccurrences = new SparseCounts(4 * aNumbersOfClustersOfRuns[tmpReferenceRun]);
+        // Co-associations of data vectors and consensus clusters
+        SparseCounts tmpCoAssociations = new SparseCounts(tmpNumberOfDataVectors);
+        int[] tmpNewClusterIndexOfDataVector = new int[tmpNumberOfDataVectors];
+        int[] tmpNumbersOfVotes = new int[tmpNumberOfDataVectors];
+        this.numberOfVotingRounds = 0;
+        boolean tmpIsChanged = true;
+        while (tmpIsChanged && this.numberOfVotingRounds < ConsensusClustering.MAXIMUM_NUMBER_OF_VOTING_ROUNDS) {
+            this.numberOfVotingRounds++;
+            tmpCoAssociations.clear();
+            for (int s = 0; s < tmpNumberOfRuns; s++) {
+                int[] tmpClusterIndexOfRun = aClusterIndicesOfRuns[s];
+                int[] tmpConsensusClusterOfRunCluster =
+                    ConsensusClustering.getConsensusClusterOfRunCluster(
+                        tmpClusterIndexOfRun,
+                        aNumbersOfClustersOfRuns[s],
+                        tmpClusterIndexOfDataVector,
+                        tmpClusterCooccurrences
+                    );
+                for (int i = 0; i < tmpNumberOfDataVectors; i++) {
+                    if (tmpClusterIndexOfRun[i] >= 0 && tmpConsensusClusterOfRunCluster[tmpClusterIndexOfRun[i]] >= 0) {
+                        tmpCoAssociations.increment(
+                            SparseCounts.getKey(i, tmpConsensusClusterOfRunCluster[tmpClusterIndexOfRun[i]])
+                        );
+                    }
+                }
+            }
+            // Voting
+            Arrays.fill(tmpNewClusterIndexOfDataVector, -1);
+            Arrays.fill(tmpNumbersOfVotes, 0);
+            for (int j = 0; j < tmpCoAssociations.getNumberOfSlots(); j++) {
+                long tmpKey = tmpCoAssociations.getKeyOfSlot(j);
+                if (tmpKey < 0L) {
+                    continue;
+                }
+                int tmpDataVectorIndex = SparseCounts.getUpperValue(tmpKey);
+                int tmpClusterIndex = SparseCounts.getLowerValue(tmpKey);
+                int tmpNumberOfVotes = tmpCoAssociations.getCountOfSlot(j);
+                int tmpBestClusterIndex = tmpNewClusterIndexOfDataVector[tmpDataVectorIndex];
+                if (tmpNumberOfVotes > tmpNumbersOfVotes[tmpDataVectorIndex] ||
+                    tmpNumberOfVotes == tmpNumbersOfVotes[tmpDataVectorIndex] && (
+                        tmpClusterIndex == tmpClusterIndexOfDataVector[tmpDataVectorIndex] ||
+                        tmpBestClusterIndex != tmpClusterIndexOfDataVector[tmpDataVectorIndex] && tmpClusterIndex < tmpBestClusterIndex
+                    )
+                ) {
+                    tmpNewClusterIndexOfDataVector[tmpDataVectorIndex] = tmpClusterIndex;
+                    tmpNumbersOfVotes[tmpDataVectorIndex] = tmpNumberOfVotes;
+                }
+            }
+            this.numberOfCoAssociationPairs = tmpCoAssociations.getSize();
+            tmpIsChanged = !Arrays.equals(tmpNewClusterIndexOfDataVector, tmpClusterIndexOfDataVector);
+            // Removal of empty consensus clusters
+            int[] tmpCompactClusterIndex = new int[this.numberOfClusters];
+            Arrays.fill(tmpCompactClusterIndex, -1);
+            for (int tmpClusterIndex : tmpNewClusterIndexOfDataVector) {
+                if (tmpClusterIndex >= 0) {
+                    tmpCompactClusterIndex[tmpClusterIndex] = 0;
+                }
+            }
+            this.numberOfClusters = 0;
+            for (int k = 0; k < tmpCompactClusterIndex.length; k++) {
+                if (tmpCompactClusterIndex[k] == 0) {
+                    tmpCompactClusterIndex[k] = this.numberOfClusters++;
+                }
+            }
+            for (int i = 0; i < tmpNumberOfDataVectors; i++) {
+                if (tmpNewClusterIndexOfDataVector[i] >= 0) {
+                    tmpClusterIndexOfDataVector[i] = tmpCompactClusterIndex[tmpNewClusterIndexOfDataVector[i]];
+                } else {
+                    tmpClusterIndexOfDataVector[i] = -1;
+                }
+                this.stabilities[i] = (float) tmpNumbersOfVotes[i] / (float) tmpNumberOfRuns;
+            }
+        }
+        this.clusterIndexOfDataVector = tmpClusterIndexOfDataVector;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns the consensus cluster indices of the data vectors.
+     * Note: The returned array is NOT a copy.
+     *
+     * @return Consensus cluster index of data vector (-1 for data vectors
+     * that are not assigned in any run)
+     */
+    protected int[] getClusterIndexOfDataVector() {
+        return this.clusterIndexOfDataVector;
+    }
+
+    /**
+     * Returns the number of consensus clusters.
+     *
+     * @return Number of consensus clusters
+     */
+    protected int getNumberOfClusters() {
+        return this.numberOfClusters;
+    }
+
+    /**
+     * Returns the stabilities of the data vectors.
+     * Note: The returned array is NOT a copy.
+     *
+     * @return Stability of data vector, i.e., fraction of runs that vote for
+     * its consensus cluster
+     */
+    protected float[] getStabilities() {
+        return this.stabilities;
+    }
+
+    /**
+     * Returns the number of stored co-association pairs of data vectors and
+     * consensus clusters of the last voting round.
+     *
+     * @return Number of co-association pairs
+     */
+    protected int getNumberOfCoAssociationPairs() {
+        return this.numberOfCoAssociationPairs;
+    }
+
+    /**
+     * Returns the number of voting rounds.
+     *
+     * @return Number of voting rounds
+     */
+    protected int getNumberOfVotingRounds() {
+        return this.numberOfVotingRounds;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private static methods">
+    /**
+     * Maps each cluster of a run to the consensus cluster with which it
+     * shares most data vectors (ties are broken in favour of the lower
+     * consensus cluster index).
+     *
+     * @param aClusterIndexOfRun Cluster index of data vector of the run (IS
+     * NOT CHANGED)
+     * @param aNumberOfClustersOfRun Number of clusters of the run
+     * @param aClusterIndexOfDataVector Consensus cluster index of data
+     * vector (IS NOT CHANGED)
+     * @param aClusterCooccurrences Sparse counts for the co-occurrences of
+     * the cluster indices (IS CHANGED)
+     * @return Consensus cluster index of each cluster of the run (-1 if the
+     * cluster shares no data vector with a consensus cluster)
+     */
+    private static int[] getConsensusClusterOfRunCluster(
+        int[] aClusterIndexOfRun,
+        int aNumberOfClustersOfRun,
+        int[] aClusterIndexOfDataVector,
+        SparseCounts aClusterCooccurrences
+    ) {
+        aClusterCooccurrences.clear();
+        for (int i = 0; i < aClusterIndexOfRun.length; i++) {
+            if (aClusterIndexOfRun[i] >= 0 && aClusterIndexOfDataVector[i] >= 0) {
+                aClusterCooccurrences.increment(SparseCounts.getKey(aClusterIndexOfRun[i], aClusterIndexOfDataVector[i]));
+            }
+        }
+        int[] tmpConsensusClusterOfRunCluster = new int[aNumberOfClustersOfRun];
+        Arrays.fill(tmpConsensusClusterOfRunCluster, -1);
+        int[] tmpNumbersOfSharedDataVectors = new int[aNumberOfClustersOfRun];
+        for (int j = 0; j < aClusterCooccurrences.getNumberOfSlots(); j++) {
+            long tmpKey = aClusterCooccurrences.getKeyOfSlot(j);
+            if (tmpKey < 0L) {
+                continue;
+            }
+            int tmpClusterIndexOfRun = SparseCounts.getUpperValue(tmpKey);
+            int tmpClusterIndex = SparseCounts.getLowerValue(tmpKey);
+            int tmpCount = aClusterCooccurrences.getCountOfSlot(j);
+            if (tmpCount > tmpNumbersOfSharedDataVectors[tmpClusterIndexOfRun] ||
+                tmpCount == tmpNumbersOfSharedDataVectors[tmpClusterIndexOfRun] &&
+                    tmpClusterIndex < tmpConsensusClusterOfRunCluster[tmpClusterIndexOfRun]
+            ) {
+                tmpConsensusClusterOfRunCluster[tmpClusterIndexOfRun] = tmpClusterIndex;
+                tmpNumbersOfSharedDataVectors[tmpClusterIndexOfRun] = tmpCount;
+            }
+        }
+        return tmpConsensusClusterOfRunCluster;
+    }
+    //</editor-fold>
+}
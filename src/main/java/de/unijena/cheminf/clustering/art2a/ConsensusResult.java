@@ -0,0 +1,323 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Consensus result of an ensemble of ART-2a or ART-2a-Euclid clustering
+ * runs with different random seeds (see Art2aKernel.getEnsembleClusterResult()
+ * and Art2aEuclidKernel.getEnsembleClusterResult()): Consensus cluster
+ * indices of the data vectors and the stability of each data vector, i.e.,
+ * the fraction of runs that assign the data vector to its consensus cluster
+ * (see ConsensusClustering).
+ * <br><br>
+ * Note: ConsensusResult is a read-only class, i.e., thread-safe.
+ */
+public class ConsensusResult {
+
+    //<editor-fold desc="Private static final LOGGER">
+    /**
+     * Logger of this class
+     */
+    private static final Logger LOGGER = Logger.getLogger(ConsensusResult.class.getName());
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Vigilance parameter
+     */
+    private final float vigilance;
+    /**
+     * Random seeds of the clustering runs
+     */
+    private final long[] randomSeeds;
+    /**
+     * Numbers of detected clusters of the clustering runs
+     */
+    private final int[] numbersOfDetectedClustersOfRuns;
+    /**
+     * Number of consensus clusters
+     */
+    private final int numberOfClusters;
+    /**
+     * Consensus cluster index of data vector (-1 for data vectors with a
+     * length of zero)
+     */
+    private final int[] clusterIndexOfDataVector;
+    /**
+     * Stability of data vector in interval [0,1]
+     */
+    private final float[] stabilities;
+    /**
+     * Number of co-association pairs of data vectors and consensus clusters
+     */
+    private final int numberOfCoAssociationPairs;
+    /**
+     * Number of voting rounds
+     */
+    private final int numberOfVotingRounds;
+    //</editor-fold>
+
+    //<editor-fold desc="Public constructor">
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aVigilance Vigilance parameter in interval (0,1)
+     * @param aRandomSeeds Random seeds of the clustering runs
+     * @param aNumbersOfDetectedClustersOfRuns Numbers of detected clusters of
+     * the clustering runs
+     * @param aNumberOfClusters Number of consensus clusters
+     * @param aClusterIndexOfDataVector Consensus cluster index of data vector
+     * (-1 for data vectors with a length of zero)
+     * @param aStabilities Stability of data vector in interval [0,1]
+     * @param aNumberOfCoAssociationPairs Number of co-association pairs of
+     * data vectors and consensus clusters
+     * @param aNumberOfVotingRounds Number of voting rounds
+     */
+    public ConsensusResult(
+        float aVigilance,
+        long[] aRandomSeeds,
+        int[] aNumbersOfDetectedClustersOfRuns,
+        int aNumberOfClusters,
+        int[] aClusterIndexOfDataVector,
+        float[] aStabilities,
+        int aNumberOfCoAssociationPairs,
+        int aNumberOfVotingRounds
+    ) {
+        this.vigilance = aVigilance;
+        this.randomSeeds = aRandomSeeds;
+        this.numbersOfDetectedClustersOfRuns = aNumbersOfDetectedClustersOfRuns;
+        this.numberOfClusters = aNumberOfClusters;
+        this.clusterIndexOfDataVector = aClusterIndexOfDataVector;
+        this.stabilities = aStabilities;
+        this.numberOfCoAssociationPairs = aNumberOfCoAssociationPairs;
+        this.numberOfVotingRounds = aNumberOfVotingRounds;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public methods">
+    /**
+     * Returns the consensus cluster index of the specified data vector.
+     *
+     * @param aDataVectorIndex Index of data vector in the original data matrix
+     * @return Consensus cluster index of the data vector (-1 for a data
+     * vector with a length of zero)
+     * @throws IllegalArgumentException Thrown if argument is illegal.
+     */
+    public int getClusterIndex(
+        int aDataVectorIndex
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if(aDataVectorIndex < 0 || aDataVectorIndex >= this.clusterIndexOfDataVector.length) {
+            ConsensusResult.LOGGER.log(
+                Level.SEVERE,
+                "ConsensusResult.getClusterIndex: aDataVectorIndex is illegal."
+            );
+            throw new IllegalArgumentException("ConsensusResult.getClusterIndex: aDataVectorIndex is illegal.");
+        }
+        //</editor-fold>
+        return this.clusterIndexOfDataVector[aDataVectorIndex];
+    }
+
+    /**
+     * Returns the consensus cluster indices of all data vectors.
+     *
+     * @return Consensus cluster index of data vector (copy, -1 for data
+     * vectors with a length of zero)
+     */
+    public int[] getClusterIndices() {
+        return Arrays.copyOf(this.clusterIndexOfDataVector, this.clusterIndexOfDataVector.length);
+    }
+
+    /**
+     * Returns indices of data vectors in the original data matrix that belong
+     * to the specified consensus cluster with index aClusterIndex.
+     *
+     * @param aClusterIndex Index of consensus cluster
+     * @return Indices of data vectors in the original data matrix that belong
+     * to the specified consensus cluster
+     * @throws IllegalArgumentException Thrown if argument is illegal.
+     */
+    public int[] getDataVectorIndicesOfCluster(
+        int aClusterIndex
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if(aClusterIndex < 0 || aClusterIndex >= this.numberOfClusters) {
+            ConsensusResult.LOGGER.log(
+                Level.SEVERE,
+                "ConsensusResult.getDataVectorIndicesOfCluster: aClusterIndex is illegal."
+            );
+            throw new IllegalArgumentException("ConsensusResult.getDataVectorIndicesOfCluster: aClusterIndex is illegal.");
+        }
+        //</editor-fold>
+
+        LinkedList<Integer> tmpIndexListOfCluster = new LinkedList<>();
+        for (int i = 0; i < this.clusterIndexOfDataVector.length; i++) {
+            if (this.clusterIndexOfDataVector[i] == aClusterIndex) {
+                tmpIndexListOfCluster.add(i);
+            }
+        }
+        return tmpIndexListOfCluster.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the stability of the specified data vector, i.e., the fraction
+     * of clustering runs that assign the data vector to its consensus
+     * cluster.
+     *
+     * @param aDataVectorIndex Index of data vector in the original data matrix
+     * @return Stability of the data vector in interval [0,1] (0 for a data
+     * vector with a length of zero)
+     * @throws IllegalArgumentException Thrown if argument is illegal.
+     */
+    public float getStability(
+        int aDataVectorIndex
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if(aDataVectorIndex < 0 || aDataVectorIndex >= this.stabilities.length) {
+            ConsensusResult.LOGGER.log(
+                Level.SEVERE,
+                "ConsensusResult.getStability: aDataVectorIndex is illegal."
+            );
+            throw new IllegalArgumentException("ConsensusResult.getStability: aDataVectorIndex is illegal.");
+        }
+        //</editor-fold>
+        return this.stabilities[aDataVectorIndex];
+    }
+
+    /**
+     * Returns the stabilities of all data vectors (see getStability()).
+     *
+     * @return Stability of data vector (copy)
+     */
+    public float[] getStabilities() {
+        return Arrays.copyOf(this.stabilities, this.stabilities.length);
+    }
+
+    /**
+     * Returns the mean stability of the data vectors that belong to the
+     * specified consensus cluster with index aClusterIndex.
+     *
+     * @param aClusterIndex Index of consensus cluster
+     * @return Mean stability of the data vectors of the consensus cluster
+     * @throws IllegalArgumentException Thrown if argument is illegal.
+     */
+    public float getClusterStability(
+        int aClusterIndex
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if(aClusterIndex < 0 || aClusterIndex >= this.numberOfClusters) {
+            ConsensusResult.LOGGER.log(
+                Level.SEVERE,
+                "ConsensusResult.getClusterStability: aClusterIndex is illegal."
+            );
+            throw new IllegalArgumentException("ConsensusResult.getClusterStability: aClusterIndex is illegal.");
+        }
+        //</editor-fold>
+
+        float tmpSumOfStabilities = 0.0f;
+        int tmpCounter = 0;
+        for (int i = 0; i < this.clusterIndexOfDataVector.length; i++) {
+            if (this.clusterIndexOfDataVector[i] == aClusterIndex) {
+                tmpSumOfStabilities += this.stabilities[i];
+                tmpCounter++;
+            }
+        }
+        return tmpSumOfStabilities / (float) tmpCounter;
+    }
+
+    /**
+     * Number of consensus clusters
+     *
+     * @return Number of consensus clusters
+     */
+    public int getNumberOfClusters() {
+        return this.numberOfClusters;
+    }
+
+    /**
+     * Number of clustering runs of the ensemble
+     *
+     * @return Number of clustering runs
+     */
+    public int getNumberOfRuns() {
+        return this.randomSeeds.length;
+    }
+
+    /**
+     * Random seeds of the clustering runs of the ensemble
+     *
+     * @return Random seeds (copy)
+     */
+    public long[] getRandomSeeds() {
+        return Arrays.copyOf(this.randomSeeds, this.randomSeeds.length);
+    }
+
+    /**
+     * Numbers of detected clusters of the clustering runs of the ensemble,
+     * i.e., index s corresponds to the random seed with index s
+     *
+     * @return Numbers of detected clusters (copy)
+     */
+    public int[] getNumbersOfDetectedClustersOfRuns() {
+        return Arrays.copyOf(this.numbersOfDetectedClustersOfRuns, this.numbersOfDetectedClustersOfRuns.length);
+    }
+
+    /**
+     * Number of stored co-association pairs of data vectors and consensus
+     * clusters, i.e., of pairs that were co-clustered in at least one run
+     * (at most the number of data vectors times the number of runs)
+     *
+     * @return Number of co-association pairs
+     */
+    public int getNumberOfCoAssociationPairs() {
+        return this.numberOfCoAssociationPairs;
+    }
+
+    /**
+     * Number of voting rounds of the consensus
+     *
+     * @return Number of voting rounds
+     */
+    public int getNumberOfVotingRounds() {
+        return this.numberOfVotingRounds;
+    }
+
+    /**
+     * Vigilance parameter
+     *
+     * @return Vigilance parameter
+     */
+    public float getVigilance() {
+        return this.vigilance;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,302 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Sample of data vectors for the sample-then-assign clustering (ART-2a and
+ * ART-2a-Euclid).
+ * <br><br>
+ * The cluster vectors are trained with the data vectors of the sample only,
+ * afterwards all data vectors are assigned to the learned cluster vectors in
+ * one (parallelized) pass. The sample is drawn either uniformly (partial
+ * Fisher-Yates shuffle of all indices) or stratified by the lengths of the
+ * data vectors: The indices are sorted by the length of their data vectors
+ * and divided into as many strata of (nearly) equal size as the sample
+ * size, and one index is drawn uniformly from each stratum. Thus the
+ * stratified sample covers short and long data vectors proportionally. The
+ * length of the original data vector is used, or that of the preprocessed
+ * data vector if only preprocessed data are available (note that the
+ * preprocessed data vectors of ART-2a are unit vectors so that the strata
+ * then only reflect the order of the data vectors).
+ * <br><br>
+ * Note: DataVectorSample is NOT thread-safe. No checks are performed.
+ */
+public class DataVectorSample {
+
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Indices of the data vectors of the sample
+     */
+    private final int[] indices;
+    /**
+     * True: Sample is stratified by the lengths of the data vectors, false:
+     * Sample is uniform
+     */
+    private final boolean isStratified;
+    /**
+     * True: A refinement epoch with all data vectors follows the training
+     * with the sample, false: Otherwise
+     */
+    private final boolean isRefinementEpoch;
+    /**
+     * Time for drawing the sample in nanoseconds
+     */
+    private final long samplingTime;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * True: Refinement epoch was performed, false: Otherwise
+     */
+    private boolean isRefined;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor that draws the sample.
+     *
+     * @param aPreprocessedData PreprocessedData instance (IS NOT CHANGED)
+     * @param aSampleSize Number of data vectors of the sample (must be in
+     * interval [1, number of data vectors])
+     * @param anIsStratified True: Sample is stratified by the lengths of
+     * the data vectors, false: Sample is uniform
+     * @param anIsRefinementEpoch True: A refinement epoch with all data
+     * vectors follows the training with the sample, false: Otherwise
+     * @param aRandomNumberGenerator Random number generator (IS CHANGED)
+     */
+    protected DataVectorSample(
+        PreprocessedData aPreprocessedData,
+        int aSampleSize,
+        boolean anIsStratified,
+        boolean anIsRefinementEpoch,
+        Random aRandomNumberGenerator
+    ) {
+        long tmpStartTime = System.nanoTime();
+        if (anIsStratified) {
+            this.indices = DataVectorSample.getStratifiedIndices(aPreprocessedData, aSampleSize, aRandomNumberGenerator);
+        } else {
+            this.indices = DataVectorSample.getUniformIndices(aPreprocessedData.getNumberOfDataVectors(), aSampleSize, aRandomNumberGenerator);
+        }
+        this.samplingTime = System.nanoTime() - tmpStartTime;
+        this.isStratified = anIsStratified;
+        this.isRefinementEpoch = anIsRefinementEpoch;
+        this.isRefined = false;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns the indices of the data vectors of the sample.
+     * Note: The returned array is NOT a copy and may be shuffled.
+     *
+     * @return Indices of the data vectors of the sample
+     */
+    protected int[] getIndices() {
+        return this.indices;
+    }
+
+    /**
+     * Returns the number of data vectors of the sample.
+     *
+     * @return Number of data vectors of the sample
+     */
+    protected int getSampleSize() {
+        return this.indices.length;
+    }
+
+    /**
+     * Returns the time for drawing the sample.
+     *
+     * @return Time for drawing the sample in nanoseconds
+     */
+    protected long getSamplingTime() {
+        return this.samplingTime;
+    }
+
+    /**
+     * Returns if the training is continued, i.e., if the training with the
+     * sample is not converged or a requested refinement epoch with all data
+     * vectors was not yet performed (the training is finished after the
+     * refinement epoch).
+     *
+     * @param anIsConverged True: Training with the sample is converged,
+     * false: Otherwise
+     * @return True: Training is continued, false: Otherwise
+     */
+    protected boolean isTraining(
+        boolean anIsConverged
+    ) {
+        return !this.isRefined && (!anIsConverged || this.isRefinementEpoch);
+    }
+
+    /**
+     * Returns if the refinement epoch with all data vectors is due, i.e., if
+     * it is requested and the training with the sample is finished. The
+     * refinement epoch is marked as performed.
+     *
+     * @param anIsTrainingFinished True: Training with the sample is
+     * converged or the last epoch is reached, false: Otherwise
+     * @return True: Refinement epoch with all data vectors is due, false:
+     * Otherwise
+     */
+    protected boolean isRefinementEpochDue(
+        boolean anIsTrainingFinished
+    ) {
+        if (this.isRefinementEpoch && !this.isRefined && anIsTrainingFinished) {
+            this.isRefined = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns if the refinement epoch with all data vectors was performed.
+     *
+     * @return True: Refinement epoch was performed, false: Otherwise
+     */
+    protected boolean isRefined() {
+        return this.isRefined;
+    }
+
+    /**
+     * Returns a description of the sample (sample size, sampling strategy
+     * and refinement epoch).
+     *
+     * @return Description of the sample
+     */
+    protected String getExecutionDescription() {
+        return (this.isStratified ? "length-stratified" : "uniform") + " sample of " + this.indices.length +
+            " data vectors" + (this.isRefined ? " with full refinement epoch" : "");
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private static methods">
+    /**
+     * Draws a uniform sample of indices with a partial Fisher-Yates shuffle.
+     *
+     * @param aNumberOfDataVectors Number of data vectors
+     * @param aSampleSize Number of data vectors of the sample
+     * @param aRandomNumberGenerator Random number generator (IS CHANGED)
+     * @return Indices of the data vectors of the sample
+     */
+    private static int[] getUniformIndices(
+        int aNumberOfDataVectors,
+        int aSampleSize,
+        Random aRandomNumberGenerator
+    ) {
+        int[] tmpIndices = new int[aNumberOfDataVectors];
+        for (int i = 0; i < aNumberOfDataVectors; i++) {
+            tmpIndices[i] = i;
+        }
+        for (int i = 0; i < aSampleSize; i++) {
+            // Generate a random index between i (inclusive) and
+            // aNumberOfDataVectors (exclusive)
+            int j = i + aRandomNumberGenerator.nextInt(aNumberOfDataVectors - i);
+            int tmpIntBuffer = tmpIndices[i];
+            tmpIndices[i] = tmpIndices[j];
+            tmpIndices[j] = tmpIntBuffer;
+        }
+        return Arrays.copyOf(tmpIndices, aSampleSize);
+    }
+
+    /**
+     * Draws a sample of indices that is stratified by the lengths of the
+     * data vectors: One index is drawn uniformly from each of aSampleSize
+     * strata of (nearly) equal size of the indices sorted by length.
+     *
+     * @param aPreprocessedData PreprocessedData instance (IS NOT CHANGED)
+     * @param aSampleSize Number of data vectors of the sample
+     * @param aRandomNumberGenerator Random number generator (IS CHANGED)
+     * @return Indices of the data vectors of the sample
+     */
+    private static int[] getStratifiedIndices(
+        PreprocessedData aPreprocessedData,
+        int aSampleSize,
+        Random aRandomNumberGenerator
+    ) {
+        int tmpNumberOfDataVectors = aPreprocessedData.getNumberOfDataVectors();
+        // Sort keys: Bits of the (non-negative) length in the upper and index
+        // in the lower 32 bits, i.e., the keys are sorted by length and index
+        long[] tmpSortKeys = new long[tmpNumberOfDataVectors];
+        Utils.SparseVector tmpSparseBufferVector = null;
+        if (aPreprocessedData.isSparse()) {
+            tmpSparseBufferVector = new Utils.SparseVector(aPreprocessedData.getNumberOfComponents());
+        }
+        for (int i = 0; i < tmpNumberOfDataVectors; i++) {
+            float tmpLength = DataVectorSample.getDataVectorLength(aPreprocessedData, i, tmpSparseBufferVector);
+            tmpSortKeys[i] = ((long) Float.floatToIntBits(tmpLength) << 32) | i;
+        }
+        Arrays.parallelSort(tmpSortKeys);
+        int[] tmpIndices = new int[aSampleSize];
+        for (int i = 0; i < aSampleSize; i++) {
+            int tmpStart = (int) ((long) tmpNumberOfDataVectors * i / aSampleSize);
+            int tmpEnd = (int) ((long) tmpNumberOfDataVectors * (i + 1) / aSampleSize);
+            tmpIndices[i] = (int) tmpSortKeys[tmpStart + aRandomNumberGenerator.nextInt(tmpEnd - tmpStart)];
+        }
+        return tmpIndices;
+    }
+
+    /**
+     * Returns the length of the specified data vector (original or, if only
+     * preprocessed data are available, preprocessed).
+     *
+     * @param aPreprocessedData PreprocessedData instance (IS NOT CHANGED)
+     * @param anIndex Index of data vector
+     * @param aSparseBufferVector Sparse buffer vector (null for dense data,
+     * IS CHANGED)
+     * @return Length of the data vector
+     */
+    private static float getDataVectorLength(
+        PreprocessedData aPreprocessedData,
+        int anIndex,
+        Utils.SparseVector aSparseBufferVector
+    ) {
+        if (aPreprocessedData.isBinary()) {
+            aSparseBufferVector.setRow(aPreprocessedData.getBinaryDataMatrix(), anIndex, aPreprocessedData.getBinaryColumnMask());
+            return (float) Math.sqrt(aSparseBufferVector.getNumberOfNonZeros());
+        } else if (aPreprocessedData.isSparse()) {
+            if (aPreprocessedData.hasPreprocessedData()) {
+                aSparseBufferVector.setRow(aPreprocessedData.getSparsePreprocessedMatrix(), anIndex);
+            } else {
+                aSparseBufferVector.setRow(aPreprocessedData.getSparseDataMatrix(), anIndex);
+            }
+            return Utils.getVectorLength(aSparseBufferVector);
+        } else {
+            float[] tmpDataVector;
+            if (aPreprocessedData.hasPreprocessedData()) {
+                tmpDataVector = aPreprocessedData.getPreprocessedMatrix()[anIndex];
+            } else {
+                tmpDataVector = aPreprocessedData.getDataMatrix()[anIndex];
+            }
+            // Note: Preprocessed vectors with a length of zero may be null
+            return tmpDataVector == null ? 0.0f : Utils.getVectorLength(tmpDataVector);
+        }
+    }
+    //</editor-fold>
+}
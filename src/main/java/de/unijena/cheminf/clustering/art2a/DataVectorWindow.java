@@ -0,0 +1,281 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+/**
+ * Window of upcoming (contrast enhanced) data vectors of an epoch that are
+ * collected before they are processed in their original order (base class
+ * of SpeculativeRhoWindow and MiniBatch which calculate the rho values of all
+ * data vectors of the window at once, see setRhoValues()).
+ * <br><br>
+ * A data vector is added with its dense buffer vector (see
+ * getBufferVector()), with a row of a preprocessed matrix or with its sparse
+ * buffer vector (see getSparseBufferVector()). The buffers are allocated
+ * once so that the window may be refilled without allocations (see clear()).
+ * <br><br>
+ * Note: DataVectorWindow is NOT thread-safe. No checks are performed.
+ */
+public class DataVectorWindow extends RhoWinnerCalculation {
+
+    //<editor-fold desc="Private final class variables">
+    /**
+     * True: Data vectors are sparse, false: Data vectors are dense
+     */
+    private final boolean isSparse;
+    /**
+     * Maximum number of data vectors of the window
+     */
+    private final int windowSize;
+    /**
+     * Dense buffer vectors of the data vectors of the window (null for
+     * sparse data vectors)
+     */
+    private final float[][] bufferVectors;
+    /**
+     * Dense data vectors of the window (buffer vectors or rows of a
+     * preprocessed matrix, null for sparse data vectors)
+     */
+    private final float[][] denseVectors;
+    /**
+     * Sparse buffer vectors of the data vectors of the window (null for
+     * dense data vectors)
+     */
+    private final Utils.SparseVector[] sparseBufferVectors;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Number of data vectors of the window
+     */
+    private int numberOfDataVectors;
+    /**
+     * Number of processed data vectors of the window (the current data vector
+     * has index numberOfProcessedDataVectors - 1)
+     */
+    private int numberOfProcessedDataVectors;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor.
+     *
+     * @param anIsScalarProduct True: Rho value is the scalar product (maximum
+     * wins, ART-2a), false: Rho value is the squared distance (minimum wins,
+     * ART-2a-Euclid)
+     * @param aWindowSize Maximum number of data vectors of the window (values
+     * less than 1 are treated as 1)
+     * @param aNumberOfComponents Number of components of data vectors
+     * @param anIsSparse True: Data vectors are sparse, false: Data vectors
+     * are dense
+     */
+    protected DataVectorWindow(
+        boolean anIsScalarProduct,
+        int aWindowSize,
+        int aNumberOfComponents,
+        boolean anIsSparse
+    ) {
+        super(anIsScalarProduct);
+        this.isSparse = anIsSparse;
+        this.windowSize = Math.max(1, aWindowSize);
+        if (anIsSparse) {
+            this.bufferVectors = null;
+            this.denseVectors = null;
+            this.sparseBufferVectors = new Utils.SparseVector[this.windowSize];
+            for (int i = 0; i < this.windowSize; i++) {
+                this.sparseBufferVectors[i] = new Utils.SparseVector(aNumberOfComponents);
+            }
+        } else {
+            this.bufferVectors = new float[this.windowSize][aNumberOfComponents];
+            this.denseVectors = new float[this.windowSize][];
+            this.sparseBufferVectors = null;
+        }
+        this.numberOfDataVectors = 0;
+        this.numberOfProcessedDataVectors = 0;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Clears the window: Removes all data vectors.
+     */
+    protected void clear() {
+        this.numberOfDataVectors = 0;
+        this.numberOfProcessedDataVectors = 0;
+    }
+
+    /**
+     * Calculates the rho values of all data vectors of the window with the
+     * current cluster vectors (to be called after the window was filled).
+     * Nothing is done by default.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    protected void setRhoValues(
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters
+    ) {
+    }
+
+    /**
+     * Returns if the window contains the maximum number of data vectors.
+     *
+     * @return True: Window is full, false: Otherwise
+     */
+    protected boolean isFull() {
+        return this.numberOfDataVectors == this.windowSize;
+    }
+
+    /**
+     * Returns if the window contains an unprocessed data vector.
+     *
+     * @return True: Window contains an unprocessed data vector, false:
+     * Otherwise
+     */
+    protected boolean hasNextDataVector() {
+        return this.numberOfProcessedDataVectors < this.numberOfDataVectors;
+    }
+
+    /**
+     * Returns the dense buffer vector for the next data vector that is added
+     * to the window (null for sparse data vectors).
+     *
+     * @return Dense buffer vector (null for sparse data vectors)
+     */
+    protected float[] getBufferVector() {
+        return this.isSparse ? null : this.bufferVectors[this.numberOfDataVectors];
+    }
+
+    /**
+     * Returns the sparse buffer vector for the next data vector that is
+     * added to the window (null for dense data vectors).
+     *
+     * @return Sparse buffer vector (null for dense data vectors)
+     */
+    protected Utils.SparseVector getSparseBufferVector() {
+        return this.isSparse ? this.sparseBufferVectors[this.numberOfDataVectors] : null;
+    }
+
+    /**
+     * Adds the next data vector to the window. A sparse data vector must be
+     * set in the sparse buffer vector before (see getSparseBufferVector()).
+     *
+     * @param aDenseVector Dense data vector (buffer vector or row of a
+     * preprocessed matrix, IS NOT CHANGED, ignored for sparse data vectors)
+     */
+    protected void addDataVector(
+        float[] aDenseVector
+    ) {
+        if (!this.isSparse) {
+            this.denseVectors[this.numberOfDataVectors] = aDenseVector;
+        }
+        this.numberOfDataVectors++;
+    }
+
+    /**
+     * Advances to the next data vector of the window and returns it.
+     *
+     * @return Dense data vector (IS NOT TO BE CHANGED, null for sparse data
+     * vectors, see getSparseVector())
+     */
+    protected float[] nextDataVector() {
+        this.numberOfProcessedDataVectors++;
+        return this.isSparse ? null : this.denseVectors[this.numberOfProcessedDataVectors - 1];
+    }
+
+    /**
+     * Returns the current sparse data vector (null for dense data vectors).
+     *
+     * @return Current sparse data vector (IS NOT TO BE CHANGED)
+     */
+    protected Utils.SparseVector getSparseVector() {
+        return this.isSparse ? this.sparseBufferVectors[this.numberOfProcessedDataVectors - 1] : null;
+    }
+
+    /**
+     * Returns the dense data vector with the specified index in the window.
+     *
+     * @param anIndex Index of data vector in the window
+     * @return Dense data vector (IS NOT TO BE CHANGED, null for sparse data
+     * vectors)
+     */
+    protected float[] getDenseVector(
+        int anIndex
+    ) {
+        return this.isSparse ? null : this.denseVectors[anIndex];
+    }
+
+    /**
+     * Returns the sparse data vector with the specified index in the window.
+     *
+     * @param anIndex Index of data vector in the window
+     * @return Sparse data vector (IS NOT TO BE CHANGED, null for dense data
+     * vectors)
+     */
+    protected Utils.SparseVector getSparseVector(
+        int anIndex
+    ) {
+        return this.isSparse ? this.sparseBufferVectors[anIndex] : null;
+    }
+
+    /**
+     * Returns the index of the current data vector in the window (-1 if no
+     * data vector is processed).
+     *
+     * @return Index of the current data vector
+     */
+    protected int getCurrentIndex() {
+        return this.numberOfProcessedDataVectors - 1;
+    }
+
+    /**
+     * Returns the number of data vectors of the window.
+     *
+     * @return Number of data vectors
+     */
+    protected int getNumberOfDataVectors() {
+        return this.numberOfDataVectors;
+    }
+
+    /**
+     * Returns the maximum number of data vectors of the window.
+     *
+     * @return Maximum number of data vectors
+     */
+    protected int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Returns if the data vectors are sparse.
+     *
+     * @return True: Data vectors are sparse, false: Data vectors are dense
+     */
+    protected boolean isSparse() {
+        return this.isSparse;
+    }
+    //</editor-fold>
+}
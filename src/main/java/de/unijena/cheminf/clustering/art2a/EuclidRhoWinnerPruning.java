@@ -0,0 +1,712 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+
+/**
+ * Exact pruning of the ART-2a-Euclid rho winner calculation (minimum squared
+ * distance of a contrast enhanced vector x to the cluster vectors c_j) with
+ * triangle inequality bounds (Elkan/Hamerly).
+ * <br><br>
+ * At the start of each epoch a snapshot of the cluster vectors c'_j and the
+ * table of distances between them is created. During the epoch, the drift
+ * distance between c_j and its snapshot c'_j is maintained for each modified
+ * cluster vector (a cluster vector created during the epoch is its own
+ * snapshot). Two lower bounds for the distance d(x, c_j) are used:
+ * <br>
+ * 1. Data vector bound (Hamerly): After the rho winner calculation of a data
+ * vector, the distance to the nearest cluster vector other than the assigned
+ * one is stored as lower bound. In the next epoch this lower bound is
+ * decreased by the maximum possible movement of the cluster vectors since
+ * then. If the distance to the previously assigned cluster vector is smaller
+ * than this bound, all other cluster vectors (that already existed) are
+ * skipped at once.
+ * <br>
+ * 2. Cluster vector bound (Elkan): With the distance between x and an
+ * already evaluated reference cluster vector c_r:
+ * d(x, c_j) &gt;= |d(x, c_r) - d(c'_r, c'_j)| - drift_r - drift_j
+ * <br><br>
+ * A cluster vector whose lower bound exceeds the smallest distance found so
+ * far (or the distance that corresponds to the vigilance) can not be the
+ * (accepted) rho winner and its squared distance is skipped. The rho winner
+ * is identical to the one of the full scan (see
+ * Art2aEuclidUtils.setRhoWinner()) since cluster vectors are
+ * compared in ascending index order and only cluster vectors that provably
+ * lose are skipped. A small tolerance accounts for rounding.
+ * <br><br>
+ * Memory overhead: One float and two int values (12 bytes) for each data
+ * vector, a snapshot of the cluster matrix with 2 floats per cluster vector
+ * for drift values and (number of clusters)^2 floats for the table of
+ * distances between the snapshot cluster vectors. The cluster vector bound is
+ * switched off for an epoch that starts with more than
+ * MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS clusters (the data vector bound is
+ * always used).
+ * <br><br>
+ * For a very high number of clusters (see CentroidIndex.isApplicable()) the
+ * table of distances is not used: If the data vector bound does not skip all
+ * other cluster vectors at once, the rho winner is determined with a
+ * CentroidIndex instead.
+ * <br><br>
+ * Note: EuclidRhoWinnerPruning is NOT thread-safe. No checks are performed.
+ */
+public class EuclidRhoWinnerPruning extends RhoWinnerCalculation {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Maximum number of clusters of a snapshot for the table of distances
+     * (table with 64 MByte)
+     */
+    private static final int MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS = 4096;
+    /**
+     * Relative tolerance for the comparison of a squared lower bound with a
+     * squared distance to account for rounding
+     */
+    private static final float DISTANCE_TOLERANCE = 1.0e-3f;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of components of a cluster vector
+     */
+    private final int numberOfComponents;
+    /**
+     * Drift distances between cluster vectors and their snapshots
+     */
+    private final float[] driftDistances;
+    /**
+     * Lower bound for the distance of a data vector to the nearest cluster
+     * vector other than the bound cluster vector
+     */
+    private final float[] lowerBounds;
+    /**
+     * Index of the bound cluster vector of a data vector (negative if there
+     * is no valid lower bound)
+     */
+    private final int[] boundClusterIndices;
+    /**
+     * Number of cluster vectors that are covered by the lower bound of a data
+     * vector
+     */
+    private final int[] numbersOfBoundClusters;
+    /**
+     * Maximum number of clusters
+     */
+    private final int maximumNumberOfClusters;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Row-major snapshot of cluster vectors (without padding)
+     */
+    private float[] snapshotComponents;
+    /**
+     * Row-major table of distances between the snapshot cluster vectors
+     */
+    private float[] snapshotDistances;
+    /**
+     * Number of cluster vectors the table of distances has capacity for
+     */
+    private int snapshotCapacity;
+    /**
+     * Number of cluster vectors of the snapshot with table of distances
+     * (0 if the table of distances is not available)
+     */
+    private int numberOfSnapshotClusters;
+    /**
+     * Maximum drift distance of the current epoch
+     */
+    private float maximumDriftDistance;
+    /**
+     * Maximum drift distance of the previous epoch
+     */
+    private float previousMaximumDriftDistance;
+    /**
+     * Number of skipped (pruned) squared distances
+     */
+    private long numberOfPrunedRhoValues;
+    /**
+     * Index of the nearest cluster vector of the last rho winner calculation
+     */
+    private int nearestClusterIndex;
+    /**
+     * Distance to the nearest cluster vector of the last rho winner
+     * calculation
+     */
+    private float nearestDistance;
+    /**
+     * Lower bound for the distance to all other cluster vectors of the last
+     * rho winner calculation
+     */
+    private float secondNearestLowerBound;
+    /**
+     * Number of cluster vectors of the last rho winner calculation
+     */
+    private int numberOfClustersOfCalculation;
+    /**
+     * Centroid index for a very high number of clusters (null if not yet
+     * needed)
+     */
+    private CentroidIndex centroidIndex;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aNumberOfDataVectors Number of data vectors
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfComponents Number of components of a cluster vector
+     */
+    protected EuclidRhoWinnerPruning(
+            int aNumberOfDataVectors,
+            int aMaximumNumberOfClusters,
+            int aNumberOfComponents
+    ) {
+        super(false);
+        this.numberOfComponents = aNumberOfComponents;
+        this.driftDistances = new float[aMaximumNumberOfClusters];
+        this.lowerBounds = new float[aNumberOfDataVectors];
+        this.boundClusterIndices = new int[aNumberOfDataVectors];
+        Utils.fillVector(this.boundClusterIndices, -1);
+        this.numbersOfBoundClusters = new int[aNumberOfDataVectors];
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        this.centroidIndex = null;
+        this.snapshotComponents = new float[0];
+        this.snapshotDistances = new float[0];
+        this.snapshotCapacity = 0;
+        this.numberOfSnapshotClusters = 0;
+        this.maximumDriftDistance = 0.0f;
+        this.previousMaximumDriftDistance = 0.0f;
+        this.numberOfPrunedRhoValues = 0L;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Creates the snapshot of the cluster vectors with the table of distances
+     * between them and resets all drift distances (to be called at the start
+     * of an epoch).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    @Override
+    protected void setSnapshot(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters
+    ) {
+        this.previousMaximumDriftDistance = this.maximumDriftDistance;
+        this.maximumDriftDistance = 0.0f;
+        Utils.fillVector(this.driftDistances, 0.0f);
+        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
+            this.setSnapshotClusterVector(aClusterMatrix, i);
+        }
+        if (aNumberOfDetectedClusters > MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS || CentroidIndex.isApplicable(aNumberOfDetectedClusters)) {
+            this.numberOfSnapshotClusters = 0;
+            return;
+        }
+        this.numberOfSnapshotClusters = aNumberOfDetectedClusters;
+        if (this.snapshotCapacity < aNumberOfDetectedClusters) {
+            // Geometric growth avoids reallocation in every epoch with new clusters
+            this.snapshotCapacity =
+                Math.max(
+                    aNumberOfDetectedClusters,
+                    Math.min(2 * this.snapshotCapacity, Math.min(this.maximumNumberOfClusters, MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS))
+                );
+            this.snapshotDistances = new float[this.snapshotCapacity * this.snapshotCapacity];
+        }
+        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
+            this.snapshotDistances[i * aNumberOfDetectedClusters + i] = 0.0f;
+            for (int j = i + 1; j < aNumberOfDetectedClusters; j++) {
+                float tmpDistance =
+                    (float) Math.sqrt(
+                        Utils.getSquaredDistance(
+                            this.snapshotComponents,
+                            i * this.numberOfComponents,
+                            this.snapshotComponents,
+                            j * this.numberOfComponents,
+                            this.numberOfComponents
+                        )
+                    );
+                this.snapshotDistances[i * aNumberOfDetectedClusters + j] = tmpDistance;
+                this.snapshotDistances[j * aNumberOfDetectedClusters + i] = tmpDistance;
+            }
+        }
+    }
+
+    /**
+     * Invalidates the lower bounds of all data vectors (to be called if
+     * cluster indices change, i.e., after removal of empty clusters).
+     */
+    protected void invalidateLowerBounds() {
+        Utils.fillVector(this.boundClusterIndices, -1);
+    }
+
+    /**
+     * Resets the centroid index (to be called if cluster indices change,
+     * i.e., after removal of empty clusters).
+     */
+    protected void resetCentroidIndex() {
+        if (this.centroidIndex != null) {
+            this.centroidIndex.reset();
+        }
+    }
+
+    /**
+     * Invalidates the lower bounds and resets the centroid index (see
+     * invalidateLowerBounds() and resetCentroidIndex()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    @Override
+    protected void resetClusterIndices(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters
+    ) {
+        this.invalidateLowerBounds();
+        this.resetCentroidIndex();
+    }
+
+    /**
+     * Sets the snapshot of the created cluster vector (see
+     * addClusterVector()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of the created cluster vector
+     */
+    @Override
+    protected void setNewCluster(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        this.addClusterVector(aClusterMatrix, aClusterIndex);
+    }
+
+    /**
+     * Updates the drift distance of the modified cluster vector (see
+     * updateDriftDistance()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of modified cluster vector
+     */
+    @Override
+    protected void setModifiedCluster(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        this.updateDriftDistance(aClusterMatrix, aClusterIndex);
+    }
+
+    /**
+     * Sets the snapshot of a cluster vector that was added during the epoch
+     * (the cluster vector is its own snapshot).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of added cluster vector
+     */
+    protected void addClusterVector(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        this.setSnapshotClusterVector(aClusterMatrix, aClusterIndex);
+        this.driftDistances[aClusterIndex] = 0.0f;
+    }
+
+    /**
+     * Updates the drift distance of the specified (modified) cluster vector.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of modified cluster vector
+     */
+    protected void updateDriftDistance(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        float tmpDriftDistance =
+            (float) Math.sqrt(
+                Utils.getSquaredDistance(
+                    aClusterMatrix.getComponents(),
+                    aClusterMatrix.getOffset(aClusterIndex),
+                    this.snapshotComponents,
+                    aClusterIndex * this.numberOfComponents,
+                    this.numberOfComponents
+                )
+            );
+        this.driftDistances[aClusterIndex] = tmpDriftDistance;
+        if (tmpDriftDistance > this.maximumDriftDistance) {
+            this.maximumDriftDistance = tmpDriftDistance;
+        }
+        if (this.centroidIndex != null) {
+            this.centroidIndex.updateDriftDistance(aClusterMatrix, aClusterIndex);
+        }
+    }
+
+    /**
+     * Sets rho winner with the rho value and the cluster index of the winner
+     * (see Art2aEuclidUtils.setRhoWinner()) where cluster vectors
+     * that provably can not be the winner or can not reach the vigilance are
+     * skipped. If the cluster index is negative, the first scaled rho value
+     * is the winner or no cluster vector reaches the vigilance. Method
+     * setLowerBound() must be called after the assignment of the data vector
+     * (see setAssignment()).
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aContrastEnhancedVector Contrast enhanced vector (IS NOT
+     * CHANGED, must be null if aSparseContrastEnhancedVector is specified)
+     * @param aSparseContrastEnhancedVector Sparse contrast enhanced vector (IS
+     * NOT CHANGED, must be null if aContrastEnhancedVector is specified)
+     * @param aClusterMatrix Cluster matrix (with tracked squared lengths for
+     * a sparse vector, IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aRhoStar Maximum squared distance of an accepted rho winner
+     * (corresponds to the vigilance)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner. If the cluster index is negative, the first scaled
+     * rho value is the winner.
+     */
+    protected void setRhoWinner(
+            int aDataVectorIndex,
+            float[] aContrastEnhancedVector,
+            Utils.SparseVector aSparseContrastEnhancedVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            float aRhoStar,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        // Calculate first rho value
+        float tmpFirstRhoValue;
+        if (aSparseContrastEnhancedVector != null) {
+            tmpFirstRhoValue = Utils.getSumOfSquaredDifferences(aSparseContrastEnhancedVector, aScalingFactor, this.numberOfComponents);
+        } else {
+            tmpFirstRhoValue = Utils.getSumOfSquaredDifferences(aContrastEnhancedVector, aScalingFactor);
+        }
+        // Squared length for squared distances of sparse cluster vectors
+        float tmpSquaredLength = 0.0f;
+        if (aContrastEnhancedVector != null) {
+            tmpSquaredLength = aClusterMatrix.getSquaredLengthForSquaredDistance(aContrastEnhancedVector);
+        }
+        // A cluster vector must have a squared distance below this threshold
+        // to be relevant
+        float tmpThreshold = Math.min(tmpFirstRhoValue, aRhoStar);
+        int tmpNumberOfSnapshotClusters = Math.min(this.numberOfSnapshotClusters, aNumberOfDetectedClusters);
+        // Data vector bound
+        int tmpBoundClusterIndex = this.boundClusterIndices[aDataVectorIndex];
+        if (tmpBoundClusterIndex >= aNumberOfDetectedClusters) {
+            tmpBoundClusterIndex = -1;
+        }
+        int tmpNumberOfBoundClusters = 0;
+        float tmpDataVectorLowerBound = 0.0f;
+        if (tmpBoundClusterIndex >= 0) {
+            tmpNumberOfBoundClusters = this.numbersOfBoundClusters[aDataVectorIndex];
+            // Maximum movement of cluster vectors since the last calculation
+            // (in the previous epoch)
+            tmpDataVectorLowerBound =
+                this.lowerBounds[aDataVectorIndex] - 2.0f * this.previousMaximumDriftDistance - this.maximumDriftDistance;
+        }
+        this.nearestClusterIndex = -1;
+        this.nearestDistance = Float.MAX_VALUE;
+        this.secondNearestLowerBound = Float.MAX_VALUE;
+        this.numberOfClustersOfCalculation = aNumberOfDetectedClusters;
+        // Reference cluster vector of the snapshot for the cluster vector bound
+        int tmpReferenceIndex = -1;
+        float tmpReferenceDistance = 0.0f;
+        float tmpBoundRhoValue = 0.0f;
+        if (tmpBoundClusterIndex >= 0) {
+            tmpBoundRhoValue = this.getRhoValue(aContrastEnhancedVector, aSparseContrastEnhancedVector, tmpSquaredLength, aClusterMatrix, tmpBoundClusterIndex);
+            tmpThreshold = Math.min(tmpThreshold, tmpBoundRhoValue);
+            if (tmpBoundClusterIndex < tmpNumberOfSnapshotClusters) {
+                tmpReferenceIndex = tmpBoundClusterIndex;
+                tmpReferenceDistance = (float) Math.sqrt(Math.max(0.0f, tmpBoundRhoValue));
+            }
+        }
+        // Start of the loop over the cluster vectors
+        int tmpLoopStart = 0;
+        // Cluster vector that is evaluated at the start of the loop instead of
+        // the cluster vector with the index of the loop start (negative if
+        // not applicable)
+        int tmpLoopStartClusterIndex = -1;
+        if (
+            tmpBoundClusterIndex >= 0 &&
+                tmpDataVectorLowerBound > 0.0f &&
+                tmpDataVectorLowerBound * tmpDataVectorLowerBound > tmpThreshold + DISTANCE_TOLERANCE * (1.0f + tmpThreshold)
+        ) {
+            // Data vector bound skips all cluster vectors that are covered by
+            // the bound at once
+            int tmpNumberOfSkippedClusters = tmpNumberOfBoundClusters;
+            tmpLoopStart = tmpNumberOfBoundClusters;
+            if (tmpBoundClusterIndex < tmpNumberOfBoundClusters) {
+                // Bound cluster vector precedes all cluster vectors of the loop
+                tmpNumberOfSkippedClusters--;
+                tmpLoopStart--;
+                tmpLoopStartClusterIndex = tmpBoundClusterIndex;
+            }
+            if (tmpNumberOfSkippedClusters > 0) {
+                this.numberOfPrunedRhoValues += tmpNumberOfSkippedClusters;
+                this.secondNearestLowerBound = tmpDataVectorLowerBound;
+            }
+        } else if (CentroidIndex.isApplicable(aNumberOfDetectedClusters)) {
+            if (this.centroidIndex == null) {
+                this.centroidIndex = new CentroidIndex(this.maximumNumberOfClusters, this.numberOfComponents, false);
+            }
+            this.centroidIndex.setRhoWinner(
+                aContrastEnhancedVector,
+                aSparseContrastEnhancedVector,
+                aClusterMatrix,
+                aNumberOfDetectedClusters,
+                tmpFirstRhoValue,
+                Math.min(tmpFirstRhoValue, aRhoStar),
+                tmpBoundClusterIndex,
+                aRhoWinner
+            );
+            this.nearestClusterIndex = this.centroidIndex.getNearestClusterIndex();
+            this.nearestDistance = this.centroidIndex.getNearestDistance();
+            this.secondNearestLowerBound = this.centroidIndex.getSecondNearestLowerBound();
+            return;
+        }
+        float tmpRhoValue = tmpFirstRhoValue;
+        int tmpIndex = -1;
+        // Calculate other rho values in ascending index order
+        for (int k = tmpLoopStart; k < aNumberOfDetectedClusters; k++) {
+            int i = k;
+            if (k == tmpLoopStart && tmpLoopStartClusterIndex >= 0) {
+                i = tmpLoopStartClusterIndex;
+            }
+            float tmpRhoForCluster;
+            if (i == tmpBoundClusterIndex) {
+                tmpRhoForCluster = tmpBoundRhoValue;
+            } else {
+                float tmpLowerBound = 0.0f;
+                if (i < tmpNumberOfBoundClusters) {
+                    tmpLowerBound = tmpDataVectorLowerBound;
+                }
+                if (tmpReferenceIndex >= 0 && i < tmpNumberOfSnapshotClusters) {
+                    float tmpClusterVectorLowerBound =
+                        Math.abs(tmpReferenceDistance - this.snapshotDistances[tmpReferenceIndex * this.numberOfSnapshotClusters + i])
+                            - this.driftDistances[tmpReferenceIndex]
+                            - this.driftDistances[i];
+                    if (tmpClusterVectorLowerBound > tmpLowerBound) {
+                        tmpLowerBound = tmpClusterVectorLowerBound;
+                    }
+                }
+                if (tmpLowerBound > 0.0f && tmpLowerBound * tmpLowerBound > tmpThreshold + DISTANCE_TOLERANCE * (1.0f + tmpThreshold)) {
+                    this.numberOfPrunedRhoValues++;
+                    if (tmpLowerBound < this.secondNearestLowerBound) {
+                        this.secondNearestLowerBound = tmpLowerBound;
+                    }
+                    continue;
+                }
+                tmpRhoForCluster = this.getRhoValue(aContrastEnhancedVector, aSparseContrastEnhancedVector, tmpSquaredLength, aClusterMatrix, i);
+            }
+            float tmpDistance = (float) Math.sqrt(Math.max(0.0f, tmpRhoForCluster));
+            if (tmpDistance < this.nearestDistance) {
+                if (this.nearestDistance < this.secondNearestLowerBound) {
+                    this.secondNearestLowerBound = this.nearestDistance;
+                }
+                this.nearestDistance = tmpDistance;
+                this.nearestClusterIndex = i;
+                if (i < tmpNumberOfSnapshotClusters) {
+                    // Better reference for tighter bounds
+                    tmpReferenceIndex = i;
+                    tmpReferenceDistance = tmpDistance;
+                }
+            } else if (tmpDistance < this.secondNearestLowerBound) {
+                this.secondNearestLowerBound = tmpDistance;
+            }
+            if (tmpRhoForCluster < tmpRhoValue) {
+                tmpRhoValue = tmpRhoForCluster;
+                tmpIndex = i;
+            }
+            if (tmpRhoForCluster < tmpThreshold) {
+                tmpThreshold = tmpRhoForCluster;
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+    }
+
+    /**
+     * Sets rho winner of a data vector with pruning (see setRhoWinner()).
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aDenseVector Dense contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aVigilanceThreshold Maximum squared distance of an accepted
+     * rho winner (corresponds to the vigilance)
+     * @param aPreviousClusterIndex Index of the cluster the data vector was
+     * assigned to before (not used)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    @Override
+    protected void setRhoWinnerOfDataVector(
+            int aDataVectorIndex,
+            float[] aDenseVector,
+            Utils.SparseVector aSparseVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            float aVigilanceThreshold,
+            int aPreviousClusterIndex,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        this.setRhoWinner(
+            aDataVectorIndex,
+            aDenseVector,
+            aSparseVector,
+            aClusterMatrix,
+            aNumberOfDetectedClusters,
+            aScalingFactor,
+            aVigilanceThreshold,
+            aRhoWinner
+        );
+    }
+
+    /**
+     * Sets the lower bound of the data vector (see setLowerBound()).
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aClusterIndex Index of the assigned cluster vector or negative
+     * if the data vector could not be assigned
+     */
+    @Override
+    protected void setAssignment(
+            int aDataVectorIndex,
+            int aClusterIndex
+    ) {
+        this.setLowerBound(aDataVectorIndex, aClusterIndex);
+    }
+
+    /**
+     * Sets the lower bound of the data vector of the last rho winner
+     * calculation (see setRhoWinner()) according to its assignment.
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aClusterIndex Index of the assigned cluster vector (an existing
+     * cluster vector or a cluster vector that was created for the data
+     * vector) or negative if the data vector could not be assigned
+     */
+    protected void setLowerBound(
+            int aDataVectorIndex,
+            int aClusterIndex
+    ) {
+        if (aClusterIndex < 0) {
+            this.boundClusterIndices[aDataVectorIndex] = -1;
+            return;
+        }
+        this.boundClusterIndices[aDataVectorIndex] = aClusterIndex;
+        this.numbersOfBoundClusters[aDataVectorIndex] = this.numberOfClustersOfCalculation;
+        if (aClusterIndex == this.nearestClusterIndex) {
+            this.lowerBounds[aDataVectorIndex] = this.secondNearestLowerBound;
+        } else {
+            // Data vector is assigned to a new cluster vector
+            this.lowerBounds[aDataVectorIndex] = Math.min(this.nearestDistance, this.secondNearestLowerBound);
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Number of skipped (pruned) squared distances
+     *
+     * @return Number of skipped (pruned) squared distances
+     */
+    protected long getNumberOfPrunedRhoValues() {
+        if (this.centroidIndex != null) {
+            return this.numberOfPrunedRhoValues + this.centroidIndex.getNumberOfPrunedRhoValues();
+        }
+        return this.numberOfPrunedRhoValues;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Copies the specified cluster vector to the snapshot.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of cluster vector
+     */
+    private void setSnapshotClusterVector(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        if (this.snapshotComponents.length < (aClusterIndex + 1) * this.numberOfComponents) {
+            this.snapshotComponents =
+                Arrays.copyOf(
+                    this.snapshotComponents,
+                    Math.max((aClusterIndex + 1) * this.numberOfComponents, 2 * this.snapshotComponents.length)
+                );
+        }
+        System.arraycopy(
+            aClusterMatrix.getComponents(),
+            aClusterMatrix.getOffset(aClusterIndex),
+            this.snapshotComponents,
+            aClusterIndex * this.numberOfComponents,
+            this.numberOfComponents
+        );
+    }
+
+    /**
+     * Calculates the rho value (squared distance) of the dense or sparse
+     * contrast enhanced vector and the specified cluster vector.
+     *
+     * @param aContrastEnhancedVector Contrast enhanced vector (IS NOT CHANGED,
+     * null if aSparseContrastEnhancedVector is specified)
+     * @param aSparseContrastEnhancedVector Sparse contrast enhanced vector (IS
+     * NOT CHANGED, null if aContrastEnhancedVector is specified)
+     * @param aSquaredLength Squared length of aContrastEnhancedVector (see
+     * ClusterMatrix.getSquaredLengthForSquaredDistance())
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of cluster vector
+     * @return Rho value
+     */
+    private float getRhoValue(
+            float[] aContrastEnhancedVector,
+            Utils.SparseVector aSparseContrastEnhancedVector,
+            float aSquaredLength,
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        if (aSparseContrastEnhancedVector != null) {
+            return Utils.getSquaredDistance(
+                aSparseContrastEnhancedVector,
+                aClusterMatrix.getComponents(),
+                aClusterMatrix.getOffset(aClusterIndex),
+                aClusterMatrix.getSquaredLength(aClusterIndex)
+            );
+        } else {
+            return aClusterMatrix.getSquaredDistance(aContrastEnhancedVector, aSquaredLength, aClusterIndex);
+        }
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,317 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Lock-free (Hogwild-style) concurrent cluster updates of a single
+ * clustering run (ART-2a and ART-2a-Euclid).
+ * <br><br>
+ * The threads process disjoint slices of the (shuffled) random sequence of
+ * indices of an epoch concurrently (see run()) and share one cluster matrix
+ * whose memory is allocated for the maximum number of clusters (see
+ * ClusterMatrix.allocateMaximumCapacity()). Winner cluster vectors are
+ * modified without locks, i.e., a thread may read a cluster vector that is
+ * modified concurrently by another thread (stale or partially updated
+ * components are tolerated like in Hogwild stochastic gradient descent).
+ * <br><br>
+ * The creation of new cluster vectors is serialized: A thread that wants to
+ * create a new cluster vector with the number of published cluster vectors
+ * as index reserves this index with a compare-and-set of the number of
+ * reserved cluster vectors (see reserveCluster()), sets the cluster vector
+ * and publishes it (see publishCluster()). The reservation fails if another
+ * thread reserved the index before: The thread then waits for the
+ * publication of the other cluster vector and re-evaluates its rho winner
+ * with all published cluster vectors before it creates a new cluster vector
+ * (see getNumberOfClusters()). Thus a thread only reads published cluster
+ * vectors and two similar data vectors that are processed concurrently do
+ * not create duplicate cluster vectors.
+ * <br><br>
+ * The result depends on the number of threads and on the thread scheduling,
+ * i.e., it is NOT reproducible for more than one thread. A single thread is
+ * identical to the sequential clustering process (without support of sparse
+ * cluster vectors, see ClusterMatrix).
+ * <br><br>
+ * Note: HogwildClusterUpdates is thread-safe except for the methods that
+ * are called between the epochs (see setNumberOfClusters()). No checks are
+ * performed.
+ */
+public class HogwildClusterUpdates implements AutoCloseable {
+
+    //<editor-fold desc="Private static final LOGGER">
+    /**
+     * Logger of this class
+     */
+    private static final Logger LOGGER = Logger.getLogger(HogwildClusterUpdates.class.getName());
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of threads
+     */
+    private final int numberOfThreads;
+    /**
+     * Maximum number of clusters
+     */
+    private final int maximumNumberOfClusters;
+    /**
+     * Pool of the threads (null for a single thread which is the calling
+     * thread)
+     */
+    private final ForkJoinPool threadPool;
+    /**
+     * Number of reserved cluster vectors
+     */
+    private final AtomicInteger numberOfReservedClusters;
+    /**
+     * Number of published cluster vectors
+     */
+    private final AtomicInteger numberOfPublishedClusters;
+    /**
+     * Number of re-evaluations of rho winners after the publication of a
+     * cluster vector by another thread
+     */
+    private final AtomicLong numberOfReevaluations;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * True: Cluster overflow occurred, false: Otherwise
+     */
+    private volatile boolean isClusterOverflow;
+    /**
+     * Number of epochs
+     */
+    private int numberOfEpochs;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor.
+     *
+     * @param aNumberOfThreads Number of threads (values less than 1 are
+     * treated as 1)
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     */
+    protected HogwildClusterUpdates(
+        int aNumberOfThreads,
+        int aMaximumNumberOfClusters
+    ) {
+        this.numberOfThreads = Math.max(1, aNumberOfThreads);
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        if (this.numberOfThreads > 1) {
+            this.threadPool = new ForkJoinPool(this.numberOfThreads);
+        } else {
+            this.threadPool = null;
+        }
+        this.numberOfReservedClusters = new AtomicInteger(0);
+        this.numberOfPublishedClusters = new AtomicInteger(0);
+        this.numberOfReevaluations = new AtomicLong(0L);
+        this.isClusterOverflow = false;
+        this.numberOfEpochs = 0;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public methods">
+    /**
+     * Shuts down the threads.
+     */
+    @Override
+    public void close() {
+        if (this.threadPool != null) {
+            this.threadPool.shutdownNow();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Processes the slices of an epoch concurrently: The slice task is called
+     * with the index of each thread (see getStartIndex()) and returns the
+     * number of data vectors of the slice that are (re)assigned to a
+     * different cluster.
+     *
+     * @param aSliceTask Slice task that is called with the thread index and
+     * returns the number of (re)assigned data vectors of the slice
+     * @return Number of (re)assigned data vectors of all slices
+     * @throws RuntimeException Thrown if a thread failed
+     */
+    protected int run(
+        IntUnaryOperator aSliceTask
+    ) throws RuntimeException {
+        this.numberOfEpochs++;
+        if (this.threadPool == null) {
+            return aSliceTask.applyAsInt(0);
+        }
+        List<Callable<Integer>> tmpSliceTasks = new ArrayList<>(this.numberOfThreads);
+        for (int i = 0; i < this.numberOfThreads; i++) {
+            int tmpThreadIndex = i;
+            tmpSliceTasks.add(() -> aSliceTask.applyAsInt(tmpThreadIndex));
+        }
+        int tmpNumberOfReassignedDataVectors = 0;
+        try {
+            for (Future<Integer> tmpFuture : this.threadPool.invokeAll(tmpSliceTasks)) {
+                tmpNumberOfReassignedDataVectors += tmpFuture.get();
+            }
+        } catch (InterruptedException | ExecutionException anException) {
+            HogwildClusterUpdates.LOGGER.log(Level.SEVERE, anException.toString(), anException);
+            throw new RuntimeException("HogwildClusterUpdates.run: A thread failed.", anException);
+        }
+        return tmpNumberOfReassignedDataVectors;
+    }
+
+    /**
+     * Returns the start index of the slice of the specified thread in the
+     * random sequence of indices (the end index is the start index of the
+     * next thread).
+     *
+     * @param aThreadIndex Index of thread (the number of threads for the end
+     * index of the last slice)
+     * @param aNumberOfDataVectors Number of data vectors
+     * @return Start index of the slice
+     */
+    protected int getStartIndex(
+        int aThreadIndex,
+        int aNumberOfDataVectors
+    ) {
+        return (int) ((long) aNumberOfDataVectors * aThreadIndex / this.numberOfThreads);
+    }
+
+    /**
+     * Sets the number of cluster vectors at the beginning of an epoch (must
+     * not be called concurrently to run()).
+     *
+     * @param aNumberOfClusters Number of cluster vectors
+     */
+    protected void setNumberOfClusters(
+        int aNumberOfClusters
+    ) {
+        this.numberOfReservedClusters.set(aNumberOfClusters);
+        this.numberOfPublishedClusters.set(aNumberOfClusters);
+    }
+
+    /**
+     * Returns the number of published cluster vectors. All cluster vectors
+     * with a lower index may be read.
+     *
+     * @return Number of published cluster vectors
+     */
+    protected int getNumberOfClusters() {
+        return this.numberOfPublishedClusters.get();
+    }
+
+    /**
+     * Reserves the index of a new cluster vector.
+     *
+     * @param aNumberOfClusters Number of published cluster vectors (see
+     * getNumberOfClusters()) which is the index of the new cluster vector
+     * @return True: Index is reserved and the new cluster vector must be
+     * published (see publishCluster()), false: Another thread reserved the
+     * index before
+     */
+    protected boolean reserveCluster(
+        int aNumberOfClusters
+    ) {
+        return this.numberOfReservedClusters.compareAndSet(aNumberOfClusters, aNumberOfClusters + 1);
+    }
+
+    /**
+     * Publishes a new cluster vector with a reserved index (see
+     * reserveCluster()) after it was set in the cluster matrix.
+     *
+     * @param aClusterIndex Reserved index of the new cluster vector
+     */
+    protected void publishCluster(
+        int aClusterIndex
+    ) {
+        this.numberOfPublishedClusters.set(aClusterIndex + 1);
+    }
+
+    /**
+     * Counts a re-evaluation of a rho winner after the publication of a
+     * cluster vector by another thread.
+     */
+    protected void addReevaluation() {
+        this.numberOfReevaluations.incrementAndGet();
+    }
+
+    /**
+     * Sets the cluster overflow.
+     */
+    protected void setClusterOverflow() {
+        this.isClusterOverflow = true;
+    }
+
+    /**
+     * Returns if a cluster overflow occurred.
+     *
+     * @return True: Cluster overflow occurred, false: Otherwise
+     */
+    protected boolean isClusterOverflow() {
+        return this.isClusterOverflow;
+    }
+
+    /**
+     * Returns the maximum number of clusters.
+     *
+     * @return Maximum number of clusters
+     */
+    protected int getMaximumNumberOfClusters() {
+        return this.maximumNumberOfClusters;
+    }
+
+    /**
+     * Returns the number of re-evaluations of rho winners after the
+     * publication of a cluster vector by another thread.
+     *
+     * @return Number of re-evaluations
+     */
+    protected long getNumberOfReevaluations() {
+        return this.numberOfReevaluations.get();
+    }
+
+    /**
+     * Returns a description of the concurrent cluster updates (number of
+     * threads, number of epochs and number of re-evaluations).
+     *
+     * @return Description of the concurrent cluster updates
+     */
+    protected String getExecutionDescription() {
+        return this.numberOfThreads + " threads (" + this.numberOfEpochs + " epochs, " +
+            this.numberOfReevaluations.get() + " rho winner re-evaluations)";
+    }
+    //</editor-fold>
+}
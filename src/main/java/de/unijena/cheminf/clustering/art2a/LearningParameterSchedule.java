@@ -0,0 +1,317 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedule of the learning parameter of the ART-2a and ART-2a-Euclid
+ * clustering process (see constructors of Art2aKernel and
+ * Art2aEuclidKernel). The learning parameter of the kernel is the initial
+ * learning parameter eta_0 that is annealed with the epoch t (starting with
+ * 1) or the number of data vectors n_j that were assigned to cluster j:
+ * <br>
+ * Constant: eta = eta_0
+ * <br>
+ * Step decay: eta = eta_0 * f^floor((t - 1) / s) with decay factor f and
+ * step size s (in epochs)
+ * <br>
+ * Exponential decay: eta = eta_0 * exp(-r * (t - 1)) with decay rate r
+ * <br>
+ * Inverse time (1/t) decay: eta = eta_0 / (1 + r * (t - 1)) with decay rate r
+ * <br>
+ * Cluster count decay: eta_j = eta_0 / (1 + r * n_j) with decay rate r,
+ * i.e., cluster vectors that already represent many data vectors are
+ * modified less (n_j includes all epochs and the data vector that created
+ * the cluster)
+ * <br><br>
+ * A decaying learning parameter reduces the drift of the cluster vectors in
+ * later epochs so that the convergence criterion is usually met in fewer
+ * epochs.
+ * <br><br>
+ * Note: LearningParameterSchedule is immutable and thread-safe.
+ */
+public class LearningParameterSchedule {
+
+    //<editor-fold desc="Private static final LOGGER">
+    /**
+     * Logger of this class
+     */
+    private static final Logger LOGGER = Logger.getLogger(LearningParameterSchedule.class.getName());
+    //</editor-fold>
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Constant learning parameter
+     */
+    private static final int CONSTANT = 0;
+    /**
+     * Step decay of the learning parameter
+     */
+    private static final int STEP_DECAY = 1;
+    /**
+     * Exponential decay of the learning parameter
+     */
+    private static final int EXPONENTIAL_DECAY = 2;
+    /**
+     * Inverse time (1/t) decay of the learning parameter
+     */
+    private static final int INVERSE_TIME_DECAY = 3;
+    /**
+     * Per-cluster decay of the learning parameter with the number of assigned
+     * data vectors
+     */
+    private static final int CLUSTER_COUNT_DECAY = 4;
+    /**
+     * Constant schedule
+     */
+    private static final LearningParameterSchedule CONSTANT_SCHEDULE = new LearningParameterSchedule(CONSTANT, 0.0f, 1);
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Type of schedule (see constants)
+     */
+    private final int type;
+    /**
+     * Decay factor (step decay) or decay rate (other decays)
+     */
+    private final float decay;
+    /**
+     * Step size in epochs (step decay)
+     */
+    private final int stepSize;
+    //</editor-fold>
+
+    //<editor-fold desc="Private constructor">
+    /**
+     * Constructor.
+     * Note: No checks are performed.
+     *
+     * @param aType Type of schedule (see constants)
+     * @param aDecay Decay factor (step decay) or decay rate (other decays)
+     * @param aStepSize Step size in epochs (step decay)
+     */
+    private LearningParameterSchedule(
+        int aType,
+        float aDecay,
+        int aStepSize
+    ) {
+        this.type = aType;
+        this.decay = aDecay;
+        this.stepSize = aStepSize;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public static methods">
+    /**
+     * Returns the constant schedule, i.e., the learning parameter of the
+     * kernel is used for all epochs (default).
+     *
+     * @return Constant schedule
+     */
+    public static LearningParameterSchedule getConstantSchedule() {
+        return LearningParameterSchedule.CONSTANT_SCHEDULE;
+    }
+
+    /**
+     * Returns a step decay schedule: The learning parameter is multiplied by
+     * the decay factor after every aStepSize epochs.
+     *
+     * @param aDecayFactor Decay factor (must be in interval (0,1))
+     * @param aStepSize Step size in epochs (must be greater zero)
+     * @return Step decay schedule
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public static LearningParameterSchedule getStepDecaySchedule(
+        float aDecayFactor,
+        int aStepSize
+    ) throws IllegalArgumentException {
+        // <editor-fold desc="Checks">
+        if (aDecayFactor <= 0.0f || aDecayFactor >= 1.0f) {
+            LearningParameterSchedule.LOGGER.log(
+                Level.SEVERE,
+                "LearningParameterSchedule.getStepDecaySchedule: aDecayFactor must be in interval (0,1)."
+            );
+            throw new IllegalArgumentException("LearningParameterSchedule.getStepDecaySchedule: aDecayFactor must be in interval (0,1).");
+        }
+        if (aStepSize <= 0) {
+            LearningParameterSchedule.LOGGER.log(
+                Level.SEVERE,
+                "LearningParameterSchedule.getStepDecaySchedule: aStepSize must be greater zero."
+            );
+            throw new IllegalArgumentException("LearningParameterSchedule.getStepDecaySchedule: aStepSize must be greater zero.");
+        }
+        //</editor-fold>
+        return new LearningParameterSchedule(STEP_DECAY, aDecayFactor, aStepSize);
+    }
+
+    /**
+     * Returns an exponential decay schedule: eta = eta_0 * exp(-r * (t - 1))
+     * for epoch t.
+     *
+     * @param aDecayRate Decay rate r (must be greater zero)
+     * @return Exponential decay schedule
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public static LearningParameterSchedule getExponentialDecaySchedule(
+        float aDecayRate
+    ) throws IllegalArgumentException {
+        LearningParameterSchedule.checkDecayRate(aDecayRate, "getExponentialDecaySchedule");
+        return new LearningParameterSchedule(EXPONENTIAL_DECAY, aDecayRate, 1);
+    }
+
+    /**
+     * Returns an inverse time (1/t) decay schedule:
+     * eta = eta_0 / (1 + r * (t - 1)) for epoch t.
+     *
+     * @param aDecayRate Decay rate r (must be greater zero)
+     * @return Inverse time decay schedule
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public static LearningParameterSchedule getInverseTimeDecaySchedule(
+        float aDecayRate
+    ) throws IllegalArgumentException {
+        LearningParameterSchedule.checkDecayRate(aDecayRate, "getInverseTimeDecaySchedule");
+        return new LearningParameterSchedule(INVERSE_TIME_DECAY, aDecayRate, 1);
+    }
+
+    /**
+     * Returns a per-cluster count-based decay schedule:
+     * eta_j = eta_0 / (1 + r * n_j) where n_j is the number of data vectors
+     * that were assigned to cluster j so far.
+     *
+     * @param aDecayRate Decay rate r (must be greater zero)
+     * @return Cluster count decay schedule
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public static LearningParameterSchedule getClusterCountDecaySchedule(
+        float aDecayRate
+    ) throws IllegalArgumentException {
+        LearningParameterSchedule.checkDecayRate(aDecayRate, "getClusterCountDecaySchedule");
+        return new LearningParameterSchedule(CLUSTER_COUNT_DECAY, aDecayRate, 1);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public methods">
+    /**
+     * Returns description of the schedule.
+     *
+     * @return Description of the schedule
+     */
+    @Override
+    public String toString() {
+        switch (this.type) {
+            case STEP_DECAY:
+                return "Step decay (factor = " + this.decay + ", step size = " + this.stepSize + ")";
+            case EXPONENTIAL_DECAY:
+                return "Exponential decay (rate = " + this.decay + ")";
+            case INVERSE_TIME_DECAY:
+                return "Inverse time decay (rate = " + this.decay + ")";
+            case CLUSTER_COUNT_DECAY:
+                return "Cluster count decay (rate = " + this.decay + ")";
+            default:
+                return "Constant";
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Returns the learning parameter of the specified epoch (for the cluster
+     * count decay the initial learning parameter is returned, see
+     * getClusterLearningParameter()).
+     *
+     * @param aLearningParameter Initial learning parameter eta_0
+     * @param anEpoch Epoch t (starting with 1)
+     * @return Learning parameter of the epoch
+     */
+    protected float getLearningParameter(
+        float aLearningParameter,
+        int anEpoch
+    ) {
+        switch (this.type) {
+            case STEP_DECAY:
+                return aLearningParameter * (float) Math.pow(this.decay, (anEpoch - 1) / this.stepSize);
+            case EXPONENTIAL_DECAY:
+                return aLearningParameter * (float) Math.exp(-this.decay * (anEpoch - 1));
+            case INVERSE_TIME_DECAY:
+                return aLearningParameter / (1.0f + this.decay * (anEpoch - 1));
+            default:
+                return aLearningParameter;
+        }
+    }
+
+    /**
+     * Returns the learning parameter of a cluster for the cluster count
+     * decay.
+     *
+     * @param aLearningParameter Initial learning parameter eta_0
+     * @param aNumberOfAssignedDataVectors Number of data vectors n_j that
+     * were assigned to the cluster so far
+     * @return Learning parameter of the cluster
+     */
+    protected float getClusterLearningParameter(
+        float aLearningParameter,
+        int aNumberOfAssignedDataVectors
+    ) {
+        return aLearningParameter / (1.0f + this.decay * aNumberOfAssignedDataVectors);
+    }
+
+    /**
+     * True: Learning parameter decays per cluster with the number of assigned
+     * data vectors (see getClusterLearningParameter()), false: Otherwise
+     *
+     * @return True if learning parameter decays per cluster, false otherwise
+     */
+    protected boolean isClusterCountDecay() {
+        return this.type == CLUSTER_COUNT_DECAY;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private static methods">
+    /**
+     * Checks decay rate.
+     *
+     * @param aDecayRate Decay rate (must be greater zero)
+     * @param aMethodName Name of calling method
+     * @throws IllegalArgumentException Thrown if decay rate is illegal
+     */
+    private static void checkDecayRate(
+        float aDecayRate,
+        String aMethodName
+    ) throws IllegalArgumentException {
+        if (aDecayRate <= 0.0f || Float.isNaN(aDecayRate) || Float.isInfinite(aDecayRate)) {
+            LearningParameterSchedule.LOGGER.log(
+                Level.SEVERE,
+                "LearningParameterSchedule." + aMethodName + ": aDecayRate must be greater zero."
+            );
+            throw new IllegalArgumentException("LearningParameterSchedule." + aMethodName + ": aDecayRate must be greater zero.");
+        }
+    }
+    //</editor-fold>
+
+}
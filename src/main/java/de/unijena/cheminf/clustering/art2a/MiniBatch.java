@@ -0,0 +1,439 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.stream.IntStream;
+
+/**
+ * Mini-batch of data vectors for the bulk-synchronous mini-batch training
+ * (ART-2a and ART-2a-Euclid).
+ * <br><br>
+ * The mini-batch is filled with the next data vectors of the (shuffled)
+ * epoch and the rho winners of all data vectors of the mini-batch are
+ * calculated concurrently with the cluster vectors frozen at the beginning
+ * of the mini-batch (see setRhoWinners()): The data vectors are divided into
+ * blocks (see ClusterAssignment) which are processed by a parallel stream
+ * (see Utils.getParallelism()). The data vectors of the mini-batch are
+ * then merged in their original order (see setRhoWinner()): The cluster
+ * vectors are modified or created one after the other so that the result
+ * does not depend on the number of threads. Data vectors that fail the
+ * vigilance test with the frozen cluster vectors are new cluster proposals:
+ * A proposal is merged with a cluster vector that was created by a
+ * preceding proposal of the same mini-batch if the vigilance test is
+ * passed, otherwise it creates a new cluster vector. This deduplication
+ * prevents that similar data vectors of a mini-batch create several cluster
+ * vectors.
+ * <br><br>
+ * In contrast to the sequential training a data vector does not see the
+ * modifications of the cluster vectors that existed at the beginning of the
+ * mini-batch by the preceding data vectors of the mini-batch, i.e., the
+ * clustering result may differ from the sequential one (a mini-batch size of
+ * 1 is identical to the sequential training).
+ * <br><br>
+ * Note: MiniBatch is NOT thread-safe except for the concurrent calculation
+ * of the rho winners of the blocks (see setRhoWinners()). No checks are
+ * performed.
+ */
+public class MiniBatch extends DataVectorWindow {
+
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of data vectors of a block
+     */
+    private final int blockSize;
+    /**
+     * True: Rho winners of blocks are calculated concurrently, false:
+     * Otherwise
+     */
+    private final boolean isParallel;
+    /**
+     * Dense data vectors of the blocks (null for sparse data vectors)
+     */
+    private final float[][][] blockDataVectors;
+    /**
+     * Rho values of the winners of the data vectors of the blocks with the
+     * frozen cluster vectors
+     */
+    private final float[][] bestValues;
+    /**
+     * Cluster indices of the winners of the data vectors of the blocks with
+     * the frozen cluster vectors
+     */
+    private final int[][] clusterIndices;
+    /**
+     * Buffers for squared lengths of the data vectors of the blocks (null
+     * for scalar products or sparse data vectors)
+     */
+    private final float[][] squaredLengths;
+    /**
+     * Result buffers of the blocks (null for sparse data vectors)
+     */
+    private final float[][] resultBuffers;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Cluster matrix
+     */
+    private ClusterMatrix clusterMatrix;
+    /**
+     * Number of frozen cluster vectors (cluster vectors at the beginning of
+     * the mini-batch)
+     */
+    private int numberOfFrozenClusters;
+    /**
+     * Number of filled mini-batches
+     */
+    private long numberOfMiniBatches;
+    /**
+     * Number of new cluster proposals that were merged with a cluster vector
+     * created within the same mini-batch
+     */
+    private long numberOfMergedProposals;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor.
+     *
+     * @param anIsScalarProduct True: Rho value is the scalar product (maximum
+     * wins, ART-2a), false: Rho value is the squared distance (minimum wins,
+     * ART-2a-Euclid)
+     * @param aMiniBatchSize Number of data vectors of a mini-batch (values
+     * less than 1 are treated as 1)
+     * @param aNumberOfComponents Number of components of data vectors
+     * @param anIsSparse True: Data vectors are sparse, false: Data vectors
+     * are dense
+     */
+    protected MiniBatch(
+        boolean anIsScalarProduct,
+        int aMiniBatchSize,
+        int aNumberOfComponents,
+        boolean anIsSparse
+    ) {
+        super(anIsScalarProduct, aMiniBatchSize, aNumberOfComponents, anIsSparse);
+        this.blockSize = ClusterAssignment.getBlockSize(aNumberOfComponents);
+        int tmpNumberOfBlocks = (this.getWindowSize() + this.blockSize - 1) / this.blockSize;
+        this.isParallel = tmpNumberOfBlocks > 1 && Utils.getParallelism() > 1;
+        this.bestValues = new float[tmpNumberOfBlocks][this.blockSize];
+        this.clusterIndices = new int[tmpNumberOfBlocks][this.blockSize];
+        if (anIsSparse) {
+            this.blockDataVectors = null;
+            this.squaredLengths = null;
+            this.resultBuffers = null;
+        } else {
+            this.blockDataVectors = new float[tmpNumberOfBlocks][this.blockSize][];
+            this.squaredLengths = anIsScalarProduct ? null : new float[tmpNumberOfBlocks][this.blockSize];
+            this.resultBuffers = new float[tmpNumberOfBlocks][4];
+        }
+        this.numberOfMiniBatches = 0L;
+        this.numberOfMergedProposals = 0L;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Calculates the rho winners of all data vectors of the mini-batch with
+     * the frozen cluster vectors (concurrently for several blocks of data
+     * vectors).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters (number
+     * of frozen cluster vectors)
+     */
+    protected void setRhoWinners(
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters
+    ) {
+        this.clusterMatrix = aClusterMatrix;
+        this.numberOfFrozenClusters = aNumberOfDetectedClusters;
+        this.numberOfMiniBatches++;
+        if (aNumberOfDetectedClusters == 0 || this.getNumberOfDataVectors() == 0) {
+            return;
+        }
+        int tmpNumberOfBlocks = (this.getNumberOfDataVectors() + this.blockSize - 1) / this.blockSize;
+        if (this.isParallel && tmpNumberOfBlocks > 1) {
+            IntStream.range(0, tmpNumberOfBlocks).parallel().forEach(this::setRhoWinners);
+        } else {
+            for (int i = 0; i < tmpNumberOfBlocks; i++) {
+                this.setRhoWinners(i);
+            }
+        }
+    }
+
+    /**
+     * Calculates the rho winners of all data vectors of the mini-batch with
+     * the frozen cluster vectors (see setRhoWinners()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters (number
+     * of frozen cluster vectors)
+     */
+    @Override
+    protected void setRhoValues(
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters
+    ) {
+        this.setRhoWinners(aClusterMatrix, aNumberOfDetectedClusters);
+    }
+
+    /**
+     * Sets rho winner of the current data vector of the mini-batch (see
+     * setRhoWinner()).
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aDenseVector Dense data vector of the mini-batch (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse data vector of the mini-batch (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aVigilanceThreshold Threshold of the vigilance test: Minimum
+     * scalar product (ART-2a) or maximum squared distance (ART-2a-Euclid)
+     * of a data vector and its winner cluster vector
+     * @param aPreviousClusterIndex Index of the cluster the data vector was
+     * assigned to before (not used)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    @Override
+    protected void setRhoWinnerOfDataVector(
+        int aDataVectorIndex,
+        float[] aDenseVector,
+        Utils.SparseVector aSparseVector,
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters,
+        float aScalingFactor,
+        float aVigilanceThreshold,
+        int aPreviousClusterIndex,
+        Utils.RhoWinner aRhoWinner
+    ) {
+        this.setRhoWinner(
+            aNumberOfDetectedClusters,
+            this.getFirstRhoValue(aDenseVector, aSparseVector, aScalingFactor, aClusterMatrix.getNumberOfComponents()),
+            aVigilanceThreshold,
+            aRhoWinner
+        );
+    }
+
+    /**
+     * Sets rho winner of the current data vector with the rho value and the
+     * cluster index of the winner: The rho values of the frozen cluster
+     * vectors are taken from the concurrent calculation (see
+     * setRhoWinners()), those of the cluster vectors that were created
+     * within the mini-batch are calculated with their current state. The
+     * winner is determined with strict comparisons in ascending cluster
+     * order. If the cluster index is negative, the first rho value is the
+     * winner.
+     *
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aFirstRhoValue First rho value (with cluster index -1)
+     * @param aVigilanceThreshold Threshold of the vigilance test: Minimum
+     * scalar product (ART-2a) or maximum squared distance (ART-2a-Euclid)
+     * of a data vector and its winner cluster vector
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    protected void setRhoWinner(
+        int aNumberOfDetectedClusters,
+        float aFirstRhoValue,
+        float aVigilanceThreshold,
+        Utils.RhoWinner aRhoWinner
+    ) {
+        int tmpCurrentIndex = this.getCurrentIndex();
+        int tmpBlockIndex = tmpCurrentIndex / this.blockSize;
+        int tmpIndexInBlock = tmpCurrentIndex % this.blockSize;
+        float tmpRhoValue = aFirstRhoValue;
+        int tmpIndex = -1;
+        if (this.numberOfFrozenClusters > 0) {
+            float tmpRhoForCluster = this.bestValues[tmpBlockIndex][tmpIndexInBlock];
+            if (this.isScalarProduct() ? tmpRhoForCluster > tmpRhoValue : tmpRhoForCluster < tmpRhoValue) {
+                tmpRhoValue = tmpRhoForCluster;
+                tmpIndex = this.clusterIndices[tmpBlockIndex][tmpIndexInBlock];
+            }
+        }
+        if (aNumberOfDetectedClusters > this.numberOfFrozenClusters) {
+            // True: Data vector is a new cluster proposal
+            boolean tmpIsProposal = !this.isVigilancePassed(tmpRhoValue, tmpIndex, aVigilanceThreshold);
+            if (this.isSparse()) {
+                Utils.SparseVector tmpSparseVector = this.getSparseVector();
+                for (int i = this.numberOfFrozenClusters; i < aNumberOfDetectedClusters; i++) {
+                    float tmpRhoForCluster = this.getRhoValue(tmpSparseVector, i);
+                    if (this.isScalarProduct() ? tmpRhoForCluster > tmpRhoValue : tmpRhoForCluster < tmpRhoValue) {
+                        tmpRhoValue = tmpRhoForCluster;
+                        tmpIndex = i;
+                    }
+                }
+            } else {
+                float[] tmpDenseVector = this.getDenseVector(tmpCurrentIndex);
+                float tmpSquaredLength = this.isScalarProduct() ? 0.0f : this.clusterMatrix.getSquaredLengthForSquaredDistance(tmpDenseVector);
+                for (int i = this.numberOfFrozenClusters; i < aNumberOfDetectedClusters; i++) {
+                    float tmpRhoForCluster = this.getRhoValue(tmpDenseVector, tmpSquaredLength, i);
+                    if (this.isScalarProduct() ? tmpRhoForCluster > tmpRhoValue : tmpRhoForCluster < tmpRhoValue) {
+                        tmpRhoValue = tmpRhoForCluster;
+                        tmpIndex = i;
+                    }
+                }
+            }
+            if (tmpIsProposal && this.isVigilancePassed(tmpRhoValue, tmpIndex, aVigilanceThreshold)) {
+                this.numberOfMergedProposals++;
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+    }
+
+    /**
+     * Returns the number of new cluster proposals that were merged with a
+     * cluster vector created within the same mini-batch.
+     *
+     * @return Number of merged cluster proposals
+     */
+    protected long getNumberOfMergedProposals() {
+        return this.numberOfMergedProposals;
+    }
+
+    /**
+     * Returns a description of the mini-batch training (mini-batch size,
+     * number of mini-batches, number of merged cluster proposals and
+     * parallelization).
+     *
+     * @return Description of the mini-batch training
+     */
+    protected String getExecutionDescription() {
+        return "mini-batches of " + this.getWindowSize() + " data vectors (" + this.numberOfMiniBatches + " mini-batches, " +
+            this.numberOfMergedProposals + " merged cluster proposals, " +
+            (this.isParallel ? "blocks of " + this.blockSize + " data vectors in parallel" : "sequential") + ")";
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Calculates the rho winners of the data vectors of the specified block
+     * with the frozen cluster vectors. This method is called concurrently for
+     * different blocks.
+     *
+     * @param aBlockIndex Index of block
+     */
+    private void setRhoWinners(
+        int aBlockIndex
+    ) {
+        int tmpStart = aBlockIndex * this.blockSize;
+        int tmpNumberOfDataVectors = Math.min(this.blockSize, this.getNumberOfDataVectors() - tmpStart);
+        if (this.isSparse()) {
+            for (int i = 0; i < tmpNumberOfDataVectors; i++) {
+                Utils.SparseVector tmpSparseVector = this.getSparseVector(tmpStart + i);
+                int tmpClusterIndex =
+                    ClusterAssignment.getClusterIndex(
+                        tmpSparseVector,
+                        this.clusterMatrix,
+                        this.numberOfFrozenClusters,
+                        this.isScalarProduct()
+                    );
+                this.clusterIndices[aBlockIndex][i] = tmpClusterIndex;
+                this.bestValues[aBlockIndex][i] = this.getRhoValue(tmpSparseVector, tmpClusterIndex);
+            }
+        } else {
+            float[][] tmpBlockDataVectors = this.blockDataVectors[aBlockIndex];
+            for (int i = 0; i < tmpNumberOfDataVectors; i++) {
+                tmpBlockDataVectors[i] = this.getDenseVector(tmpStart + i);
+            }
+            ClusterAssignment.setClusterIndices(
+                tmpBlockDataVectors,
+                tmpNumberOfDataVectors,
+                this.clusterMatrix,
+                this.numberOfFrozenClusters,
+                this.isScalarProduct(),
+                this.bestValues[aBlockIndex],
+                this.squaredLengths == null ? null : this.squaredLengths[aBlockIndex],
+                this.resultBuffers[aBlockIndex],
+                this.clusterIndices[aBlockIndex]
+            );
+        }
+    }
+
+    /**
+     * Returns if the vigilance test is passed.
+     *
+     * @param aRhoValue Rho value of winner
+     * @param aClusterIndex Cluster index of winner
+     * @param aVigilanceThreshold Threshold of the vigilance test
+     * @return True: Vigilance test is passed, false: Otherwise
+     */
+    private boolean isVigilancePassed(
+        float aRhoValue,
+        int aClusterIndex,
+        float aVigilanceThreshold
+    ) {
+        if (aClusterIndex < 0) {
+            return false;
+        }
+        return this.isScalarProduct() ? aRhoValue >= aVigilanceThreshold : aRhoValue <= aVigilanceThreshold;
+    }
+
+    /**
+     * Returns the rho value of a dense data vector and a cluster vector
+     * (identical to the sequential rho winner calculation of the kernels).
+     *
+     * @param aDenseVector Dense data vector (IS NOT CHANGED)
+     * @param aSquaredLength Squared length of data vector for squared
+     * distances (see ClusterMatrix.getSquaredLengthForSquaredDistance())
+     * @param aClusterIndex Index of cluster vector
+     * @return Rho value
+     */
+    private float getRhoValue(
+        float[] aDenseVector,
+        float aSquaredLength,
+        int aClusterIndex
+    ) {
+        if (this.isScalarProduct()) {
+            return this.clusterMatrix.getScalarProduct(aDenseVector, aClusterIndex);
+        } else {
+            return this.clusterMatrix.getSquaredDistance(aDenseVector, aSquaredLength, aClusterIndex);
+        }
+    }
+
+    /**
+     * Returns the rho value of a sparse data vector and a cluster vector
+     * (identical to the sequential rho winner calculation of the kernels).
+     *
+     * @param aSparseVector Sparse data vector (IS NOT CHANGED)
+     * @param aClusterIndex Index of cluster vector
+     * @return Rho value
+     */
+    private float getRhoValue(
+        Utils.SparseVector aSparseVector,
+        int aClusterIndex
+    ) {
+        int tmpOffset = aClusterIndex * this.clusterMatrix.getStride();
+        if (this.isScalarProduct()) {
+            return Utils.getScalarProduct(aSparseVector, this.clusterMatrix.getComponents(), tmpOffset);
+        } else {
+            return Utils.getSquaredDistance(aSparseVector, this.clusterMatrix.getComponents(), tmpOffset, this.clusterMatrix.getSquaredLength(aClusterIndex));
+        }
+    }
+    //</editor-fold>
+}
@@ -60,6 +60,65 @@ public class PreprocessedArt2aData extends PreprocessedData {
             anOffsetForContrastEnhancement
         );
     }
+
+    /**
+     * Constructor
+     *
+     * @param aSparsePreprocessedMatrix Preprocessed sparse matrix (NOT allowed
+     * to be null)
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding preprocessed sparse row vector is empty in this case),
+     * false: Otherwise.
+     * @param aMinMaxComponentsOfDataMatrix Min-max components of original data
+     * matrix
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    protected PreprocessedArt2aData (
+            SparseDataMatrix aSparsePreprocessedMatrix,
+            boolean[] aDataVectorZeroLengthFlags,
+            Utils.MinMaxValue[] aMinMaxComponentsOfDataMatrix,
+            float anOffsetForContrastEnhancement
+    ) {
+        super (
+            aSparsePreprocessedMatrix,
+            aDataVectorZeroLengthFlags,
+            aMinMaxComponentsOfDataMatrix,
+            anOffsetForContrastEnhancement
+        );
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aBinaryDataMatrix Original binary data matrix with data row
+     * vectors (NOT allowed to be null)
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero,
+     * false: Otherwise.
+     * @param aMinMaxComponentsOfDataMatrix Min-max components of original data
+     * matrix
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    protected PreprocessedArt2aData (
+            BinaryDataMatrix aBinaryDataMatrix,
+            boolean[] aDataVectorZeroLengthFlags,
+            Utils.MinMaxValue[] aMinMaxComponentsOfDataMatrix,
+            float anOffsetForContrastEnhancement
+    ) {
+        super (
+            aBinaryDataMatrix,
+            aDataVectorZeroLengthFlags,
+            aMinMaxComponentsOfDataMatrix,
+            anOffsetForContrastEnhancement
+        );
+    }
     //</editor-fold>
 
 }
@@ -42,6 +42,17 @@ import java.util.logging.Logger;
  * Use method hasPreprocessedData() to check whether preprocessed
  * preprocessedMatrix/dataVectorZeroLengthFlags are available.
  * <br><br>
+ * Note: Data may alternatively be stored in sparse form (see
+ * SparseDataMatrix): Then sparseDataMatrix/sparsePreprocessedMatrix replace
+ * dataMatrix/preprocessedMatrix (which are null). Use method isSparse() to
+ * check whether sparse data are available.
+ * <br><br>
+ * Note: Binary data (see BinaryDataMatrix) are a special form of sparse data:
+ * Then binaryDataMatrix replaces all other matrices, and preprocessing only
+ * determines the dataVectorZeroLengthFlags since the contrast enhanced
+ * (unit) vectors are directly derived from the set bits. Use method
+ * isBinary() to check whether binary data are available.
+ * <br><br>
  * Note: PreprocessedData is a read-only class, i.e. thread-safe. The same PreprocessedData
  * object may be distributed to several concurrently working clustering tasks without
  * any mutual interference problems.
@@ -65,6 +76,23 @@ public class PreprocessedData {
      * Preprocessed matrix
      */
     private final float[][] preprocessedMatrix;
+    /**
+     * Original sparse data matrix with data row vectors
+     */
+    private final SparseDataMatrix sparseDataMatrix;
+    /**
+     * Preprocessed sparse matrix
+     */
+    private final SparseDataMatrix sparsePreprocessedMatrix;
+    /**
+     * Original binary data matrix with data row vectors (for original and
+     * preprocessed data)
+     */
+    private final BinaryDataMatrix binaryDataMatrix;
+    /**
+     * Column mask of binary data matrix (see Utils.getBinaryColumnMask())
+     */
+    private final long[] binaryColumnMask;
     /**
      * Flags array that indicates if scaled data row vectors have a length
      * of zero (i.e. where all components are equal to zero, the corresponding
@@ -95,6 +123,11 @@ public class PreprocessedData {
      *
      * @param aDataMatrix Original data matrix with data row vectors (MAY BE NULL)
      * @param aPreprocessedMatrix Preprocessed matrix (MAY BE NULL)
+     * @param aSparseDataMatrix Original sparse data matrix with data row
+     * vectors (MAY BE NULL)
+     * @param aSparsePreprocessedMatrix Preprocessed sparse matrix (MAY BE NULL)
+     * @param aBinaryDataMatrix Original binary data matrix with data row
+     * vectors (MAY BE NULL)
      * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
      * data row vectors have a length of zero (i.e. where all components are
      * equal to zero). True: Scaled data row vector has a length of zero
@@ -111,6 +144,9 @@ public class PreprocessedData {
     private PreprocessedData (
         float[][] aDataMatrix,
         float[][] aPreprocessedMatrix,
+        SparseDataMatrix aSparseDataMatrix,
+        SparseDataMatrix aSparsePreprocessedMatrix,
+        BinaryDataMatrix aBinaryDataMatrix,
         boolean[] aDataVectorZeroLengthFlags,
         Utils.MinMaxValue[] aMinMaxComponentsOfDataMatrix,
         float anOffsetForContrastEnhancement,
@@ -118,6 +154,14 @@ public class PreprocessedData {
     ) {
         this.dataMatrix = aDataMatrix;
         this.preprocessedMatrix = aPreprocessedMatrix;
+        this.sparseDataMatrix = aSparseDataMatrix;
+        this.sparsePreprocessedMatrix = aSparsePreprocessedMatrix;
+        this.binaryDataMatrix = aBinaryDataMatrix;
+        if (aBinaryDataMatrix != null && aMinMaxComponentsOfDataMatrix != null) {
+            this.binaryColumnMask = Utils.getBinaryColumnMask(aMinMaxComponentsOfDataMatrix);
+        } else {
+            this.binaryColumnMask = null;
+        }
         this.dataVectorZeroLengthFlags = aDataVectorZeroLengthFlags;
         this.minMaxComponentsOfDataMatrix = aMinMaxComponentsOfDataMatrix;
         this.offsetForContrastEnhancement = anOffsetForContrastEnhancement;
@@ -145,6 +189,9 @@ public class PreprocessedData {
             aDataMatrix,
             null,
             null,
+            null,
+            null,
+            null,
             aMinMaxComponentsOfDataMatrix,
             anOffsetForContrastEnhancement,
             false
@@ -196,6 +243,9 @@ public class PreprocessedData {
         this (
             null,
             aPreprocessedMatrix,
+            null,
+            null,
+            null,
             aDataVectorZeroLengthFlags,
             aMinMaxComponentsOfDataMatrix,
             anOffsetForContrastEnhancement,
@@ -230,6 +280,231 @@ public class PreprocessedData {
             throw new IllegalArgumentException("PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero.");
         }
     }
+
+    /**
+     * Constructor
+     *
+     * @param aSparseDataMatrix Original sparse data matrix with data row
+     * vectors (NOT allowed to be null)
+     * @param aMinMaxComponentsOfDataMatrix Min-max components of original data
+     * matrix
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    protected PreprocessedData (
+        SparseDataMatrix aSparseDataMatrix,
+        Utils.MinMaxValue[] aMinMaxComponentsOfDataMatrix,
+        float anOffsetForContrastEnhancement
+    ) {
+        this (
+            null,
+            null,
+            aSparseDataMatrix,
+            null,
+            null,
+            null,
+            aMinMaxComponentsOfDataMatrix,
+            anOffsetForContrastEnhancement,
+            false
+        );
+        if (aSparseDataMatrix == null) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aSparseDataMatrix is null."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aSparseDataMatrix is null.");
+        }
+        if (aMinMaxComponentsOfDataMatrix == null || aMinMaxComponentsOfDataMatrix.length != aSparseDataMatrix.getNumberOfColumns()) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid");
+        }
+        if (anOffsetForContrastEnhancement <= 0.0f) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero.");
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aSparsePreprocessedMatrix Preprocessed sparse matrix (NOT allowed
+     * to be null)
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero
+     * (corresponding preprocessed sparse row vector is empty in this case),
+     * false: Otherwise.
+     * @param aMinMaxComponentsOfDataMatrix Min-max components of original data
+     * matrix
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    protected PreprocessedData (
+        SparseDataMatrix aSparsePreprocessedMatrix,
+        boolean[] aDataVectorZeroLengthFlags,
+        Utils.MinMaxValue[] aMinMaxComponentsOfDataMatrix,
+        float anOffsetForContrastEnhancement
+    ) {
+        this (
+            null,
+            null,
+            null,
+            aSparsePreprocessedMatrix,
+            null,
+            aDataVectorZeroLengthFlags,
+            aMinMaxComponentsOfDataMatrix,
+            anOffsetForContrastEnhancement,
+            true
+        );
+        if (aSparsePreprocessedMatrix == null) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aSparsePreprocessedMatrix is null."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aSparsePreprocessedMatrix is null.");
+        }
+        if (aDataVectorZeroLengthFlags == null || aDataVectorZeroLengthFlags.length != aSparsePreprocessedMatrix.getNumberOfRows()) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aDataVectorZeroLengthFlags is illegal."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aDataVectorZeroLengthFlags is illegal.");
+        }
+        if (aMinMaxComponentsOfDataMatrix == null || aMinMaxComponentsOfDataMatrix.length != aSparsePreprocessedMatrix.getNumberOfColumns()) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid");
+        }
+        if (anOffsetForContrastEnhancement <= 0.0f) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero.");
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aBinaryDataMatrix Original binary data matrix with data row
+     * vectors (NOT allowed to be null)
+     * @param aMinMaxComponentsOfDataMatrix Min-max components of original data
+     * matrix
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    protected PreprocessedData (
+        BinaryDataMatrix aBinaryDataMatrix,
+        Utils.MinMaxValue[] aMinMaxComponentsOfDataMatrix,
+        float anOffsetForContrastEnhancement
+    ) {
+        this (
+            null,
+            null,
+            null,
+            null,
+            aBinaryDataMatrix,
+            null,
+            aMinMaxComponentsOfDataMatrix,
+            anOffsetForContrastEnhancement,
+            false
+        );
+        if (aBinaryDataMatrix == null) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aBinaryDataMatrix is null."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aBinaryDataMatrix is null.");
+        }
+        if (aMinMaxComponentsOfDataMatrix == null || aMinMaxComponentsOfDataMatrix.length != aBinaryDataMatrix.getNumberOfColumns()) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid");
+        }
+        if (anOffsetForContrastEnhancement <= 0.0f) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero.");
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param aBinaryDataMatrix Original binary data matrix with data row
+     * vectors (NOT allowed to be null)
+     * @param aDataVectorZeroLengthFlags Flags array that indicates if scaled
+     * data row vectors have a length of zero (i.e. where all components are
+     * equal to zero). True: Scaled data row vector has a length of zero,
+     * false: Otherwise.
+     * @param aMinMaxComponentsOfDataMatrix Min-max components of original data
+     * matrix
+     * @param anOffsetForContrastEnhancement Offset for contrast enhancement
+     * (must be greater zero)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    protected PreprocessedData (
+        BinaryDataMatrix aBinaryDataMatrix,
+        boolean[] aDataVectorZeroLengthFlags,
+        Utils.MinMaxValue[] aMinMaxComponentsOfDataMatrix,
+        float anOffsetForContrastEnhancement
+    ) {
+        this (
+            null,
+            null,
+            null,
+            null,
+            aBinaryDataMatrix,
+            aDataVectorZeroLengthFlags,
+            aMinMaxComponentsOfDataMatrix,
+            anOffsetForContrastEnhancement,
+            true
+        );
+        if (aBinaryDataMatrix == null) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aBinaryDataMatrix is null."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aBinaryDataMatrix is null.");
+        }
+        if (aDataVectorZeroLengthFlags == null || aDataVectorZeroLengthFlags.length != aBinaryDataMatrix.getNumberOfRows()) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aDataVectorZeroLengthFlags is illegal."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aDataVectorZeroLengthFlags is illegal.");
+        }
+        if (aMinMaxComponentsOfDataMatrix == null || aMinMaxComponentsOfDataMatrix.length != aBinaryDataMatrix.getNumberOfColumns()) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: aMinMaxComponentsOfDataMatrix is invalid");
+        }
+        if (anOffsetForContrastEnhancement <= 0.0f) {
+            PreprocessedData.LOGGER.log(
+                Level.SEVERE,
+                "PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero."
+            );
+            throw new IllegalArgumentException("PreprocessedData.Constructor: anOffsetForContrastEnhancement must be greater zero.");
+        }
+    }
     //</editor-fold>
 
     //<editor-fold desc="Protected get/has methods">
@@ -253,6 +528,76 @@ public class PreprocessedData {
         return this.preprocessedMatrix;
     }
 
+    /**
+     * Original sparse data matrix with data row vectors
+     *
+     * @return Original sparse data matrix with data row vectors or null if
+     * hasPreprocessedData() returns true or isSparse() returns false
+     */
+    protected SparseDataMatrix getSparseDataMatrix() {
+        return this.sparseDataMatrix;
+    }
+
+    /**
+     * Preprocessed sparse matrix
+     *
+     * @return Preprocessed sparse matrix or null if hasPreprocessedData()
+     * or isSparse() returns false
+     */
+    protected SparseDataMatrix getSparsePreprocessedMatrix() {
+        return this.sparsePreprocessedMatrix;
+    }
+
+    /**
+     * Original binary data matrix with data row vectors (for original and
+     * preprocessed data)
+     *
+     * @return Original binary data matrix with data row vectors or null if
+     * isBinary() returns false
+     */
+    protected BinaryDataMatrix getBinaryDataMatrix() {
+        return this.binaryDataMatrix;
+    }
+
+    /**
+     * Column mask of binary data matrix (see Utils.getBinaryColumnMask())
+     * Note: The returned array is NOT a copy and must not be changed.
+     *
+     * @return Column mask of binary data matrix or null if isBinary() returns
+     * false
+     */
+    protected long[] getBinaryColumnMask() {
+        return this.binaryColumnMask;
+    }
+
+    /**
+     * Number of data row vectors
+     *
+     * @return Number of data row vectors
+     */
+    protected int getNumberOfDataVectors() {
+        if (this.dataMatrix != null) {
+            return this.dataMatrix.length;
+        } else if (this.preprocessedMatrix != null) {
+            return this.preprocessedMatrix.length;
+        } else if (this.sparseDataMatrix != null) {
+            return this.sparseDataMatrix.getNumberOfRows();
+        } else if (this.binaryDataMatrix != null) {
+            return this.binaryDataMatrix.getNumberOfRows();
+        } else {
+            return this.sparsePreprocessedMatrix.getNumberOfRows();
+        }
+    }
+
+    /**
+     * Number of components of a data row vector
+     *
+     * @return Number of components of a data row vector
+     */
+    protected int getNumberOfComponents() {
+        return this.minMaxComponentsOfDataMatrix.length;
+    }
+
     /**
      * Flags array that indicates if scaled data row vectors have a length
      * of zero (i.e. where all components are equal to zero, the corresponding
@@ -284,6 +629,26 @@ public class PreprocessedData {
         return this.hasPreprocessedData;
     }
 
+    /**
+     * Returns if data are stored in sparse form, i.e. sparseDataMatrix,
+     * sparsePreprocessedMatrix or binaryDataMatrix are defined.
+     *
+     * @return True: Data are stored in sparse form, false: Otherwise
+     */
+    protected boolean isSparse() {
+        return this.sparseDataMatrix != null || this.sparsePreprocessedMatrix != null || this.binaryDataMatrix != null;
+    }
+
+    /**
+     * Returns if data are stored in binary form, i.e. binaryDataMatrix is
+     * defined.
+     *
+     * @return True: Data are stored in binary form, false: Otherwise
+     */
+    protected boolean isBinary() {
+        return this.binaryDataMatrix != null;
+    }
+
     /**
      * Returns offset for contrast enhancement
      *
@@ -0,0 +1,237 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+/**
+ * Rho winner calculation of a data vector in the main clustering loop
+ * (ART-2a and ART-2a-Euclid, base class of RhoWinnerWorkerTeam,
+ * DataVectorWindow, RhoWinnerPruning, EuclidRhoWinnerPruning and
+ * SimHashIndex).
+ * <br><br>
+ * The base class calculates the rho winner sequentially with all cluster
+ * vectors (see Art2aUtils.setRhoWinner() and Art2aEuclidUtils.setRhoWinner()).
+ * Subclasses calculate the rho winner in parallel, speculatively, in
+ * mini-batches, pruned or approximately (see setRhoWinnerOfDataVector()) and
+ * keep their state up to date with the changes of the cluster vectors that
+ * the main clustering loop reports (see setSnapshot(), setNewCluster(),
+ * setModifiedCluster(), setAssignment() and resetClusterIndices()): The base
+ * class ignores these changes.
+ * <br><br>
+ * Note: RhoWinnerCalculation is NOT thread-safe. No checks are performed.
+ */
+public class RhoWinnerCalculation {
+
+    //<editor-fold desc="Private final class variables">
+    /**
+     * True: Rho value is the scalar product (maximum wins), false: Rho value
+     * is the squared distance (minimum wins)
+     */
+    private final boolean isScalarProduct;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor.
+     *
+     * @param anIsScalarProduct True: Rho value is the scalar product (maximum
+     * wins, ART-2a), false: Rho value is the squared distance (minimum wins,
+     * ART-2a-Euclid)
+     */
+    protected RhoWinnerCalculation(boolean anIsScalarProduct) {
+        this.isScalarProduct = anIsScalarProduct;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Sets rho winner of a data vector with the rho value and the cluster
+     * index of the winner. If the cluster index is negative, the first scaled
+     * rho value is the winner (or no cluster vector passes the vigilance test
+     * for pruned or approximate calculations). The data vector is specified
+     * either as a dense or as a sparse vector.
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aDenseVector Dense contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters (greater
+     * zero)
+     * @param aScalingFactor Scaling factor
+     * @param aVigilanceThreshold Threshold of the vigilance test: Minimum
+     * scalar product (ART-2a) or maximum squared distance (ART-2a-Euclid)
+     * of a data vector and its winner cluster vector
+     * @param aPreviousClusterIndex Index of the cluster the data vector was
+     * assigned to before (negative if not assigned)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    protected void setRhoWinnerOfDataVector(
+        int aDataVectorIndex,
+        float[] aDenseVector,
+        Utils.SparseVector aSparseVector,
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters,
+        float aScalingFactor,
+        float aVigilanceThreshold,
+        int aPreviousClusterIndex,
+        Utils.RhoWinner aRhoWinner
+    ) {
+        if (this.isScalarProduct) {
+            if (aSparseVector != null) {
+                Art2aUtils.setRhoWinner(aSparseVector, aClusterMatrix, aNumberOfDetectedClusters, aScalingFactor, aRhoWinner);
+            } else {
+                Art2aUtils.setRhoWinner(aDenseVector, aClusterMatrix, aNumberOfDetectedClusters, aScalingFactor, aRhoWinner);
+            }
+        } else {
+            if (aSparseVector != null) {
+                Art2aEuclidUtils.setRhoWinner(aSparseVector, aClusterMatrix, aNumberOfDetectedClusters, aScalingFactor, aRhoWinner);
+            } else {
+                Art2aEuclidUtils.setRhoWinner(aDenseVector, aClusterMatrix, aNumberOfDetectedClusters, aScalingFactor, aRhoWinner);
+            }
+        }
+    }
+
+    /**
+     * Sets the snapshot of the cluster vectors (to be called at the start of
+     * an epoch). Nothing is done by default.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    protected void setSnapshot(
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters
+    ) {
+    }
+
+    /**
+     * Sets a cluster vector that was created by a data vector (to be called
+     * after the cluster vector was added to the cluster matrix). Nothing is
+     * done by default.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of the created cluster vector
+     */
+    protected void setNewCluster(
+        ClusterMatrix aClusterMatrix,
+        int aClusterIndex
+    ) {
+    }
+
+    /**
+     * Sets a cluster vector that was modified by a data vector (to be called
+     * after the modification). Nothing is done by default.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of the modified cluster vector
+     */
+    protected void setModifiedCluster(
+        ClusterMatrix aClusterMatrix,
+        int aClusterIndex
+    ) {
+    }
+
+    /**
+     * Sets the assignment of a data vector (to be called after the
+     * assignment of every data vector). Nothing is done by default.
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aClusterIndex Index of the assigned cluster vector (an existing
+     * cluster vector or a cluster vector that was created for the data
+     * vector) or negative if the data vector could not be assigned or its rho
+     * winner was not calculated (first cluster vector)
+     */
+    protected void setAssignment(
+        int aDataVectorIndex,
+        int aClusterIndex
+    ) {
+    }
+
+    /**
+     * Resets the state that depends on cluster indices (to be called if
+     * cluster indices change, i.e., after removal of empty clusters). Nothing
+     * is done by default.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    protected void resetClusterIndices(
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters
+    ) {
+    }
+
+    /**
+     * Returns the first scaled rho value of a data vector (with cluster
+     * index -1). The data vector is specified either as a dense or as a
+     * sparse vector.
+     *
+     * @param aDenseVector Dense contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aScalingFactor Scaling factor
+     * @param aNumberOfComponents Number of components of data vectors
+     * @return First scaled rho value
+     */
+    protected float getFirstRhoValue(
+        float[] aDenseVector,
+        Utils.SparseVector aSparseVector,
+        float aScalingFactor,
+        int aNumberOfComponents
+    ) {
+        if (this.isScalarProduct) {
+            if (aSparseVector != null) {
+                return aScalingFactor * Utils.getSumOfComponents(aSparseVector);
+            } else {
+                return aScalingFactor * Utils.getSumOfComponents(aDenseVector);
+            }
+        } else {
+            if (aSparseVector != null) {
+                return Utils.getSumOfSquaredDifferences(aSparseVector, aScalingFactor, aNumberOfComponents);
+            } else {
+                return Utils.getSumOfSquaredDifferences(aDenseVector, aScalingFactor);
+            }
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * True: Rho value is the scalar product (maximum wins), false: Rho value
+     * is the squared distance (minimum wins)
+     *
+     * @return True if rho value is the scalar product, false otherwise
+     */
+    protected boolean isScalarProduct() {
+        return this.isScalarProduct;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,486 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+/**
+ * Exact pruning of the ART-2a rho winner calculation (maximum scalar product
+ * of a contrast enhanced unit vector x with the unit cluster vectors c_j).
+ * <br><br>
+ * At the start of each epoch a snapshot of the cluster vectors c'_j and the
+ * table of angles between them is created. During the epoch, the drift angle
+ * phi_j between c_j and its snapshot c'_j is maintained for each modified
+ * cluster vector. With the angle between x and an already evaluated
+ * reference cluster vector c_r, the triangle inequality for angles gives a
+ * lower bound for the angle between x and c_j:
+ * <br>
+ * angle(x, c_j) &gt;= |angle(x, c_r) - angle(c'_r, c'_j)| - phi_r - phi_j
+ * <br>
+ * If the cosine of this lower bound (i.e. an upper bound for the scalar
+ * product) is smaller than the best rho value found so far (or the
+ * vigilance), cluster vector c_j can not be the rho winner (or can not be
+ * accepted as winner) and its scalar product is skipped. The rho winner is
+ * identical to the one of the full scan (see
+ * Art2aUtils.setRhoWinner()): Cluster vectors are compared in
+ * ascending index order and only cluster vectors that provably lose are
+ * skipped. A small angle tolerance accounts for rounding.
+ * <br><br>
+ * The previous cluster of the data vector is evaluated first as reference
+ * since it is usually the winner again, so the bounds are tight from the
+ * start. Cluster vectors that were created during the epoch (and are not part
+ * of the snapshot) are always evaluated.
+ * <br><br>
+ * Note: The table of angles needs (number of clusters)^2 floats. Pruning is
+ * switched off for an epoch that starts with more than
+ * MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS clusters.
+ * <br><br>
+ * For a very high number of clusters (see CentroidIndex.isApplicable()) the
+ * snapshot is not used and the rho winner is determined with an angular
+ * CentroidIndex instead.
+ * <br><br>
+ * Note: RhoWinnerPruning is NOT thread-safe. No checks are performed.
+ */
+public class RhoWinnerPruning extends RhoWinnerCalculation {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Maximum number of clusters of a snapshot (table of angles with 64 MByte)
+     */
+    private static final int MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS = 4096;
+    /**
+     * Tolerance in radians that is subtracted from the lower bound of an angle
+     * to account for rounding
+     */
+    private static final float ANGLE_TOLERANCE = 1.0e-3f;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Snapshot of cluster vectors at the start of the epoch
+     */
+    private final ClusterMatrix snapshotClusterMatrix;
+    /**
+     * Drift angles between cluster vectors and their snapshots
+     */
+    private final float[] driftAngles;
+    /**
+     * Maximum number of clusters
+     */
+    private final int maximumNumberOfClusters;
+    /**
+     * Number of components of a cluster vector
+     */
+    private final int numberOfComponents;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Row-major table of angles between the snapshot cluster vectors
+     */
+    private float[] snapshotAngles;
+    /**
+     * Number of cluster vectors the table of angles has capacity for
+     */
+    private int snapshotCapacity;
+    /**
+     * Number of cluster vectors of the snapshot
+     */
+    private int numberOfSnapshotClusters;
+    /**
+     * Number of skipped (pruned) scalar products
+     */
+    private long numberOfPrunedRhoValues;
+    /**
+     * Centroid index for a very high number of clusters (null if not yet
+     * needed)
+     */
+    private CentroidIndex centroidIndex;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfComponents Number of components of a cluster vector
+     */
+    protected RhoWinnerPruning(
+            int aMaximumNumberOfClusters,
+            int aNumberOfComponents
+    ) {
+        super(true);
+        this.snapshotClusterMatrix = new ClusterMatrix(aMaximumNumberOfClusters, aNumberOfComponents);
+        this.driftAngles = new float[aMaximumNumberOfClusters];
+        this.maximumNumberOfClusters = aMaximumNumberOfClusters;
+        this.numberOfComponents = aNumberOfComponents;
+        this.centroidIndex = null;
+        this.snapshotAngles = new float[0];
+        this.snapshotCapacity = 0;
+        this.numberOfSnapshotClusters = 0;
+        this.numberOfPrunedRhoValues = 0L;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Creates the snapshot of the cluster vectors with the table of angles
+     * between them and resets all drift angles (to be called at the start of
+     * an epoch).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    @Override
+    protected void setSnapshot(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters
+    ) {
+        if (aNumberOfDetectedClusters > MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS || CentroidIndex.isApplicable(aNumberOfDetectedClusters)) {
+            this.numberOfSnapshotClusters = 0;
+            return;
+        }
+        aClusterMatrix.copyTo(this.snapshotClusterMatrix);
+        this.numberOfSnapshotClusters = aNumberOfDetectedClusters;
+        if (this.snapshotCapacity < aNumberOfDetectedClusters) {
+            // Geometric growth avoids reallocation in every epoch with new clusters
+            this.snapshotCapacity =
+                Math.max(
+                    aNumberOfDetectedClusters,
+                    Math.min(2 * this.snapshotCapacity, Math.min(this.maximumNumberOfClusters, MAXIMUM_NUMBER_OF_SNAPSHOT_CLUSTERS))
+                );
+            this.snapshotAngles = new float[this.snapshotCapacity * this.snapshotCapacity];
+        }
+        float[] tmpComponents = this.snapshotClusterMatrix.getComponents();
+        int tmpStride = this.snapshotClusterMatrix.getStride();
+        int tmpNumberOfComponents = this.snapshotClusterMatrix.getNumberOfComponents();
+        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
+            this.snapshotAngles[i * aNumberOfDetectedClusters + i] = 0.0f;
+            for (int j = i + 1; j < aNumberOfDetectedClusters; j++) {
+                float tmpAngle =
+                    RhoWinnerPruning.getAngle(
+                        Utils.getScalarProduct(tmpComponents, i * tmpStride, tmpComponents, j * tmpStride, tmpNumberOfComponents)
+                    );
+                this.snapshotAngles[i * aNumberOfDetectedClusters + j] = tmpAngle;
+                this.snapshotAngles[j * aNumberOfDetectedClusters + i] = tmpAngle;
+            }
+        }
+        Utils.fillVector(this.driftAngles, 0.0f);
+    }
+
+    /**
+     * Resets the centroid index (to be called if cluster indices change,
+     * i.e., after removal of empty clusters).
+     */
+    protected void resetCentroidIndex() {
+        if (this.centroidIndex != null) {
+            this.centroidIndex.reset();
+        }
+    }
+
+    /**
+     * Resets the centroid index (see resetCentroidIndex()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    @Override
+    protected void resetClusterIndices(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters
+    ) {
+        this.resetCentroidIndex();
+    }
+
+    /**
+     * Updates the drift angle of the modified cluster vector (see
+     * updateDriftAngle()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of modified cluster vector
+     */
+    @Override
+    protected void setModifiedCluster(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        this.updateDriftAngle(aClusterMatrix, aClusterIndex);
+    }
+
+    /**
+     * Updates the drift angle of the specified (modified) cluster vector.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of modified cluster vector
+     */
+    protected void updateDriftAngle(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        if (aClusterIndex < this.numberOfSnapshotClusters) {
+            int tmpOffset = aClusterIndex * aClusterMatrix.getStride();
+            this.driftAngles[aClusterIndex] =
+                RhoWinnerPruning.getAngle(
+                    Utils.getScalarProduct(
+                        aClusterMatrix.getComponents(),
+                        tmpOffset,
+                        this.snapshotClusterMatrix.getComponents(),
+                        tmpOffset,
+                        aClusterMatrix.getNumberOfComponents()
+                    )
+                );
+        }
+        if (this.centroidIndex != null) {
+            this.centroidIndex.updateDriftDistance(aClusterMatrix, aClusterIndex);
+        }
+    }
+
+    /**
+     * Sets rho winner with the rho value and the cluster index of the winner
+     * (see Art2aUtils.setRhoWinner()) where cluster vectors that
+     * provably can not be the winner or can not reach the vigilance are
+     * skipped. If the cluster index is negative, the first scaled rho value
+     * is the winner or no cluster vector reaches the vigilance.
+     *
+     * @param aContrastEnhancedUnitVector Contrast enhanced unit vector (IS
+     * NOT CHANGED, must be null if aSparseContrastEnhancedUnitVector is
+     * specified)
+     * @param aSparseContrastEnhancedUnitVector Sparse contrast enhanced unit
+     * vector (IS NOT CHANGED, must be null if aContrastEnhancedUnitVector is
+     * specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aVigilance Vigilance parameter
+     * @param aPreviousClusterIndex Cluster index of the data vector in the
+     * previous epoch (negative if not available)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner. If the cluster index is negative, the first scaled
+     * rho value is the winner.
+     */
+    protected void setRhoWinner(
+            float[] aContrastEnhancedUnitVector,
+            Utils.SparseVector aSparseContrastEnhancedUnitVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            float aVigilance,
+            int aPreviousClusterIndex,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        int tmpNumberOfSnapshotClusters = Math.min(this.numberOfSnapshotClusters, aNumberOfDetectedClusters);
+        // Calculate first rho value
+        float tmpRhoValue;
+        if (aSparseContrastEnhancedUnitVector != null) {
+            tmpRhoValue = aScalingFactor * Utils.getSumOfComponents(aSparseContrastEnhancedUnitVector);
+        } else {
+            tmpRhoValue = aScalingFactor * Utils.getSumOfComponents(aContrastEnhancedUnitVector);
+        }
+        if (CentroidIndex.isApplicable(aNumberOfDetectedClusters)) {
+            if (this.centroidIndex == null) {
+                this.centroidIndex = new CentroidIndex(this.maximumNumberOfClusters, this.numberOfComponents, true);
+            }
+            this.centroidIndex.setRhoWinner(
+                aContrastEnhancedUnitVector,
+                aSparseContrastEnhancedUnitVector,
+                aClusterMatrix,
+                aNumberOfDetectedClusters,
+                tmpRhoValue,
+                Math.max(tmpRhoValue, aVigilance),
+                aPreviousClusterIndex,
+                aRhoWinner
+            );
+            return;
+        }
+        // Set winner index to negative value
+        int tmpIndex = -1;
+        // A cluster vector must exceed this threshold to be relevant
+        float tmpThreshold = Math.max(tmpRhoValue, aVigilance);
+        // Angle that corresponds to the threshold: A cluster vector with a
+        // larger lower bound for its angle can not exceed the threshold
+        float tmpThresholdAngle = RhoWinnerPruning.getAngle(tmpThreshold);
+        // Reference cluster vector of the snapshot for the bounds
+        int tmpReferenceIndex = -1;
+        float tmpReferenceRho = 0.0f;
+        float tmpReferenceAngle = 0.0f;
+        int tmpPreviousClusterIndex = -1;
+        float tmpPreviousRho = 0.0f;
+        if (aPreviousClusterIndex >= 0 && aPreviousClusterIndex < tmpNumberOfSnapshotClusters) {
+            tmpPreviousClusterIndex = aPreviousClusterIndex;
+            tmpPreviousRho =
+                RhoWinnerPruning.getRhoValue(
+                    aContrastEnhancedUnitVector,
+                    aSparseContrastEnhancedUnitVector,
+                    aClusterMatrix,
+                    tmpPreviousClusterIndex
+                );
+            tmpReferenceIndex = tmpPreviousClusterIndex;
+            tmpReferenceRho = tmpPreviousRho;
+            tmpReferenceAngle = RhoWinnerPruning.getAngle(tmpPreviousRho);
+            if (tmpPreviousRho > tmpThreshold) {
+                tmpThreshold = tmpPreviousRho;
+                tmpThresholdAngle = tmpReferenceAngle;
+            }
+        }
+        // Calculate other rho values in ascending index order
+        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
+            float tmpRhoForCluster;
+            if (i == tmpPreviousClusterIndex) {
+                tmpRhoForCluster = tmpPreviousRho;
+            } else {
+                if (tmpReferenceIndex >= 0 && i < tmpNumberOfSnapshotClusters) {
+                    float tmpLowerBoundAngle =
+                        Math.abs(tmpReferenceAngle - this.snapshotAngles[tmpReferenceIndex * this.numberOfSnapshotClusters + i])
+                            - this.driftAngles[tmpReferenceIndex]
+                            - this.driftAngles[i]
+                            - ANGLE_TOLERANCE;
+                    if (tmpLowerBoundAngle > tmpThresholdAngle) {
+                        this.numberOfPrunedRhoValues++;
+                        continue;
+                    }
+                }
+                tmpRhoForCluster =
+                    RhoWinnerPruning.getRhoValue(
+                        aContrastEnhancedUnitVector,
+                        aSparseContrastEnhancedUnitVector,
+                        aClusterMatrix,
+                        i
+                    );
+                if (i < tmpNumberOfSnapshotClusters && (tmpReferenceIndex < 0 || tmpRhoForCluster > tmpReferenceRho)) {
+                    // Better reference for tighter bounds
+                    tmpReferenceIndex = i;
+                    tmpReferenceRho = tmpRhoForCluster;
+                    tmpReferenceAngle = RhoWinnerPruning.getAngle(tmpRhoForCluster);
+                }
+            }
+            if (tmpRhoForCluster > tmpRhoValue) {
+                tmpRhoValue = tmpRhoForCluster;
+                tmpIndex = i;
+            }
+            if (tmpRhoForCluster > tmpThreshold) {
+                tmpThreshold = tmpRhoForCluster;
+                tmpThresholdAngle = RhoWinnerPruning.getAngle(tmpRhoForCluster);
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+    }
+
+    /**
+     * Sets rho winner of a data vector with pruning (see setRhoWinner()).
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aDenseVector Dense contrast enhanced unit vector (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse contrast enhanced unit vector (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aVigilanceThreshold Vigilance parameter
+     * @param aPreviousClusterIndex Index of the cluster the data vector was
+     * assigned to before (negative if not available)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    @Override
+    protected void setRhoWinnerOfDataVector(
+            int aDataVectorIndex,
+            float[] aDenseVector,
+            Utils.SparseVector aSparseVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            float aVigilanceThreshold,
+            int aPreviousClusterIndex,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        this.setRhoWinner(
+            aDenseVector,
+            aSparseVector,
+            aClusterMatrix,
+            aNumberOfDetectedClusters,
+            aScalingFactor,
+            aVigilanceThreshold,
+            aPreviousClusterIndex,
+            aRhoWinner
+        );
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Number of skipped (pruned) scalar products
+     *
+     * @return Number of skipped (pruned) scalar products
+     */
+    protected long getNumberOfPrunedRhoValues() {
+        if (this.centroidIndex != null) {
+            return this.numberOfPrunedRhoValues + this.centroidIndex.getNumberOfPrunedRhoValues();
+        }
+        return this.numberOfPrunedRhoValues;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private static methods">
+    /**
+     * Returns angle in radians for the specified scalar product of two unit
+     * vectors (clamped to interval [-1,1]).
+     *
+     * @param aScalarProduct Scalar product of two unit vectors
+     * @return Angle in radians
+     */
+    private static float getAngle(
+            float aScalarProduct
+    ) {
+        return (float) Math.acos(Math.max(-1.0f, Math.min(1.0f, aScalarProduct)));
+    }
+
+    /**
+     * Calculates the rho value (scalar product) of the dense or sparse
+     * contrast enhanced unit vector and the specified cluster vector (see
+     * ClusterMatrix.getScalarProduct() for dense vectors).
+     *
+     * @param aContrastEnhancedUnitVector Contrast enhanced unit vector (IS
+     * NOT CHANGED, null if aSparseContrastEnhancedUnitVector is specified)
+     * @param aSparseContrastEnhancedUnitVector Sparse contrast enhanced unit
+     * vector (IS NOT CHANGED, null if aContrastEnhancedUnitVector is
+     * specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of cluster vector
+     * @return Rho value
+     */
+    private static float getRhoValue(
+            float[] aContrastEnhancedUnitVector,
+            Utils.SparseVector aSparseContrastEnhancedUnitVector,
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        if (aSparseContrastEnhancedUnitVector != null) {
+            return Utils.getScalarProduct(aSparseContrastEnhancedUnitVector, aClusterMatrix.getComponents(), aClusterMatrix.getOffset(aClusterIndex));
+        } else {
+            return aClusterMatrix.getScalarProduct(aContrastEnhancedUnitVector, aClusterIndex);
+        }
+    }
+    //</editor-fold>
+
+}
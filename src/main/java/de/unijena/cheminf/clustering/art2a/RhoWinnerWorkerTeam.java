@@ -0,0 +1,676 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Team of persistent worker threads for the parallelized rho winner
+ * calculation of a single data vector.
+ * <br><br>
+ * The team is created once per clustering run. The range of cluster vectors
+ * is split into contiguous shards, one per worker. The calling thread is
+ * worker 0 and the other workers are dedicated threads that wait on a spin
+ * barrier (a generation counter) for the next data vector, so no task is
+ * submitted to a thread pool per data vector. Each worker determines the
+ * winner of its shard (maximum scalar product for ART-2a, minimum squared
+ * distance for ART-2a-Euclid) and the calling thread reduces the shard
+ * winners in ascending shard order. Since every comparison is strict, the
+ * winner is identical to the one of the sequential calculation.
+ * <br><br>
+ * A worker only receives a shard if the shard contains at least
+ * MINIMUM_NUMBER_OF_OPERATIONS_PER_WORKER multiply-add operations. For a
+ * small number of cluster vectors the calling thread therefore calculates
+ * the rho winner alone without any synchronization. Waiting workers spin for
+ * a while and are parked afterwards so that they do not consume CPU time
+ * during long sequential phases.
+ * <br><br>
+ * The minimum number of operations of a shard may be calibrated at runtime
+ * (see startCalibration() and finishCalibration()): During calibration every
+ * CALIBRATION_INTERVAL-th rho winner calculation is timed, alternately
+ * sequentially and with all workers. The time per multiply-add operation c
+ * of the sequential calculation and the synchronization overhead o of the
+ * shared calculation (time minus c times the operations of a shard) lead to
+ * o / c as the minimum number of operations of a shard, i.e., a shared
+ * calculation is only used if each shard saves more time than the
+ * synchronization costs.
+ * <br><br>
+ * The workers may also calculate the rho values of a window of upcoming data
+ * vectors for the speculative rho winner calculation (see setRhoValues() and
+ * SpeculativeRhoWindow) where each worker receives a contiguous range of
+ * data vectors of the window.
+ * <br><br>
+ * Note: RhoWinnerWorkerTeam must be closed after use (see close()). Only the
+ * thread that created the team may call setRhoWinner() and setRhoValues().
+ * No checks are performed.
+ */
+public class RhoWinnerWorkerTeam extends RhoWinnerCalculation implements AutoCloseable {
+
+    //<editor-fold desc="Private static final LOGGER">
+    /**
+     * Logger of this class
+     */
+    private static final Logger LOGGER = Logger.getLogger(RhoWinnerWorkerTeam.class.getName());
+    //</editor-fold>
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Minimum number of multiply-add operations of a shard (below this number
+     * the synchronization costs exceed the gain of an additional worker)
+     */
+    private static final int MINIMUM_NUMBER_OF_OPERATIONS_PER_WORKER = 32768;
+    /**
+     * Number of spin iterations of a waiting worker before it is parked
+     */
+    private static final int NUMBER_OF_SPIN_ITERATIONS = 1 << 16;
+    /**
+     * Distance between the result entries of two workers in the result arrays
+     * (avoids false sharing of cache lines)
+     */
+    private static final int RESULT_PADDING = 16;
+    /**
+     * Interval of rho winner calculations that are timed during calibration
+     */
+    private static final int CALIBRATION_INTERVAL = 16;
+    /**
+     * Factor of the minimum number of operations of a shard for a batch of
+     * independent operations per worker (see isParallelBatch())
+     */
+    private static final int BATCH_FACTOR = 64;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of workers (including the calling thread)
+     */
+    private final int numberOfWorkers;
+    /**
+     * Dedicated worker threads (workers 1 to numberOfWorkers - 1)
+     */
+    private final Thread[] workerThreads;
+    /**
+     * Parked flags of the dedicated worker threads (1: Worker may be parked,
+     * 0: Otherwise)
+     */
+    private final AtomicIntegerArray parkedFlags;
+    /**
+     * Rho values of the shard winners (padded)
+     */
+    private final float[] shardRhoValues;
+    /**
+     * Cluster indices of the shard winners (padded)
+     */
+    private final int[] shardClusterIndices;
+    /**
+     * Number of workers that finished their shard of the current generation
+     */
+    private final AtomicInteger numberOfFinishedWorkers;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Generation counter of the spin barrier (incremented for every data
+     * vector, a negative value closes the team)
+     */
+    private volatile int generation;
+    /**
+     * Exception of a worker (null if none occurred)
+     */
+    private volatile RuntimeException workerException;
+    /**
+     * Dense vector of the current generation (null if sparseVector is set)
+     */
+    private float[] denseVector;
+    /**
+     * Squared length of the dense vector of the current generation for
+     * squared distances (see ClusterMatrix.getSquaredLengthForSquaredDistance())
+     */
+    private float denseVectorSquaredLength;
+    /**
+     * Sparse vector of the current generation (null if denseVector is set)
+     */
+    private Utils.SparseVector sparseVector;
+    /**
+     * Speculative rho window of the current generation (null for a rho
+     * winner calculation, see setRhoValues())
+     */
+    private SpeculativeRhoWindow speculativeRhoWindow;
+    /**
+     * Cluster matrix of the current generation
+     */
+    private ClusterMatrix clusterMatrix;
+    /**
+     * Number of cluster vectors of the current generation
+     */
+    private int numberOfDetectedClusters;
+    /**
+     * Number of active workers of the current generation
+     */
+    private int numberOfActiveWorkers;
+    /**
+     * Minimum number of multiply-add operations of a shard
+     */
+    private long minimumNumberOfOperationsPerWorker;
+    /**
+     * True: Rho winner calculations are timed for calibration, false:
+     * Otherwise
+     */
+    private boolean isCalibrating;
+    /**
+     * True: Minimum number of operations of a shard is calibrated, false:
+     * Otherwise
+     */
+    private boolean isCalibrated;
+    /**
+     * Number of rho winner calculations during calibration
+     */
+    private long numberOfCalibrationCalculations;
+    /**
+     * Sum of times in nanoseconds of timed sequential calculations
+     */
+    private long sequentialCalibrationTime;
+    /**
+     * Sum of operations of timed sequential calculations
+     */
+    private long sequentialCalibrationOperations;
+    /**
+     * Sum of times in nanoseconds of timed shared calculations
+     */
+    private long sharedCalibrationTime;
+    /**
+     * Sum of operations per shard of timed shared calculations
+     */
+    private long sharedCalibrationOperationsPerWorker;
+    /**
+     * Number of timed shared calculations
+     */
+    private long numberOfSharedCalibrationCalculations;
+    /**
+     * Calibrated time in nanoseconds per multiply-add operation
+     */
+    private double calibratedTimePerOperation;
+    /**
+     * Calibrated synchronization overhead in nanoseconds of a shared
+     * calculation
+     */
+    private double calibratedSynchronizationOverhead;
+    /**
+     * Number of shared (parallelized) rho winner calculations
+     */
+    private long numberOfSharedCalculations;
+    /**
+     * Number of rho winner calculations of the calling thread alone
+     */
+    private long numberOfSequentialCalculations;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors">
+    /**
+     * Constructor: Starts the dedicated worker threads (one less than the
+     * number of threads for parallelized calculations, see
+     * Utils.getParallelism()).
+     *
+     * @param anIsScalarProduct True: Rho value is the scalar product (maximum
+     * wins, ART-2a), false: Rho value is the squared distance (minimum wins,
+     * ART-2a-Euclid)
+     */
+    protected RhoWinnerWorkerTeam(boolean anIsScalarProduct) {
+        this(
+            anIsScalarProduct,
+            Utils.getParallelism(),
+            MINIMUM_NUMBER_OF_OPERATIONS_PER_WORKER
+        );
+    }
+
+    /**
+     * Constructor: Starts the dedicated worker threads (one less than the
+     * number of workers).
+     *
+     * @param anIsScalarProduct True: Rho value is the scalar product (maximum
+     * wins, ART-2a), false: Rho value is the squared distance (minimum wins,
+     * ART-2a-Euclid)
+     * @param aNumberOfWorkers Number of workers including the calling thread
+     * (values less than 1 are treated as 1)
+     * @param aMinimumNumberOfOperationsPerWorker Minimum number of
+     * multiply-add operations of a shard (values less than 1 are treated as 1)
+     */
+    protected RhoWinnerWorkerTeam(
+            boolean anIsScalarProduct,
+            int aNumberOfWorkers,
+            long aMinimumNumberOfOperationsPerWorker
+    ) {
+        super(anIsScalarProduct);
+        this.numberOfWorkers = Math.max(1, aNumberOfWorkers);
+        this.minimumNumberOfOperationsPerWorker = Math.max(1L, aMinimumNumberOfOperationsPerWorker);
+        this.isCalibrating = false;
+        this.isCalibrated = false;
+        this.numberOfSharedCalculations = 0L;
+        this.numberOfSequentialCalculations = 0L;
+        this.shardRhoValues = new float[this.numberOfWorkers * RESULT_PADDING];
+        this.shardClusterIndices = new int[this.numberOfWorkers * RESULT_PADDING];
+        this.numberOfFinishedWorkers = new AtomicInteger(0);
+        this.parkedFlags = new AtomicIntegerArray(this.numberOfWorkers);
+        this.generation = 0;
+        this.workerException = null;
+        this.workerThreads = new Thread[this.numberOfWorkers];
+        for (int i = 1; i < this.numberOfWorkers; i++) {
+            final int tmpWorkerIndex = i;
+            Thread tmpThread = new Thread(() -> this.runWorker(tmpWorkerIndex), "RhoWinnerWorker-" + i);
+            tmpThread.setDaemon(true);
+            this.workerThreads[i] = tmpThread;
+            tmpThread.start();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public methods">
+    /**
+     * Stops the dedicated worker threads.
+     */
+    @Override
+    public void close() {
+        this.generation = -1;
+        for (int i = 1; i < this.numberOfWorkers; i++) {
+            LockSupport.unpark(this.workerThreads[i]);
+        }
+        for (int i = 1; i < this.numberOfWorkers; i++) {
+            try {
+                this.workerThreads[i].join();
+            } catch (InterruptedException anInterruptedException) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Sets rho winner with the rho value and the cluster index of the winner
+     * (identical to the sequential rho winner calculation of the kernels). If
+     * the cluster index is negative, the first rho value is the winner.
+     *
+     * @param aDenseVector Dense contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED, with tracked
+     * squared lengths for sparse vectors and squared distances)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aFirstRhoValue First rho value (with cluster index -1)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     * @throws RuntimeException Thrown if a worker failed
+     */
+    protected void setRhoWinner(
+            float[] aDenseVector,
+            Utils.SparseVector aSparseVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aFirstRhoValue,
+            Utils.RhoWinner aRhoWinner
+    ) throws RuntimeException {
+        this.speculativeRhoWindow = null;
+        this.denseVector = aDenseVector;
+        if (aDenseVector != null && !this.isScalarProduct()) {
+            this.denseVectorSquaredLength = aClusterMatrix.getSquaredLengthForSquaredDistance(aDenseVector);
+        }
+        this.sparseVector = aSparseVector;
+        this.clusterMatrix = aClusterMatrix;
+        this.numberOfDetectedClusters = aNumberOfDetectedClusters;
+        long tmpNumberOfOperationsPerCluster = aSparseVector != null ? aSparseVector.getNumberOfNonZeros() : aClusterMatrix.getNumberOfComponents();
+        long tmpNumberOfOperations = Math.max(1L, tmpNumberOfOperationsPerCluster) * aNumberOfDetectedClusters;
+        this.numberOfActiveWorkers =
+            (int) Math.max(1L, Math.min(this.numberOfWorkers, tmpNumberOfOperations / this.minimumNumberOfOperationsPerWorker));
+        boolean tmpIsTimed = false;
+        if (this.isCalibrating && this.numberOfCalibrationCalculations++ % CALIBRATION_INTERVAL == 0) {
+            tmpIsTimed = true;
+            if ((this.numberOfCalibrationCalculations / CALIBRATION_INTERVAL) % 2 == 0) {
+                this.numberOfActiveWorkers = 1;
+            } else {
+                this.numberOfActiveWorkers = Math.min(this.numberOfWorkers, aNumberOfDetectedClusters);
+            }
+        }
+        long tmpStartTime = tmpIsTimed ? System.nanoTime() : 0L;
+        if (this.numberOfActiveWorkers > 1) {
+            this.numberOfFinishedWorkers.set(0);
+            // Volatile write publishes the task of the generation
+            this.generation++;
+            for (int i = 1; i < this.numberOfActiveWorkers; i++) {
+                if (this.parkedFlags.get(i) == 1) {
+                    LockSupport.unpark(this.workerThreads[i]);
+                }
+            }
+        }
+        this.setShardRhoWinner(0);
+        float tmpRhoValue = aFirstRhoValue;
+        int tmpIndex = -1;
+        if (this.numberOfActiveWorkers > 1) {
+            int tmpNumberOfOtherWorkers = this.numberOfActiveWorkers - 1;
+            while (this.numberOfFinishedWorkers.get() < tmpNumberOfOtherWorkers) {
+                Thread.onSpinWait();
+            }
+            if (this.workerException != null) {
+                throw this.workerException;
+            }
+        }
+        for (int i = 0; i < this.numberOfActiveWorkers; i++) {
+            int tmpShardIndex = this.shardClusterIndices[i * RESULT_PADDING];
+            float tmpShardRhoValue = this.shardRhoValues[i * RESULT_PADDING];
+            if (tmpShardIndex >= 0 && (this.isScalarProduct() ? tmpShardRhoValue > tmpRhoValue : tmpShardRhoValue < tmpRhoValue)) {
+                tmpRhoValue = tmpShardRhoValue;
+                tmpIndex = tmpShardIndex;
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+        if (tmpIsTimed) {
+            long tmpTime = System.nanoTime() - tmpStartTime;
+            if (this.numberOfActiveWorkers > 1) {
+                this.sharedCalibrationTime += tmpTime;
+                this.sharedCalibrationOperationsPerWorker += tmpNumberOfOperations / this.numberOfActiveWorkers;
+                this.numberOfSharedCalibrationCalculations++;
+            } else {
+                this.sequentialCalibrationTime += tmpTime;
+                this.sequentialCalibrationOperations += tmpNumberOfOperations;
+            }
+        }
+        if (this.numberOfActiveWorkers > 1) {
+            this.numberOfSharedCalculations++;
+        } else {
+            this.numberOfSequentialCalculations++;
+        }
+    }
+
+    /**
+     * Calculates the rho values of all data vectors of a speculative rho
+     * window with the snapshot of the cluster vectors (see
+     * SpeculativeRhoWindow.setRhoValues()). The data vectors are split into
+     * contiguous ranges, one per worker, where a worker only receives a range
+     * if the range contains at least the minimum number of operations of a
+     * shard.
+     *
+     * @param aSpeculativeRhoWindow Speculative rho window (rho values ARE
+     * SET)
+     * @param aNumberOfDataVectors Number of data vectors of the window
+     * @param aNumberOfOperations Number of multiply-add operations of all rho
+     * values of the window
+     * @throws RuntimeException Thrown if a worker failed
+     */
+    protected void setRhoValues(
+            SpeculativeRhoWindow aSpeculativeRhoWindow,
+            int aNumberOfDataVectors,
+            long aNumberOfOperations
+    ) throws RuntimeException {
+        this.speculativeRhoWindow = aSpeculativeRhoWindow;
+        this.numberOfActiveWorkers =
+            (int) Math.max(
+                1L,
+                Math.min(Math.min(this.numberOfWorkers, aNumberOfDataVectors), aNumberOfOperations / this.minimumNumberOfOperationsPerWorker)
+            );
+        if (this.numberOfActiveWorkers > 1) {
+            this.numberOfFinishedWorkers.set(0);
+            // Volatile write publishes the task of the generation
+            this.generation++;
+            for (int i = 1; i < this.numberOfActiveWorkers; i++) {
+                if (this.parkedFlags.get(i) == 1) {
+                    LockSupport.unpark(this.workerThreads[i]);
+                }
+            }
+        }
+        aSpeculativeRhoWindow.setRhoValues(0, this.numberOfActiveWorkers);
+        if (this.numberOfActiveWorkers > 1) {
+            int tmpNumberOfOtherWorkers = this.numberOfActiveWorkers - 1;
+            while (this.numberOfFinishedWorkers.get() < tmpNumberOfOtherWorkers) {
+                Thread.onSpinWait();
+            }
+            if (this.workerException != null) {
+                throw this.workerException;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of workers (including the calling thread).
+     *
+     * @return Number of workers
+     */
+    protected int getNumberOfWorkers() {
+        return this.numberOfWorkers;
+    }
+
+    /**
+     * Starts calibration of the minimum number of operations of a shard (see
+     * class description). Without dedicated worker threads nothing is done.
+     */
+    protected void startCalibration() {
+        if (this.numberOfWorkers > 1) {
+            this.isCalibrating = true;
+            this.numberOfCalibrationCalculations = 0L;
+            this.sequentialCalibrationTime = 0L;
+            this.sequentialCalibrationOperations = 0L;
+            this.sharedCalibrationTime = 0L;
+            this.sharedCalibrationOperationsPerWorker = 0L;
+            this.numberOfSharedCalibrationCalculations = 0L;
+        }
+    }
+
+    /**
+     * Finishes calibration and sets the calibrated minimum number of
+     * operations of a shard. If there are not enough timed calculations, the
+     * minimum number of operations of a shard is not changed.
+     */
+    protected void finishCalibration() {
+        if (!this.isCalibrating) {
+            return;
+        }
+        this.isCalibrating = false;
+        if (this.sequentialCalibrationOperations == 0L || this.sequentialCalibrationTime == 0L || this.numberOfSharedCalibrationCalculations == 0L) {
+            return;
+        }
+        this.calibratedTimePerOperation = (double) this.sequentialCalibrationTime / (double) this.sequentialCalibrationOperations;
+        this.calibratedSynchronizationOverhead =
+            Math.max(
+                0.0,
+                (this.sharedCalibrationTime - this.calibratedTimePerOperation * this.sharedCalibrationOperationsPerWorker) /
+                    this.numberOfSharedCalibrationCalculations
+            );
+        this.minimumNumberOfOperationsPerWorker =
+            Math.max(1L, Math.round(this.calibratedSynchronizationOverhead / this.calibratedTimePerOperation));
+        this.isCalibrated = true;
+    }
+
+    /**
+     * Returns if a batch of independent operations (e.g. the final assignment
+     * of data vectors to clusters) is worth to be parallelized, i.e., if the
+     * batch contains at least BATCH_FACTOR times the minimum number of
+     * operations of a shard for every worker.
+     *
+     * @param aNumberOfOperations Number of multiply-add operations of batch
+     * @return True: Batch should be parallelized, false: Otherwise
+     */
+    protected boolean isParallelBatch(long aNumberOfOperations) {
+        return this.numberOfWorkers > 1 &&
+            aNumberOfOperations / this.numberOfWorkers >= BATCH_FACTOR * this.minimumNumberOfOperationsPerWorker;
+    }
+
+    /**
+     * Returns a description of the execution of the rho winner calculations
+     * (number of workers, minimum number of operations of a shard with
+     * calibration data and numbers of shared and sequential calculations).
+     *
+     * @return Description of the execution
+     */
+    protected String getExecutionDescription() {
+        StringBuilder tmpDescription = new StringBuilder();
+        tmpDescription.append(this.numberOfWorkers).append(" worker(s), minimum ");
+        tmpDescription.append(this.minimumNumberOfOperationsPerWorker).append(" operations per worker");
+        if (this.isCalibrated) {
+            tmpDescription.append(
+                String.format(
+                    Locale.US,
+                    " (calibrated: %.3f ns per operation, %.3f us synchronization overhead)",
+                    this.calibratedTimePerOperation,
+                    this.calibratedSynchronizationOverhead / 1000.0
+                )
+            );
+        }
+        tmpDescription.append(", ").append(this.numberOfSharedCalculations).append(" parallelized and ");
+        tmpDescription.append(this.numberOfSequentialCalculations).append(" sequential rho winner calculations");
+        return tmpDescription.toString();
+    }
+
+    /**
+     * Sets rho winner of a data vector with the workers of the team (see
+     * setRhoWinner()).
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aDenseVector Dense contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse contrast enhanced (unit) vector (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aVigilanceThreshold Threshold of the vigilance test (not used)
+     * @param aPreviousClusterIndex Index of the cluster the data vector was
+     * assigned to before (not used)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     * @throws RuntimeException Thrown if a worker failed
+     */
+    @Override
+    protected void setRhoWinnerOfDataVector(
+            int aDataVectorIndex,
+            float[] aDenseVector,
+            Utils.SparseVector aSparseVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            float aVigilanceThreshold,
+            int aPreviousClusterIndex,
+            Utils.RhoWinner aRhoWinner
+    ) throws RuntimeException {
+        this.setRhoWinner(
+            aDenseVector,
+            aSparseVector,
+            aClusterMatrix,
+            aNumberOfDetectedClusters,
+            this.getFirstRhoValue(aDenseVector, aSparseVector, aScalingFactor, aClusterMatrix.getNumberOfComponents()),
+            aRhoWinner
+        );
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Loop of a dedicated worker thread.
+     *
+     * @param aWorkerIndex Index of worker
+     */
+    private void runWorker(int aWorkerIndex) {
+        int tmpLastGeneration = 0;
+        while (true) {
+            int tmpGeneration = this.generation;
+            int tmpNumberOfSpinIterations = 0;
+            while (tmpGeneration == tmpLastGeneration) {
+                if (tmpNumberOfSpinIterations < NUMBER_OF_SPIN_ITERATIONS) {
+                    tmpNumberOfSpinIterations++;
+                    Thread.onSpinWait();
+                } else {
+                    this.parkedFlags.set(aWorkerIndex, 1);
+                    // Re-check after flag is set since the generation may have
+                    // changed in between (unpark before park is not lost)
+                    if (this.generation == tmpLastGeneration) {
+                        LockSupport.park(this);
+                    }
+                    this.parkedFlags.set(aWorkerIndex, 0);
+                }
+                tmpGeneration = this.generation;
+            }
+            if (tmpGeneration < 0) {
+                return;
+            }
+            tmpLastGeneration = tmpGeneration;
+            if (aWorkerIndex < this.numberOfActiveWorkers) {
+                try {
+                    if (this.speculativeRhoWindow != null) {
+                        this.speculativeRhoWindow.setRhoValues(aWorkerIndex, this.numberOfActiveWorkers);
+                    } else {
+                        this.setShardRhoWinner(aWorkerIndex);
+                    }
+                } catch (RuntimeException aRuntimeException) {
+                    RhoWinnerWorkerTeam.LOGGER.log(Level.SEVERE, aRuntimeException.toString(), aRuntimeException);
+                    this.workerException = aRuntimeException;
+                }
+                this.numberOfFinishedWorkers.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Determines the winner of the shard of the specified worker.
+     *
+     * @param aWorkerIndex Index of worker
+     */
+    private void setShardRhoWinner(int aWorkerIndex) {
+        int tmpStart = (int) ((long) this.numberOfDetectedClusters * aWorkerIndex / this.numberOfActiveWorkers);
+        int tmpEnd = (int) ((long) this.numberOfDetectedClusters * (aWorkerIndex + 1) / this.numberOfActiveWorkers);
+        float[] tmpClusterComponents = this.clusterMatrix.getComponents();
+        int tmpStride = this.clusterMatrix.getStride();
+        float tmpBestRhoValue = 0.0f;
+        int tmpBestIndex = -1;
+        for (int i = tmpStart; i < tmpEnd; i++) {
+            float tmpRhoValue;
+            if (this.isScalarProduct()) {
+                if (this.sparseVector != null) {
+                    tmpRhoValue = Utils.getScalarProduct(this.sparseVector, tmpClusterComponents, i * tmpStride);
+                } else {
+                    tmpRhoValue = this.clusterMatrix.getScalarProduct(this.denseVector, i);
+                }
+                if (tmpBestIndex < 0 || tmpRhoValue > tmpBestRhoValue) {
+                    tmpBestRhoValue = tmpRhoValue;
+                    tmpBestIndex = i;
+                }
+            } else {
+                if (this.sparseVector != null) {
+                    tmpRhoValue = Utils.getSquaredDistance(this.sparseVector, tmpClusterComponents, i * tmpStride, this.clusterMatrix.getSquaredLength(i));
+                } else {
+                    tmpRhoValue = this.clusterMatrix.getSquaredDistance(this.denseVector, this.denseVectorSquaredLength, i);
+                }
+                if (tmpBestIndex < 0 || tmpRhoValue < tmpBestRhoValue) {
+                    tmpBestRhoValue = tmpRhoValue;
+                    tmpBestIndex = i;
+                }
+            }
+        }
+        this.shardRhoValues[aWorkerIndex * RESULT_PADDING] = tmpBestRhoValue;
+        this.shardClusterIndices[aWorkerIndex * RESULT_PADDING] = tmpBestIndex;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,643 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Approximate ART-2a rho winner calculation (maximum scalar product of a
+ * contrast enhanced unit vector x with the unit cluster vectors c_j) with
+ * random hyperplane locality-sensitive hashing (SimHash).
+ * <br><br>
+ * Each of the hash tables has its own set of random hyperplanes h_b (with
+ * Gaussian components). The signature of a vector v in a table is the bit
+ * pattern of the signs of the scalar products h_b * v, so that the
+ * probability of two vectors to share a signature bit decreases with the
+ * angle between them. Since contrast enhanced unit vectors have
+ * non-negative components and are concentrated around the diagonal
+ * direction (1, 1, ..., 1), the hyperplane normal vectors are made orthogonal
+ * to the diagonal so that the signature bits are not dominated by it. The
+ * cluster vectors are bucketed by their signatures
+ * in every table. The rho winner is only searched among the candidate
+ * cluster vectors of the buckets of x and the buckets with a Hamming
+ * distance of 1 to them (multi-probe) in all tables together with the
+ * previous cluster of the data vector.
+ * <br><br>
+ * The result is approximate: The true rho winner may be missed. If no
+ * candidate cluster vector reaches the vigilance, the exact rho winner
+ * calculation is performed (see setRhoWinnerOfDataVector()) and counted as
+ * a fallback (see getFallbackFraction()). To tune the number of tables and
+ * signature bits, the recall (fraction of data vectors where the
+ * approximate rho winner is identical to the exact one) is estimated with
+ * an exact rho winner calculation for every RECALL_SAMPLING_INTERVAL-th
+ * data vector with an accepted candidate (see isRecallSample()). Fallbacks
+ * are not covered by the recall.
+ * <br><br>
+ * Note: SimHashIndex is NOT thread-safe. No checks are performed.
+ */
+public class SimHashIndex extends RhoWinnerCalculation {
+
+    //<editor-fold desc="Public static final constants">
+    /**
+     * Maximum number of hash tables
+     */
+    public static final int MAXIMUM_NUMBER_OF_HASH_TABLES = 64;
+    /**
+     * Maximum number of signature bits of a hash table (the bucket array of a
+     * table has 2^bits entries)
+     */
+    public static final int MAXIMUM_NUMBER_OF_SIGNATURE_BITS = 16;
+    //</editor-fold>
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Interval of data vectors for which the exact rho winner is calculated to
+     * estimate the recall
+     */
+    private static final int RECALL_SAMPLING_INTERVAL = 32;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of hash tables
+     */
+    private final int numberOfHashTables;
+    /**
+     * Number of signature bits of a hash table
+     */
+    private final int numberOfSignatureBits;
+    /**
+     * Number of components of a vector
+     */
+    private final int numberOfComponents;
+    /**
+     * Row-major matrix of hyperplane normal vectors (numberOfHashTables *
+     * numberOfSignatureBits rows)
+     */
+    private final float[] hyperplanes;
+    /**
+     * First cluster index of a bucket for each hash table (-1: Empty bucket)
+     */
+    private final int[][] bucketHeads;
+    /**
+     * Next cluster index of the bucket of a cluster for each hash table (-1:
+     * Last cluster in bucket)
+     */
+    private final int[][] nextClusterIndices;
+    /**
+     * Previous cluster index of the bucket of a cluster for each hash table
+     * (-1: First cluster in bucket)
+     */
+    private final int[][] previousClusterIndices;
+    /**
+     * Signature of a cluster for each hash table
+     */
+    private final int[][] clusterSignatures;
+    /**
+     * Signatures of the data vector for each hash table
+     */
+    private final int[] dataVectorSignatures;
+    /**
+     * Query stamps of clusters to avoid multiple evaluations of a candidate
+     */
+    private final int[] clusterStamps;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Number of indexed clusters
+     */
+    private int numberOfIndexedClusters;
+    /**
+     * Current query stamp
+     */
+    private int stamp;
+    /**
+     * Number of queries
+     */
+    private long numberOfQueries;
+    /**
+     * Number of queries without an accepted candidate cluster vector where
+     * the exact rho winner calculation was performed instead
+     */
+    private long numberOfFallbacks;
+    /**
+     * Number of queries with an exact rho winner calculation for recall
+     * estimation
+     */
+    private long numberOfRecallSamples;
+    /**
+     * Number of recall samples where the approximate rho winner is identical
+     * to the exact one
+     */
+    private long numberOfRecallHits;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor
+     *
+     * @param aMaximumNumberOfClusters Maximum number of clusters
+     * @param aNumberOfComponents Number of components of a vector
+     * @param aNumberOfHashTables Number of hash tables (in interval [1,
+     * MAXIMUM_NUMBER_OF_HASH_TABLES])
+     * @param aNumberOfSignatureBits Number of signature bits of a hash table
+     * (in interval [1, MAXIMUM_NUMBER_OF_SIGNATURE_BITS])
+     * @param aRandomSeed Seed for the random hyperplanes
+     */
+    protected SimHashIndex(
+            int aMaximumNumberOfClusters,
+            int aNumberOfComponents,
+            int aNumberOfHashTables,
+            int aNumberOfSignatureBits,
+            long aRandomSeed
+    ) {
+        super(true);
+        this.numberOfHashTables = aNumberOfHashTables;
+        this.numberOfSignatureBits = aNumberOfSignatureBits;
+        this.numberOfComponents = aNumberOfComponents;
+        Random tmpRandomNumberGenerator = new Random(aRandomSeed);
+        this.hyperplanes = new float[aNumberOfHashTables * aNumberOfSignatureBits * aNumberOfComponents];
+        for (int i = 0; i < this.hyperplanes.length; i += aNumberOfComponents) {
+            float tmpMean = 0.0f;
+            for (int j = 0; j < aNumberOfComponents; j++) {
+                this.hyperplanes[i + j] = (float) tmpRandomNumberGenerator.nextGaussian();
+                tmpMean += this.hyperplanes[i + j];
+            }
+            // Hyperplane normal vector is made orthogonal to the diagonal
+            // direction (1, 1, ..., 1)
+            tmpMean /= aNumberOfComponents;
+            for (int j = 0; j < aNumberOfComponents; j++) {
+                this.hyperplanes[i + j] -= tmpMean;
+            }
+        }
+        this.bucketHeads = new int[aNumberOfHashTables][1 << aNumberOfSignatureBits];
+        this.nextClusterIndices = new int[aNumberOfHashTables][aMaximumNumberOfClusters];
+        this.previousClusterIndices = new int[aNumberOfHashTables][aMaximumNumberOfClusters];
+        this.clusterSignatures = new int[aNumberOfHashTables][aMaximumNumberOfClusters];
+        this.dataVectorSignatures = new int[aNumberOfHashTables];
+        this.clusterStamps = new int[aMaximumNumberOfClusters];
+        this.numberOfQueries = 0L;
+        this.numberOfFallbacks = 0L;
+        this.numberOfRecallSamples = 0L;
+        this.numberOfRecallHits = 0L;
+        this.reset();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Removes all clusters from the index (to be called if cluster indices
+     * change, i.e., after removal of empty clusters).
+     */
+    protected void reset() {
+        for (int[] tmpBucketHeads : this.bucketHeads) {
+            Arrays.fill(tmpBucketHeads, -1);
+        }
+        Arrays.fill(this.clusterStamps, 0);
+        this.stamp = 0;
+        this.numberOfIndexedClusters = 0;
+    }
+
+    /**
+     * Adds all clusters of the cluster matrix that are not yet indexed (to be
+     * called after creation of new clusters or after reset()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    protected void addClusters(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters
+    ) {
+        for (int i = this.numberOfIndexedClusters; i < aNumberOfDetectedClusters; i++) {
+            int tmpOffset = aClusterMatrix.getOffset(i);
+            for (int j = 0; j < this.numberOfHashTables; j++) {
+                int tmpSignature = this.getSignature(j, null, aClusterMatrix.getComponents(), tmpOffset);
+                this.clusterSignatures[j][i] = tmpSignature;
+                this.link(j, i, tmpSignature);
+            }
+        }
+        this.numberOfIndexedClusters = Math.max(this.numberOfIndexedClusters, aNumberOfDetectedClusters);
+    }
+
+    /**
+     * Updates the buckets of the specified (modified) cluster vector.
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of modified cluster vector
+     */
+    protected void updateCluster(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        int tmpOffset = aClusterMatrix.getOffset(aClusterIndex);
+        for (int i = 0; i < this.numberOfHashTables; i++) {
+            int tmpSignature = this.getSignature(i, null, aClusterMatrix.getComponents(), tmpOffset);
+            if (tmpSignature != this.clusterSignatures[i][aClusterIndex]) {
+                this.unlink(i, aClusterIndex);
+                this.clusterSignatures[i][aClusterIndex] = tmpSignature;
+                this.link(i, aClusterIndex, tmpSignature);
+            }
+        }
+    }
+
+    /**
+     * Adds the created cluster vector to the index (see addClusters()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of the created cluster vector
+     */
+    @Override
+    protected void setNewCluster(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        this.addClusters(aClusterMatrix, aClusterIndex + 1);
+    }
+
+    /**
+     * Updates the buckets of the modified cluster vector (see
+     * updateCluster()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of modified cluster vector
+     */
+    @Override
+    protected void setModifiedCluster(
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        this.updateCluster(aClusterMatrix, aClusterIndex);
+    }
+
+    /**
+     * Rebuilds the index with all clusters of the cluster matrix (see
+     * reset() and addClusters()).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     */
+    @Override
+    protected void resetClusterIndices(
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters
+    ) {
+        this.reset();
+        this.addClusters(aClusterMatrix, aNumberOfDetectedClusters);
+    }
+
+    /**
+     * Sets rho winner of a data vector among the candidate cluster vectors
+     * (see setRhoWinner()): The exact rho winner is calculated if no
+     * candidate cluster vector is the winner and reaches the vigilance
+     * (fallback, see getFallbackFraction()) or if the data vector is a recall
+     * sample (see isRecallSample()). For a recall sample the exact rho winner
+     * is only used to estimate the recall, i.e., the approximate rho winner
+     * is restored.
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aDenseVector Dense contrast enhanced unit vector (IS NOT
+     * CHANGED, must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse contrast enhanced unit vector (IS NOT
+     * CHANGED, must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aVigilanceThreshold Vigilance parameter
+     * @param aPreviousClusterIndex Cluster index of the data vector in the
+     * previous epoch (negative if not available)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    @Override
+    protected void setRhoWinnerOfDataVector(
+            int aDataVectorIndex,
+            float[] aDenseVector,
+            Utils.SparseVector aSparseVector,
+            ClusterMatrix aClusterMatrix,
+            int aNumberOfDetectedClusters,
+            float aScalingFactor,
+            float aVigilanceThreshold,
+            int aPreviousClusterIndex,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        boolean tmpIsCandidateWinner =
+            this.setRhoWinner(
+                aDenseVector,
+                aSparseVector,
+                aClusterMatrix,
+                aScalingFactor,
+                aVigilanceThreshold,
+                aPreviousClusterIndex,
+                aRhoWinner
+            );
+        if (!tmpIsCandidateWinner) {
+            this.numberOfFallbacks++;
+        }
+        boolean tmpIsRecallSample = tmpIsCandidateWinner && this.isRecallSample();
+        if (!tmpIsCandidateWinner || tmpIsRecallSample) {
+            float tmpApproximateRhoValue = aRhoWinner.getRhoValue();
+            int tmpApproximateIndex = aRhoWinner.getIndexOfCluster();
+            super.setRhoWinnerOfDataVector(
+                aDataVectorIndex,
+                aDenseVector,
+                aSparseVector,
+                aClusterMatrix,
+                aNumberOfDetectedClusters,
+                aScalingFactor,
+                aVigilanceThreshold,
+                aPreviousClusterIndex,
+                aRhoWinner
+            );
+            if (tmpIsRecallSample) {
+                // Exact rho winner is only used to estimate the recall:
+                // Restore approximate rho winner
+                this.addRecallSample(tmpApproximateIndex == aRhoWinner.getIndexOfCluster());
+                aRhoWinner.setRhoWinner(tmpApproximateRhoValue, tmpApproximateIndex);
+            }
+        }
+    }
+
+    /**
+     * Sets rho winner with the rho value and the cluster index of the winner
+     * among the candidate cluster vectors (see class description). The same
+     * rules as for Art2aUtils.setRhoWinner() apply: The first
+     * scaled rho value has the cluster index -1, a cluster vector must have a
+     * greater rho value to win and for equal rho values the cluster vector
+     * with the lower index wins.
+     *
+     * @param aContrastEnhancedUnitVector Contrast enhanced unit vector (IS
+     * NOT CHANGED, must be null if aSparseContrastEnhancedUnitVector is
+     * specified)
+     * @param aSparseContrastEnhancedUnitVector Sparse contrast enhanced unit
+     * vector (IS NOT CHANGED, must be null if aContrastEnhancedUnitVector is
+     * specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aScalingFactor Scaling factor
+     * @param aVigilance Vigilance parameter
+     * @param aPreviousClusterIndex Cluster index of the data vector in the
+     * previous epoch (negative if not available)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner among the candidates
+     * @return True: A candidate cluster vector is the winner and reaches the
+     * vigilance, false: Otherwise (the exact rho winner calculation must be
+     * performed)
+     */
+    protected boolean setRhoWinner(
+            float[] aContrastEnhancedUnitVector,
+            Utils.SparseVector aSparseContrastEnhancedUnitVector,
+            ClusterMatrix aClusterMatrix,
+            float aScalingFactor,
+            float aVigilance,
+            int aPreviousClusterIndex,
+            Utils.RhoWinner aRhoWinner
+    ) {
+        this.numberOfQueries++;
+        if (++this.stamp == Integer.MAX_VALUE) {
+            Arrays.fill(this.clusterStamps, 0);
+            this.stamp = 1;
+        }
+        float tmpRhoValue;
+        for (int i = 0; i < this.numberOfHashTables; i++) {
+            if (aSparseContrastEnhancedUnitVector != null) {
+                this.dataVectorSignatures[i] = this.getSignature(i, aSparseContrastEnhancedUnitVector, null, 0);
+            } else {
+                this.dataVectorSignatures[i] = this.getSignature(i, null, aContrastEnhancedUnitVector, 0);
+            }
+        }
+        if (aSparseContrastEnhancedUnitVector != null) {
+            tmpRhoValue = aScalingFactor * Utils.getSumOfComponents(aSparseContrastEnhancedUnitVector);
+        } else {
+            tmpRhoValue = aScalingFactor * Utils.getSumOfComponents(aContrastEnhancedUnitVector);
+        }
+        float tmpBestRhoValue = tmpRhoValue;
+        int tmpBestIndex = -1;
+        if (aPreviousClusterIndex >= 0 && aPreviousClusterIndex < this.numberOfIndexedClusters) {
+            this.clusterStamps[aPreviousClusterIndex] = this.stamp;
+            tmpRhoValue =
+                SimHashIndex.getRhoValue(
+                    aContrastEnhancedUnitVector,
+                    aSparseContrastEnhancedUnitVector,
+                    aClusterMatrix,
+                    aPreviousClusterIndex
+                );
+            if (tmpRhoValue > tmpBestRhoValue) {
+                tmpBestRhoValue = tmpRhoValue;
+                tmpBestIndex = aPreviousClusterIndex;
+            }
+        }
+        for (int i = 0; i < this.numberOfHashTables; i++) {
+            int[] tmpBucketHeads = this.bucketHeads[i];
+            int[] tmpNextClusterIndices = this.nextClusterIndices[i];
+            // Probe 0 is the bucket of the data vector, probes 1 to
+            // numberOfSignatureBits the buckets with one flipped bit
+            for (int j = 0; j <= this.numberOfSignatureBits; j++) {
+                int tmpSignature = j == 0 ? this.dataVectorSignatures[i] : this.dataVectorSignatures[i] ^ (1 << (j - 1));
+                for (int k = tmpBucketHeads[tmpSignature]; k >= 0; k = tmpNextClusterIndices[k]) {
+                    if (this.clusterStamps[k] == this.stamp) {
+                        continue;
+                    }
+                    this.clusterStamps[k] = this.stamp;
+                    tmpRhoValue =
+                        SimHashIndex.getRhoValue(
+                            aContrastEnhancedUnitVector,
+                            aSparseContrastEnhancedUnitVector,
+                            aClusterMatrix,
+                            k
+                        );
+                    if (tmpRhoValue > tmpBestRhoValue || (tmpRhoValue == tmpBestRhoValue && tmpBestIndex >= 0 && k < tmpBestIndex)) {
+                        tmpBestRhoValue = tmpRhoValue;
+                        tmpBestIndex = k;
+                    }
+                }
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpBestRhoValue, tmpBestIndex);
+        return tmpBestIndex >= 0 && tmpBestRhoValue >= aVigilance;
+    }
+
+    /**
+     * Returns if the exact rho winner of the last query is to be calculated
+     * for recall estimation (see addRecallSample()).
+     *
+     * @return True: Exact rho winner is to be calculated, false: Otherwise
+     */
+    protected boolean isRecallSample() {
+        return this.numberOfQueries % RECALL_SAMPLING_INTERVAL == 1L;
+    }
+
+    /**
+     * Adds a recall sample.
+     *
+     * @param anIsHit True: Approximate rho winner is identical to the exact
+     * one, false: Otherwise
+     */
+    protected void addRecallSample(boolean anIsHit) {
+        this.numberOfRecallSamples++;
+        if (anIsHit) {
+            this.numberOfRecallHits++;
+        }
+    }
+
+    /**
+     * Returns the estimated recall, i.e., the fraction of recall samples where
+     * the approximate rho winner is identical to the exact one (1 if there are
+     * no samples). Note: Recall samples are only taken from queries with an
+     * accepted candidate cluster vector, i.e., fallbacks are not covered (see
+     * getFallbackFraction()).
+     *
+     * @return Estimated recall in interval [0,1]
+     */
+    protected float getRecall() {
+        if (this.numberOfRecallSamples == 0L) {
+            return 1.0f;
+        }
+        return (float) this.numberOfRecallHits / (float) this.numberOfRecallSamples;
+    }
+
+    /**
+     * Returns the fraction of queries without an accepted candidate cluster
+     * vector where the exact rho winner calculation was performed instead
+     * (0 if there are no queries).
+     *
+     * @return Fraction of fallbacks in interval [0,1]
+     */
+    protected float getFallbackFraction() {
+        if (this.numberOfQueries == 0L) {
+            return 0.0f;
+        }
+        return (float) this.numberOfFallbacks / (float) this.numberOfQueries;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Calculates the signature of a vector for the specified hash table.
+     *
+     * @param aHashTableIndex Index of hash table
+     * @param aSparseVector Sparse vector (IS NOT CHANGED, must be null if
+     * aMatrix is specified)
+     * @param aMatrix Row-major matrix with dense vector (IS NOT CHANGED)
+     * @param anOffset Offset of the dense vector in aMatrix
+     * @return Signature
+     */
+    private int getSignature(
+            int aHashTableIndex,
+            Utils.SparseVector aSparseVector,
+            float[] aMatrix,
+            int anOffset
+    ) {
+        int tmpSignature = 0;
+        int tmpHyperplaneOffset = aHashTableIndex * this.numberOfSignatureBits * this.numberOfComponents;
+        for (int i = 0; i < this.numberOfSignatureBits; i++) {
+            float tmpScalarProduct;
+            if (aSparseVector != null) {
+                tmpScalarProduct = Utils.getScalarProduct(aSparseVector, this.hyperplanes, tmpHyperplaneOffset);
+            } else {
+                tmpScalarProduct = Utils.getScalarProduct(aMatrix, anOffset, this.hyperplanes, tmpHyperplaneOffset, this.numberOfComponents);
+            }
+            if (tmpScalarProduct >= 0.0f) {
+                tmpSignature |= 1 << i;
+            }
+            tmpHyperplaneOffset += this.numberOfComponents;
+        }
+        return tmpSignature;
+    }
+
+    /**
+     * Links cluster into the bucket with the specified signature.
+     *
+     * @param aHashTableIndex Index of hash table
+     * @param aClusterIndex Index of cluster
+     * @param aSignature Signature
+     */
+    private void link(
+            int aHashTableIndex,
+            int aClusterIndex,
+            int aSignature
+    ) {
+        int[] tmpBucketHeads = this.bucketHeads[aHashTableIndex];
+        int tmpHead = tmpBucketHeads[aSignature];
+        this.nextClusterIndices[aHashTableIndex][aClusterIndex] = tmpHead;
+        this.previousClusterIndices[aHashTableIndex][aClusterIndex] = -1;
+        if (tmpHead >= 0) {
+            this.previousClusterIndices[aHashTableIndex][tmpHead] = aClusterIndex;
+        }
+        tmpBucketHeads[aSignature] = aClusterIndex;
+    }
+
+    /**
+     * Unlinks cluster from its bucket.
+     *
+     * @param aHashTableIndex Index of hash table
+     * @param aClusterIndex Index of cluster
+     */
+    private void unlink(
+            int aHashTableIndex,
+            int aClusterIndex
+    ) {
+        int[] tmpNextClusterIndices = this.nextClusterIndices[aHashTableIndex];
+        int[] tmpPreviousClusterIndices = this.previousClusterIndices[aHashTableIndex];
+        int tmpNext = tmpNextClusterIndices[aClusterIndex];
+        int tmpPrevious = tmpPreviousClusterIndices[aClusterIndex];
+        if (tmpPrevious >= 0) {
+            tmpNextClusterIndices[tmpPrevious] = tmpNext;
+        } else {
+            this.bucketHeads[aHashTableIndex][this.clusterSignatures[aHashTableIndex][aClusterIndex]] = tmpNext;
+        }
+        if (tmpNext >= 0) {
+            tmpPreviousClusterIndices[tmpNext] = tmpPrevious;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private static methods">
+    /**
+     * Calculates the rho value (scalar product) of the contrast enhanced unit
+     * vector and a cluster vector.
+     *
+     * @param aContrastEnhancedUnitVector Contrast enhanced unit vector (IS
+     * NOT CHANGED, must be null if aSparseContrastEnhancedUnitVector is
+     * specified)
+     * @param aSparseContrastEnhancedUnitVector Sparse contrast enhanced unit
+     * vector (IS NOT CHANGED)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of the cluster vector
+     * @return Rho value
+     */
+    private static float getRhoValue(
+            float[] aContrastEnhancedUnitVector,
+            Utils.SparseVector aSparseContrastEnhancedUnitVector,
+            ClusterMatrix aClusterMatrix,
+            int aClusterIndex
+    ) {
+        if (aSparseContrastEnhancedUnitVector != null) {
+            return Utils.getScalarProduct(aSparseContrastEnhancedUnitVector, aClusterMatrix.getComponents(), aClusterMatrix.getOffset(aClusterIndex));
+        }
+        return aClusterMatrix.getScalarProduct(aContrastEnhancedUnitVector, aClusterIndex);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,268 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+
+/**
+ * Sparse counts of non-negative long keys, i.e., a primitive hash map of
+ * long keys to int counts with open addressing (linear probing) that only
+ * stores keys that were counted at least once (see increment()). A key
+ * typically combines two non-negative int values, e.g., the index of a data
+ * vector in the upper and the index of a cluster in the lower 32 bits (see
+ * getKey()). The counts are iterated over the slots of the hash table (see
+ * getNumberOfSlots(), getKeyOfSlot() and getCountOfSlot()) without boxing.
+ * <br><br>
+ * Note: SparseCounts is NOT thread-safe. No checks are performed.
+ */
+public class SparseCounts {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Key of an empty slot (keys must be non-negative)
+     */
+    private static final long EMPTY_KEY = -1L;
+    /**
+     * Minimum number of slots
+     */
+    private static final int MINIMUM_NUMBER_OF_SLOTS = 16;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Keys of the slots (EMPTY_KEY for an empty slot)
+     */
+    private long[] keys;
+    /**
+     * Counts of the slots
+     */
+    private int[] counts;
+    /**
+     * Number of stored keys
+     */
+    private int size;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor.
+     *
+     * @param anExpectedNumberOfKeys Expected number of keys (the hash table
+     * grows if necessary)
+     */
+    protected SparseCounts(
+        int anExpectedNumberOfKeys
+    ) {
+        // Number of slots is a power of 2 with a load factor of at most 0.5
+        int tmpNumberOfSlots = SparseCounts.MINIMUM_NUMBER_OF_SLOTS;
+        while (tmpNumberOfSlots < 2L * anExpectedNumberOfKeys && tmpNumberOfSlots < (1 << 30)) {
+            tmpNumberOfSlots <<= 1;
+        }
+        this.keys = new long[tmpNumberOfSlots];
+        Arrays.fill(this.keys, SparseCounts.EMPTY_KEY);
+        this.counts = new int[tmpNumberOfSlots];
+        this.size = 0;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected static methods">
+    /**
+     * Returns the key that combines the specified non-negative values.
+     *
+     * @param anUpperValue Non-negative value in the upper 32 bits
+     * @param aLowerValue Non-negative value in the lower 32 bits
+     * @return Key
+     */
+    protected static long getKey(
+        int anUpperValue,
+        int aLowerValue
+    ) {
+        return ((long) anUpperValue << 32) | aLowerValue;
+    }
+
+    /**
+     * Returns the value in the upper 32 bits of the specified key.
+     *
+     * @param aKey Key
+     * @return Value in the upper 32 bits
+     */
+    protected static int getUpperValue(
+        long aKey
+    ) {
+        return (int) (aKey >>> 32);
+    }
+
+    /**
+     * Returns the value in the lower 32 bits of the specified key.
+     *
+     * @param aKey Key
+     * @return Value in the lower 32 bits
+     */
+    protected static int getLowerValue(
+        long aKey
+    ) {
+        return (int) aKey;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Increments the count of the specified key (a new key is stored with a
+     * count of 1).
+     *
+     * @param aKey Non-negative key
+     * @return Incremented count of the key
+     */
+    protected int increment(
+        long aKey
+    ) {
+        int tmpSlot = this.getSlot(aKey);
+        if (this.keys[tmpSlot] == SparseCounts.EMPTY_KEY) {
+            this.keys[tmpSlot] = aKey;
+            this.size++;
+            if (2 * this.size > this.keys.length) {
+                this.counts[tmpSlot] = 1;
+                this.rehash();
+                return 1;
+            }
+        }
+        return ++this.counts[tmpSlot];
+    }
+
+    /**
+     * Returns the count of the specified key.
+     *
+     * @param aKey Non-negative key
+     * @return Count of the key (0 if the key is not stored)
+     */
+    protected int getCount(
+        long aKey
+    ) {
+        int tmpSlot = this.getSlot(aKey);
+        if (this.keys[tmpSlot] == SparseCounts.EMPTY_KEY) {
+            return 0;
+        }
+        return this.counts[tmpSlot];
+    }
+
+    /**
+     * Returns the number of stored keys, i.e., of keys that were counted at
+     * least once.
+     *
+     * @return Number of stored keys
+     */
+    protected int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of slots of the hash table.
+     *
+     * @return Number of slots
+     */
+    protected int getNumberOfSlots() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key of the specified slot.
+     *
+     * @param aSlot Slot in interval [0, getNumberOfSlots() - 1]
+     * @return Key of the slot or a negative value if the slot is empty
+     */
+    protected long getKeyOfSlot(
+        int aSlot
+    ) {
+        return this.keys[aSlot];
+    }
+
+    /**
+     * Returns the count of the specified slot.
+     *
+     * @param aSlot Slot in interval [0, getNumberOfSlots() - 1]
+     * @return Count of the slot (0 if the slot is empty)
+     */
+    protected int getCountOfSlot(
+        int aSlot
+    ) {
+        return this.counts[aSlot];
+    }
+
+    /**
+     * Removes all keys (the memory of the hash table is retained).
+     */
+    protected void clear() {
+        if (this.size > 0) {
+            Arrays.fill(this.keys, SparseCounts.EMPTY_KEY);
+            Arrays.fill(this.counts, 0);
+            this.size = 0;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Returns the slot of the specified key or the empty slot where the key
+     * is to be stored.
+     *
+     * @param aKey Non-negative key
+     * @return Slot
+     */
+    private int getSlot(
+        long aKey
+    ) {
+        int tmpMask = this.keys.length - 1;
+        // Mixing of the key bits (finalizer of the 64-bit MurmurHash3)
+        long tmpHash = aKey;
+        tmpHash ^= tmpHash >>> 33;
+        tmpHash *= 0xff51afd7ed558ccdL;
+        tmpHash ^= tmpHash >>> 33;
+        int tmpSlot = (int) tmpHash & tmpMask;
+        while (this.keys[tmpSlot] != SparseCounts.EMPTY_KEY && this.keys[tmpSlot] != aKey) {
+            tmpSlot = (tmpSlot + 1) & tmpMask;
+        }
+        return tmpSlot;
+    }
+
+    /**
+     * Doubles the number of slots of the hash table.
+     */
+    private void rehash() {
+        long[] tmpOldKeys = this.keys;
+        int[] tmpOldCounts = this.counts;
+        this.keys = new long[2 * tmpOldKeys.length];
+        Arrays.fill(this.keys, SparseCounts.EMPTY_KEY);
+        this.counts = new int[2 * tmpOldKeys.length];
+        for (int i = 0; i < tmpOldKeys.length; i++) {
+            if (tmpOldKeys[i] != SparseCounts.EMPTY_KEY) {
+                int tmpSlot = this.getSlot(tmpOldKeys[i]);
+                this.keys[tmpSlot] = tmpOldKeys[i];
+                this.counts[tmpSlot] = tmpOldCounts[i];
+            }
+        }
+    }
+    //</editor-fold>
+}
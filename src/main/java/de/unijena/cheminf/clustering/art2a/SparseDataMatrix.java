@@ -0,0 +1,275 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sparse data matrix in compressed sparse row (CSR) format: The non-zero
+ * components of data row vector i are stored in the index range
+ * [rowOffsets[i], rowOffsets[i + 1]) of the column indices and values
+ * arrays (with strictly ascending column indices for each row). All other
+ * components are zero.
+ * <br><br>
+ * A sparse data matrix is suitable for high-dimensional data with only few
+ * non-zero components (e.g. chemical fingerprints with counts): Memory is
+ * proportional to the number of non-zero components and scaling, contrast
+ * enhancement and rho winner calculation only operate on the non-zero
+ * components of the data row vectors (see Art2aKernel and Art2aEuclidKernel).
+ * <br><br>
+ * Note: All values must be finite and non-negative (so that scaling to
+ * interval [0,1] retains all zero components). The specified arrays are NOT
+ * copied and must not be changed after construction.
+ * <br><br>
+ * Note: SparseDataMatrix is a read-only class, i.e. thread-safe.
+ */
+public class SparseDataMatrix {
+
+    //<editor-fold desc="Private static final LOGGER">
+    /**
+     * Logger of this class
+     */
+    private static final Logger LOGGER = Logger.getLogger(SparseDataMatrix.class.getName());
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Number of columns, i.e. number of components of a data row vector
+     */
+    private final int numberOfColumns;
+    /**
+     * Row offsets with length of number of rows + 1
+     */
+    private final int[] rowOffsets;
+    /**
+     * Column indices of non-zero components
+     */
+    private final int[] columnIndices;
+    /**
+     * Values of non-zero components
+     */
+    private final float[] values;
+    //</editor-fold>
+
+    //<editor-fold desc="Public constructor">
+    /**
+     * Constructor
+     *
+     * @param aNumberOfColumns Number of columns, i.e. number of components of
+     * a data row vector (must be greater 1)
+     * @param aRowOffsets Row offsets with length of number of rows + 1 (must
+     * start with 0, must be non-decreasing and must end with the number of
+     * non-zero components, IS NOT CHANGED)
+     * @param aColumnIndices Column indices of non-zero components (must be in
+     * interval [0, aNumberOfColumns) and strictly ascending for each row, IS
+     * NOT CHANGED)
+     * @param aValues Values of non-zero components (must be finite and
+     * non-negative, IS NOT CHANGED)
+     * @throws IllegalArgumentException Thrown if an argument is illegal
+     */
+    public SparseDataMatrix(
+        int aNumberOfColumns,
+        int[] aRowOffsets,
+        int[] aColumnIndices,
+        float[] aValues
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if (aNumberOfColumns < 2) {
+            SparseDataMatrix.LOGGER.log(
+                Level.SEVERE,
+                "SparseDataMatrix.Constructor: aNumberOfColumns must be greater 1."
+            );
+            throw new IllegalArgumentException("SparseDataMatrix.Constructor: aNumberOfColumns must be greater 1.");
+        }
+        if (aRowOffsets == null || aRowOffsets.length < 2 || aColumnIndices == null || aValues == null) {
+            SparseDataMatrix.LOGGER.log(
+                Level.SEVERE,
+                "SparseDataMatrix.Constructor: aRowOffsets, aColumnIndices or aValues is null or empty."
+            );
+            throw new IllegalArgumentException("SparseDataMatrix.Constructor: aRowOffsets, aColumnIndices or aValues is null or empty.");
+        }
+        if (
+            aColumnIndices.length != aValues.length ||
+                aRowOffsets[0] != 0 ||
+                aRowOffsets[aRowOffsets.length - 1] != aValues.length
+        ) {
+            SparseDataMatrix.LOGGER.log(
+                Level.SEVERE,
+                "SparseDataMatrix.Constructor: Lengths of aRowOffsets, aColumnIndices and aValues do not match."
+            );
+            throw new IllegalArgumentException("SparseDataMatrix.Constructor: Lengths of aRowOffsets, aColumnIndices and aValues do not match.");
+        }
+        for (int i = 0; i < aRowOffsets.length - 1; i++) {
+            if (aRowOffsets[i] > aRowOffsets[i + 1]) {
+                SparseDataMatrix.LOGGER.log(
+                    Level.SEVERE,
+                    "SparseDataMatrix.Constructor: aRowOffsets must be non-decreasing."
+                );
+                throw new IllegalArgumentException("SparseDataMatrix.Constructor: aRowOffsets must be non-decreasing.");
+            }
+            for (int j = aRowOffsets[i]; j < aRowOffsets[i + 1]; j++) {
+                if (
+                    aColumnIndices[j] < 0 ||
+                        aColumnIndices[j] >= aNumberOfColumns ||
+                        (j > aRowOffsets[i] && aColumnIndices[j] <= aColumnIndices[j - 1])
+                ) {
+                    SparseDataMatrix.LOGGER.log(
+                        Level.SEVERE,
+                        "SparseDataMatrix.Constructor: aColumnIndices is illegal."
+                    );
+                    throw new IllegalArgumentException("SparseDataMatrix.Constructor: aColumnIndices is illegal.");
+                }
+            }
+        }
+        for (float tmpValue : aValues) {
+            if (!Float.isFinite(tmpValue) || tmpValue < 0.0f) {
+                SparseDataMatrix.LOGGER.log(
+                    Level.SEVERE,
+                    "SparseDataMatrix.Constructor: aValues must be finite and non-negative."
+                );
+                throw new IllegalArgumentException("SparseDataMatrix.Constructor: aValues must be finite and non-negative.");
+            }
+        }
+        //</editor-fold>
+        this.numberOfColumns = aNumberOfColumns;
+        this.rowOffsets = aRowOffsets;
+        this.columnIndices = aColumnIndices;
+        this.values = aValues;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public static methods">
+    /**
+     * Creates sparse data matrix with the non-zero components of the specified
+     * (dense) data matrix.
+     *
+     * @param aDataMatrix Data matrix with data row vectors (IS NOT CHANGED and
+     * must be valid, see Utils.isDataMatrixValid(), with non-negative
+     * components)
+     * @return Sparse data matrix
+     * @throws IllegalArgumentException Thrown if argument is illegal
+     */
+    public static SparseDataMatrix getSparseDataMatrix(
+        float[][] aDataMatrix
+    ) throws IllegalArgumentException {
+        //<editor-fold desc="Checks">
+        if (!Utils.isDataMatrixValid(aDataMatrix)) {
+            SparseDataMatrix.LOGGER.log(
+                Level.SEVERE,
+                "SparseDataMatrix.getSparseDataMatrix: aDataMatrix is not valid."
+            );
+            throw new IllegalArgumentException("SparseDataMatrix.getSparseDataMatrix: aDataMatrix is not valid.");
+        }
+        //</editor-fold>
+        int[] tmpRowOffsets = new int[aDataMatrix.length + 1];
+        for (int i = 0; i < aDataMatrix.length; i++) {
+            int tmpNumberOfNonZeros = 0;
+            for (float tmpComponent : aDataMatrix[i]) {
+                if (tmpComponent != 0.0f) {
+                    tmpNumberOfNonZeros++;
+                }
+            }
+            tmpRowOffsets[i + 1] = tmpRowOffsets[i] + tmpNumberOfNonZeros;
+        }
+        int[] tmpColumnIndices = new int[tmpRowOffsets[aDataMatrix.length]];
+        float[] tmpValues = new float[tmpRowOffsets[aDataMatrix.length]];
+        int tmpIndex = 0;
+        for (float[] tmpDataVector : aDataMatrix) {
+            for (int j = 0; j < tmpDataVector.length; j++) {
+                if (tmpDataVector[j] != 0.0f) {
+                    tmpColumnIndices[tmpIndex] = j;
+                    tmpValues[tmpIndex] = tmpDataVector[j];
+                    tmpIndex++;
+                }
+            }
+        }
+        return new SparseDataMatrix(aDataMatrix[0].length, tmpRowOffsets, tmpColumnIndices, tmpValues);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Public get methods">
+    /**
+     * Number of columns, i.e. number of components of a data row vector
+     *
+     * @return Number of columns
+     */
+    public int getNumberOfColumns() {
+        return this.numberOfColumns;
+    }
+
+    /**
+     * Number of non-zero components
+     *
+     * @return Number of non-zero components
+     */
+    public int getNumberOfNonZeros() {
+        return this.values.length;
+    }
+
+    /**
+     * Number of rows, i.e. number of data row vectors
+     *
+     * @return Number of rows
+     */
+    public int getNumberOfRows() {
+        return this.rowOffsets.length - 1;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected get methods">
+    /**
+     * Column indices of non-zero components
+     * Note: The returned array is NOT a copy and must not be changed.
+     *
+     * @return Column indices of non-zero components
+     */
+    protected int[] getColumnIndices() {
+        return this.columnIndices;
+    }
+
+    /**
+     * Row offsets with length of number of rows + 1
+     * Note: The returned array is NOT a copy and must not be changed.
+     *
+     * @return Row offsets
+     */
+    protected int[] getRowOffsets() {
+        return this.rowOffsets;
+    }
+
+    /**
+     * Values of non-zero components
+     * Note: The returned array is NOT a copy and must not be changed.
+     *
+     * @return Values of non-zero components
+     */
+    protected float[] getValues() {
+        return this.values;
+    }
+    //</editor-fold>
+
+}
@@ -0,0 +1,489 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import java.util.Arrays;
+
+/**
+ * Window of upcoming data vectors for the speculative rho winner calculation
+ * (ART-2a and ART-2a-Euclid).
+ * <br><br>
+ * The clustering process is sequential since every data vector may modify
+ * its winner cluster vector or create a new cluster vector. But the rho
+ * values of a data vector only depend on the cluster vectors that were
+ * modified or created by the preceding data vectors. The window is filled
+ * with the next data vectors of the (shuffled) epoch and the rho values of
+ * all data vectors of the window are calculated with a snapshot of the
+ * cluster vectors by the workers of a RhoWinnerWorkerTeam (see
+ * setRhoValues()). The data vectors of the window are then processed in
+ * their original order: Every cluster vector that is modified or created is
+ * marked (see setModifiedCluster()) and the rho values of the following
+ * data vectors of the window are recalculated only for the marked cluster
+ * vectors before their rho winner is determined (see setRhoWinner()). Since
+ * all rho values are calculated with the same methods and the winner is
+ * determined with the same strict comparisons in ascending cluster order,
+ * the rho winner is identical to the one of the sequential calculation.
+ * <br><br>
+ * The recalculation of rho values grows with the number of modified cluster
+ * vectors in a window, i.e., the speculative rho winner calculation is only
+ * faster for a high number of cluster vectors that are spread over the
+ * data vectors of a window.
+ * <br><br>
+ * Note: SpeculativeRhoWindow is NOT thread-safe except for the concurrent
+ * calculation of rho values by the workers (see setRhoValues()). No checks
+ * are performed.
+ */
+public class SpeculativeRhoWindow extends DataVectorWindow {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Number of data vectors of the window per worker
+     */
+    private static final int NUMBER_OF_DATA_VECTORS_PER_WORKER = 8;
+    /**
+     * Initial number of rho values per data vector
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    //</editor-fold>
+    //<editor-fold desc="Private final class variables">
+    /**
+     * Worker team that calculates the rho values of the window (null: Rho
+     * values are calculated by the calling thread alone)
+     */
+    private final RhoWinnerWorkerTeam rhoWinnerWorkerTeam;
+    //</editor-fold>
+    //<editor-fold desc="Private class variables">
+    /**
+     * Rho values of the data vectors of the window (row-major with
+     * numberOfRhoValuesPerDataVector values per data vector)
+     */
+    private float[] rhoValues;
+    /**
+     * Number of rho values per data vector (number of cluster vectors of the
+     * snapshot plus the number of data vectors of the window which may create
+     * new cluster vectors)
+     */
+    private int numberOfRhoValuesPerDataVector;
+    /**
+     * Modified flags of cluster vectors. True: Cluster vector was modified or
+     * created after the snapshot, false: Otherwise
+     */
+    private boolean[] modifiedFlags;
+    /**
+     * Indices of modified cluster vectors (in order of modification)
+     */
+    private int[] modifiedClusterIndices;
+    /**
+     * Number of modified cluster vectors
+     */
+    private int numberOfModifiedClusters;
+    /**
+     * Cluster matrix of the snapshot
+     */
+    private ClusterMatrix clusterMatrix;
+    /**
+     * Number of cluster vectors of the snapshot
+     */
+    private int numberOfSnapshotClusters;
+    /**
+     * Number of filled windows
+     */
+    private long numberOfWindows;
+    /**
+     * Number of rho values that were calculated with a snapshot
+     */
+    private long numberOfSpeculativeRhoValues;
+    /**
+     * Number of rho values that were recalculated for modified cluster vectors
+     */
+    private long numberOfRecalculatedRhoValues;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor.
+     *
+     * @param anIsScalarProduct True: Rho value is the scalar product (maximum
+     * wins, ART-2a), false: Rho value is the squared distance (minimum wins,
+     * ART-2a-Euclid)
+     * @param aRhoWinnerWorkerTeam Worker team that calculates the rho values
+     * of the window (may be null: Rho values are calculated by the calling
+     * thread alone)
+     * @param aNumberOfComponents Number of components of data vectors
+     * @param anIsSparse True: Data vectors are sparse, false: Data vectors
+     * are dense
+     */
+    protected SpeculativeRhoWindow(
+        boolean anIsScalarProduct,
+        RhoWinnerWorkerTeam aRhoWinnerWorkerTeam,
+        int aNumberOfComponents,
+        boolean anIsSparse
+    ) {
+        super(
+            anIsScalarProduct,
+            (aRhoWinnerWorkerTeam == null ? 1 : aRhoWinnerWorkerTeam.getNumberOfWorkers()) * NUMBER_OF_DATA_VECTORS_PER_WORKER,
+            aNumberOfComponents,
+            anIsSparse
+        );
+        this.rhoWinnerWorkerTeam = aRhoWinnerWorkerTeam;
+        this.rhoValues = new float[this.getWindowSize() * INITIAL_CAPACITY];
+        this.modifiedFlags = new boolean[INITIAL_CAPACITY];
+        this.modifiedClusterIndices = new int[INITIAL_CAPACITY];
+        this.numberOfModifiedClusters = 0;
+        this.numberOfWindows = 0L;
+        this.numberOfSpeculativeRhoValues = 0L;
+        this.numberOfRecalculatedRhoValues = 0L;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Protected methods">
+    /**
+     * Clears the window: Removes all data vectors and modified flags.
+     */
+    @Override
+    protected void clear() {
+        super.clear();
+        for (int i = 0; i < this.numberOfModifiedClusters; i++) {
+            this.modifiedFlags[this.modifiedClusterIndices[i]] = false;
+        }
+        this.numberOfModifiedClusters = 0;
+    }
+
+    /**
+     * Calculates the rho values of all data vectors of the window with the
+     * snapshot of the cluster vectors with the workers of the team (or with
+     * the calling thread alone if the team is null).
+     *
+     * @param aRhoWinnerWorkerTeam Worker team (may be null)
+     * @param aClusterMatrix Cluster matrix of the snapshot (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @throws RuntimeException Thrown if a worker failed
+     */
+    protected void setRhoValues(
+        RhoWinnerWorkerTeam aRhoWinnerWorkerTeam,
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters
+    ) throws RuntimeException {
+        this.clusterMatrix = aClusterMatrix;
+        this.numberOfSnapshotClusters = aNumberOfDetectedClusters;
+        // Every data vector of the window may create a new cluster vector
+        int tmpNumberOfDataVectors = this.getNumberOfDataVectors();
+        this.numberOfRhoValuesPerDataVector = aNumberOfDetectedClusters + tmpNumberOfDataVectors;
+        this.ensureCapacity(this.numberOfRhoValuesPerDataVector);
+        this.numberOfWindows++;
+        if (aNumberOfDetectedClusters == 0 || tmpNumberOfDataVectors == 0) {
+            return;
+        }
+        this.numberOfSpeculativeRhoValues += (long) aNumberOfDetectedClusters * tmpNumberOfDataVectors;
+        if (aRhoWinnerWorkerTeam == null) {
+            this.setRhoValues(0, 1);
+        } else {
+            long tmpNumberOfOperations = (long) aNumberOfDetectedClusters * tmpNumberOfDataVectors * aClusterMatrix.getNumberOfComponents();
+            aRhoWinnerWorkerTeam.setRhoValues(this, tmpNumberOfDataVectors, tmpNumberOfOperations);
+        }
+    }
+
+    /**
+     * Calculates the rho values of all data vectors of the window with the
+     * snapshot of the cluster vectors with the workers of the team of the
+     * window (see constructor).
+     *
+     * @param aClusterMatrix Cluster matrix of the snapshot (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @throws RuntimeException Thrown if a worker failed
+     */
+    @Override
+    protected void setRhoValues(
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters
+    ) throws RuntimeException {
+        this.setRhoValues(this.rhoWinnerWorkerTeam, aClusterMatrix, aNumberOfDetectedClusters);
+    }
+
+    /**
+     * Calculates the rho values of the data vectors of the window of the
+     * specified worker with the snapshot of the cluster vectors (contiguous
+     * range of data vectors of the worker). This method is called by the
+     * workers of a RhoWinnerWorkerTeam concurrently.
+     *
+     * @param aWorkerIndex Index of worker
+     * @param aNumberOfWorkers Number of workers
+     */
+    protected void setRhoValues(
+        int aWorkerIndex,
+        int aNumberOfWorkers
+    ) {
+        int tmpNumberOfDataVectors = this.getNumberOfDataVectors();
+        int tmpStart = (int) ((long) tmpNumberOfDataVectors * aWorkerIndex / aNumberOfWorkers);
+        int tmpEnd = (int) ((long) tmpNumberOfDataVectors * (aWorkerIndex + 1) / aNumberOfWorkers);
+        for (int i = tmpStart; i < tmpEnd; i++) {
+            int tmpOffset = i * this.numberOfRhoValuesPerDataVector;
+            if (this.isSparse()) {
+                Utils.SparseVector tmpSparseVector = this.getSparseVector(i);
+                for (int j = 0; j < this.numberOfSnapshotClusters; j++) {
+                    this.rhoValues[tmpOffset + j] = this.getRhoValue(tmpSparseVector, j);
+                }
+            } else {
+                float[] tmpDenseVector = this.getDenseVector(i);
+                float tmpSquaredLength = this.isScalarProduct() ? 0.0f : this.clusterMatrix.getSquaredLengthForSquaredDistance(tmpDenseVector);
+                for (int j = 0; j < this.numberOfSnapshotClusters; j++) {
+                    this.rhoValues[tmpOffset + j] = this.getRhoValue(tmpDenseVector, tmpSquaredLength, j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks a cluster vector as modified or created since the snapshot.
+     *
+     * @param aClusterIndex Index of modified or created cluster vector
+     */
+    protected void setModifiedCluster(
+        int aClusterIndex
+    ) {
+        if (!this.modifiedFlags[aClusterIndex]) {
+            this.modifiedFlags[aClusterIndex] = true;
+            this.modifiedClusterIndices[this.numberOfModifiedClusters++] = aClusterIndex;
+        }
+    }
+
+    /**
+     * Sets rho winner of the current data vector with the rho value and the
+     * cluster index of the winner (identical to the sequential rho winner
+     * calculation of the kernels): The rho values of the modified cluster
+     * vectors are recalculated with the current cluster matrix (the cluster
+     * matrix of the snapshot with its modifications), all other rho values
+     * are taken from the snapshot. If the cluster index is negative, the first
+     * rho value is the winner.
+     *
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aFirstRhoValue First rho value (with cluster index -1)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    protected void setRhoWinner(
+        int aNumberOfDetectedClusters,
+        float aFirstRhoValue,
+        Utils.RhoWinner aRhoWinner
+    ) {
+        int tmpOffset = this.getCurrentIndex() * this.numberOfRhoValuesPerDataVector;
+        if (this.numberOfModifiedClusters > 0) {
+            if (this.isSparse()) {
+                Utils.SparseVector tmpSparseVector = this.getSparseVector();
+                for (int i = 0; i < this.numberOfModifiedClusters; i++) {
+                    int tmpClusterIndex = this.modifiedClusterIndices[i];
+                    this.rhoValues[tmpOffset + tmpClusterIndex] = this.getRhoValue(tmpSparseVector, tmpClusterIndex);
+                }
+            } else {
+                float[] tmpDenseVector = this.getDenseVector(this.getCurrentIndex());
+                float tmpSquaredLength = this.isScalarProduct() ? 0.0f : this.clusterMatrix.getSquaredLengthForSquaredDistance(tmpDenseVector);
+                for (int i = 0; i < this.numberOfModifiedClusters; i++) {
+                    int tmpClusterIndex = this.modifiedClusterIndices[i];
+                    this.rhoValues[tmpOffset + tmpClusterIndex] = this.getRhoValue(tmpDenseVector, tmpSquaredLength, tmpClusterIndex);
+                }
+            }
+            this.numberOfRecalculatedRhoValues += this.numberOfModifiedClusters;
+        }
+        float tmpRhoValue = aFirstRhoValue;
+        int tmpIndex = -1;
+        int tmpEnd = tmpOffset + aNumberOfDetectedClusters;
+        for (int i = tmpOffset; i < tmpEnd; i++) {
+            float tmpRhoForCluster = this.rhoValues[i];
+            if (this.isScalarProduct() ? tmpRhoForCluster > tmpRhoValue : tmpRhoForCluster < tmpRhoValue) {
+                tmpRhoValue = tmpRhoForCluster;
+                tmpIndex = i - tmpOffset;
+            }
+        }
+        aRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+    }
+
+    /**
+     * Sets rho winner of the current data vector of the window (see
+     * setRhoWinner()).
+     *
+     * @param aDataVectorIndex Index of the data vector
+     * @param aDenseVector Dense data vector of the window (IS NOT CHANGED,
+     * must be null if aSparseVector is specified)
+     * @param aSparseVector Sparse data vector of the window (IS NOT CHANGED,
+     * must be null if aDenseVector is specified)
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aNumberOfDetectedClusters Number of detected clusters
+     * @param aScalingFactor Scaling factor
+     * @param aVigilanceThreshold Threshold of the vigilance test (not used)
+     * @param aPreviousClusterIndex Index of the cluster the data vector was
+     * assigned to before (not used)
+     * @param aRhoWinner Rho winner: Is set with the rho value and the cluster
+     * index of the winner
+     */
+    @Override
+    protected void setRhoWinnerOfDataVector(
+        int aDataVectorIndex,
+        float[] aDenseVector,
+        Utils.SparseVector aSparseVector,
+        ClusterMatrix aClusterMatrix,
+        int aNumberOfDetectedClusters,
+        float aScalingFactor,
+        float aVigilanceThreshold,
+        int aPreviousClusterIndex,
+        Utils.RhoWinner aRhoWinner
+    ) {
+        this.setRhoWinner(
+            aNumberOfDetectedClusters,
+            this.getFirstRhoValue(aDenseVector, aSparseVector, aScalingFactor, aClusterMatrix.getNumberOfComponents()),
+            aRhoWinner
+        );
+    }
+
+    /**
+     * Marks the created cluster vector as modified (see
+     * setModifiedCluster(int)).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of the created cluster vector
+     */
+    @Override
+    protected void setNewCluster(
+        ClusterMatrix aClusterMatrix,
+        int aClusterIndex
+    ) {
+        this.setModifiedCluster(aClusterIndex);
+    }
+
+    /**
+     * Marks the modified cluster vector (see setModifiedCluster(int)).
+     *
+     * @param aClusterMatrix Cluster matrix (IS NOT CHANGED)
+     * @param aClusterIndex Index of the modified cluster vector
+     */
+    @Override
+    protected void setModifiedCluster(
+        ClusterMatrix aClusterMatrix,
+        int aClusterIndex
+    ) {
+        this.setModifiedCluster(aClusterIndex);
+    }
+
+    /**
+     * Returns the number of rho values that were recalculated for modified
+     * cluster vectors.
+     *
+     * @return Number of recalculated rho values
+     */
+    protected long getNumberOfRecalculatedRhoValues() {
+        return this.numberOfRecalculatedRhoValues;
+    }
+
+    /**
+     * Returns the number of rho values that were calculated with a snapshot.
+     *
+     * @return Number of speculative rho values
+     */
+    protected long getNumberOfSpeculativeRhoValues() {
+        return this.numberOfSpeculativeRhoValues;
+    }
+
+    /**
+     * Returns a description of the speculative rho winner calculation
+     * (window size, number of windows and numbers of speculative and
+     * recalculated rho values).
+     *
+     * @return Description of the speculative rho winner calculation
+     */
+    protected String getExecutionDescription() {
+        return "windows of " + this.getWindowSize() + " data vectors (" + this.numberOfWindows + " windows, " +
+            this.numberOfSpeculativeRhoValues + " speculative and " + this.numberOfRecalculatedRhoValues +
+            " recalculated rho values)";
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private methods">
+    /**
+     * Returns the rho value of a dense data vector and a cluster vector
+     * (identical to the sequential rho winner calculation of the kernels).
+     *
+     * @param aDenseVector Dense data vector (IS NOT CHANGED)
+     * @param aSquaredLength Squared length of data vector for squared
+     * distances (see ClusterMatrix.getSquaredLengthForSquaredDistance())
+     * @param aClusterIndex Index of cluster vector
+     * @return Rho value
+     */
+    private float getRhoValue(
+        float[] aDenseVector,
+        float aSquaredLength,
+        int aClusterIndex
+    ) {
+        if (this.isScalarProduct()) {
+            return this.clusterMatrix.getScalarProduct(aDenseVector, aClusterIndex);
+        } else {
+            return this.clusterMatrix.getSquaredDistance(aDenseVector, aSquaredLength, aClusterIndex);
+        }
+    }
+
+    /**
+     * Returns the rho value of a sparse data vector and a cluster vector
+     * (identical to the sequential rho winner calculation of the kernels).
+     *
+     * @param aSparseVector Sparse data vector (IS NOT CHANGED)
+     * @param aClusterIndex Index of cluster vector
+     * @return Rho value
+     */
+    private float getRhoValue(
+        Utils.SparseVector aSparseVector,
+        int aClusterIndex
+    ) {
+        int tmpOffset = aClusterIndex * this.clusterMatrix.getStride();
+        if (this.isScalarProduct()) {
+            return Utils.getScalarProduct(aSparseVector, this.clusterMatrix.getComponents(), tmpOffset);
+        } else {
+            return Utils.getSquaredDistance(aSparseVector, this.clusterMatrix.getComponents(), tmpOffset, this.clusterMatrix.getSquaredLength(aClusterIndex));
+        }
+    }
+
+    /**
+     * Ensures the capacity of the rho values and modified flags for the
+     * specified number of rho values per data vector (geometric growth).
+     *
+     * @param aNumberOfRhoValuesPerDataVector Number of rho values per data
+     * vector
+     */
+    private void ensureCapacity(
+        int aNumberOfRhoValuesPerDataVector
+    ) {
+        int tmpWindowSize = this.getWindowSize();
+        if (this.rhoValues.length < aNumberOfRhoValuesPerDataVector * tmpWindowSize) {
+            int tmpCapacity = Math.max(aNumberOfRhoValuesPerDataVector, 2 * this.rhoValues.length / tmpWindowSize);
+            this.rhoValues = new float[tmpCapacity * tmpWindowSize];
+        }
+        if (this.modifiedFlags.length < aNumberOfRhoValuesPerDataVector) {
+            int tmpCapacity = Math.max(aNumberOfRhoValuesPerDataVector, 2 * this.modifiedFlags.length);
+            // Note: All modified flags are false after clear()
+            this.modifiedFlags = Arrays.copyOf(this.modifiedFlags, tmpCapacity);
+            this.modifiedClusterIndices = Arrays.copyOf(this.modifiedClusterIndices, tmpCapacity);
+        }
+    }
+    //</editor-fold>
+}
@@ -29,11 +29,22 @@ package de.unijena.cheminf.clustering.art2a;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Library of helper records, static helper classes and static, thread-safe
  * (stateless) utility methods for ART-2a and ART-2a-Euclid clustering.
  * <br><br>
+ * The vector math methods (scalar product, squared distance, vector length,
+ * sum of components and sum of squared differences) delegate to the
+ * vectorized (SIMD) implementations of VectorUtils if module
+ * jdk.incubator.vector is available at startup (JVM option "--add-modules
+ * jdk.incubator.vector"). Otherwise, or if system property
+ * "de.unijena.cheminf.clustering.art2a.vectorApi" is set to "false", scalar
+ * code is used. See VectorUtils for the numerical tolerance of the
+ * vectorized implementations.
+ * <br><br>
  * Note: No checks are performed.
  *
  * @author Achim Zielesny
@@ -45,6 +56,64 @@ public class Utils {
      * Value 1.0
      */
     private static final float ONE = 1.0f;
+    /**
+     * Name of module of the JDK Vector API
+     */
+    private static final String VECTOR_API_MODULE_NAME = "jdk.incubator.vector";
+    //</editor-fold>
+    //<editor-fold desc="Public static final constants">
+    /**
+     * Name of system property to switch off the use of the JDK Vector API
+     * (value "false")
+     */
+    public static final String VECTOR_API_PROPERTY_NAME = "de.unijena.cheminf.clustering.art2a.vectorApi";
+    //</editor-fold>
+    //<editor-fold desc="Protected static final constants">
+    /**
+     * True: Vector math methods delegate to the vectorized implementations of
+     * VectorUtils, false: Scalar code is used (decided once at startup)
+     */
+    protected static final boolean IS_VECTOR_API_USED = Utils.isVectorApiAvailable();
+    /**
+     * Execution mode: Sequential rho winner calculation and final assignment
+     */
+    protected static final int EXECUTION_MODE_SEQUENTIAL = 0;
+    /**
+     * Execution mode: Parallelized rho winner calculation and final
+     * assignment
+     */
+    protected static final int EXECUTION_MODE_PARALLEL = 1;
+    /**
+     * Execution mode: Automatic choice between sequential and parallelized
+     * rho winner calculation (calibrated in the first epoch, see
+     * RhoWinnerWorkerTeam) and final assignment
+     */
+    protected static final int EXECUTION_MODE_AUTOMATIC = 2;
+    /**
+     * Execution mode: Sequential rho winner calculation and final assignment
+     * within one of several concurrent clustering runs (batch-parallel)
+     */
+    protected static final int EXECUTION_MODE_BATCH_PARALLEL = 3;
+    /**
+     * Execution mode: Speculative rho winner calculation (rho values of a
+     * window of upcoming data vectors are calculated in parallel with a
+     * snapshot of the cluster vectors, see SpeculativeRhoWindow) and
+     * automatic choice of the final assignment
+     */
+    protected static final int EXECUTION_MODE_SPECULATIVE = 4;
+    /**
+     * Execution mode: Bulk-synchronous mini-batch training (rho winners of
+     * a mini-batch of data vectors are calculated in parallel with frozen
+     * cluster vectors and merged in order, see MiniBatch) and parallelized
+     * final assignment
+     */
+    protected static final int EXECUTION_MODE_MINI_BATCH = 5;
+    /**
+     * Execution mode: Lock-free concurrent cluster updates (threads process
+     * disjoint slices of an epoch and share the cluster vectors, see
+     * HogwildClusterUpdates) and parallelized final assignment
+     */
+    protected static final int EXECUTION_MODE_HOGWILD = 6;
     //</editor-fold>
     //<editor-fold desc="Protected helper record">
     /**
@@ -188,6 +257,195 @@ public class Utils {
         }
         //</editor-fold>
 
+    }
+
+    /**
+     * Helper class: Sparse vector (buffer) with the indices and values of the
+     * non-zero components of a vector in ascending index order.
+     * <br><br>
+     * A binary sparse vector (see setRow() for BinaryDataMatrix) has the same
+     * value for all non-zero components, so that scalar products reduce to
+     * scaled sums (see Utils.getScalarProduct()).
+     * <br><br>
+     * Note: No checks are performed.
+     */
+    protected static class SparseVector {
+
+        //<editor-fold desc="Private final class variables">
+        /**
+         * Indices of non-zero components
+         */
+        private final int[] indices;
+        /**
+         * Values of non-zero components
+         */
+        private final float[] values;
+        //</editor-fold>
+        //<editor-fold desc="Private class variables">
+        /**
+         * Number of non-zero components
+         */
+        private int numberOfNonZeros;
+        /**
+         * True: All non-zero components have the same binary value, false:
+         * Otherwise
+         */
+        private boolean isBinary;
+        /**
+         * Value of all non-zero components of a binary sparse vector
+         */
+        private float binaryValue;
+        //</editor-fold>
+
+        //<editor-fold desc="Constructor">
+        /**
+         * Constructor
+         *
+         * @param aNumberOfComponents Number of components of the (dense)
+         * vector, i.e. maximum number of non-zero components
+         */
+        protected SparseVector(
+                int aNumberOfComponents
+        ) {
+            this.indices = new int[aNumberOfComponents];
+            this.values = new float[aNumberOfComponents];
+            this.numberOfNonZeros = 0;
+            this.isBinary = false;
+            this.binaryValue = 0.0f;
+        }
+        //</editor-fold>
+
+        //<editor-fold desc="Protected methods">
+        /**
+         * Sets (copies) the non-zero components of the specified row of a
+         * sparse data matrix.
+         *
+         * @param aSparseDataMatrix Sparse data matrix (IS NOT CHANGED)
+         * @param aRowIndex Index of row
+         */
+        protected void setRow(
+                SparseDataMatrix aSparseDataMatrix,
+                int aRowIndex
+        ) {
+            int tmpStart = aSparseDataMatrix.getRowOffsets()[aRowIndex];
+            this.numberOfNonZeros = aSparseDataMatrix.getRowOffsets()[aRowIndex + 1] - tmpStart;
+            System.arraycopy(aSparseDataMatrix.getColumnIndices(), tmpStart, this.indices, 0, this.numberOfNonZeros);
+            System.arraycopy(aSparseDataMatrix.getValues(), tmpStart, this.values, 0, this.numberOfNonZeros);
+            this.isBinary = false;
+        }
+
+        /**
+         * Sets the set bits of the specified row of a binary data matrix that
+         * are also set in the column mask: The vector becomes a binary sparse
+         * vector with a value of 1 for all non-zero components.
+         *
+         * @param aBinaryDataMatrix Binary data matrix (IS NOT CHANGED)
+         * @param aRowIndex Index of row
+         * @param aColumnMask Column mask with a word length of a row of
+         * aBinaryDataMatrix (IS NOT CHANGED)
+         */
+        protected void setRow(
+                BinaryDataMatrix aBinaryDataMatrix,
+                int aRowIndex,
+                long[] aColumnMask
+        ) {
+            long[] tmpWords = aBinaryDataMatrix.getWords();
+            int tmpRowOffset = aRowIndex * aBinaryDataMatrix.getNumberOfWordsPerRow();
+            int tmpNumberOfNonZeros = 0;
+            for (int i = 0; i < aColumnMask.length; i++) {
+                long tmpWord = tmpWords[tmpRowOffset + i] & aColumnMask[i];
+                int tmpWordOffset = i * Long.SIZE;
+                while (tmpWord != 0L) {
+                    this.indices[tmpNumberOfNonZeros] = tmpWordOffset + Long.numberOfTrailingZeros(tmpWord);
+                    this.values[tmpNumberOfNonZeros] = ONE;
+                    tmpNumberOfNonZeros++;
+                    // Clear lowest set bit
+                    tmpWord &= tmpWord - 1L;
+                }
+            }
+            this.numberOfNonZeros = tmpNumberOfNonZeros;
+            this.isBinary = true;
+            this.binaryValue = ONE;
+        }
+
+        /**
+         * Sets the value of all non-zero components of a binary sparse
+         * vector.
+         *
+         * @param aBinaryValue Value of all non-zero components
+         */
+        protected void setBinaryValue(
+                float aBinaryValue
+        ) {
+            for (int i = 0; i < this.numberOfNonZeros; i++) {
+                this.values[i] = aBinaryValue;
+            }
+            this.binaryValue = aBinaryValue;
+        }
+        //</editor-fold>
+
+        //<editor-fold desc="Protected get/set methods">
+        /**
+         * Indices of non-zero components (only the first numberOfNonZeros
+         * indices are valid)
+         *
+         * @return Indices of non-zero components
+         */
+        protected int[] getIndices() {
+            return this.indices;
+        }
+
+        /**
+         * Values of non-zero components (only the first numberOfNonZeros
+         * values are valid)
+         *
+         * @return Values of non-zero components
+         */
+        protected float[] getValues() {
+            return this.values;
+        }
+
+        /**
+         * Number of non-zero components
+         *
+         * @return Number of non-zero components
+         */
+        protected int getNumberOfNonZeros() {
+            return this.numberOfNonZeros;
+        }
+
+        /**
+         * Sets number of non-zero components
+         *
+         * @param aNumberOfNonZeros Number of non-zero components
+         */
+        protected void setNumberOfNonZeros(
+                int aNumberOfNonZeros
+        ) {
+            this.numberOfNonZeros = aNumberOfNonZeros;
+        }
+
+        /**
+         * Returns if all non-zero components have the same binary value (see
+         * getBinaryValue())
+         *
+         * @return True: Binary sparse vector, false: Otherwise
+         */
+        protected boolean isBinary() {
+            return this.isBinary;
+        }
+
+        /**
+         * Value of all non-zero components of a binary sparse vector
+         *
+         * @return Value of all non-zero components (only valid if isBinary()
+         * returns true)
+         */
+        protected float getBinaryValue() {
+            return this.binaryValue;
+        }
+        //</editor-fold>
+
     }
     //</editor-fold>
 
@@ -326,35 +584,6 @@ public class Utils {
         }
     }
 
-    /**
-     * (Deep) Copies specified number of rows of source matrix to destination
-     * matrix. Row vectors of destination matrix may not have been instantiated.
-     *
-     * @param aSourceMatrix Source matrix (IS NOT CHANGED)
-     * @param aDestinationMatrix Destination matrix (MUST HAVE BEEN
-     * INSTANTIATED and MAY BE CHANGED)
-     * @param aNumberOfRows Number of rows to be copied from source matrix to
-     * destination matrix
-     */
-    protected static void copyRows(
-            float[][] aSourceMatrix,
-            float[][] aDestinationMatrix,
-            int aNumberOfRows
-    ) {
-        for (int i = 0; i < aNumberOfRows; i++) {
-            if (aDestinationMatrix[i] == null) {
-                aDestinationMatrix[i] = new float[aSourceMatrix[i].length];
-            }
-            System.arraycopy(
-                    aSourceMatrix[i],
-                    0,
-                    aDestinationMatrix[i],
-                    0,
-                    aSourceMatrix[i].length
-            );
-        }
-    }
-
     /**
      * (Deep) Copies source vector to destination vector.
      *
@@ -446,6 +675,58 @@ public class Utils {
         Arrays.fill(aVector , aValue);
     }
 
+    /**
+     * Removes the values of empty clusters by in-place compaction (the order
+     * of the values of used clusters is retained, see
+     * ClusterMatrix.removeEmptyClusters()).
+     * Note: No checks are performed.
+     *
+     * @param aValues Values of clusters (IS CHANGED)
+     * @param aClusterUsageFlags Flags for cluster usage. True: Cluster is used,
+     * false: Cluster is empty (IS NOT CHANGED)
+     */
+    protected static void removeEmptyClusterValues(
+            int[] aValues,
+            boolean[] aClusterUsageFlags
+    ) {
+        int tmpIndex = 0;
+        for (int i = 0; i < aClusterUsageFlags.length; i++) {
+            if (aClusterUsageFlags[i]) {
+                aValues[tmpIndex++] = aValues[i];
+            }
+        }
+    }
+
+    /**
+     * Replaces the cluster indices of the data vectors by the cluster indices
+     * after the removal of empty clusters by in-place compaction (see
+     * ClusterMatrix.removeEmptyClusters()). Data vectors with a cluster index
+     * of a removed cluster get -1 (no cluster assignment).
+     * Note: No checks are performed.
+     *
+     * @param aClusterIndexOfDataVector Cluster indices of the data vectors
+     * (-1: No cluster assignment, IS CHANGED)
+     * @param aClusterUsageFlags Flags for cluster usage. True: Cluster is used,
+     * false: Cluster is empty (IS NOT CHANGED)
+     * @param aNewClusterIndices Buffer for the new cluster indices with the
+     * length of aClusterUsageFlags (IS CHANGED)
+     */
+    protected static void removeEmptyClusterIndices(
+            int[] aClusterIndexOfDataVector,
+            boolean[] aClusterUsageFlags,
+            int[] aNewClusterIndices
+    ) {
+        int tmpIndex = 0;
+        for (int i = 0; i < aClusterUsageFlags.length; i++) {
+            aNewClusterIndices[i] = aClusterUsageFlags[i] ? tmpIndex++ : -1;
+        }
+        for (int i = 0; i < aClusterIndexOfDataVector.length; i++) {
+            if (aClusterIndexOfDataVector[i] >= 0) {
+                aClusterIndexOfDataVector[i] = aNewClusterIndices[aClusterIndexOfDataVector[i]];
+            }
+        }
+    }
+
     /**
      * Returns mean distance of all specified row vectors.
      *
@@ -495,6 +776,99 @@ public class Utils {
         return tmpMinMaxComponents;
     }
 
+    /**
+     * Calculates min-max components of a sparse data matrix with non-negative
+     * values: The minimum value of a column is zero if the column has at least
+     * one zero component.
+     *
+     * @param aSparseDataMatrix Sparse data matrix (IS NOT CHANGED)
+     * @return Min-max components
+     */
+    protected static MinMaxValue[] getMinMaxComponents(
+            SparseDataMatrix aSparseDataMatrix
+    ) {
+        int tmpNumberOfColumns = aSparseDataMatrix.getNumberOfColumns();
+        int[] tmpColumnIndices = aSparseDataMatrix.getColumnIndices();
+        float[] tmpValues = aSparseDataMatrix.getValues();
+        float[] tmpMinValues = new float[tmpNumberOfColumns];
+        float[] tmpMaxValues = new float[tmpNumberOfColumns];
+        int[] tmpNumberOfNonZeros = new int[tmpNumberOfColumns];
+        Arrays.fill(tmpMinValues, Float.MAX_VALUE);
+        for (int i = 0; i < tmpValues.length; i++) {
+            int tmpColumnIndex = tmpColumnIndices[i];
+            if (tmpValues[i] < tmpMinValues[tmpColumnIndex]) {
+                tmpMinValues[tmpColumnIndex] = tmpValues[i];
+            }
+            if (tmpValues[i] > tmpMaxValues[tmpColumnIndex]) {
+                tmpMaxValues[tmpColumnIndex] = tmpValues[i];
+            }
+            tmpNumberOfNonZeros[tmpColumnIndex]++;
+        }
+        MinMaxValue[] tmpMinMaxComponents = new MinMaxValue[tmpNumberOfColumns];
+        for (int j = 0; j < tmpNumberOfColumns; j++) {
+            if (tmpNumberOfNonZeros[j] < aSparseDataMatrix.getNumberOfRows()) {
+                tmpMinValues[j] = 0.0f;
+            }
+            tmpMinMaxComponents[j] = new MinMaxValue(tmpMinValues[j], tmpMaxValues[j]);
+        }
+        return tmpMinMaxComponents;
+    }
+
+    /**
+     * Calculates min-max components of a binary data matrix: The minimum
+     * value of a column is 1 if all bits of the column are set and 0
+     * otherwise, the maximum value is 1 if at least one bit of the column is
+     * set and 0 otherwise.
+     *
+     * @param aBinaryDataMatrix Binary data matrix (IS NOT CHANGED)
+     * @return Min-max components
+     */
+    protected static MinMaxValue[] getMinMaxComponents(
+            BinaryDataMatrix aBinaryDataMatrix
+    ) {
+        int tmpNumberOfColumns = aBinaryDataMatrix.getNumberOfColumns();
+        int tmpNumberOfWordsPerRow = aBinaryDataMatrix.getNumberOfWordsPerRow();
+        long[] tmpWords = aBinaryDataMatrix.getWords();
+        long[] tmpAnyBits = new long[tmpNumberOfWordsPerRow];
+        long[] tmpAllBits = new long[tmpNumberOfWordsPerRow];
+        Arrays.fill(tmpAllBits, -1L);
+        for (int i = 0; i < tmpWords.length; i++) {
+            tmpAnyBits[i % tmpNumberOfWordsPerRow] |= tmpWords[i];
+            tmpAllBits[i % tmpNumberOfWordsPerRow] &= tmpWords[i];
+        }
+        MinMaxValue[] tmpMinMaxComponents = new MinMaxValue[tmpNumberOfColumns];
+        for (int j = 0; j < tmpNumberOfColumns; j++) {
+            long tmpBit = 1L << (j % Long.SIZE);
+            tmpMinMaxComponents[j] =
+                new MinMaxValue(
+                    (tmpAllBits[j / Long.SIZE] & tmpBit) != 0L ? ONE : 0.0f,
+                    (tmpAnyBits[j / Long.SIZE] & tmpBit) != 0L ? ONE : 0.0f
+                );
+        }
+        return tmpMinMaxComponents;
+    }
+
+    /**
+     * Returns the bit-packed column mask of binary data (see BinaryDataMatrix)
+     * with set bits for all columns with different minimum and maximum
+     * value: The other columns have a constant value that is shifted to zero
+     * by scaling (see scaleVector()).
+     *
+     * @param aMinMaxComponents Min-max components of binary data matrix
+     * @return Column mask
+     */
+    protected static long[] getBinaryColumnMask(
+            MinMaxValue[] aMinMaxComponents
+    ) {
+        long[] tmpColumnMask = new long[BinaryDataMatrix.getNumberOfWordsPerRow(aMinMaxComponents.length)];
+        for (int j = 0; j < aMinMaxComponents.length; j++) {
+            if (aMinMaxComponents[j].minValue() < aMinMaxComponents[j].maxValue()) {
+                tmpColumnMask[j / Long.SIZE] |= 1L << (j % Long.SIZE);
+            }
+        }
+        return tmpColumnMask;
+    }
+
     /**
      * Calculates the scalar product (dot product) of aVector1 and aVector2.
      *
@@ -506,6 +880,9 @@ public class Utils {
             float[] aVector1,
             float[] aVector2
     ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getScalarProduct(aVector1, 0, aVector2, 0, aVector1.length);
+        }
         float tmpSum = 0.0f;
         for (int i = 0; i < aVector1.length; i++) {
             // tmpSum += aVector1[i] * aVector2[i];
@@ -514,6 +891,91 @@ public class Utils {
         return tmpSum;
     }
 
+    /**
+     * Calculates the scalar product (dot product) of aVector and the row
+     * vector of a row-major matrix that starts at anOffset (see ClusterMatrix).
+     *
+     * @param aVector Vector (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @return Scalar product (dot product)
+     */
+    protected static float getScalarProduct(
+            float[] aVector,
+            float[] aMatrix,
+            int anOffset
+    ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getScalarProduct(aVector, 0, aMatrix, anOffset, aVector.length);
+        }
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aVector.length; i++) {
+            // tmpSum += aVector[i] * aMatrix[anOffset + i];
+            tmpSum = Math.fma(aVector[i], aMatrix[anOffset + i], tmpSum);
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the scalar product (dot product) of the row vectors of two
+     * row-major matrices that start at anOffset1 and anOffset2 (see
+     * ClusterMatrix).
+     *
+     * @param aMatrix1 Row-major matrix 1 (IS NOT CHANGED)
+     * @param anOffset1 Offset of the row vector in aMatrix1
+     * @param aMatrix2 Row-major matrix 2 (IS NOT CHANGED)
+     * @param anOffset2 Offset of the row vector in aMatrix2
+     * @param aLength Length of the row vectors
+     * @return Scalar product (dot product)
+     */
+    protected static float getScalarProduct(
+            float[] aMatrix1,
+            int anOffset1,
+            float[] aMatrix2,
+            int anOffset2,
+            int aLength
+    ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getScalarProduct(aMatrix1, anOffset1, aMatrix2, anOffset2, aLength);
+        }
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aLength; i++) {
+            // tmpSum += aMatrix1[anOffset1 + i] * aMatrix2[anOffset2 + i];
+            tmpSum = Math.fma(aMatrix1[anOffset1 + i], aMatrix2[anOffset2 + i], tmpSum);
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the scalar product (dot product) of a sparse vector and the
+     * row vector of a row-major matrix that starts at anOffset (see
+     * ClusterMatrix). The summation order is identical to the scalar code of
+     * getScalarProduct() for the corresponding dense vector. For a binary
+     * sparse vector, the sum of the row vector components at the non-zero
+     * indices is scaled by the binary value.
+     *
+     * @param aSparseVector Sparse vector (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @return Scalar product (dot product)
+     */
+    protected static float getScalarProduct(
+            SparseVector aSparseVector,
+            float[] aMatrix,
+            int anOffset
+    ) {
+        int[] tmpIndices = aSparseVector.getIndices();
+        if (aSparseVector.isBinary()) {
+            return aSparseVector.getBinaryValue() * Utils.getSumOfComponents(tmpIndices, aSparseVector.getNumberOfNonZeros(), aMatrix, anOffset);
+        }
+        float[] tmpValues = aSparseVector.getValues();
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            tmpSum = Math.fma(tmpValues[i], aMatrix[anOffset + tmpIndices[i]], tmpSum);
+        }
+        return tmpSum;
+    }
+
     /**
      * Scales components of aVectorToBeScaled to interval [0,1].
      *
@@ -559,6 +1021,9 @@ public class Utils {
             float[] aVector1,
             float[] aVector2
     ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getSquaredDistance(aVector1, 0, aVector2, 0, aVector1.length);
+        }
         float tmpSum = 0.0f;
         for (int i = 0; i < aVector1.length; i++) {
             float tmpDelta = aVector1[i] - aVector2[i];
@@ -568,6 +1033,101 @@ public class Utils {
         return tmpSum;
     }
 
+    /**
+     * Calculates the squared distance between aVector and the row vector of a
+     * row-major matrix that starts at anOffset (see ClusterMatrix).
+     *
+     * @param aVector Vector (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @return Squared distance
+     */
+    protected static float getSquaredDistance(
+            float[] aVector,
+            float[] aMatrix,
+            int anOffset
+    ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getSquaredDistance(aVector, 0, aMatrix, anOffset, aVector.length);
+        }
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aVector.length; i++) {
+            float tmpDelta = aVector[i] - aMatrix[anOffset + i];
+            // tmpSum += (aVector[i] - aMatrix[anOffset + i])^2;
+            tmpSum = Math.fma(tmpDelta, tmpDelta, tmpSum);
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the squared distance between the row vectors of two
+     * row-major matrices that start at anOffset1 and anOffset2 (see
+     * ClusterMatrix).
+     *
+     * @param aMatrix1 Row-major matrix 1 (IS NOT CHANGED)
+     * @param anOffset1 Offset of the row vector in aMatrix1
+     * @param aMatrix2 Row-major matrix 2 (IS NOT CHANGED)
+     * @param anOffset2 Offset of the row vector in aMatrix2
+     * @param aLength Length of the row vectors
+     * @return Squared distance
+     */
+    protected static float getSquaredDistance(
+            float[] aMatrix1,
+            int anOffset1,
+            float[] aMatrix2,
+            int anOffset2,
+            int aLength
+    ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getSquaredDistance(aMatrix1, anOffset1, aMatrix2, anOffset2, aLength);
+        }
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aLength; i++) {
+            float tmpDelta = aMatrix1[anOffset1 + i] - aMatrix2[anOffset2 + i];
+            // tmpSum += (aMatrix1[anOffset1 + i] - aMatrix2[anOffset2 + i])^2;
+            tmpSum = Math.fma(tmpDelta, tmpDelta, tmpSum);
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the squared distance between a sparse vector and the row
+     * vector of a row-major matrix that starts at anOffset (see
+     * ClusterMatrix) with the squared length of the row vector:
+     * |x - c|^2 = |c|^2 - (sum of c_j^2 over non-zero x_j) + (sum of
+     * (x_j - c_j)^2 over non-zero x_j).
+     * Note: A negative result due to rounding is set to zero.
+     *
+     * @param aSparseVector Sparse vector (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @param aSquaredLength Squared length of the row vector
+     * @return Squared distance
+     */
+    protected static float getSquaredDistance(
+            SparseVector aSparseVector,
+            float[] aMatrix,
+            int anOffset,
+            float aSquaredLength
+    ) {
+        int[] tmpIndices = aSparseVector.getIndices();
+        if (aSparseVector.isBinary()) {
+            // |x - c|^2 = |c|^2 + v * (k * v - 2 * (sum of c_j over non-zero x_j))
+            float tmpBinaryValue = aSparseVector.getBinaryValue();
+            float tmpSumOfComponents = Utils.getSumOfComponents(tmpIndices, aSparseVector.getNumberOfNonZeros(), aMatrix, anOffset);
+            return Math.max(0.0f, aSquaredLength + tmpBinaryValue * (aSparseVector.getNumberOfNonZeros() * tmpBinaryValue - 2.0f * tmpSumOfComponents));
+        }
+        float[] tmpValues = aSparseVector.getValues();
+        float tmpSum = aSquaredLength;
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            float tmpMatrixComponent = aMatrix[anOffset + tmpIndices[i]];
+            float tmpDelta = tmpValues[i] - tmpMatrixComponent;
+            // tmpSum += (x_j - c_j)^2 - c_j^2
+            tmpSum = Math.fma(tmpDelta, tmpDelta, Math.fma(-tmpMatrixComponent, tmpMatrixComponent, tmpSum));
+        }
+        return Math.max(0.0f, tmpSum);
+    }
+
     /**
      * Calculates the sum of components of aVector.
      *
@@ -577,6 +1137,9 @@ public class Utils {
     protected static float getSumOfComponents(
             float[] aVector
     ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getSumOfComponents(aVector);
+        }
         float tmpSum = 0.0f;
         for (float tmpComponent : aVector) {
             tmpSum += tmpComponent;
@@ -584,6 +1147,50 @@ public class Utils {
         return tmpSum;
     }
 
+    /**
+     * Calculates the sum of components of a sparse vector.
+     *
+     * @param aSparseVector Sparse vector (IS NOT CHANGED)
+     * @return Sum of components
+     */
+    protected static float getSumOfComponents(
+            SparseVector aSparseVector
+    ) {
+        if (aSparseVector.isBinary()) {
+            return aSparseVector.getNumberOfNonZeros() * aSparseVector.getBinaryValue();
+        }
+        float[] tmpValues = aSparseVector.getValues();
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            tmpSum += tmpValues[i];
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the sum of the components of the row vector of a row-major
+     * matrix that starts at anOffset (see ClusterMatrix) at the specified
+     * indices.
+     *
+     * @param anIndices Indices (IS NOT CHANGED)
+     * @param aNumberOfIndices Number of (valid) indices
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @return Sum of components at the specified indices
+     */
+    protected static float getSumOfComponents(
+            int[] anIndices,
+            int aNumberOfIndices,
+            float[] aMatrix,
+            int anOffset
+    ) {
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aNumberOfIndices; i++) {
+            tmpSum += aMatrix[anOffset + anIndices[i]];
+        }
+        return tmpSum;
+    }
+
     /**
      * Calculates the sum of squared differences between the components of the
      * specified vector and a value.
@@ -597,6 +1204,9 @@ public class Utils {
             float[] aVector,
             float aValue
     ) {
+        if (IS_VECTOR_API_USED) {
+            return VectorUtils.getSumOfSquaredDifferences(aVector, aValue);
+        }
         float tmpSum = 0.0f;
         for (int i = 0; i < aVector.length; i++) {
             float tmpDelta = aVector[i] - aValue;
@@ -606,6 +1216,31 @@ public class Utils {
         return tmpSum;
     }
 
+    /**
+     * Calculates the sum of squared differences between the components of the
+     * specified sparse vector and a value (zero components contribute
+     * aValue^2 each).
+     *
+     * @param aSparseVector Sparse vector (IS NOT CHANGED)
+     * @param aValue Value
+     * @param aNumberOfComponents Number of components of the (dense) vector
+     * @return Sum of squared differences between the components of the
+     * specified vector and a value.
+     */
+    protected static float getSumOfSquaredDifferences(
+            SparseVector aSparseVector,
+            float aValue,
+            int aNumberOfComponents
+    ) {
+        float[] tmpValues = aSparseVector.getValues();
+        float tmpSum = (float) (aNumberOfComponents - aSparseVector.getNumberOfNonZeros()) * aValue * aValue;
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            float tmpDelta = tmpValues[i] - aValue;
+            tmpSum = Math.fma(tmpDelta, tmpDelta, tmpSum);
+        }
+        return tmpSum;
+    }
+
     /**
      * Threshold for contrast enhancement
      *
@@ -631,6 +1266,9 @@ public class Utils {
     protected static float getVectorLength(
             float[] aVector
     ) {
+        if (IS_VECTOR_API_USED) {
+            return (float) Math.sqrt(VectorUtils.getScalarProduct(aVector, 0, aVector, 0, aVector.length));
+        }
         float tmpSum = 0.0f;
         for (float tmpComponent : aVector) {
             // tmpSum += tmpComponent * tmpComponent;
@@ -639,6 +1277,23 @@ public class Utils {
         return (float) Math.sqrt(tmpSum);
     }
 
+    /**
+     * Calculates the length of a sparse vector.
+     *
+     * @param aSparseVector Sparse vector (IS NOT CHANGED)
+     * @return Length of vector
+     */
+    protected static float getVectorLength(
+            SparseVector aSparseVector
+    ) {
+        float[] tmpValues = aSparseVector.getValues();
+        float tmpSum = 0.0f;
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            tmpSum = Math.fma(tmpValues[i], tmpValues[i], tmpSum);
+        }
+        return (float) Math.sqrt(tmpSum);
+    }
+
     /**
      * Checks if vector has a length of zero (i.e. if all components are equal
      * to zero).
@@ -657,6 +1312,25 @@ public class Utils {
         return true;
     }
 
+    /**
+     * Checks if sparse vector has a length of zero (i.e. if all components are
+     * equal to zero).
+     *
+     * @param aSparseVector Sparse vector (IS NOT CHANGED)
+     * @return True: Vector has a length of zero, false: Otherwise
+     */
+    protected static boolean hasLengthOfZero(
+            SparseVector aSparseVector
+    ) {
+        float[] tmpValues = aSparseVector.getValues();
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            if (tmpValues[i] != 0.0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if data matrix has a non-finite component.
      * Note: If aDataMatrix is null or empty nothing is done and false is
@@ -710,6 +1384,38 @@ public class Utils {
         return tmpIsVectorChanged;
     }
 
+    /**
+     * Calculates contrast enhanced sparse vector and returns if vector was
+     * changed. Components that are zero after contrast enhancement are
+     * removed from the sparse vector (removal of components that were already
+     * zero does not count as change).
+     *
+     * @param aSparseVector Sparse vector to be contrast enhanced (MAY BE
+     * CHANGED)
+     * @param aThresholdForContrastEnhancement Threshold for contrast enhancement
+     * @return True: Vector was changed, false: Otherwise
+     */
+    protected static boolean isContrastEnhanced(
+            SparseVector aSparseVector,
+            float aThresholdForContrastEnhancement
+    ) {
+        int[] tmpIndices = aSparseVector.getIndices();
+        float[] tmpValues = aSparseVector.getValues();
+        boolean tmpIsChanged = false;
+        int tmpNumberOfNonZeros = 0;
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            if (tmpValues[i] > aThresholdForContrastEnhancement) {
+                tmpIndices[tmpNumberOfNonZeros] = tmpIndices[i];
+                tmpValues[tmpNumberOfNonZeros] = tmpValues[i];
+                tmpNumberOfNonZeros++;
+            } else if (tmpValues[i] != 0.0f) {
+                tmpIsChanged = true;
+            }
+        }
+        aSparseVector.setNumberOfNonZeros(tmpNumberOfNonZeros);
+        return tmpIsChanged;
+    }
+
     /**
      * Checks if matrix is valid.
      *
@@ -751,44 +1457,17 @@ public class Utils {
     }
 
     /**
-     * Removes empty clusters from cluster matrix
+     * Normalizes sparse vector to unit length.
      *
-     * @param aClusterUsageFlags Flags for cluster usage. True: Cluster is used,
-     * false: Cluster is empty and has to be removed (IS NOT CHANGED)
-     * @param aClusterMatrix Cluster matrix (MAY BE CHANGED)
-     * @param aNumberOfDetectedClusters Number of detected clusters
-     * @param aClusterRemovalInfo Cluster removal info (is set according to the
-     * operations performed, IS CHANGED)
+     * @param aSparseVector Sparse vector (MAY BE CHANGED)
      */
-    protected static void removeEmptyClusters(
-            boolean[] aClusterUsageFlags,
-            float[][] aClusterMatrix,
-            int aNumberOfDetectedClusters,
-            ClusterRemovalInfo aClusterRemovalInfo
-    ) {
-        boolean tmpIsEmptyClusterRemoval = false;
-        for (int i = 0; i < aNumberOfDetectedClusters; i++) {
-            if (!aClusterUsageFlags[i]) {
-                tmpIsEmptyClusterRemoval = true;
-                break;
-            }
-        }
-        if (tmpIsEmptyClusterRemoval) {
-            // Remove empty clusters from cluster matrix
-            LinkedList<float[]> tmpClusterVectorList = new LinkedList<>();
-            for (int i = 0; i < aNumberOfDetectedClusters; i++) {
-                if (aClusterUsageFlags[i]) {
-                    tmpClusterVectorList.add(aClusterMatrix[i]);
-                    aClusterMatrix[i] = null;
-                }
-            }
-            int tmpIndex = 0;
-            for (float[] tmpClusterVector : tmpClusterVectorList) {
-                aClusterMatrix[tmpIndex++] = tmpClusterVector;
-            }
-            aClusterRemovalInfo.setClusterRemovalInfo(tmpIsEmptyClusterRemoval, tmpClusterVectorList.size());
-        } else {
-            aClusterRemovalInfo.setClusterRemovalInfo(tmpIsEmptyClusterRemoval, aNumberOfDetectedClusters);
+    protected static void normalizeVector(
+            SparseVector aSparseVector
+    ) {
+        float[] tmpValues = aSparseVector.getValues();
+        float tmpInverseVectorLength = ONE / Utils.getVectorLength(aSparseVector);
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            tmpValues[i] *= tmpInverseVectorLength;
         }
     }
 
@@ -815,6 +1494,33 @@ public class Utils {
         }
     }
 
+    /**
+     * Scales non-zero components of a sparse vector according to min-max
+     * components to interval [0,1] (see scaleVector()).
+     * Note: The minimum values of all components with a value of zero must
+     * be zero (see getMinMaxComponents() for sparse data matrix).
+     *
+     * @param aSparseVector Sparse vector to be scaled (MAY BE CHANGED)
+     * @param aMinMaxComponents Min-max components
+     */
+    protected static void scaleVector(
+            SparseVector aSparseVector,
+            MinMaxValue[] aMinMaxComponents
+    ) {
+        int[] tmpIndices = aSparseVector.getIndices();
+        float[] tmpValues = aSparseVector.getValues();
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            MinMaxValue tmpMinMaxValue = aMinMaxComponents[tmpIndices[i]];
+            if (tmpMinMaxValue.minValue() < tmpMinMaxValue.maxValue()) {
+                // Scale component to interval [0,1]
+                tmpValues[i] = (tmpValues[i] - tmpMinMaxValue.minValue()) / (tmpMinMaxValue.maxValue() - tmpMinMaxValue.minValue());
+            } else {
+                // Shift component to zero
+                tmpValues[i] -= tmpMinMaxValue.minValue();
+            }
+        }
+    }
+
     /**
      * Calculates contrast enhanced vector.
      *
@@ -833,20 +1539,141 @@ public class Utils {
     }
 
     /**
-     * Sets copied (!) row vector at index in matrix.
+     * Calculates contrast enhanced sparse vector. Components that are zero
+     * after contrast enhancement are removed from the sparse vector.
      *
-     * @param aMatrix Matrix (MAY BE CHANGED)
-     * @param aRowVector Row vector (IS NOT CHANGED)
-     * @param anIndex Index of row vector in matrix
+     * @param aSparseVector Sparse vector to be contrast enhanced (MAY BE
+     * CHANGED)
+     * @param aThresholdForContrastEnhancement Threshold for contrast enhancement
      */
-    protected static void setRowVector(
-            float[][] aMatrix,
-            float[] aRowVector,
-            int anIndex
+    protected static void setContrastEnhancement(
+            SparseVector aSparseVector,
+            float aThresholdForContrastEnhancement
+    ) {
+        int[] tmpIndices = aSparseVector.getIndices();
+        float[] tmpValues = aSparseVector.getValues();
+        int tmpNumberOfNonZeros = 0;
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            if (tmpValues[i] > aThresholdForContrastEnhancement) {
+                tmpIndices[tmpNumberOfNonZeros] = tmpIndices[i];
+                tmpValues[tmpNumberOfNonZeros] = tmpValues[i];
+                tmpNumberOfNonZeros++;
+            }
+        }
+        aSparseVector.setNumberOfNonZeros(tmpNumberOfNonZeros);
+    }
+
+    /**
+     * Sets the dense vector with the components of the sparse vector.
+     *
+     * @param aSparseVector Sparse vector (IS NOT CHANGED)
+     * @param aDenseVector Dense vector (MUST ALREADY BE INSTANTIATED and IS
+     * CHANGED)
+     */
+    protected static void setDenseVector(
+            SparseVector aSparseVector,
+            float[] aDenseVector
+    ) {
+        int[] tmpIndices = aSparseVector.getIndices();
+        float[] tmpValues = aSparseVector.getValues();
+        Arrays.fill(aDenseVector, 0.0f);
+        for (int i = 0; i < aSparseVector.getNumberOfNonZeros(); i++) {
+            aDenseVector[tmpIndices[i]] = tmpValues[i];
+        }
+    }
+
+    /**
+     * Calculates the scalar products (dot products) of four vectors and the
+     * row vector of a row-major matrix that starts at anOffset (see
+     * ClusterMatrix) with a single pass over the row vector. The summation
+     * order of each scalar product is identical to getScalarProduct().
+     *
+     * @param aVector0 Vector 0 (IS NOT CHANGED)
+     * @param aVector1 Vector 1 (IS NOT CHANGED)
+     * @param aVector2 Vector 2 (IS NOT CHANGED)
+     * @param aVector3 Vector 3 (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @param aResults Scalar products of vectors 0 to 3 (MUST ALREADY BE
+     * INSTANTIATED with length of at least 4 and IS CHANGED)
+     */
+    protected static void setScalarProducts(
+            float[] aVector0,
+            float[] aVector1,
+            float[] aVector2,
+            float[] aVector3,
+            float[] aMatrix,
+            int anOffset,
+            float[] aResults
     ) {
-        float[] tmpNewMatrixRowVector = new float[aRowVector.length];
-        Utils.copyVector(aRowVector, tmpNewMatrixRowVector);
-        aMatrix[anIndex] = tmpNewMatrixRowVector;
+        if (IS_VECTOR_API_USED) {
+            VectorUtils.setScalarProducts(aVector0, aVector1, aVector2, aVector3, aMatrix, anOffset, aVector0.length, aResults);
+            return;
+        }
+        float tmpSum0 = 0.0f;
+        float tmpSum1 = 0.0f;
+        float tmpSum2 = 0.0f;
+        float tmpSum3 = 0.0f;
+        for (int i = 0; i < aVector0.length; i++) {
+            float tmpMatrixComponent = aMatrix[anOffset + i];
+            tmpSum0 = Math.fma(aVector0[i], tmpMatrixComponent, tmpSum0);
+            tmpSum1 = Math.fma(aVector1[i], tmpMatrixComponent, tmpSum1);
+            tmpSum2 = Math.fma(aVector2[i], tmpMatrixComponent, tmpSum2);
+            tmpSum3 = Math.fma(aVector3[i], tmpMatrixComponent, tmpSum3);
+        }
+        aResults[0] = tmpSum0;
+        aResults[1] = tmpSum1;
+        aResults[2] = tmpSum2;
+        aResults[3] = tmpSum3;
+    }
+
+    /**
+     * Calculates the squared distances between four vectors and the row
+     * vector of a row-major matrix that starts at anOffset (see
+     * ClusterMatrix) with a single pass over the row vector. The summation
+     * order of each squared distance is identical to getSquaredDistance().
+     *
+     * @param aVector0 Vector 0 (IS NOT CHANGED)
+     * @param aVector1 Vector 1 (IS NOT CHANGED)
+     * @param aVector2 Vector 2 (IS NOT CHANGED)
+     * @param aVector3 Vector 3 (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @param aResults Squared distances of vectors 0 to 3 (MUST ALREADY BE
+     * INSTANTIATED with length of at least 4 and IS CHANGED)
+     */
+    protected static void setSquaredDistances(
+            float[] aVector0,
+            float[] aVector1,
+            float[] aVector2,
+            float[] aVector3,
+            float[] aMatrix,
+            int anOffset,
+            float[] aResults
+    ) {
+        if (IS_VECTOR_API_USED) {
+            VectorUtils.setSquaredDistances(aVector0, aVector1, aVector2, aVector3, aMatrix, anOffset, aVector0.length, aResults);
+            return;
+        }
+        float tmpSum0 = 0.0f;
+        float tmpSum1 = 0.0f;
+        float tmpSum2 = 0.0f;
+        float tmpSum3 = 0.0f;
+        for (int i = 0; i < aVector0.length; i++) {
+            float tmpMatrixComponent = aMatrix[anOffset + i];
+            float tmpDelta0 = aVector0[i] - tmpMatrixComponent;
+            float tmpDelta1 = aVector1[i] - tmpMatrixComponent;
+            float tmpDelta2 = aVector2[i] - tmpMatrixComponent;
+            float tmpDelta3 = aVector3[i] - tmpMatrixComponent;
+            tmpSum0 = Math.fma(tmpDelta0, tmpDelta0, tmpSum0);
+            tmpSum1 = Math.fma(tmpDelta1, tmpDelta1, tmpSum1);
+            tmpSum2 = Math.fma(tmpDelta2, tmpDelta2, tmpSum2);
+            tmpSum3 = Math.fma(tmpDelta3, tmpDelta3, tmpSum3);
+        }
+        aResults[0] = tmpSum0;
+        aResults[1] = tmpSum1;
+        aResults[2] = tmpSum2;
+        aResults[3] = tmpSum3;
     }
 
     /**
@@ -913,6 +1740,131 @@ public class Utils {
                 };
         }
     }
+
+    /**
+     * Returns the number of threads for parallelized calculations: The
+     * parallelism of the fork-join pool of the calling thread if the calling
+     * thread is a worker of a fork-join pool (parallel streams then also use
+     * this pool), otherwise the number of available processors. The number
+     * of threads of a clustering run may therefore be set by calling the
+     * clustering method from a task of a ForkJoinPool with the desired
+     * parallelism.
+     * Note: The results of a clustering run do not depend on the number of
+     * threads.
+     *
+     * @return Number of threads for parallelized calculations
+     */
+    protected static int getParallelism() {
+        ForkJoinPool tmpForkJoinPool = ForkJoinTask.getPool();
+        if (tmpForkJoinPool != null) {
+            return tmpForkJoinPool.getParallelism();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the execution plan of a clustering run for auditing.
+     *
+     * @param anExecutionMode Execution mode (see EXECUTION_MODE constants)
+     * @param aRhoWinnerWorkerTeam Worker team of the rho winner calculation
+     * (null if not used)
+     * @param aSpeculativeRhoWindow Window of the speculative rho winner
+     * calculation (null if not used)
+     * @param aMiniBatch Mini-batch of the mini-batch training (null if not
+     * used)
+     * @param aHogwildClusterUpdates Concurrent cluster updates (null if not
+     * used)
+     * @param aDataVectorSample Sample of data vectors for the training (null
+     * if not used)
+     * @param anIsRhoWinnerPruning True: Sequential rho winner calculation
+     * was pruned, false: Otherwise
+     * @param anIsApproximateRhoWinner True: Sequential rho winner calculation
+     * was approximate, false: Otherwise
+     * @param anIsParallelAssignment True: Final assignment of data vectors
+     * to clusters was parallelized, false: Otherwise
+     * @return Execution plan
+     */
+    protected static String getExecutionPlan(
+            int anExecutionMode,
+            RhoWinnerWorkerTeam aRhoWinnerWorkerTeam,
+            SpeculativeRhoWindow aSpeculativeRhoWindow,
+            MiniBatch aMiniBatch,
+            HogwildClusterUpdates aHogwildClusterUpdates,
+            DataVectorSample aDataVectorSample,
+            boolean anIsRhoWinnerPruning,
+            boolean anIsApproximateRhoWinner,
+            boolean anIsParallelAssignment
+    ) {
+        StringBuilder tmpExecutionPlan = new StringBuilder();
+        switch (anExecutionMode) {
+            case EXECUTION_MODE_PARALLEL:
+                tmpExecutionPlan.append("Parallel: Rho winner calculation with ");
+                tmpExecutionPlan.append(aRhoWinnerWorkerTeam.getExecutionDescription());
+                break;
+            case EXECUTION_MODE_AUTOMATIC:
+                tmpExecutionPlan.append("Automatic: Rho winner calculation with ");
+                tmpExecutionPlan.append(aRhoWinnerWorkerTeam.getExecutionDescription());
+                break;
+            case EXECUTION_MODE_SPECULATIVE:
+                tmpExecutionPlan.append("Speculative: Rho values of ");
+                tmpExecutionPlan.append(aSpeculativeRhoWindow.getExecutionDescription());
+                tmpExecutionPlan.append(" with ");
+                tmpExecutionPlan.append(aRhoWinnerWorkerTeam.getExecutionDescription());
+                break;
+            case EXECUTION_MODE_MINI_BATCH:
+                tmpExecutionPlan.append("Mini-batch: Rho winners of ");
+                tmpExecutionPlan.append(aMiniBatch.getExecutionDescription());
+                tmpExecutionPlan.append(" with frozen cluster vectors");
+                break;
+            case EXECUTION_MODE_HOGWILD:
+                tmpExecutionPlan.append("Hogwild: Lock-free concurrent cluster updates of ");
+                tmpExecutionPlan.append(aHogwildClusterUpdates.getExecutionDescription());
+                break;
+            case EXECUTION_MODE_BATCH_PARALLEL:
+                tmpExecutionPlan.append("Batch-parallel: Concurrent clustering runs with sequential rho winner calculation");
+                break;
+            default:
+                tmpExecutionPlan.append("Sequential: Sequential rho winner calculation");
+                break;
+        }
+        if (anIsRhoWinnerPruning) {
+            tmpExecutionPlan.append(" with pruning");
+        }
+        if (anIsApproximateRhoWinner) {
+            tmpExecutionPlan.append(" with approximate candidates");
+        }
+        if (aDataVectorSample != null) {
+            tmpExecutionPlan.append(" trained on a ");
+            tmpExecutionPlan.append(aDataVectorSample.getExecutionDescription());
+        }
+        tmpExecutionPlan.append(anIsParallelAssignment ? ", parallelized" : ", sequential");
+        tmpExecutionPlan.append(" final assignment");
+        return tmpExecutionPlan.toString();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Private static methods">
+    /**
+     * Checks if the JDK Vector API is available and its use is not switched
+     * off by system property VECTOR_API_PROPERTY_NAME.
+     *
+     * @return True: JDK Vector API is available and may be used, false:
+     * Otherwise
+     */
+    private static boolean isVectorApiAvailable() {
+        try {
+            if (!Boolean.parseBoolean(System.getProperty(Utils.VECTOR_API_PROPERTY_NAME, "true"))) {
+                return false;
+            }
+            if (ModuleLayer.boot().findModule(Utils.VECTOR_API_MODULE_NAME).isEmpty()) {
+                return false;
+            }
+            // Initializes VectorUtils (and the preferred species)
+            return VectorUtils.getNumberOfLanes() > 1;
+        } catch (SecurityException | LinkageError anError) {
+            return false;
+        }
+    }
     //</editor-fold>
 
 }
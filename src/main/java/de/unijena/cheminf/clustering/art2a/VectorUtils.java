@@ -0,0 +1,323 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vectorized (SIMD) implementations of the vector math methods of Utils based
+ * on the JDK Vector API (incubator module jdk.incubator.vector) with the
+ * preferred species of the platform.
+ * <br><br>
+ * This class may only be loaded if module jdk.incubator.vector is part of the
+ * boot layer (e.g. with JVM option "--add-modules jdk.incubator.vector"). Use
+ * the methods of Utils which delegate to this class if appropriate (see
+ * Utils.IS_VECTOR_API_USED) and fall back to scalar code otherwise.
+ * <br><br>
+ * The vector loops process the components in lanes with a separate
+ * accumulation per lane followed by a reduction of the lanes and a scalar
+ * loop for the remaining tail components (scalar tails are faster than
+ * masked tails on hardware without native mask support). The different
+ * summation order leads to results that may differ from the scalar code in
+ * the last bits: The absolute deviation of a sum is bounded by about
+ * n x 2^-24 x (sum of absolute values of the summands) with n being the
+ * number of components, i.e. for typical data the relative deviation is of
+ * the order of 1E-6. Results are deterministic for a given platform.
+ * <br><br>
+ * Note: No checks are performed.
+ */
+public class VectorUtils {
+
+    //<editor-fold desc="Private static final constants">
+    /**
+     * Preferred float species of the platform
+     */
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructor">
+    /**
+     * Constructor
+     */
+    protected VectorUtils() {}
+    //</editor-fold>
+
+    //<editor-fold desc="Protected static methods">
+    /**
+     * Number of float lanes of the preferred species of the platform.
+     *
+     * @return Number of float lanes
+     */
+    protected static int getNumberOfLanes() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Calculates the scalar product (dot product) of the row vectors of two
+     * row-major matrices that start at anOffset1 and anOffset2 (see
+     * Utils.getScalarProduct()).
+     *
+     * @param aMatrix1 Row-major matrix 1 (IS NOT CHANGED)
+     * @param anOffset1 Offset of the row vector in aMatrix1
+     * @param aMatrix2 Row-major matrix 2 (IS NOT CHANGED)
+     * @param anOffset2 Offset of the row vector in aMatrix2
+     * @param aLength Length of the row vectors
+     * @return Scalar product (dot product)
+     */
+    protected static float getScalarProduct(
+            float[] aMatrix1,
+            int anOffset1,
+            float[] aMatrix2,
+            int anOffset2,
+            int aLength
+    ) {
+        int tmpUpperBound = SPECIES.loopBound(aLength);
+        int i = 0;
+        FloatVector tmpSumVector = FloatVector.zero(SPECIES);
+        for (; i < tmpUpperBound; i += SPECIES.length()) {
+            FloatVector tmpVector1 = FloatVector.fromArray(SPECIES, aMatrix1, anOffset1 + i);
+            FloatVector tmpVector2 = FloatVector.fromArray(SPECIES, aMatrix2, anOffset2 + i);
+            tmpSumVector = tmpVector1.fma(tmpVector2, tmpSumVector);
+        }
+        float tmpSum = tmpSumVector.reduceLanes(VectorOperators.ADD);
+        for (; i < aLength; i++) {
+            tmpSum = Math.fma(aMatrix1[anOffset1 + i], aMatrix2[anOffset2 + i], tmpSum);
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the squared distance between the row vectors of two
+     * row-major matrices that start at anOffset1 and anOffset2 (see
+     * Utils.getSquaredDistance()).
+     *
+     * @param aMatrix1 Row-major matrix 1 (IS NOT CHANGED)
+     * @param anOffset1 Offset of the row vector in aMatrix1
+     * @param aMatrix2 Row-major matrix 2 (IS NOT CHANGED)
+     * @param anOffset2 Offset of the row vector in aMatrix2
+     * @param aLength Length of the row vectors
+     * @return Squared distance
+     */
+    protected static float getSquaredDistance(
+            float[] aMatrix1,
+            int anOffset1,
+            float[] aMatrix2,
+            int anOffset2,
+            int aLength
+    ) {
+        int tmpUpperBound = SPECIES.loopBound(aLength);
+        int i = 0;
+        FloatVector tmpSumVector = FloatVector.zero(SPECIES);
+        for (; i < tmpUpperBound; i += SPECIES.length()) {
+            FloatVector tmpDeltaVector = FloatVector.fromArray(SPECIES, aMatrix1, anOffset1 + i)
+                .sub(FloatVector.fromArray(SPECIES, aMatrix2, anOffset2 + i));
+            tmpSumVector = tmpDeltaVector.fma(tmpDeltaVector, tmpSumVector);
+        }
+        float tmpSum = tmpSumVector.reduceLanes(VectorOperators.ADD);
+        for (; i < aLength; i++) {
+            float tmpDelta = aMatrix1[anOffset1 + i] - aMatrix2[anOffset2 + i];
+            tmpSum = Math.fma(tmpDelta, tmpDelta, tmpSum);
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the scalar products (dot products) of four vectors and the
+     * row vector of a row-major matrix that starts at anOffset (see
+     * Utils.setScalarProducts()). The summation order of each scalar product
+     * is identical to getScalarProduct().
+     *
+     * @param aVector0 Vector 0 (IS NOT CHANGED)
+     * @param aVector1 Vector 1 (IS NOT CHANGED)
+     * @param aVector2 Vector 2 (IS NOT CHANGED)
+     * @param aVector3 Vector 3 (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @param aLength Length of the vectors
+     * @param aResults Scalar products of vectors 0 to 3 (MUST ALREADY BE
+     * INSTANTIATED with length of at least 4 and IS CHANGED)
+     */
+    protected static void setScalarProducts(
+            float[] aVector0,
+            float[] aVector1,
+            float[] aVector2,
+            float[] aVector3,
+            float[] aMatrix,
+            int anOffset,
+            int aLength,
+            float[] aResults
+    ) {
+        int tmpUpperBound = SPECIES.loopBound(aLength);
+        int i = 0;
+        FloatVector tmpSumVector0 = FloatVector.zero(SPECIES);
+        FloatVector tmpSumVector1 = FloatVector.zero(SPECIES);
+        FloatVector tmpSumVector2 = FloatVector.zero(SPECIES);
+        FloatVector tmpSumVector3 = FloatVector.zero(SPECIES);
+        for (; i < tmpUpperBound; i += SPECIES.length()) {
+            FloatVector tmpMatrixVector = FloatVector.fromArray(SPECIES, aMatrix, anOffset + i);
+            tmpSumVector0 = FloatVector.fromArray(SPECIES, aVector0, i).fma(tmpMatrixVector, tmpSumVector0);
+            tmpSumVector1 = FloatVector.fromArray(SPECIES, aVector1, i).fma(tmpMatrixVector, tmpSumVector1);
+            tmpSumVector2 = FloatVector.fromArray(SPECIES, aVector2, i).fma(tmpMatrixVector, tmpSumVector2);
+            tmpSumVector3 = FloatVector.fromArray(SPECIES, aVector3, i).fma(tmpMatrixVector, tmpSumVector3);
+        }
+        float tmpSum0 = tmpSumVector0.reduceLanes(VectorOperators.ADD);
+        float tmpSum1 = tmpSumVector1.reduceLanes(VectorOperators.ADD);
+        float tmpSum2 = tmpSumVector2.reduceLanes(VectorOperators.ADD);
+        float tmpSum3 = tmpSumVector3.reduceLanes(VectorOperators.ADD);
+        for (; i < aLength; i++) {
+            float tmpMatrixComponent = aMatrix[anOffset + i];
+            tmpSum0 = Math.fma(aVector0[i], tmpMatrixComponent, tmpSum0);
+            tmpSum1 = Math.fma(aVector1[i], tmpMatrixComponent, tmpSum1);
+            tmpSum2 = Math.fma(aVector2[i], tmpMatrixComponent, tmpSum2);
+            tmpSum3 = Math.fma(aVector3[i], tmpMatrixComponent, tmpSum3);
+        }
+        aResults[0] = tmpSum0;
+        aResults[1] = tmpSum1;
+        aResults[2] = tmpSum2;
+        aResults[3] = tmpSum3;
+    }
+
+    /**
+     * Calculates the squared distances between four vectors and the row
+     * vector of a row-major matrix that starts at anOffset (see
+     * Utils.setSquaredDistances()). The summation order of each squared
+     * distance is identical to getSquaredDistance().
+     *
+     * @param aVector0 Vector 0 (IS NOT CHANGED)
+     * @param aVector1 Vector 1 (IS NOT CHANGED)
+     * @param aVector2 Vector 2 (IS NOT CHANGED)
+     * @param aVector3 Vector 3 (IS NOT CHANGED)
+     * @param aMatrix Row-major matrix (IS NOT CHANGED)
+     * @param anOffset Offset of the row vector in aMatrix
+     * @param aLength Length of the vectors
+     * @param aResults Squared distances of vectors 0 to 3 (MUST ALREADY BE
+     * INSTANTIATED with length of at least 4 and IS CHANGED)
+     */
+    protected static void setSquaredDistances(
+            float[] aVector0,
+            float[] aVector1,
+            float[] aVector2,
+            float[] aVector3,
+            float[] aMatrix,
+            int anOffset,
+            int aLength,
+            float[] aResults
+    ) {
+        int tmpUpperBound = SPECIES.loopBound(aLength);
+        int i = 0;
+        FloatVector tmpSumVector0 = FloatVector.zero(SPECIES);
+        FloatVector tmpSumVector1 = FloatVector.zero(SPECIES);
+        FloatVector tmpSumVector2 = FloatVector.zero(SPECIES);
+        FloatVector tmpSumVector3 = FloatVector.zero(SPECIES);
+        for (; i < tmpUpperBound; i += SPECIES.length()) {
+            FloatVector tmpMatrixVector = FloatVector.fromArray(SPECIES, aMatrix, anOffset + i);
+            FloatVector tmpDeltaVector0 = FloatVector.fromArray(SPECIES, aVector0, i).sub(tmpMatrixVector);
+            FloatVector tmpDeltaVector1 = FloatVector.fromArray(SPECIES, aVector1, i).sub(tmpMatrixVector);
+            FloatVector tmpDeltaVector2 = FloatVector.fromArray(SPECIES, aVector2, i).sub(tmpMatrixVector);
+            FloatVector tmpDeltaVector3 = FloatVector.fromArray(SPECIES, aVector3, i).sub(tmpMatrixVector);
+            tmpSumVector0 = tmpDeltaVector0.fma(tmpDeltaVector0, tmpSumVector0);
+            tmpSumVector1 = tmpDeltaVector1.fma(tmpDeltaVector1, tmpSumVector1);
+            tmpSumVector2 = tmpDeltaVector2.fma(tmpDeltaVector2, tmpSumVector2);
+            tmpSumVector3 = tmpDeltaVector3.fma(tmpDeltaVector3, tmpSumVector3);
+        }
+        float tmpSum0 = tmpSumVector0.reduceLanes(VectorOperators.ADD);
+        float tmpSum1 = tmpSumVector1.reduceLanes(VectorOperators.ADD);
+        float tmpSum2 = tmpSumVector2.reduceLanes(VectorOperators.ADD);
+        float tmpSum3 = tmpSumVector3.reduceLanes(VectorOperators.ADD);
+        for (; i < aLength; i++) {
+            float tmpMatrixComponent = aMatrix[anOffset + i];
+            float tmpDelta0 = aVector0[i] - tmpMatrixComponent;
+            float tmpDelta1 = aVector1[i] - tmpMatrixComponent;
+            float tmpDelta2 = aVector2[i] - tmpMatrixComponent;
+            float tmpDelta3 = aVector3[i] - tmpMatrixComponent;
+            tmpSum0 = Math.fma(tmpDelta0, tmpDelta0, tmpSum0);
+            tmpSum1 = Math.fma(tmpDelta1, tmpDelta1, tmpSum1);
+            tmpSum2 = Math.fma(tmpDelta2, tmpDelta2, tmpSum2);
+            tmpSum3 = Math.fma(tmpDelta3, tmpDelta3, tmpSum3);
+        }
+        aResults[0] = tmpSum0;
+        aResults[1] = tmpSum1;
+        aResults[2] = tmpSum2;
+        aResults[3] = tmpSum3;
+    }
+
+    /**
+     * Calculates the sum of components of aVector (see
+     * Utils.getSumOfComponents()).
+     *
+     * @param aVector Vector (IS NOT CHANGED)
+     * @return Sum of components
+     */
+    protected static float getSumOfComponents(
+            float[] aVector
+    ) {
+        int tmpUpperBound = SPECIES.loopBound(aVector.length);
+        int i = 0;
+        FloatVector tmpSumVector = FloatVector.zero(SPECIES);
+        for (; i < tmpUpperBound; i += SPECIES.length()) {
+            tmpSumVector = tmpSumVector.add(FloatVector.fromArray(SPECIES, aVector, i));
+        }
+        float tmpSum = tmpSumVector.reduceLanes(VectorOperators.ADD);
+        for (; i < aVector.length; i++) {
+            tmpSum += aVector[i];
+        }
+        return tmpSum;
+    }
+
+    /**
+     * Calculates the sum of squared differences between the components of the
+     * specified vector and a value (see Utils.getSumOfSquaredDifferences()).
+     *
+     * @param aVector Vector (IS NOT CHANGED)
+     * @param aValue Value
+     * @return Sum of squared differences between the components of the
+     * specified vector and a value.
+     */
+    protected static float getSumOfSquaredDifferences(
+            float[] aVector,
+            float aValue
+    ) {
+        int tmpUpperBound = SPECIES.loopBound(aVector.length);
+        int i = 0;
+        FloatVector tmpValueVector = FloatVector.broadcast(SPECIES, aValue);
+        FloatVector tmpSumVector = FloatVector.zero(SPECIES);
+        for (; i < tmpUpperBound; i += SPECIES.length()) {
+            FloatVector tmpDeltaVector = FloatVector.fromArray(SPECIES, aVector, i).sub(tmpValueVector);
+            tmpSumVector = tmpDeltaVector.fma(tmpDeltaVector, tmpSumVector);
+        }
+        float tmpSum = tmpSumVector.reduceLanes(VectorOperators.ADD);
+        for (; i < aVector.length; i++) {
+            float tmpDelta = aVector[i] - aValue;
+            tmpSum = Math.fma(tmpDelta, tmpDelta, tmpSum);
+        }
+        return tmpSum;
+    }
+    //</editor-fold>
+
+}
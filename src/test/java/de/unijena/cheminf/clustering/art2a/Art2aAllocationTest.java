@@ -0,0 +1,205 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Test class for allocation-free epochs of ART-2a and ART-2a-Euclid
+ * clustering.
+ * <br><br>
+ * Note: Allocated bytes are measured with a separate test class so that the
+ * tests run in their own JVM (see forkEvery in build.gradle): The compiled
+ * code of a JVM that already ran other tests (with e.g. very short data row
+ * vectors) may box vectors of the JDK Vector API, i.e. it may allocate
+ * temporary objects in every epoch.
+ */
+public class Art2aAllocationTest {
+
+    /**
+     * Tests that epochs of a steady-state ART-2a clustering process (i.e.
+     * without new clusters) do not allocate memory: Clustering runs with 3 and 13
+     * epochs must allocate the same number of bytes (apart from the per-epoch
+     * numbers of reassigned data vectors of the result).
+     */
+    @Test
+    public void test_AllocationFreeEpochs() {
+        System.out.println("---------------------------");
+        System.out.println("test_AllocationFreeEpochs()");
+        System.out.println("---------------------------");
+        ThreadMXBean tmpThreadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(tmpThreadMXBean.isThreadAllocatedMemorySupported(), "Thread allocated memory is not supported.");
+        tmpThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        // Data vectors around 20 well separated centers
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 50;
+        float[][] tmpCenters = new float[20][tmpNumberOfComponents];
+        for (float[] tmpCenter : tmpCenters) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpCenter[j] = tmpRandomNumberGenerator.nextFloat() < 0.7f ? 0.0f : tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        float[][] tmpDataMatrix = new float[2000][tmpNumberOfComponents];
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                float tmpComponent = tmpCenters[i % tmpCenters.length][j];
+                tmpDataMatrix[i][j] = tmpComponent == 0.0f ? 0.0f : Math.abs(tmpComponent + 0.05f * (float) tmpRandomNumberGenerator.nextGaussian());
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        long tmpThreadId = Thread.currentThread().getId();
+        try {
+            for (boolean tmpIsSparse : new boolean[] {false, true}) {
+                for (boolean tmpIsRhoWinnerPruning : new boolean[] {false, true}) {
+                    long[] tmpAllocatedBytes = new long[2];
+                    int[] tmpNumbersOfEpochs = new int[] {3, 13};
+                    int[] tmpNumbersOfDetectedClusters = new int[2];
+                    // Per-epoch numbers of reassigned data vectors of the
+                    // result are the only allocation that depends on the
+                    // maximum number of epochs
+                    long tmpExpectedDifference = (long) Integer.BYTES * (tmpNumbersOfEpochs[1] - tmpNumbersOfEpochs[0]);
+                    // Repetitions after the first one are measured (class
+                    // loading and compilation of first repetition are
+                    // excluded). Since vector operations that are not (yet)
+                    // compiled to intrinsics allocate temporary objects, up
+                    // to 5 repetitions are performed until the allocated
+                    // bytes are as expected.
+                    for (int tmpRepetition = 0; tmpRepetition < 5; tmpRepetition++) {
+                        for (int i = 0; i < tmpNumbersOfEpochs.length; i++) {
+                            Art2aKernel tmpArt2aKernel =
+                                tmpIsSparse ?
+                                    new Art2aKernel(tmpSparseDataMatrix, 100, tmpNumbersOfEpochs[i], 0.999999f, 0.01f, 1.0f, 1L, false) :
+                                    new Art2aKernel(tmpDataMatrix, 100, tmpNumbersOfEpochs[i], 0.999999f, 0.01f, 1.0f, 1L, false);
+                            long tmpStartAllocatedBytes = tmpThreadMXBean.getThreadAllocatedBytes(tmpThreadId);
+                            Art2aResult tmpArt2aResult = tmpArt2aKernel.getClusterResult(0.5f, false, tmpIsRhoWinnerPruning);
+                            tmpAllocatedBytes[i] = tmpThreadMXBean.getThreadAllocatedBytes(tmpThreadId) - tmpStartAllocatedBytes;
+                            Assertions.assertEquals(tmpNumbersOfEpochs[i], tmpArt2aResult.getNumberOfEpochs());
+                            tmpNumbersOfDetectedClusters[i] = tmpArt2aResult.getNumberOfDetectedClusters();
+                        }
+                        if (tmpRepetition > 0 && tmpAllocatedBytes[1] - tmpAllocatedBytes[0] == tmpExpectedDifference) {
+                            break;
+                        }
+                    }
+                    System.out.println(
+                        "  Sparse = " + tmpIsSparse + ", pruning = " + tmpIsRhoWinnerPruning +
+                            ": Allocated bytes for 3 epochs = " + tmpAllocatedBytes[0] + ", for 13 epochs = " + tmpAllocatedBytes[1]
+                    );
+                    Assertions.assertEquals(tmpNumbersOfDetectedClusters[0], tmpNumbersOfDetectedClusters[1]);
+                    Assertions.assertEquals(tmpExpectedDifference, tmpAllocatedBytes[1] - tmpAllocatedBytes[0]);
+                }
+            }
+        } catch (Exception anException) {
+            Assertions.fail();
+        }
+    }
+
+
+    /**
+     * Tests that epochs of a steady-state ART-2a-Euclid clustering process
+     * (i.e. without new clusters) do not allocate memory: Clustering runs with 3 and 13
+     * epochs must allocate the same number of bytes (apart from the per-epoch
+     * numbers of reassigned data vectors of the result).
+     */
+    @Test
+    public void test_AllocationFreeEpochsEuclid() {
+        System.out.println("---------------------------------");
+        System.out.println("test_AllocationFreeEpochsEuclid()");
+        System.out.println("---------------------------------");
+        ThreadMXBean tmpThreadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(tmpThreadMXBean.isThreadAllocatedMemorySupported(), "Thread allocated memory is not supported.");
+        tmpThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        // Data vectors around 20 well separated centers
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 50;
+        float[][] tmpCenters = new float[20][tmpNumberOfComponents];
+        for (float[] tmpCenter : tmpCenters) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpCenter[j] = tmpRandomNumberGenerator.nextFloat() < 0.7f ? 0.0f : tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        float[][] tmpDataMatrix = new float[2000][tmpNumberOfComponents];
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                float tmpComponent = tmpCenters[i % tmpCenters.length][j];
+                tmpDataMatrix[i][j] = tmpComponent == 0.0f ? 0.0f : Math.abs(tmpComponent + 0.05f * (float) tmpRandomNumberGenerator.nextGaussian());
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        long tmpThreadId = Thread.currentThread().getId();
+        try {
+            for (boolean tmpIsSparse : new boolean[] {false, true}) {
+                for (boolean tmpIsRhoWinnerPruning : new boolean[] {false, true}) {
+                    long[] tmpAllocatedBytes = new long[2];
+                    int[] tmpNumbersOfEpochs = new int[] {3, 13};
+                    int[] tmpNumbersOfDetectedClusters = new int[2];
+                    // Per-epoch numbers of reassigned data vectors of the
+                    // result are the only allocation that depends on the
+                    // maximum number of epochs
+                    long tmpExpectedDifference = (long) Integer.BYTES * (tmpNumbersOfEpochs[1] - tmpNumbersOfEpochs[0]);
+                    // Repetitions after the first one are measured (class
+                    // loading and compilation of first repetition are
+                    // excluded). Since vector operations that are not (yet)
+                    // compiled to intrinsics allocate temporary objects, up
+                    // to 5 repetitions are performed until the allocated
+                    // bytes are as expected.
+                    for (int tmpRepetition = 0; tmpRepetition < 5; tmpRepetition++) {
+                        for (int i = 0; i < tmpNumbersOfEpochs.length; i++) {
+                            Art2aEuclidKernel tmpArt2aEuclidKernel =
+                                tmpIsSparse ?
+                                    new Art2aEuclidKernel(tmpSparseDataMatrix, 100, tmpNumbersOfEpochs[i], 1.0e-6f, 0.01f, 1.0f, 1L, false) :
+                                    new Art2aEuclidKernel(tmpDataMatrix, 100, tmpNumbersOfEpochs[i], 1.0e-6f, 0.01f, 1.0f, 1L, false);
+                            long tmpStartAllocatedBytes = tmpThreadMXBean.getThreadAllocatedBytes(tmpThreadId);
+                            Art2aEuclidResult tmpArt2aEuclidResult = tmpArt2aEuclidKernel.getClusterResult(0.5f, false, tmpIsRhoWinnerPruning);
+                            tmpAllocatedBytes[i] = tmpThreadMXBean.getThreadAllocatedBytes(tmpThreadId) - tmpStartAllocatedBytes;
+                            Assertions.assertEquals(tmpNumbersOfEpochs[i], tmpArt2aEuclidResult.getNumberOfEpochs());
+                            tmpNumbersOfDetectedClusters[i] = tmpArt2aEuclidResult.getNumberOfDetectedClusters();
+                        }
+                        if (tmpRepetition > 0 && tmpAllocatedBytes[1] - tmpAllocatedBytes[0] == tmpExpectedDifference) {
+                            break;
+                        }
+                    }
+                    System.out.println(
+                        "  Sparse = " + tmpIsSparse + ", pruning = " + tmpIsRhoWinnerPruning +
+                            ": Allocated bytes for 3 epochs = " + tmpAllocatedBytes[0] + ", for 13 epochs = " + tmpAllocatedBytes[1]
+                    );
+                    Assertions.assertEquals(tmpNumbersOfDetectedClusters[0], tmpNumbersOfDetectedClusters[1]);
+                    Assertions.assertEquals(tmpExpectedDifference, tmpAllocatedBytes[1] - tmpAllocatedBytes[0]);
+                }
+            }
+        } catch (Exception anException) {
+            Assertions.fail();
+        }
+    }
+
+}
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 
 /**
@@ -523,6 +524,1476 @@ public class Art2aEuclidTest {
         }
     }
 
+    /**
+     * Tests that clustering of a dense data matrix and of the corresponding
+     * sparse data matrix (with and without preprocessing) has identical
+     * results.
+     */
+    @Test
+    public void test_SparseDataMatrix() {
+        System.out.println("-----------------------");
+        System.out.println("test_SparseDataMatrix()");
+        System.out.println("-----------------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        // Set some components to zero to obtain a sparse data matrix
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        Assertions.assertEquals(tmpIrisFlowerDataMatrix.length, tmpSparseDataMatrix.getNumberOfRows());
+        Assertions.assertEquals(3 * tmpIrisFlowerDataMatrix.length, tmpSparseDataMatrix.getNumberOfNonZeros());
+        float[] tmpVigilances = new float[] {0.1f, 0.3f, 0.5f, 0.7f, 0.9f};
+        int tmpMaximumNumberOfClusters = 150;
+        int tmpMaximumNumberOfEpochs = 100;
+        float tmpConvergenceThreshold = 0.99f;
+        float tmpLearningParameter = 0.01f;
+        float tmpOffsetForContrastEnhancement = 1.0f;
+        long tmpRandomSeed = 1L;
+
+        for (float tmpVigilance : tmpVigilances) {
+            for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+                for (boolean tmpIsParallelRhoWinnerCalculation : new boolean[] {false, true}) {
+                    Art2aEuclidKernel tmpDenseKernel =
+                        new Art2aEuclidKernel(
+                            tmpIrisFlowerDataMatrix,
+                            tmpMaximumNumberOfClusters,
+                            tmpMaximumNumberOfEpochs,
+                            tmpConvergenceThreshold,
+                            tmpLearningParameter,
+                            tmpOffsetForContrastEnhancement,
+                            tmpRandomSeed,
+                            tmpIsDataPreprocessing
+                        );
+                    Art2aEuclidKernel tmpSparseKernel =
+                        new Art2aEuclidKernel(
+                            tmpSparseDataMatrix,
+                            tmpMaximumNumberOfClusters,
+                            tmpMaximumNumberOfEpochs,
+                            tmpConvergenceThreshold,
+                            tmpLearningParameter,
+                            tmpOffsetForContrastEnhancement,
+                            tmpRandomSeed,
+                            tmpIsDataPreprocessing
+                        );
+                    Art2aEuclidResult tmpDenseResult = null;
+                    Art2aEuclidResult tmpSparseResult = null;
+                    try {
+                        tmpDenseResult = tmpDenseKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                        tmpSparseResult = tmpSparseKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+
+                    // Assertions.assert that results of dense and sparse data matrix are identical
+                    Assertions.assertEquals(tmpDenseResult.getNumberOfDetectedClusters(), tmpSparseResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpDenseResult.getNumberOfEpochs(), tmpSparseResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpDenseResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpDenseResult.getDataVectorIndicesOfCluster(i),
+                            tmpSparseResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertEquals(
+                            tmpDenseResult.getClusterRepresentativeIndex(i),
+                            tmpSparseResult.getClusterRepresentativeIndex(i)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that clustering of a binary data matrix with bit-packed data row
+     * vectors of disjoint groups of columns leads to the same number of
+     * clusters as the corresponding dense data matrix and detects data row
+     * vectors with a length of zero.
+     */
+    @Test
+    public void test_BinaryDataMatrix() {
+        System.out.println("-----------------------");
+        System.out.println("test_BinaryDataMatrix()");
+        System.out.println("-----------------------");
+        int tmpNumberOfGroups = 5;
+        int tmpNumberOfColumnsPerGroup = 30;
+        int tmpNumberOfDataVectorsPerGroup = 100;
+        int tmpNumberOfColumns = tmpNumberOfGroups * tmpNumberOfColumnsPerGroup;
+        Random tmpRandomNumberGenerator = new Random(1L);
+        // Last data row vector has a length of zero
+        float[][] tmpDataMatrix = new float[tmpNumberOfGroups * tmpNumberOfDataVectorsPerGroup + 1][tmpNumberOfColumns];
+        for (int i = 0; i < tmpNumberOfGroups * tmpNumberOfDataVectorsPerGroup; i++) {
+            int tmpGroupOffset = (i % tmpNumberOfGroups) * tmpNumberOfColumnsPerGroup;
+            // At least one set bit for each data row vector
+            tmpDataMatrix[i][tmpGroupOffset] = 1.0f;
+            for (int j = 1; j < tmpNumberOfColumnsPerGroup; j++) {
+                if (tmpRandomNumberGenerator.nextFloat() < 0.5f) {
+                    tmpDataMatrix[i][tmpGroupOffset + j] = 1.0f;
+                }
+            }
+        }
+        BinaryDataMatrix tmpBinaryDataMatrix = BinaryDataMatrix.getBinaryDataMatrix(tmpDataMatrix);
+        Assertions.assertEquals(tmpDataMatrix.length, tmpBinaryDataMatrix.getNumberOfRows());
+        Assertions.assertEquals(3, tmpBinaryDataMatrix.getNumberOfWordsPerRow());
+
+        float tmpVigilance = 0.1f;
+        int tmpMaximumNumberOfClusters = 100;
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            for (boolean tmpIsParallelRhoWinnerCalculation : new boolean[] {false, true}) {
+                Art2aEuclidKernel tmpDenseKernel = new Art2aEuclidKernel(tmpDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                Art2aEuclidKernel tmpBinaryKernel = new Art2aEuclidKernel(tmpBinaryDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                Art2aEuclidResult tmpDenseResult = null;
+                Art2aEuclidResult tmpBinaryResult = null;
+                try {
+                    tmpDenseResult = tmpDenseKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                    tmpBinaryResult = tmpBinaryKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                Assertions.assertEquals(tmpDenseResult.getNumberOfDetectedClusters(), tmpBinaryResult.getNumberOfDetectedClusters());
+                Assertions.assertArrayEquals(new int[] {tmpDataMatrix.length - 1}, tmpBinaryResult.getZeroLengthDataVectorIndices());
+                for (int i = 0; i < tmpBinaryResult.getNumberOfDetectedClusters(); i++) {
+                    // Clusters do not mix groups
+                    int[] tmpDataVectorIndicesOfCluster = tmpBinaryResult.getDataVectorIndicesOfCluster(i);
+                    for (int tmpIndex : tmpDataVectorIndicesOfCluster) {
+                        Assertions.assertEquals(tmpDataVectorIndicesOfCluster[0] % tmpNumberOfGroups, tmpIndex % tmpNumberOfGroups);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that clustering with pruning of the sequential rho winner
+     * calculation has identical results as clustering without pruning (for
+     * dense and sparse data matrices) and that rho values are pruned.
+     */
+    @Test
+    public void test_RhoWinnerPruning() {
+        System.out.println("-----------------------");
+        System.out.println("test_RhoWinnerPruning()");
+        System.out.println("-----------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // Sparse data matrix requires non-negative components
+        for (float[] tmpDataVector : tmpCombinedGaussianCloudDataMatrix) {
+            for (int i = 0; i < tmpDataVector.length; i++) {
+                tmpDataVector[i] = Math.abs(tmpDataVector[i]);
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpCombinedGaussianCloudDataMatrix);
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f, 0.99f};
+        int tmpMaximumNumberOfClusters = 1000;
+        long tmpNumberOfPrunedRhoValues = 0L;
+        for (float tmpVigilance : tmpVigilances) {
+            for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+                for (boolean tmpIsSparse : new boolean[] {false, true}) {
+                    Art2aEuclidKernel tmpArt2aEuclidKernel;
+                    if (tmpIsSparse) {
+                        tmpArt2aEuclidKernel = new Art2aEuclidKernel(tmpSparseDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                    } else {
+                        tmpArt2aEuclidKernel = new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                    }
+                    Art2aEuclidResult tmpResult = null;
+                    Art2aEuclidResult tmpPrunedResult = null;
+                    try {
+                        tmpResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, false, false);
+                        tmpPrunedResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, false, true);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    Assertions.assertEquals(0L, tmpResult.getNumberOfPrunedRhoValues());
+                    Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpPrunedResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpResult.getNumberOfEpochs(), tmpPrunedResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpResult.getDataVectorIndicesOfCluster(i),
+                            tmpPrunedResult.getDataVectorIndicesOfCluster(i)
+                        );
+                    }
+                    tmpNumberOfPrunedRhoValues += tmpPrunedResult.getNumberOfPrunedRhoValues();
+                }
+            }
+        }
+        System.out.println("Number of pruned rho values = " + tmpNumberOfPrunedRhoValues);
+        Assertions.assertTrue(tmpNumberOfPrunedRhoValues > 0L);
+    }
+
+    /**
+     * Tests that clustering with pruning of the sequential rho winner
+     * calculation with a very high number of clusters (where a centroid index
+     * is used) has identical results as clustering without pruning.
+     */
+    @Test
+    public void test_RhoWinnerPruningWithCentroidIndex() {
+        System.out.println("----------------------------------------");
+        System.out.println("test_RhoWinnerPruningWithCentroidIndex()");
+        System.out.println("----------------------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        float[][] tmpDataMatrix = new float[4000][8];
+        for (float[] tmpDataVector : tmpDataMatrix) {
+            for (int i = 0; i < tmpDataVector.length; i++) {
+                tmpDataVector[i] = tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        float tmpVigilance = 0.999f;
+        int tmpMaximumNumberOfClusters = 4000;
+        long tmpNumberOfPrunedRhoValues = 0L;
+        for (boolean tmpIsSparse : new boolean[] {false, true}) {
+            Art2aEuclidKernel tmpArt2aEuclidKernel;
+            if (tmpIsSparse) {
+                tmpArt2aEuclidKernel = new Art2aEuclidKernel(tmpSparseDataMatrix, tmpMaximumNumberOfClusters, true);
+            } else {
+                tmpArt2aEuclidKernel = new Art2aEuclidKernel(tmpDataMatrix, tmpMaximumNumberOfClusters, true);
+            }
+            Art2aEuclidResult tmpResult = null;
+            Art2aEuclidResult tmpPrunedResult = null;
+            try {
+                tmpResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, false, false);
+                tmpPrunedResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, false, true);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            Assertions.assertTrue(tmpResult.getNumberOfDetectedClusters() > 2048);
+            Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpPrunedResult.getNumberOfDetectedClusters());
+            Assertions.assertEquals(tmpResult.getNumberOfEpochs(), tmpPrunedResult.getNumberOfEpochs());
+            for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                Assertions.assertArrayEquals(
+                    tmpResult.getDataVectorIndicesOfCluster(i),
+                    tmpPrunedResult.getDataVectorIndicesOfCluster(i)
+                );
+            }
+            tmpNumberOfPrunedRhoValues += tmpPrunedResult.getNumberOfPrunedRhoValues();
+        }
+        System.out.println("Number of pruned rho values = " + tmpNumberOfPrunedRhoValues);
+        Assertions.assertTrue(tmpNumberOfPrunedRhoValues > 0L);
+    }
+
+    /**
+     * Tests that the rho winner (minimum squared distance) of the worker team is
+     * identical to the one of a sequential calculation (including ties) for
+     * dense and sparse vectors.
+     */
+    @Test
+    public void test_RhoWinnerWorkerTeam() {
+        System.out.println("--------------------------");
+        System.out.println("test_RhoWinnerWorkerTeam()");
+        System.out.println("--------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 20;
+        int tmpNumberOfClusters = 500;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters, tmpNumberOfComponents, true);
+        float[][] tmpDataMatrix = new float[100][tmpNumberOfComponents];
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            float[] tmpClusterVector = new float[tmpNumberOfComponents];
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpClusterVector[j] = tmpRandomNumberGenerator.nextFloat();
+            }
+            if (i == 400) {
+                // Duplicate of cluster vector 100 for a tie
+                tmpClusterVector = Arrays.copyOfRange(tmpClusterMatrix.getComponents(), tmpClusterMatrix.getOffset(100), tmpClusterMatrix.getOffset(100) + tmpNumberOfComponents);
+            }
+            tmpClusterMatrix.addCluster(tmpClusterVector);
+        }
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            if (i % 10 == 0) {
+                System.arraycopy(tmpClusterMatrix.getComponents(), tmpClusterMatrix.getOffset(100), tmpDataMatrix[i], 0, tmpNumberOfComponents);
+            } else {
+                for (int j = 0; j < tmpNumberOfComponents; j++) {
+                    tmpDataMatrix[i][j] = tmpRandomNumberGenerator.nextFloat() < 0.5f ? 0.0f : tmpRandomNumberGenerator.nextFloat();
+                }
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        Utils.SparseVector tmpSparseVector = new Utils.SparseVector(tmpNumberOfComponents);
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        try (RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(false, 4, 1L)) {
+            for (int i = 0; i < tmpDataMatrix.length; i++) {
+                float tmpFirstRhoValue = Utils.getSumOfSquaredDifferences(tmpDataMatrix[i], 0.1f);
+                float tmpRhoValue = tmpFirstRhoValue;
+                int tmpIndex = -1;
+                for (int j = 0; j < tmpNumberOfClusters; j++) {
+                    float tmpRhoValueOfCluster = Utils.getSquaredDistance(tmpDataMatrix[i], tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride());
+                    if (tmpRhoValueOfCluster < tmpRhoValue) {
+                        tmpRhoValue = tmpRhoValueOfCluster;
+                        tmpIndex = j;
+                    }
+                }
+                if (i % 10 == 0) {
+                    Assertions.assertEquals(100, tmpIndex);
+                }
+                tmpRhoWinnerWorkerTeam.setRhoWinner(tmpDataMatrix[i], null, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpRhoWinner);
+                Assertions.assertEquals(tmpIndex, tmpRhoWinner.getIndexOfCluster());
+                Assertions.assertEquals(tmpRhoValue, tmpRhoWinner.getRhoValue());
+                tmpSparseVector.setRow(tmpSparseDataMatrix, i);
+                tmpRhoValue = tmpFirstRhoValue;
+                tmpIndex = -1;
+                for (int j = 0; j < tmpNumberOfClusters; j++) {
+                    float tmpRhoValueOfCluster = Utils.getSquaredDistance(tmpSparseVector, tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride(), tmpClusterMatrix.getSquaredLength(j));
+                    if (tmpRhoValueOfCluster < tmpRhoValue) {
+                        tmpRhoValue = tmpRhoValueOfCluster;
+                        tmpIndex = j;
+                    }
+                }
+                tmpRhoWinnerWorkerTeam.setRhoWinner(null, tmpSparseVector, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpRhoWinner);
+                Assertions.assertEquals(tmpIndex, tmpRhoWinner.getIndexOfCluster());
+                Assertions.assertEquals(tmpRhoValue, tmpRhoWinner.getRhoValue());
+            }
+        }
+    }
+
+    /**
+     * Tests that automatic execution leads to results identical to sequential
+     * execution and records the execution plan, and that calibration of
+     * RhoWinnerWorkerTeam does not change Rho winners.
+     */
+    @Test
+    public void test_AutomaticExecution() {
+        System.out.println("-------------------------");
+        System.out.println("test_AutomaticExecution()");
+        System.out.println("-------------------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f};
+        Art2aEuclidKernel tmpArt2aEuclidKernel =
+            new Art2aEuclidKernel(
+                tmpIrisFlowerDataMatrix,
+                150,
+                100,
+                0.99f,
+                0.01f,
+                1.0f,
+                1L,
+                false
+            );
+        try {
+            Art2aEuclidResult[] tmpAutomaticResults = tmpArt2aEuclidKernel.getClusterResults(tmpVigilances);
+            Assertions.assertNotNull(tmpAutomaticResults);
+            for (int i = 0; i < tmpVigilances.length; i++) {
+                Art2aEuclidResult tmpSequentialResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilances[i], false);
+                Assertions.assertTrue(tmpSequentialResult.getExecutionPlan().startsWith("Sequential"));
+                Art2aEuclidResult tmpAutomaticResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilances[i]);
+                Assertions.assertTrue(tmpAutomaticResult.getExecutionPlan().startsWith("Automatic"));
+                System.out.println("  " + tmpAutomaticResult.getExecutionPlan());
+                Assertions.assertNotNull(tmpAutomaticResults[i].getExecutionPlan());
+                for (Art2aEuclidResult tmpResult : new Art2aEuclidResult[] {tmpAutomaticResult, tmpAutomaticResults[i]}) {
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpResult.getNumberOfEpochs());
+                    for (int j = 0; j < tmpSequentialResult.getNumberOfDetectedClusters(); j++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(j),
+                            tmpResult.getDataVectorIndicesOfCluster(j)
+                        );
+                    }
+                }
+            }
+            Assertions.assertArrayEquals(
+                tmpArt2aEuclidKernel.getRepresentatives(10, 0.0001f, 0.9999f, 32, false),
+                tmpArt2aEuclidKernel.getRepresentatives(10, 0.0001f, 0.9999f, 32)
+            );
+        } catch (Exception anException) {
+            Assertions.fail();
+        }
+
+        // Calibration with forced dedicated worker threads
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 20;
+        int tmpNumberOfClusters = 500;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters, tmpNumberOfComponents, true);
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            float[] tmpClusterVector = new float[tmpNumberOfComponents];
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpClusterVector[j] = tmpRandomNumberGenerator.nextFloat();
+            }
+            tmpClusterMatrix.addCluster(tmpClusterVector);
+        }
+        float[][] tmpDataMatrix = new float[200][tmpNumberOfComponents];
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpDataMatrix[i][j] = tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        Utils.RhoWinner tmpReferenceRhoWinner = new Utils.RhoWinner();
+        try (
+            RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(false, 4, 1L);
+            RhoWinnerWorkerTeam tmpReferenceRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(false, 1, 1L)
+        ) {
+            tmpRhoWinnerWorkerTeam.startCalibration();
+            for (int i = 0; i < tmpDataMatrix.length; i++) {
+                float tmpFirstRhoValue = Utils.getSumOfSquaredDifferences(tmpDataMatrix[i], 0.1f);
+                tmpRhoWinnerWorkerTeam.setRhoWinner(tmpDataMatrix[i], null, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpRhoWinner);
+                tmpReferenceRhoWinnerWorkerTeam.setRhoWinner(tmpDataMatrix[i], null, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpReferenceRhoWinner);
+                Assertions.assertEquals(tmpReferenceRhoWinner.getIndexOfCluster(), tmpRhoWinner.getIndexOfCluster());
+                Assertions.assertEquals(tmpReferenceRhoWinner.getRhoValue(), tmpRhoWinner.getRhoValue());
+                if (i == tmpDataMatrix.length / 2) {
+                    tmpRhoWinnerWorkerTeam.finishCalibration();
+                }
+            }
+            System.out.println("  " + tmpRhoWinnerWorkerTeam.getExecutionDescription());
+            Assertions.assertTrue(tmpRhoWinnerWorkerTeam.getExecutionDescription().contains("calibrated"));
+        }
+    }
+
+    /**
+     * Tests that the rho winners (minimum squared distance) of the
+     * speculative rho window are identical to the ones of a sequential
+     * calculation for dense and sparse vectors, and that speculative
+     * clustering leads to results identical to sequential clustering.
+     */
+    @Test
+    public void test_SpeculativeRhoWinner() {
+        System.out.println("---------------------------");
+        System.out.println("test_SpeculativeRhoWinner()");
+        System.out.println("---------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 20;
+        int tmpNumberOfClusters = 500;
+        float[][] tmpDataMatrix = new float[200][tmpNumberOfComponents];
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpDataMatrix[i][j] = tmpRandomNumberGenerator.nextFloat() < 0.5f ? 0.0f : tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        for (boolean tmpIsSparse : new boolean[] {false, true}) {
+            ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters + tmpDataMatrix.length, tmpNumberOfComponents, true);
+            for (int i = 0; i < tmpNumberOfClusters; i++) {
+                float[] tmpClusterVector = new float[tmpNumberOfComponents];
+                for (int j = 0; j < tmpNumberOfComponents; j++) {
+                    tmpClusterVector[j] = tmpRandomNumberGenerator.nextFloat();
+                }
+                tmpClusterMatrix.addCluster(tmpClusterVector);
+            }
+            int tmpNumberOfDetectedClusters = tmpNumberOfClusters;
+            try (RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(false, 4, 1L)) {
+                SpeculativeRhoWindow tmpSpeculativeRhoWindow =
+                    new SpeculativeRhoWindow(false, tmpRhoWinnerWorkerTeam, tmpNumberOfComponents, tmpIsSparse);
+                int tmpIndex = 0;
+                while (tmpIndex < tmpDataMatrix.length) {
+                    tmpSpeculativeRhoWindow.clear();
+                    for (int i = tmpIndex; i < tmpDataMatrix.length && !tmpSpeculativeRhoWindow.isFull(); i++) {
+                        if (tmpIsSparse) {
+                            tmpSpeculativeRhoWindow.getSparseBufferVector().setRow(tmpSparseDataMatrix, i);
+                        }
+                        tmpSpeculativeRhoWindow.addDataVector(tmpDataMatrix[i]);
+                    }
+                    tmpSpeculativeRhoWindow.setRhoValues(tmpRhoWinnerWorkerTeam, tmpClusterMatrix, tmpNumberOfDetectedClusters);
+                    while (tmpSpeculativeRhoWindow.hasNextDataVector()) {
+                        float[] tmpDenseVector = tmpSpeculativeRhoWindow.nextDataVector();
+                        Assertions.assertEquals(tmpIsSparse, tmpDenseVector == null);
+                        float tmpFirstRhoValue = Utils.getSumOfSquaredDifferences(tmpDataMatrix[tmpIndex], 0.1f);
+                        float tmpRhoValue = tmpFirstRhoValue;
+                        int tmpWinnerIndex = -1;
+                        for (int j = 0; j < tmpNumberOfDetectedClusters; j++) {
+                            float tmpRhoValueOfCluster =
+                                tmpIsSparse ?
+                                    Utils.getSquaredDistance(tmpSpeculativeRhoWindow.getSparseVector(), tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride(), tmpClusterMatrix.getSquaredLength(j)) :
+                                    Utils.getSquaredDistance(tmpDenseVector, tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride());
+                            if (tmpRhoValueOfCluster < tmpRhoValue) {
+                                tmpRhoValue = tmpRhoValueOfCluster;
+                                tmpWinnerIndex = j;
+                            }
+                        }
+                        tmpSpeculativeRhoWindow.setRhoWinner(tmpNumberOfDetectedClusters, tmpFirstRhoValue, tmpRhoWinner);
+                        Assertions.assertEquals(tmpWinnerIndex, tmpRhoWinner.getIndexOfCluster());
+                        Assertions.assertEquals(tmpRhoValue, tmpRhoWinner.getRhoValue());
+                        if (tmpIndex % 3 == 0) {
+                            // Create new cluster vector identical to data vector
+                            tmpClusterMatrix.addCluster(tmpDataMatrix[tmpIndex]);
+                            tmpSpeculativeRhoWindow.setModifiedCluster(tmpNumberOfDetectedClusters);
+                            tmpNumberOfDetectedClusters++;
+                        } else if (tmpWinnerIndex >= 0) {
+                            // Move winner cluster vector towards data vector
+                            int tmpOffset = tmpClusterMatrix.getOffset(tmpWinnerIndex);
+                            float[] tmpClusterVector = new float[tmpNumberOfComponents];
+                            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                                tmpClusterVector[j] = 0.5f * tmpClusterMatrix.getComponents()[tmpOffset + j] + 0.5f * tmpDataMatrix[tmpIndex][j];
+                            }
+                            System.arraycopy(tmpClusterVector, 0, tmpClusterMatrix.getComponents(), tmpOffset, tmpNumberOfComponents);
+                            tmpClusterMatrix.updateSquaredLength(tmpWinnerIndex);
+                            tmpSpeculativeRhoWindow.setModifiedCluster(tmpWinnerIndex);
+                        }
+                        tmpIndex++;
+                    }
+                }
+                Assertions.assertTrue(tmpSpeculativeRhoWindow.getNumberOfRecalculatedRhoValues() > 0L);
+                Assertions.assertTrue(tmpSpeculativeRhoWindow.getNumberOfSpeculativeRhoValues() > tmpSpeculativeRhoWindow.getNumberOfRecalculatedRhoValues());
+                System.out.println("  " + (tmpIsSparse ? "Sparse: " : "Dense: ") + tmpSpeculativeRhoWindow.getExecutionDescription());
+            }
+        }
+
+        // Speculative clustering
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseIrisFlowerDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.2f,
+                new Random(1L)
+            );
+        String tmpExecutionPlan = null;
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aEuclidKernel[] tmpArt2aEuclidKernels =
+                new Art2aEuclidKernel[] {
+                    new Art2aEuclidKernel(tmpIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aEuclidKernel(tmpSparseIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            for (Art2aEuclidKernel tmpArt2aEuclidKernel : tmpArt2aEuclidKernels) {
+                for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f, 0.99f}) {
+                    Art2aEuclidResult tmpSequentialResult = null;
+                    Art2aEuclidResult tmpSpeculativeResult = null;
+                    try {
+                        tmpSequentialResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, false);
+                        tmpSpeculativeResult = tmpArt2aEuclidKernel.getSpeculativeClusterResult(tmpVigilance);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    tmpExecutionPlan = tmpSpeculativeResult.getExecutionPlan();
+                    Assertions.assertTrue(tmpExecutionPlan.startsWith("Speculative"));
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpSpeculativeResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpSpeculativeResult.getNumberOfEpochs());
+                    Assertions.assertEquals(tmpSequentialResult.isConverged(), tmpSpeculativeResult.isConverged());
+                    for (int i = 0; i < tmpSequentialResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(i),
+                            tmpSpeculativeResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getClusterVector(i),
+                            tmpSpeculativeResult.getClusterVector(i)
+                        );
+                    }
+                }
+            }
+        }
+        System.out.println("  " + tmpExecutionPlan);
+    }
+
+    /**
+     * Tests that mini-batch training with a mini-batch size of 1 leads to
+     * results identical to sequential clustering, that mini-batch training
+     * with large mini-batches detects the clusters of combined Gaussian
+     * clouds with deduplicated new cluster proposals, and that illegal
+     * mini-batch sizes are rejected.
+     */
+    @Test
+    public void test_MiniBatch() {
+        System.out.println("----------------");
+        System.out.println("test_MiniBatch()");
+        System.out.println("----------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseIrisFlowerDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // Mini-batch size of 1 is identical to sequential clustering
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aEuclidKernel[] tmpArt2aEuclidKernels =
+                new Art2aEuclidKernel[] {
+                    new Art2aEuclidKernel(tmpIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aEuclidKernel(tmpSparseIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            for (Art2aEuclidKernel tmpArt2aEuclidKernel : tmpArt2aEuclidKernels) {
+                for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f, 0.99f}) {
+                    Art2aEuclidResult tmpSequentialResult = null;
+                    Art2aEuclidResult tmpMiniBatchResult = null;
+                    try {
+                        tmpSequentialResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, false);
+                        tmpMiniBatchResult = tmpArt2aEuclidKernel.getMiniBatchClusterResult(tmpVigilance, 1);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    Assertions.assertTrue(tmpMiniBatchResult.getExecutionPlan().startsWith("Mini-batch"));
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpMiniBatchResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpMiniBatchResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpSequentialResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(i),
+                            tmpMiniBatchResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getClusterVector(i),
+                            tmpMiniBatchResult.getClusterVector(i)
+                        );
+                    }
+                }
+            }
+        }
+        // Large mini-batches (dense and sparse data, negative components are
+        // set to zero for sparse data)
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+            for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+            }
+        }
+        Art2aEuclidKernel[] tmpArt2aEuclidKernels =
+            new Art2aEuclidKernel[] {
+                new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false),
+                new Art2aEuclidKernel(SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix), 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false)
+            };
+        for (Art2aEuclidKernel tmpArt2aEuclidKernel : tmpArt2aEuclidKernels) {
+            for (int tmpMiniBatchSize : new int[] {100, 1000}) {
+                Art2aEuclidResult tmpMiniBatchResult = null;
+                try {
+                    tmpMiniBatchResult = tmpArt2aEuclidKernel.getMiniBatchClusterResult(0.5f, tmpMiniBatchSize);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                System.out.println("  " + tmpMiniBatchResult.getExecutionPlan());
+                Assertions.assertEquals(10, tmpMiniBatchResult.getNumberOfDetectedClusters());
+                Assertions.assertTrue(tmpMiniBatchResult.isConverged());
+                Assertions.assertFalse(tmpMiniBatchResult.getExecutionPlan().contains(" 0 merged cluster proposals"));
+                for (int i = 0; i < tmpMiniBatchResult.getNumberOfDetectedClusters(); i++) {
+                    Assertions.assertEquals(100, tmpMiniBatchResult.getClusterSize(i));
+                }
+            }
+        }
+        // Illegal mini-batch size
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aEuclidKernels[0].getMiniBatchClusterResult(0.5f, 0)
+        );
+    }
+
+
+    /**
+     * Tests that lock-free concurrent cluster updates with a single thread
+     * lead to results identical to sequential clustering, that concurrent
+     * cluster updates with several threads detect the clusters of combined
+     * Gaussian clouds (the agreement with sequential clustering is measured
+     * with the Rand index), and that illegal numbers of threads are
+     * rejected.
+     */
+    @Test
+    public void test_Hogwild() {
+        System.out.println("--------------");
+        System.out.println("test_Hogwild()");
+        System.out.println("--------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseIrisFlowerDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // Single thread is identical to sequential clustering
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aEuclidKernel[] tmpArt2aEuclidKernels =
+                new Art2aEuclidKernel[] {
+                    new Art2aEuclidKernel(tmpIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aEuclidKernel(tmpSparseIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            for (Art2aEuclidKernel tmpArt2aEuclidKernel : tmpArt2aEuclidKernels) {
+                for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f, 0.99f}) {
+                    Art2aEuclidResult tmpSequentialResult = null;
+                    Art2aEuclidResult tmpHogwildResult = null;
+                    try {
+                        tmpSequentialResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, false);
+                        tmpHogwildResult = tmpArt2aEuclidKernel.getHogwildClusterResult(tmpVigilance, 1);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    Assertions.assertTrue(tmpHogwildResult.getExecutionPlan().startsWith("Hogwild"));
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpHogwildResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpHogwildResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpSequentialResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(i),
+                            tmpHogwildResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getClusterVector(i),
+                            tmpHogwildResult.getClusterVector(i)
+                        );
+                    }
+                }
+            }
+        }
+        // Several threads (dense and sparse data, negative components are set
+        // to zero for sparse data)
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+            for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+            }
+        }
+        Art2aEuclidKernel[] tmpArt2aEuclidKernels =
+            new Art2aEuclidKernel[] {
+                new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false),
+                new Art2aEuclidKernel(SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix), 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false)
+            };
+        for (Art2aEuclidKernel tmpArt2aEuclidKernel : tmpArt2aEuclidKernels) {
+            Art2aEuclidResult tmpSequentialResult = null;
+            try {
+                tmpSequentialResult = tmpArt2aEuclidKernel.getClusterResult(0.5f, false);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            for (int tmpNumberOfThreads : new int[] {2, 4}) {
+                Art2aEuclidResult tmpHogwildResult = null;
+                try {
+                    tmpHogwildResult = tmpArt2aEuclidKernel.getHogwildClusterResult(0.5f, tmpNumberOfThreads);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                double tmpRandIndex = this.getRandIndex(tmpSequentialResult, tmpHogwildResult, tmpCombinedGaussianCloudDataMatrix.length);
+                System.out.println("  " + tmpHogwildResult.getExecutionPlan());
+                System.out.println("  - Number of detected clusters = " + String.valueOf(tmpHogwildResult.getNumberOfDetectedClusters()));
+                System.out.println("  - Rand index (sequential)     = " + String.valueOf(tmpRandIndex));
+                Assertions.assertEquals(10, tmpHogwildResult.getNumberOfDetectedClusters());
+                Assertions.assertTrue(tmpHogwildResult.isConverged());
+                Assertions.assertTrue(tmpRandIndex >= 0.99);
+            }
+        }
+        // Illegal number of threads
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aEuclidKernels[0].getHogwildClusterResult(0.5f, 0)
+        );
+    }
+
+    /**
+     * Tests that all parallelized calculations (automatic and parallel Rho
+     * winner calculation, speculative Rho winner calculation, mini-batch
+     * training, final assignment and concurrent clustering runs with
+     * different vigilance parameters) lead to identical results for 1, 2, 4
+     * and 16 threads (clustering methods are called from a task of a
+     * ForkJoinPool with the corresponding parallelism).
+     */
+    @Test
+    public void test_ThreadCountIndependence() {
+        System.out.println("------------------------------");
+        System.out.println("test_ThreadCountIndependence()");
+        System.out.println("------------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // High-dimensional random data with many clusters for Rho winner
+        // calculations that are shared by several workers
+        Random tmpRandomNumberGenerator = new Random(1L);
+        float[][] tmpRandomDataMatrix = new float[200][1000];
+        for (float[] tmpDataVector : tmpRandomDataMatrix) {
+            for (int j = 0; j < tmpDataVector.length; j++) {
+                tmpDataVector[j] = tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f};
+        Art2aEuclidKernel[] tmpArt2aEuclidKernels =
+            new Art2aEuclidKernel[] {
+                new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, false),
+                new Art2aEuclidKernel(tmpRandomDataMatrix, 200, 2, 0.99f, 0.01f, 1.0f, 1L, true)
+            };
+        for (Art2aEuclidKernel tmpArt2aEuclidKernel : tmpArt2aEuclidKernels) {
+            Art2aEuclidResult[][] tmpReferenceResults = null;
+            for (int tmpNumberOfThreads : new int[] {1, 2, 4, 16}) {
+                Art2aEuclidResult[][] tmpResults = new Art2aEuclidResult[5][tmpVigilances.length];
+                ForkJoinPool tmpForkJoinPool = new ForkJoinPool(tmpNumberOfThreads);
+                try {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        float tmpVigilance = tmpVigilances[i];
+                        tmpResults[0][i] = tmpForkJoinPool.submit(() -> tmpArt2aEuclidKernel.getClusterResult(tmpVigilance)).get();
+                        tmpResults[1][i] = tmpForkJoinPool.submit(() -> tmpArt2aEuclidKernel.getClusterResult(tmpVigilance, true)).get();
+                        tmpResults[2][i] = tmpForkJoinPool.submit(() -> tmpArt2aEuclidKernel.getSpeculativeClusterResult(tmpVigilance)).get();
+                        tmpResults[3][i] = tmpForkJoinPool.submit(() -> tmpArt2aEuclidKernel.getMiniBatchClusterResult(tmpVigilance, 256)).get();
+                    }
+                    tmpResults[4] = tmpForkJoinPool.submit(() -> tmpArt2aEuclidKernel.getClusterResults(tmpVigilances)).get();
+                } catch (Exception anException) {
+                    Assertions.fail();
+                } finally {
+                    tmpForkJoinPool.shutdown();
+                }
+                System.out.println("  " + String.valueOf(tmpNumberOfThreads) + " threads: " + tmpResults[1][tmpVigilances.length - 1].getExecutionPlan());
+                if (tmpReferenceResults == null) {
+                    tmpReferenceResults = tmpResults;
+                    // Parallelized Rho winner calculations are identical to
+                    // the sequential one
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        Art2aEuclidResult tmpSequentialResult = null;
+                        try {
+                            tmpSequentialResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilances[i], false);
+                        } catch (Exception anException) {
+                            Assertions.fail();
+                        }
+                        for (int j : new int[] {0, 1, 2, 4}) {
+                            Assertions.assertTrue(this.isEqualResult(tmpSequentialResult, tmpResults[j][i]));
+                        }
+                    }
+                }
+                for (int j = 0; j < tmpResults.length; j++) {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        Assertions.assertTrue(this.isEqualResult(tmpReferenceResults[j][i], tmpResults[j][i]));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the sample-then-assign clustering with uniform and
+     * length-stratified samples (with and without refinement epoch) detects
+     * the clusters of combined Gaussian clouds and assigns all data vectors
+     * (the agreement with the clustering of all data vectors is measured with
+     * the Rand index), that data vectors with a length of zero outside the
+     * sample are detected, and that illegal sample sizes are rejected.
+     */
+    @Test
+    public void test_SampleClustering() {
+        System.out.println("-----------------------");
+        System.out.println("test_SampleClustering()");
+        System.out.println("-----------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.05f,
+                new Random(1L)
+            );
+        // Sparse data with non-negative components and 5 additional data
+        // vectors with a length of zero
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length + 5][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            if (i < tmpCombinedGaussianCloudDataMatrix.length) {
+                tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+                for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                    tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+                }
+            } else {
+                tmpNonNegativeDataMatrix[i] = new float[tmpCombinedGaussianCloudDataMatrix[0].length];
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix);
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aEuclidKernel[] tmpArt2aEuclidKernels =
+                new Art2aEuclidKernel[] {
+                    new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aEuclidKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            int[] tmpNumbersOfDataVectors = new int[] {tmpCombinedGaussianCloudDataMatrix.length, tmpNonNegativeDataMatrix.length};
+            for (int k = 0; k < tmpArt2aEuclidKernels.length; k++) {
+                Art2aEuclidKernel tmpKernel = tmpArt2aEuclidKernels[k];
+                int tmpNumberOfDataVectors = tmpNumbersOfDataVectors[k];
+                Art2aEuclidResult tmpResult = null;
+                try {
+                    tmpResult = tmpKernel.getClusterResult(0.5f);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                Assertions.assertEquals(tmpNumberOfDataVectors, tmpResult.getSampleSize());
+                Assertions.assertEquals(0L, tmpResult.getSamplingTime());
+                for (int tmpSampleSize : new int[] {200, 500}) {
+                    for (boolean tmpIsStratifiedSample : new boolean[] {false, true}) {
+                        for (boolean tmpIsRefinementEpoch : new boolean[] {false, true}) {
+                            Art2aEuclidResult tmpSampleResult = null;
+                            try {
+                                tmpSampleResult = tmpKernel.getSampleClusterResult(0.5f, tmpSampleSize, tmpIsStratifiedSample, tmpIsRefinementEpoch);
+                            } catch (Exception anException) {
+                                Assertions.fail();
+                            }
+                            double tmpRandIndex = this.getRandIndex(tmpResult, tmpSampleResult, tmpNumberOfDataVectors);
+                            System.out.println("  " + tmpSampleResult.getExecutionPlan());
+                            System.out.println("  - Number of epochs             = " + String.valueOf(tmpSampleResult.getNumberOfEpochs()));
+                            System.out.println("  - Sampling time in nanoseconds = " + String.valueOf(tmpSampleResult.getSamplingTime()));
+                            System.out.println("  - Rand index (all data)        = " + String.valueOf(tmpRandIndex));
+                            Assertions.assertTrue(tmpSampleResult.getExecutionPlan().contains(" sample of " + tmpSampleSize + " data vectors"));
+                            Assertions.assertEquals(tmpIsRefinementEpoch, tmpSampleResult.getExecutionPlan().contains("refinement epoch"));
+                            Assertions.assertEquals(tmpSampleSize, tmpSampleResult.getSampleSize());
+                            Assertions.assertTrue(tmpSampleResult.getSamplingTime() > 0L);
+                            Assertions.assertEquals(10, tmpSampleResult.getNumberOfDetectedClusters());
+                            Assertions.assertArrayEquals(tmpResult.getZeroLengthDataVectorIndices(), tmpSampleResult.getZeroLengthDataVectorIndices());
+                            int tmpNumberOfAssignedDataVectors = tmpSampleResult.getZeroLengthDataVectorIndices().length;
+                            for (int i = 0; i < tmpSampleResult.getNumberOfDetectedClusters(); i++) {
+                                tmpNumberOfAssignedDataVectors += tmpSampleResult.getClusterSize(i);
+                            }
+                            Assertions.assertEquals(tmpNumberOfDataVectors, tmpNumberOfAssignedDataVectors);
+                            Assertions.assertTrue(tmpRandIndex >= 0.99);
+                        }
+                    }
+                }
+            }
+            // Illegal sample sizes
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> tmpArt2aEuclidKernels[0].getSampleClusterResult(0.5f, 0, false, false)
+            );
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> tmpArt2aEuclidKernels[0].getSampleClusterResult(0.5f, 1001, false, false)
+            );
+        }
+    }
+    /**
+     * Tests that the ensemble clustering with several random seeds detects
+     * the clusters of combined Gaussian clouds with a stability of 1 for each
+     * data vector (in agreement with the clustering run of the first random
+     * seed), that data vectors with a length of zero are not assigned, that
+     * the consensus does not depend on the number of threads, and that
+     * illegal random seeds are rejected.
+     */
+    @Test
+    public void test_EnsembleClustering() {
+        System.out.println("-------------------------");
+        System.out.println("test_EnsembleClustering()");
+        System.out.println("-------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.05f,
+                new Random(1L)
+            );
+        // Sparse data with non-negative components and 5 additional data
+        // vectors with a length of zero
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length + 5][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            if (i < tmpCombinedGaussianCloudDataMatrix.length) {
+                tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+                for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                    tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+                }
+            } else {
+                tmpNonNegativeDataMatrix[i] = new float[tmpCombinedGaussianCloudDataMatrix[0].length];
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix);
+        long[] tmpRandomSeeds = new long[] {1L, 2L, 3L, 4L, 5L};
+        Art2aEuclidKernel[] tmpKernels =
+            new Art2aEuclidKernel[] {
+                new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, true),
+                new Art2aEuclidKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, true)
+            };
+        int[] tmpNumbersOfDataVectors = new int[] {tmpCombinedGaussianCloudDataMatrix.length, tmpNonNegativeDataMatrix.length};
+        for (int k = 0; k < tmpKernels.length; k++) {
+            Art2aEuclidKernel tmpKernel = tmpKernels[k];
+            int tmpNumberOfDataVectors = tmpNumbersOfDataVectors[k];
+            Art2aEuclidResult tmpResult = null;
+            ConsensusResult tmpConsensusResult = null;
+            ConsensusResult tmpSingleThreadConsensusResult = null;
+            ForkJoinPool tmpForkJoinPool = new ForkJoinPool(1);
+            try {
+                tmpResult = tmpKernel.getClusterResult(0.5f);
+                tmpConsensusResult = tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds);
+                tmpSingleThreadConsensusResult = tmpForkJoinPool.submit(() -> tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds)).get();
+            } catch (Exception anException) {
+                Assertions.fail();
+            } finally {
+                tmpForkJoinPool.shutdown();
+            }
+            System.out.println("  Numbers of detected clusters of runs = " + Arrays.toString(tmpConsensusResult.getNumbersOfDetectedClustersOfRuns()));
+            System.out.println("  - Number of consensus clusters       = " + String.valueOf(tmpConsensusResult.getNumberOfClusters()));
+            System.out.println("  - Number of co-association pairs     = " + String.valueOf(tmpConsensusResult.getNumberOfCoAssociationPairs()));
+            System.out.println("  - Number of voting rounds            = " + String.valueOf(tmpConsensusResult.getNumberOfVotingRounds()));
+            Assertions.assertEquals(tmpRandomSeeds.length, tmpConsensusResult.getNumberOfRuns());
+            Assertions.assertArrayEquals(tmpRandomSeeds, tmpConsensusResult.getRandomSeeds());
+            Assertions.assertEquals(0.5f, tmpConsensusResult.getVigilance());
+            Assertions.assertEquals(10, tmpConsensusResult.getNumberOfClusters());
+            // Consensus clusters correspond to the clusters of the run with
+            // the first random seed
+            Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpConsensusResult.getNumberOfClusters());
+            for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                int[] tmpDataVectorIndices = tmpResult.getDataVectorIndicesOfCluster(i);
+                int tmpClusterIndex = tmpConsensusResult.getClusterIndex(tmpDataVectorIndices[0]);
+                Assertions.assertArrayEquals(tmpDataVectorIndices, tmpConsensusResult.getDataVectorIndicesOfCluster(tmpClusterIndex));
+                Assertions.assertEquals(1.0f, tmpConsensusResult.getClusterStability(tmpClusterIndex));
+            }
+            // Data vectors with a length of zero
+            for (int tmpIndex : tmpResult.getZeroLengthDataVectorIndices()) {
+                Assertions.assertEquals(-1, tmpConsensusResult.getClusterIndex(tmpIndex));
+                Assertions.assertEquals(0.0f, tmpConsensusResult.getStability(tmpIndex));
+            }
+            int tmpNumberOfAssignedDataVectors = tmpNumberOfDataVectors - tmpResult.getZeroLengthDataVectorIndices().length;
+            Assertions.assertTrue(tmpConsensusResult.getNumberOfCoAssociationPairs() >= tmpNumberOfAssignedDataVectors);
+            Assertions.assertTrue(tmpConsensusResult.getNumberOfCoAssociationPairs() <= tmpNumberOfAssignedDataVectors * tmpRandomSeeds.length);
+            // Independent of the number of threads
+            Assertions.assertArrayEquals(tmpConsensusResult.getClusterIndices(), tmpSingleThreadConsensusResult.getClusterIndices());
+            Assertions.assertArrayEquals(tmpConsensusResult.getStabilities(), tmpSingleThreadConsensusResult.getStabilities());
+        }
+        // Illegal random seeds
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpKernels[0].getEnsembleClusterResult(0.5f, null)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpKernels[0].getEnsembleClusterResult(0.5f, new long[0])
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpKernels[0].getEnsembleClusterResult(0.5f, new long[] {1L, 0L})
+        );
+    }
+    /**
+     * Tests that successive clustering runs with the same kernel reuse one
+     * workspace and lead to results identical to those of new kernels (for
+     * different vigilance parameters and execution modes, with and without
+     * preprocessing, dense and sparse data with data vectors of length
+     * zero), and that the results of previous clustering runs are not
+     * changed by the reuse of the workspace.
+     */
+    @Test
+    public void test_ClusteringWorkspace() {
+        System.out.println("--------------------------");
+        System.out.println("test_ClusteringWorkspace()");
+        System.out.println("--------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.05f,
+                new Random(1L)
+            );
+        // Sparse data with non-negative components and 5 additional data
+        // vectors with a length of zero
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length + 5][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            if (i < tmpCombinedGaussianCloudDataMatrix.length) {
+                tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+                for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                    tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+                }
+            } else {
+                tmpNonNegativeDataMatrix[i] = new float[tmpCombinedGaussianCloudDataMatrix[0].length];
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix);
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f};
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            for (int k = 0; k < 2; k++) {
+                boolean tmpIsSparse = k == 1;
+                Art2aEuclidKernel tmpKernel =
+                    tmpIsSparse ?
+                        new Art2aEuclidKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing) :
+                        new Art2aEuclidKernel(tmpNonNegativeDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+                Art2aEuclidResult[][] tmpResults = new Art2aEuclidResult[3][tmpVigilances.length];
+                Art2aEuclidResult[][] tmpReferenceResults = new Art2aEuclidResult[3][tmpVigilances.length];
+                try {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        // Automatic execution, sequential execution and
+                        // concurrent cluster updates with a single thread
+                        // (without support of sparse cluster vectors)
+                        tmpResults[0][i] = tmpKernel.getClusterResult(tmpVigilances[i]);
+                        tmpResults[1][i] = tmpKernel.getClusterResult(tmpVigilances[i], false);
+                        tmpResults[2][i] = tmpKernel.getHogwildClusterResult(tmpVigilances[i], 1);
+                        Assertions.assertEquals(1, tmpKernel.getNumberOfWorkspaces());
+                        Art2aEuclidKernel[] tmpNewKernels = new Art2aEuclidKernel[3];
+                        for (int j = 0; j < 3; j++) {
+                            tmpNewKernels[j] =
+                                tmpIsSparse ?
+                                    new Art2aEuclidKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing) :
+                                    new Art2aEuclidKernel(tmpNonNegativeDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+                        }
+                        tmpReferenceResults[0][i] = tmpNewKernels[0].getClusterResult(tmpVigilances[i]);
+                        tmpReferenceResults[1][i] = tmpNewKernels[1].getClusterResult(tmpVigilances[i], false);
+                        tmpReferenceResults[2][i] = tmpNewKernels[2].getHogwildClusterResult(tmpVigilances[i], 1);
+                    }
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                // All results are compared after all clustering runs, i.e.,
+                // they are not changed by successive clustering runs
+                for (int j = 0; j < 3; j++) {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        Assertions.assertTrue(this.isEqualResult(tmpReferenceResults[j][i], tmpResults[j][i]));
+                        Assertions.assertArrayEquals(
+                            tmpReferenceResults[j][i].getZeroLengthDataVectorIndices(),
+                            tmpResults[j][i].getZeroLengthDataVectorIndices()
+                        );
+                        Assertions.assertEquals(5, tmpResults[j][i].getZeroLengthDataVectorIndices().length);
+                    }
+                }
+                tmpKernel.clearWorkspaces();
+                Assertions.assertEquals(0, tmpKernel.getNumberOfWorkspaces());
+            }
+        }
+    }
+
+    /**
+     * Tests that the pool of workspaces of a kernel retains at most one free
+     * workspace per available processor after more concurrent clustering
+     * runs with different vigilance parameters and multi-seed ensemble
+     * clusterings (the ensemble kernels share the pool of the kernel) than
+     * available processors, and that a workspace of concurrent cluster
+     * updates is retained.
+     */
+    @Test
+    public void test_BoundedWorkspacePool() {
+        System.out.println("---------------------------");
+        System.out.println("test_BoundedWorkspacePool()");
+        System.out.println("---------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        float[] tmpVigilances = new float[] {0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f, 0.7f, 0.8f, 0.9f};
+        long[] tmpRandomSeeds = new long[] {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L};
+        Art2aEuclidKernel tmpKernel = new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false);
+        int tmpNumberOfProcessors = Runtime.getRuntime().availableProcessors();
+        int tmpNumberOfConcurrentCalls = 4 * tmpNumberOfProcessors + 4;
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(tmpNumberOfConcurrentCalls);
+        try {
+            List<Future<?>> tmpFutureList = new LinkedList<>();
+            for (int i = 0; i < tmpNumberOfConcurrentCalls; i++) {
+                if (i % 2 == 0) {
+                    tmpFutureList.add(tmpExecutorService.submit(() -> tmpKernel.getClusterResults(tmpVigilances)));
+                } else {
+                    tmpFutureList.add(tmpExecutorService.submit(() -> tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds)));
+                }
+            }
+            for (Future<?> tmpFuture : tmpFutureList) {
+                tmpFuture.get();
+            }
+        } catch (Exception anException) {
+            Assertions.fail();
+        } finally {
+            tmpExecutorService.shutdown();
+        }
+        Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() >= 1);
+        Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() <= tmpNumberOfProcessors);
+        // Sequential calls
+        try {
+            tmpKernel.getClusterResults(tmpVigilances);
+            Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() <= tmpNumberOfProcessors);
+            tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds);
+            Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() <= tmpNumberOfProcessors);
+            // The workspace of concurrent cluster updates is retained
+            // (without its cluster matrix of maximum capacity)
+            tmpKernel.clearWorkspaces();
+            tmpKernel.getHogwildClusterResult(0.5f, 2);
+            Assertions.assertEquals(1, tmpKernel.getNumberOfWorkspaces());
+        } catch (Exception anException) {
+            Assertions.fail();
+        }
+    }
+    /**
+     * Tests that the squared distances of sparse cluster vectors (gathering
+     * of the non-zero components with the squared length of the vector) are
+     * equal to dense squared distances (also after removal of empty
+     * clusters), and that clustering of high-dimensional sparse data row
+     * vectors with sparse cluster vectors has identical results for a dense
+     * and the corresponding sparse data matrix (sequential, parallel and
+     * pruned rho winner calculation).
+     */
+    @Test
+    public void test_SparseClusterVectors() {
+        System.out.println("---------------------------");
+        System.out.println("test_SparseClusterVectors()");
+        System.out.println("---------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 1000;
+        int tmpNumberOfClusters = 30;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters, tmpNumberOfComponents, false, true);
+        float[][] tmpClusterVectors = new float[tmpNumberOfClusters][tmpNumberOfComponents];
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            // Even cluster vectors are sparse, odd cluster vectors are dense
+            float tmpDensity = i % 2 == 0 ? 0.02f : 0.5f;
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpClusterVectors[i][j] = tmpRandomNumberGenerator.nextFloat() < tmpDensity ? tmpRandomNumberGenerator.nextFloat() : 0.0f;
+            }
+            tmpClusterMatrix.addCluster(tmpClusterVectors[i]);
+            Assertions.assertEquals(i % 2 == 0, tmpClusterMatrix.isSparse(i));
+        }
+        Assertions.assertEquals(tmpNumberOfClusters / 2, tmpClusterMatrix.getNumberOfSparseClusters());
+        float[] tmpVector = new float[tmpNumberOfComponents];
+        for (int j = 0; j < tmpNumberOfComponents; j++) {
+            tmpVector[j] = tmpRandomNumberGenerator.nextFloat() < 0.05f ? tmpRandomNumberGenerator.nextFloat() : 0.0f;
+        }
+        float tmpSquaredLength = tmpClusterMatrix.getSquaredLengthForSquaredDistance(tmpVector);
+        Assertions.assertEquals(Utils.getScalarProduct(tmpVector, tmpVector), tmpSquaredLength);
+        // Remove every third cluster vector
+        boolean[] tmpClusterUsageFlags = new boolean[tmpNumberOfClusters];
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            tmpClusterUsageFlags[i] = i % 3 != 0;
+        }
+        tmpClusterMatrix.removeEmptyClusters(tmpClusterUsageFlags, new Utils.ClusterRemovalInfo());
+        Assertions.assertEquals(2 * tmpNumberOfClusters / 3, tmpClusterMatrix.getNumberOfClusters());
+        Assertions.assertEquals(10, tmpClusterMatrix.getNumberOfSparseClusters());
+        int tmpIndex = 0;
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            if (tmpClusterUsageFlags[i]) {
+                Assertions.assertEquals(i % 2 == 0, tmpClusterMatrix.isSparse(tmpIndex));
+                Assertions.assertEquals(
+                    Utils.getSquaredDistance(tmpVector, tmpClusterVectors[i]),
+                    tmpClusterMatrix.getSquaredDistance(tmpVector, tmpSquaredLength, tmpIndex),
+                    1.0e-3f
+                );
+                tmpIndex++;
+            }
+        }
+        // High-dimensional sparse data row vectors around 10 centers with
+        // 20 non-zero components each
+        int tmpNumberOfCenters = 10;
+        float[][] tmpDataMatrix = new float[500][tmpNumberOfComponents];
+        int[][] tmpCenterIndices = new int[tmpNumberOfCenters][20];
+        for (int i = 0; i < tmpNumberOfCenters; i++) {
+            for (int j = 0; j < tmpCenterIndices[i].length; j++) {
+                tmpCenterIndices[i][j] = tmpRandomNumberGenerator.nextInt(tmpNumberOfComponents);
+            }
+        }
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int tmpComponentIndex : tmpCenterIndices[i % tmpNumberOfCenters]) {
+                tmpDataMatrix[i][tmpComponentIndex] = 0.5f + 0.5f * tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aEuclidKernel tmpDenseKernel = new Art2aEuclidKernel(tmpDataMatrix, 100, 10, 0.1f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+            Art2aEuclidKernel tmpSparseKernel = new Art2aEuclidKernel(tmpSparseDataMatrix, 100, 10, 0.1f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+            try {
+                Art2aEuclidResult tmpSparseResult = tmpSparseKernel.getClusterResult(0.5f, false, false);
+                Assertions.assertEquals(tmpNumberOfCenters, tmpSparseResult.getNumberOfDetectedClusters());
+                for (boolean tmpIsParallelRhoWinnerCalculation : new boolean[] {false, true}) {
+                    for (boolean tmpIsRhoWinnerPruning : new boolean[] {false, true}) {
+                        Art2aEuclidResult tmpDenseResult = tmpDenseKernel.getClusterResult(0.5f, tmpIsParallelRhoWinnerCalculation, tmpIsRhoWinnerPruning);
+                        Assertions.assertEquals(tmpSparseResult.getNumberOfDetectedClusters(), tmpDenseResult.getNumberOfDetectedClusters());
+                        Assertions.assertEquals(tmpSparseResult.getNumberOfEpochs(), tmpDenseResult.getNumberOfEpochs());
+                        for (int i = 0; i < tmpSparseResult.getNumberOfDetectedClusters(); i++) {
+                            Assertions.assertArrayEquals(
+                                tmpSparseResult.getDataVectorIndicesOfCluster(i),
+                                tmpDenseResult.getDataVectorIndicesOfCluster(i)
+                            );
+                        }
+                    }
+                }
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+        }
+    }
+
+    /**
+     * Tests the per-epoch numbers of reassigned data vectors and the
+     * assignment-stability convergence criterion (alone and combined with the
+     * convergence criterion of the cluster vectors).
+     */
+    @Test
+    public void test_ReassignmentConvergence() {
+        System.out.println("------------------------------");
+        System.out.println("test_ReassignmentConvergence()");
+        System.out.println("------------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        float tmpReassignmentThreshold = 0.01f;
+        Art2aEuclidKernel tmpArt2aEuclidKernel = new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, false);
+        for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f}) {
+            Art2aEuclidResult tmpResult = null;
+            Art2aEuclidResult tmpReassignmentResult = null;
+            Art2aEuclidResult tmpCombinedResult = null;
+            try {
+                tmpResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance);
+                tmpReassignmentResult = tmpArt2aEuclidKernel.getClusterResultWithReassignmentConvergence(tmpVigilance, tmpReassignmentThreshold, false);
+                tmpCombinedResult = tmpArt2aEuclidKernel.getClusterResultWithReassignmentConvergence(tmpVigilance, tmpReassignmentThreshold, true);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            System.out.println(
+                "  Vigilance = " + tmpVigilance +
+                    ": Epochs = " + tmpResult.getNumberOfEpochs() +
+                    ", reassignment = " + tmpReassignmentResult.getNumberOfEpochs() +
+                    ", combined = " + tmpCombinedResult.getNumberOfEpochs() +
+                    ", reassigned data vectors = " + Arrays.toString(tmpCombinedResult.getNumbersOfReassignedDataVectors())
+            );
+            for (Art2aEuclidResult tmpArt2aEuclidResult : new Art2aEuclidResult[] {tmpResult, tmpReassignmentResult, tmpCombinedResult}) {
+                Assertions.assertTrue(tmpArt2aEuclidResult.isConverged());
+                int[] tmpNumbersOfReassignedDataVectors = tmpArt2aEuclidResult.getNumbersOfReassignedDataVectors();
+                Assertions.assertEquals(tmpArt2aEuclidResult.getNumberOfEpochs(), tmpNumbersOfReassignedDataVectors.length);
+                // All data vectors are assigned in the first epoch
+                Assertions.assertEquals(tmpCombinedGaussianCloudDataMatrix.length, tmpNumbersOfReassignedDataVectors[0]);
+            }
+            // Convergence criteria do not change the clustering process of an
+            // epoch: Numbers of reassigned data vectors of common epochs are
+            // identical
+            int[] tmpNumbersOfReassignedDataVectors = tmpCombinedResult.getNumbersOfReassignedDataVectors();
+            int[] tmpReassignmentNumbers = tmpReassignmentResult.getNumbersOfReassignedDataVectors();
+            Assertions.assertArrayEquals(
+                tmpReassignmentNumbers,
+                Arrays.copyOf(tmpNumbersOfReassignedDataVectors, tmpReassignmentNumbers.length)
+            );
+            Assertions.assertTrue(
+                tmpReassignmentNumbers[tmpReassignmentNumbers.length - 1] <
+                    tmpReassignmentThreshold * tmpCombinedGaussianCloudDataMatrix.length
+            );
+            Assertions.assertTrue(tmpReassignmentResult.getNumberOfEpochs() <= tmpCombinedResult.getNumberOfEpochs());
+            Assertions.assertTrue(tmpResult.getNumberOfEpochs() <= tmpCombinedResult.getNumberOfEpochs());
+        }
+        // Illegal reassignment thresholds
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aEuclidKernel.getClusterResultWithReassignmentConvergence(0.5f, 0.0f, false)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aEuclidKernel.getClusterResultWithReassignmentConvergence(0.5f, 1.1f, true)
+        );
+    }
+
+    /**
+     * Tests per-cluster freezing of converged cluster vectors with the
+     * distance-based drift check, as well as clustering with freezing in
+     * comparison to clustering without freezing.
+     */
+    @Test
+    public void test_ClusterFreezing() {
+        System.out.println("----------------------");
+        System.out.println("test_ClusterFreezing()");
+        System.out.println("----------------------");
+        int tmpNumberOfComponents = 100;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(10, tmpNumberOfComponents);
+        float[] tmpClusterVector = new float[tmpNumberOfComponents];
+        tmpClusterVector[0] = 0.5f;
+        tmpClusterMatrix.addCluster(tmpClusterVector);
+        ClusterFreezing tmpClusterFreezing = new ClusterFreezing(10, 1, 0.1f, false);
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 1, 1, 100));
+        // Drift with a distance smaller than the convergence threshold
+        tmpClusterMatrix.getComponents()[0] = 0.55f;
+        Assertions.assertTrue(tmpClusterFreezing.isConverged(tmpClusterMatrix, 1, 2, 100));
+        Assertions.assertTrue(tmpClusterFreezing.isFrozen(0));
+        tmpClusterFreezing.reset();
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 1, 3, 100));
+        // Drift with a distance larger than the convergence threshold
+        tmpClusterMatrix.getComponents()[0] = 0.7f;
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 1, 4, 100));
+        Assertions.assertEquals(0, tmpClusterFreezing.getNumberOfFrozenClusters());
+
+        // Clustering with freezing
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        Art2aEuclidKernel tmpArt2aEuclidKernel = new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 200, 1.0e-3f, 0.01f, 1.0f, 1L, false);
+        for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f}) {
+            Art2aEuclidResult tmpResult = null;
+            Art2aEuclidResult tmpFrozenResult = null;
+            try {
+                tmpResult = tmpArt2aEuclidKernel.getClusterResult(tmpVigilance);
+                tmpFrozenResult = tmpArt2aEuclidKernel.getClusterResultWithClusterFreezing(tmpVigilance, 2);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            System.out.println(
+                "  Vigilance = " + tmpVigilance +
+                    ": Epochs = " + tmpResult.getNumberOfEpochs() +
+                    ", with freezing = " + tmpFrozenResult.getNumberOfEpochs() +
+                    ", clusters = " + tmpResult.getNumberOfDetectedClusters() +
+                    ", with freezing = " + tmpFrozenResult.getNumberOfDetectedClusters()
+            );
+            // Freezing is an approximation: Nearly all data vectors must be
+            // assigned to the same clusters
+            Assertions.assertTrue(tmpFrozenResult.isConverged());
+            Assertions.assertTrue(tmpFrozenResult.getNumberOfEpochs() <= tmpResult.getNumberOfEpochs());
+            Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpFrozenResult.getNumberOfDetectedClusters());
+            int tmpNumberOfIdenticalAssignments = 0;
+            for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                boolean[] tmpIsMember = new boolean[tmpCombinedGaussianCloudDataMatrix.length];
+                for (int tmpIndex : tmpResult.getDataVectorIndicesOfCluster(i)) {
+                    tmpIsMember[tmpIndex] = true;
+                }
+                for (int tmpIndex : tmpFrozenResult.getDataVectorIndicesOfCluster(i)) {
+                    if (tmpIsMember[tmpIndex]) {
+                        tmpNumberOfIdenticalAssignments++;
+                    }
+                }
+            }
+            Assertions.assertTrue(tmpNumberOfIdenticalAssignments >= 0.95f * tmpCombinedGaussianCloudDataMatrix.length);
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aEuclidKernel.getClusterResultWithClusterFreezing(0.5f, 0)
+        );
+    }
+
+    /**
+     * Tests that clustering with a decaying learning parameter converges in
+     * fewer epochs with the same cluster structure as clustering with a
+     * constant learning parameter.
+     */
+    @Test
+    public void test_LearningParameterSchedule() {
+        System.out.println("--------------------------------");
+        System.out.println("test_LearningParameterSchedule()");
+        System.out.println("--------------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        LearningParameterSchedule[] tmpSchedules =
+            new LearningParameterSchedule[] {
+                LearningParameterSchedule.getConstantSchedule(),
+                LearningParameterSchedule.getStepDecaySchedule(0.5f, 2),
+                LearningParameterSchedule.getExponentialDecaySchedule(0.1f),
+                LearningParameterSchedule.getInverseTimeDecaySchedule(1.0f),
+                LearningParameterSchedule.getClusterCountDecaySchedule(0.1f)
+            };
+        for (LearningParameterSchedule tmpSchedule : tmpSchedules) {
+            Art2aEuclidResult tmpResult = null;
+            try {
+                tmpResult =
+                    new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 200, 1.0e-3f, 0.01f, 1.0f, 1L, false, tmpSchedule)
+                        .getClusterResult(0.5f);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            System.out.println(
+                "  " + tmpSchedule + ": Epochs = " + tmpResult.getNumberOfEpochs() +
+                    ", clusters = " + tmpResult.getNumberOfDetectedClusters()
+            );
+            // Constant learning parameter does not converge within the
+            // maximum number of epochs
+            Assertions.assertEquals(tmpSchedule != tmpSchedules[0], tmpResult.isConverged());
+            Assertions.assertEquals(10, tmpResult.getNumberOfDetectedClusters());
+            for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                Assertions.assertEquals(100, tmpResult.getClusterSize(i));
+            }
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Art2aEuclidKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 200, 1.0e-3f, 0.01f, 1.0f, 1L, false, null)
+        );
+    }
+
     /**
      * Test that generated Art2aEuclidData object leads to identical clustering results.
      */
@@ -812,6 +2283,73 @@ public class Art2aEuclidTest {
         }
         return isEqual;
     }
+
+    /**
+     * Compares two clustering results: Number of detected clusters, number
+     * of epochs, data vector indices and cluster vectors of all clusters.
+     * Note: No checks are performed.
+     *
+     * @param aResult1 Result 1
+     * @param aResult2 Result 2
+     * @return True: Results are identical, false: Otherwise
+     */
+    private boolean isEqualResult(
+        Art2aEuclidResult aResult1,
+        Art2aEuclidResult aResult2
+    ) {
+        if (aResult1.getNumberOfDetectedClusters() != aResult2.getNumberOfDetectedClusters() ||
+            aResult1.getNumberOfEpochs() != aResult2.getNumberOfEpochs()
+        ) {
+            return false;
+        }
+        for (int i = 0; i < aResult1.getNumberOfDetectedClusters(); i++) {
+            if (!this.compareArrays(aResult1.getDataVectorIndicesOfCluster(i), aResult2.getDataVectorIndicesOfCluster(i)) ||
+                !Arrays.equals(aResult1.getClusterVector(i), aResult2.getClusterVector(i))
+            ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Rand index of two clustering results, i.e., the fraction
+     * of pairs of data vectors on whose grouping (same or different
+     * clusters) both results agree.
+     * Note: No checks are performed.
+     *
+     * @param aResult1 Result 1
+     * @param aResult2 Result 2
+     * @param aNumberOfDataVectors Number of data vectors
+     * @return Rand index in interval [0,1]
+     */
+    private double getRandIndex(
+        Art2aEuclidResult aResult1,
+        Art2aEuclidResult aResult2,
+        int aNumberOfDataVectors
+    ) {
+        int[] tmpClusterIndices1 = new int[aNumberOfDataVectors];
+        int[] tmpClusterIndices2 = new int[aNumberOfDataVectors];
+        for (int i = 0; i < aResult1.getNumberOfDetectedClusters(); i++) {
+            for (int tmpIndex : aResult1.getDataVectorIndicesOfCluster(i)) {
+                tmpClusterIndices1[tmpIndex] = i;
+            }
+        }
+        for (int i = 0; i < aResult2.getNumberOfDetectedClusters(); i++) {
+            for (int tmpIndex : aResult2.getDataVectorIndicesOfCluster(i)) {
+                tmpClusterIndices2[tmpIndex] = i;
+            }
+        }
+        long tmpNumberOfAgreements = 0L;
+        for (int i = 0; i < aNumberOfDataVectors; i++) {
+            for (int j = i + 1; j < aNumberOfDataVectors; j++) {
+                if ((tmpClusterIndices1[i] == tmpClusterIndices1[j]) == (tmpClusterIndices2[i] == tmpClusterIndices2[j])) {
+                    tmpNumberOfAgreements++;
+                }
+            }
+        }
+        return (double) tmpNumberOfAgreements / ((long) aNumberOfDataVectors * (aNumberOfDataVectors - 1L) / 2L);
+    }
     //</editor-fold>
     // <editor-fold defaultstate="collapsed" desc="Private Gaussian cloud methods">
     /**
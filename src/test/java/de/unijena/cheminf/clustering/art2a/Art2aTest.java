@@ -35,7 +35,9 @@ import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 /**
  * Test class for ART-2a clustering.
@@ -233,6 +235,84 @@ public class Art2aTest {
         System.out.println("  Is cluster overflow?        = " + String.valueOf(tmpArt2aResult.isClusterOverflow()));
     }
 
+    /**
+     * Test method for development purposes only: Average time of a
+     * parallelized rho winner calculation for an increasing number of
+     * clusters with the previous implementation (parallel stream per data
+     * vector), the worker team and the sequential calculation. The crossover
+     * depends on the number of available processors.
+     */
+    @Test
+    public void test_Development_RhoWinnerWorkerTeam_Performance() {
+        System.out.println("--------------------------------------------------");
+        System.out.println("test_Development_RhoWinnerWorkerTeam_Performance()");
+        System.out.println("--------------------------------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 100;
+        int tmpNumberOfQueries = 1000;
+        float[] tmpVector = new float[tmpNumberOfComponents];
+        for (int i = 0; i < tmpNumberOfComponents; i++) {
+            tmpVector[i] = tmpRandomNumberGenerator.nextFloat();
+        }
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        System.out.println("  Number of processors = " + Runtime.getRuntime().availableProcessors());
+        System.out.println("  Clusters | Sequential [us] | Stream [us] | Team (always shared) [us] | Team [us]");
+        try (
+            RhoWinnerWorkerTeam tmpSequentialTeam = new RhoWinnerWorkerTeam(true, 1, 1L);
+            RhoWinnerWorkerTeam tmpSharedTeam = new RhoWinnerWorkerTeam(true, Runtime.getRuntime().availableProcessors(), 1L);
+            RhoWinnerWorkerTeam tmpTeam = new RhoWinnerWorkerTeam(true)
+        ) {
+            for (int tmpNumberOfClusters : new int[] {16, 64, 256, 1024, 4096}) {
+                ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters, tmpNumberOfComponents);
+                for (int i = 0; i < tmpNumberOfClusters; i++) {
+                    float[] tmpClusterVector = new float[tmpNumberOfComponents];
+                    for (int j = 0; j < tmpNumberOfComponents; j++) {
+                        tmpClusterVector[j] = tmpRandomNumberGenerator.nextFloat();
+                    }
+                    tmpClusterMatrix.addCluster(tmpClusterVector);
+                }
+                float[] tmpRhoValueBuffer = new float[tmpNumberOfClusters];
+                double[] tmpTimes = new double[4];
+                // Repetition 0 is warm-up
+                for (int tmpRepetition = 0; tmpRepetition < 2; tmpRepetition++) {
+                    for (int k = 0; k < tmpTimes.length; k++) {
+                        long tmpStart = System.nanoTime();
+                        for (int i = 0; i < tmpNumberOfQueries; i++) {
+                            if (k == 1) {
+                                IntStream.range(0, tmpNumberOfClusters).parallel().forEach(
+                                    j -> tmpRhoValueBuffer[j] = Utils.getScalarProduct(tmpVector, tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride())
+                                );
+                                int tmpIndex = -1;
+                                float tmpRhoValue = 0.0f;
+                                for (int j = 0; j < tmpNumberOfClusters; j++) {
+                                    if (tmpRhoValueBuffer[j] > tmpRhoValue) {
+                                        tmpRhoValue = tmpRhoValueBuffer[j];
+                                        tmpIndex = j;
+                                    }
+                                }
+                                tmpRhoWinner.setRhoWinner(tmpRhoValue, tmpIndex);
+                            } else {
+                                RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = k == 0 ? tmpSequentialTeam : (k == 2 ? tmpSharedTeam : tmpTeam);
+                                tmpRhoWinnerWorkerTeam.setRhoWinner(tmpVector, null, tmpClusterMatrix, tmpNumberOfClusters, 0.0f, tmpRhoWinner);
+                            }
+                        }
+                        tmpTimes[k] = (System.nanoTime() - tmpStart) / 1000.0 / tmpNumberOfQueries;
+                    }
+                }
+                System.out.println(
+                    String.format(
+                        "  %8d | %15.2f | %11.2f | %25.2f | %9.2f",
+                        tmpNumberOfClusters,
+                        tmpTimes[0],
+                        tmpTimes[1],
+                        tmpTimes[2],
+                        tmpTimes[3]
+                    )
+                );
+            }
+        }
+    }
+
     /**
      * Test method for development purposes only
      */
@@ -500,6 +580,1679 @@ public class Art2aTest {
         }
     }
 
+    /**
+     * Tests that clustering of a dense data matrix and of the corresponding
+     * sparse data matrix (with and without preprocessing) has identical
+     * results.
+     */
+    @Test
+    public void test_SparseDataMatrix() {
+        System.out.println("-----------------------");
+        System.out.println("test_SparseDataMatrix()");
+        System.out.println("-----------------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        // Set some components to zero to obtain a sparse data matrix
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        Assertions.assertEquals(tmpIrisFlowerDataMatrix.length, tmpSparseDataMatrix.getNumberOfRows());
+        Assertions.assertEquals(3 * tmpIrisFlowerDataMatrix.length, tmpSparseDataMatrix.getNumberOfNonZeros());
+        float[] tmpVigilances = new float[] {0.1f, 0.3f, 0.5f, 0.7f, 0.9f};
+        int tmpMaximumNumberOfClusters = 150;
+        int tmpMaximumNumberOfEpochs = 100;
+        float tmpConvergenceThreshold = 0.99f;
+        float tmpLearningParameter = 0.01f;
+        float tmpOffsetForContrastEnhancement = 1.0f;
+        long tmpRandomSeed = 1L;
+
+        for (float tmpVigilance : tmpVigilances) {
+            for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+                for (boolean tmpIsParallelRhoWinnerCalculation : new boolean[] {false, true}) {
+                    Art2aKernel tmpDenseKernel =
+                        new Art2aKernel(
+                            tmpIrisFlowerDataMatrix,
+                            tmpMaximumNumberOfClusters,
+                            tmpMaximumNumberOfEpochs,
+                            tmpConvergenceThreshold,
+                            tmpLearningParameter,
+                            tmpOffsetForContrastEnhancement,
+                            tmpRandomSeed,
+                            tmpIsDataPreprocessing
+                        );
+                    Art2aKernel tmpSparseKernel =
+                        new Art2aKernel(
+                            tmpSparseDataMatrix,
+                            tmpMaximumNumberOfClusters,
+                            tmpMaximumNumberOfEpochs,
+                            tmpConvergenceThreshold,
+                            tmpLearningParameter,
+                            tmpOffsetForContrastEnhancement,
+                            tmpRandomSeed,
+                            tmpIsDataPreprocessing
+                        );
+                    Art2aResult tmpDenseResult = null;
+                    Art2aResult tmpSparseResult = null;
+                    try {
+                        tmpDenseResult = tmpDenseKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                        tmpSparseResult = tmpSparseKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+
+                    // Assertions.assert that results of dense and sparse data matrix are identical
+                    Assertions.assertEquals(tmpDenseResult.getNumberOfDetectedClusters(), tmpSparseResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpDenseResult.getNumberOfEpochs(), tmpSparseResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpDenseResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpDenseResult.getDataVectorIndicesOfCluster(i),
+                            tmpSparseResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertEquals(
+                            tmpDenseResult.getClusterRepresentativeIndex(i),
+                            tmpSparseResult.getClusterRepresentativeIndex(i)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that clustering of a binary data matrix with bit-packed data row
+     * vectors of disjoint groups of columns leads to the same number of
+     * clusters as the corresponding dense data matrix and detects data row
+     * vectors with a length of zero.
+     */
+    @Test
+    public void test_BinaryDataMatrix() {
+        System.out.println("-----------------------");
+        System.out.println("test_BinaryDataMatrix()");
+        System.out.println("-----------------------");
+        int tmpNumberOfGroups = 5;
+        int tmpNumberOfColumnsPerGroup = 30;
+        int tmpNumberOfDataVectorsPerGroup = 100;
+        int tmpNumberOfColumns = tmpNumberOfGroups * tmpNumberOfColumnsPerGroup;
+        Random tmpRandomNumberGenerator = new Random(1L);
+        // Last data row vector has a length of zero
+        float[][] tmpDataMatrix = new float[tmpNumberOfGroups * tmpNumberOfDataVectorsPerGroup + 1][tmpNumberOfColumns];
+        for (int i = 0; i < tmpNumberOfGroups * tmpNumberOfDataVectorsPerGroup; i++) {
+            int tmpGroupOffset = (i % tmpNumberOfGroups) * tmpNumberOfColumnsPerGroup;
+            // At least one set bit for each data row vector
+            tmpDataMatrix[i][tmpGroupOffset] = 1.0f;
+            for (int j = 1; j < tmpNumberOfColumnsPerGroup; j++) {
+                if (tmpRandomNumberGenerator.nextFloat() < 0.5f) {
+                    tmpDataMatrix[i][tmpGroupOffset + j] = 1.0f;
+                }
+            }
+        }
+        BinaryDataMatrix tmpBinaryDataMatrix = BinaryDataMatrix.getBinaryDataMatrix(tmpDataMatrix);
+        Assertions.assertEquals(tmpDataMatrix.length, tmpBinaryDataMatrix.getNumberOfRows());
+        Assertions.assertEquals(3, tmpBinaryDataMatrix.getNumberOfWordsPerRow());
+
+        float tmpVigilance = 0.1f;
+        int tmpMaximumNumberOfClusters = 100;
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            for (boolean tmpIsParallelRhoWinnerCalculation : new boolean[] {false, true}) {
+                Art2aKernel tmpDenseKernel = new Art2aKernel(tmpDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                Art2aKernel tmpBinaryKernel = new Art2aKernel(tmpBinaryDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                Art2aResult tmpDenseResult = null;
+                Art2aResult tmpBinaryResult = null;
+                try {
+                    tmpDenseResult = tmpDenseKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                    tmpBinaryResult = tmpBinaryKernel.getClusterResult(tmpVigilance, tmpIsParallelRhoWinnerCalculation);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                Assertions.assertEquals(tmpDenseResult.getNumberOfDetectedClusters(), tmpBinaryResult.getNumberOfDetectedClusters());
+                Assertions.assertArrayEquals(new int[] {tmpDataMatrix.length - 1}, tmpBinaryResult.getZeroLengthDataVectorIndices());
+                for (int i = 0; i < tmpBinaryResult.getNumberOfDetectedClusters(); i++) {
+                    // Clusters do not mix groups
+                    int[] tmpDataVectorIndicesOfCluster = tmpBinaryResult.getDataVectorIndicesOfCluster(i);
+                    for (int tmpIndex : tmpDataVectorIndicesOfCluster) {
+                        Assertions.assertEquals(tmpDataVectorIndicesOfCluster[0] % tmpNumberOfGroups, tmpIndex % tmpNumberOfGroups);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that clustering with pruning of the sequential rho winner
+     * calculation has identical results as clustering without pruning (for
+     * dense and sparse data matrices) and that rho values are pruned.
+     */
+    @Test
+    public void test_RhoWinnerPruning() {
+        System.out.println("-----------------------");
+        System.out.println("test_RhoWinnerPruning()");
+        System.out.println("-----------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // Sparse data matrix requires non-negative components
+        for (float[] tmpDataVector : tmpCombinedGaussianCloudDataMatrix) {
+            for (int i = 0; i < tmpDataVector.length; i++) {
+                tmpDataVector[i] = Math.abs(tmpDataVector[i]);
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpCombinedGaussianCloudDataMatrix);
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f, 0.99f};
+        int tmpMaximumNumberOfClusters = 1000;
+        long tmpNumberOfPrunedRhoValues = 0L;
+        for (float tmpVigilance : tmpVigilances) {
+            for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+                for (boolean tmpIsSparse : new boolean[] {false, true}) {
+                    Art2aKernel tmpArt2aKernel;
+                    if (tmpIsSparse) {
+                        tmpArt2aKernel = new Art2aKernel(tmpSparseDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                    } else {
+                        tmpArt2aKernel = new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, tmpMaximumNumberOfClusters, tmpIsDataPreprocessing);
+                    }
+                    Art2aResult tmpResult = null;
+                    Art2aResult tmpPrunedResult = null;
+                    try {
+                        tmpResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false, false);
+                        tmpPrunedResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false, true);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    Assertions.assertEquals(0L, tmpResult.getNumberOfPrunedRhoValues());
+                    Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpPrunedResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpResult.getNumberOfEpochs(), tmpPrunedResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpResult.getDataVectorIndicesOfCluster(i),
+                            tmpPrunedResult.getDataVectorIndicesOfCluster(i)
+                        );
+                    }
+                    tmpNumberOfPrunedRhoValues += tmpPrunedResult.getNumberOfPrunedRhoValues();
+                }
+            }
+        }
+        System.out.println("Number of pruned rho values = " + tmpNumberOfPrunedRhoValues);
+        Assertions.assertTrue(tmpNumberOfPrunedRhoValues > 0L);
+    }
+
+    /**
+     * Tests that clustering with pruning of the sequential rho winner
+     * calculation with a very high number of clusters (where a centroid index
+     * is used) has identical results as clustering without pruning.
+     */
+    @Test
+    public void test_RhoWinnerPruningWithCentroidIndex() {
+        System.out.println("----------------------------------------");
+        System.out.println("test_RhoWinnerPruningWithCentroidIndex()");
+        System.out.println("----------------------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        float[][] tmpDataMatrix = new float[4000][8];
+        for (float[] tmpDataVector : tmpDataMatrix) {
+            for (int i = 0; i < tmpDataVector.length; i++) {
+                tmpDataVector[i] = tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        float tmpVigilance = 0.999f;
+        int tmpMaximumNumberOfClusters = 4000;
+        long tmpNumberOfPrunedRhoValues = 0L;
+        for (boolean tmpIsSparse : new boolean[] {false, true}) {
+            Art2aKernel tmpArt2aKernel;
+            if (tmpIsSparse) {
+                tmpArt2aKernel = new Art2aKernel(tmpSparseDataMatrix, tmpMaximumNumberOfClusters, true);
+            } else {
+                tmpArt2aKernel = new Art2aKernel(tmpDataMatrix, tmpMaximumNumberOfClusters, true);
+            }
+            Art2aResult tmpResult = null;
+            Art2aResult tmpPrunedResult = null;
+            try {
+                tmpResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false, false);
+                tmpPrunedResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false, true);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            Assertions.assertTrue(tmpResult.getNumberOfDetectedClusters() > 2048);
+            Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpPrunedResult.getNumberOfDetectedClusters());
+            Assertions.assertEquals(tmpResult.getNumberOfEpochs(), tmpPrunedResult.getNumberOfEpochs());
+            for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                Assertions.assertArrayEquals(
+                    tmpResult.getDataVectorIndicesOfCluster(i),
+                    tmpPrunedResult.getDataVectorIndicesOfCluster(i)
+                );
+            }
+            tmpNumberOfPrunedRhoValues += tmpPrunedResult.getNumberOfPrunedRhoValues();
+        }
+        System.out.println("Number of pruned rho values = " + tmpNumberOfPrunedRhoValues);
+        Assertions.assertTrue(tmpNumberOfPrunedRhoValues > 0L);
+    }
+
+    /**
+     * Tests the approximate rho winner calculation: With a single signature
+     * bit all cluster vectors are candidates so that results are identical
+     * to the exact rho winner calculation, with more signature bits results
+     * are reproducible and the estimated recall is reported.
+     */
+    @Test
+    public void test_ApproximateRhoWinner() {
+        System.out.println("---------------------------");
+        System.out.println("test_ApproximateRhoWinner()");
+        System.out.println("---------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // Sparse data matrix requires non-negative components
+        for (float[] tmpDataVector : tmpCombinedGaussianCloudDataMatrix) {
+            for (int i = 0; i < tmpDataVector.length; i++) {
+                tmpDataVector[i] = Math.abs(tmpDataVector[i]);
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpCombinedGaussianCloudDataMatrix);
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f, 0.99f};
+        int tmpMaximumNumberOfClusters = 1000;
+        for (float tmpVigilance : tmpVigilances) {
+            for (boolean tmpIsSparse : new boolean[] {false, true}) {
+                Art2aKernel tmpArt2aKernel;
+                if (tmpIsSparse) {
+                    tmpArt2aKernel = new Art2aKernel(tmpSparseDataMatrix, tmpMaximumNumberOfClusters, true);
+                } else {
+                    tmpArt2aKernel = new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, tmpMaximumNumberOfClusters, true);
+                }
+                Art2aResult tmpResult = null;
+                Art2aResult tmpCompleteCandidatesResult = null;
+                Art2aResult tmpApproximateResult = null;
+                Art2aResult tmpRepeatedApproximateResult = null;
+                try {
+                    tmpResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false);
+                    tmpCompleteCandidatesResult = tmpArt2aKernel.getApproximateClusterResult(tmpVigilance, 1, 1);
+                    tmpApproximateResult = tmpArt2aKernel.getApproximateClusterResult(tmpVigilance, 4, 8);
+                    tmpRepeatedApproximateResult = tmpArt2aKernel.getApproximateClusterResult(tmpVigilance, 4, 8);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                Assertions.assertEquals(1.0f, tmpResult.getRhoWinnerRecall());
+                Assertions.assertEquals(0.0f, tmpResult.getRhoWinnerFallbackFraction());
+                Assertions.assertEquals(1.0f, tmpCompleteCandidatesResult.getRhoWinnerRecall());
+                Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpCompleteCandidatesResult.getNumberOfDetectedClusters());
+                Assertions.assertEquals(tmpResult.getNumberOfEpochs(), tmpCompleteCandidatesResult.getNumberOfEpochs());
+                for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                    Assertions.assertArrayEquals(
+                        tmpResult.getDataVectorIndicesOfCluster(i),
+                        tmpCompleteCandidatesResult.getDataVectorIndicesOfCluster(i)
+                    );
+                }
+                Assertions.assertTrue(tmpApproximateResult.getRhoWinnerRecall() >= 0.0f && tmpApproximateResult.getRhoWinnerRecall() <= 1.0f);
+                Assertions.assertEquals(tmpApproximateResult.getRhoWinnerRecall(), tmpRepeatedApproximateResult.getRhoWinnerRecall());
+                Assertions.assertTrue(tmpApproximateResult.getRhoWinnerFallbackFraction() >= 0.0f && tmpApproximateResult.getRhoWinnerFallbackFraction() <= 1.0f);
+                Assertions.assertEquals(tmpApproximateResult.getRhoWinnerFallbackFraction(), tmpRepeatedApproximateResult.getRhoWinnerFallbackFraction());
+                Assertions.assertEquals(tmpApproximateResult.getNumberOfDetectedClusters(), tmpRepeatedApproximateResult.getNumberOfDetectedClusters());
+                for (int i = 0; i < tmpApproximateResult.getNumberOfDetectedClusters(); i++) {
+                    Assertions.assertArrayEquals(
+                        tmpApproximateResult.getDataVectorIndicesOfCluster(i),
+                        tmpRepeatedApproximateResult.getDataVectorIndicesOfCluster(i)
+                    );
+                }
+                System.out.println(
+                    "Vigilance = " + tmpVigilance +
+                    ", sparse = " + tmpIsSparse +
+                    ", number of clusters (exact/approximate) = " + tmpResult.getNumberOfDetectedClusters() + "/" + tmpApproximateResult.getNumberOfDetectedClusters() +
+                    ", recall = " + tmpApproximateResult.getRhoWinnerRecall() +
+                    ", fallback fraction = " + tmpApproximateResult.getRhoWinnerFallbackFraction()
+                );
+            }
+        }
+    }
+
+    /**
+     * Tests that the rho winner (maximum scalar product) of the worker team is
+     * identical to the one of a sequential calculation (including ties) for
+     * dense and sparse vectors.
+     */
+    @Test
+    public void test_RhoWinnerWorkerTeam() {
+        System.out.println("--------------------------");
+        System.out.println("test_RhoWinnerWorkerTeam()");
+        System.out.println("--------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 20;
+        int tmpNumberOfClusters = 500;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters, tmpNumberOfComponents, true);
+        float[][] tmpDataMatrix = new float[100][tmpNumberOfComponents];
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            float[] tmpClusterVector = new float[tmpNumberOfComponents];
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpClusterVector[j] = tmpRandomNumberGenerator.nextFloat();
+            }
+            // Unit cluster vector
+            Utils.normalizeVector(tmpClusterVector);
+            if (i == 400) {
+                // Duplicate of cluster vector 100 for a tie
+                tmpClusterVector = Arrays.copyOfRange(tmpClusterMatrix.getComponents(), tmpClusterMatrix.getOffset(100), tmpClusterMatrix.getOffset(100) + tmpNumberOfComponents);
+            }
+            tmpClusterMatrix.addCluster(tmpClusterVector);
+        }
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            if (i % 10 == 0) {
+                System.arraycopy(tmpClusterMatrix.getComponents(), tmpClusterMatrix.getOffset(100), tmpDataMatrix[i], 0, tmpNumberOfComponents);
+            } else {
+                for (int j = 0; j < tmpNumberOfComponents; j++) {
+                    tmpDataMatrix[i][j] = tmpRandomNumberGenerator.nextFloat() < 0.5f ? 0.0f : tmpRandomNumberGenerator.nextFloat();
+                }
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        Utils.SparseVector tmpSparseVector = new Utils.SparseVector(tmpNumberOfComponents);
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        try (RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(true, 4, 1L)) {
+            for (int i = 0; i < tmpDataMatrix.length; i++) {
+                float tmpFirstRhoValue = 0.1f * Utils.getSumOfComponents(tmpDataMatrix[i]);
+                float tmpRhoValue = tmpFirstRhoValue;
+                int tmpIndex = -1;
+                for (int j = 0; j < tmpNumberOfClusters; j++) {
+                    float tmpRhoValueOfCluster = Utils.getScalarProduct(tmpDataMatrix[i], tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride());
+                    if (tmpRhoValueOfCluster > tmpRhoValue) {
+                        tmpRhoValue = tmpRhoValueOfCluster;
+                        tmpIndex = j;
+                    }
+                }
+                if (i % 10 == 0) {
+                    Assertions.assertEquals(100, tmpIndex);
+                }
+                tmpRhoWinnerWorkerTeam.setRhoWinner(tmpDataMatrix[i], null, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpRhoWinner);
+                Assertions.assertEquals(tmpIndex, tmpRhoWinner.getIndexOfCluster());
+                Assertions.assertEquals(tmpRhoValue, tmpRhoWinner.getRhoValue());
+                tmpSparseVector.setRow(tmpSparseDataMatrix, i);
+                tmpRhoValue = tmpFirstRhoValue;
+                tmpIndex = -1;
+                for (int j = 0; j < tmpNumberOfClusters; j++) {
+                    float tmpRhoValueOfCluster = Utils.getScalarProduct(tmpSparseVector, tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride());
+                    if (tmpRhoValueOfCluster > tmpRhoValue) {
+                        tmpRhoValue = tmpRhoValueOfCluster;
+                        tmpIndex = j;
+                    }
+                }
+                tmpRhoWinnerWorkerTeam.setRhoWinner(null, tmpSparseVector, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpRhoWinner);
+                Assertions.assertEquals(tmpIndex, tmpRhoWinner.getIndexOfCluster());
+                Assertions.assertEquals(tmpRhoValue, tmpRhoWinner.getRhoValue());
+            }
+        }
+    }
+
+    /**
+     * Tests that automatic execution leads to results identical to sequential
+     * execution and records the execution plan, and that calibration of
+     * RhoWinnerWorkerTeam does not change Rho winners.
+     */
+    @Test
+    public void test_AutomaticExecution() {
+        System.out.println("-------------------------");
+        System.out.println("test_AutomaticExecution()");
+        System.out.println("-------------------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f};
+        Art2aKernel tmpArt2aKernel =
+            new Art2aKernel(
+                tmpIrisFlowerDataMatrix,
+                150,
+                100,
+                0.99f,
+                0.01f,
+                1.0f,
+                1L,
+                false
+            );
+        try {
+            Art2aResult[] tmpAutomaticResults = tmpArt2aKernel.getClusterResults(tmpVigilances);
+            Assertions.assertNotNull(tmpAutomaticResults);
+            for (int i = 0; i < tmpVigilances.length; i++) {
+                Art2aResult tmpSequentialResult = tmpArt2aKernel.getClusterResult(tmpVigilances[i], false);
+                Assertions.assertTrue(tmpSequentialResult.getExecutionPlan().startsWith("Sequential"));
+                Art2aResult tmpAutomaticResult = tmpArt2aKernel.getClusterResult(tmpVigilances[i]);
+                Assertions.assertTrue(tmpAutomaticResult.getExecutionPlan().startsWith("Automatic"));
+                System.out.println("  " + tmpAutomaticResult.getExecutionPlan());
+                Assertions.assertNotNull(tmpAutomaticResults[i].getExecutionPlan());
+                for (Art2aResult tmpResult : new Art2aResult[] {tmpAutomaticResult, tmpAutomaticResults[i]}) {
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpResult.getNumberOfEpochs());
+                    for (int j = 0; j < tmpSequentialResult.getNumberOfDetectedClusters(); j++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(j),
+                            tmpResult.getDataVectorIndicesOfCluster(j)
+                        );
+                    }
+                }
+            }
+            Assertions.assertArrayEquals(
+                tmpArt2aKernel.getRepresentatives(10, 0.0001f, 0.9999f, 32, false),
+                tmpArt2aKernel.getRepresentatives(10, 0.0001f, 0.9999f, 32)
+            );
+        } catch (Exception anException) {
+            Assertions.fail();
+        }
+
+        // Calibration with forced dedicated worker threads
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 20;
+        int tmpNumberOfClusters = 500;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters, tmpNumberOfComponents, true);
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            float[] tmpClusterVector = new float[tmpNumberOfComponents];
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpClusterVector[j] = tmpRandomNumberGenerator.nextFloat();
+            }
+            Utils.normalizeVector(tmpClusterVector);
+            tmpClusterMatrix.addCluster(tmpClusterVector);
+        }
+        float[][] tmpDataMatrix = new float[200][tmpNumberOfComponents];
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpDataMatrix[i][j] = tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        Utils.RhoWinner tmpReferenceRhoWinner = new Utils.RhoWinner();
+        try (
+            RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(true, 4, 1L);
+            RhoWinnerWorkerTeam tmpReferenceRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(true, 1, 1L)
+        ) {
+            tmpRhoWinnerWorkerTeam.startCalibration();
+            for (int i = 0; i < tmpDataMatrix.length; i++) {
+                float tmpFirstRhoValue = 0.1f * Utils.getSumOfComponents(tmpDataMatrix[i]);
+                tmpRhoWinnerWorkerTeam.setRhoWinner(tmpDataMatrix[i], null, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpRhoWinner);
+                tmpReferenceRhoWinnerWorkerTeam.setRhoWinner(tmpDataMatrix[i], null, tmpClusterMatrix, tmpNumberOfClusters, tmpFirstRhoValue, tmpReferenceRhoWinner);
+                Assertions.assertEquals(tmpReferenceRhoWinner.getIndexOfCluster(), tmpRhoWinner.getIndexOfCluster());
+                Assertions.assertEquals(tmpReferenceRhoWinner.getRhoValue(), tmpRhoWinner.getRhoValue());
+                if (i == tmpDataMatrix.length / 2) {
+                    tmpRhoWinnerWorkerTeam.finishCalibration();
+                }
+            }
+            System.out.println("  " + tmpRhoWinnerWorkerTeam.getExecutionDescription());
+            Assertions.assertTrue(tmpRhoWinnerWorkerTeam.getExecutionDescription().contains("calibrated"));
+        }
+    }
+
+    /**
+     * Tests that the rho winners of the speculative rho window (rho values of
+     * a snapshot with recalculation for modified and created cluster vectors)
+     * are identical to the ones of a sequential calculation for dense and
+     * sparse vectors, and that speculative clustering leads to results
+     * identical to sequential clustering.
+     */
+    @Test
+    public void test_SpeculativeRhoWinner() {
+        System.out.println("---------------------------");
+        System.out.println("test_SpeculativeRhoWinner()");
+        System.out.println("---------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 20;
+        int tmpNumberOfClusters = 500;
+        float[][] tmpDataMatrix = new float[200][tmpNumberOfComponents];
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpDataMatrix[i][j] = tmpRandomNumberGenerator.nextFloat() < 0.5f ? 0.0f : tmpRandomNumberGenerator.nextFloat();
+            }
+            Utils.normalizeVector(tmpDataMatrix[i]);
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        Utils.RhoWinner tmpRhoWinner = new Utils.RhoWinner();
+        for (boolean tmpIsSparse : new boolean[] {false, true}) {
+            ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters + tmpDataMatrix.length, tmpNumberOfComponents, true);
+            for (int i = 0; i < tmpNumberOfClusters; i++) {
+                float[] tmpClusterVector = new float[tmpNumberOfComponents];
+                for (int j = 0; j < tmpNumberOfComponents; j++) {
+                    tmpClusterVector[j] = tmpRandomNumberGenerator.nextFloat();
+                }
+                Utils.normalizeVector(tmpClusterVector);
+                tmpClusterMatrix.addCluster(tmpClusterVector);
+            }
+            int tmpNumberOfDetectedClusters = tmpNumberOfClusters;
+            try (RhoWinnerWorkerTeam tmpRhoWinnerWorkerTeam = new RhoWinnerWorkerTeam(true, 4, 1L)) {
+                SpeculativeRhoWindow tmpSpeculativeRhoWindow =
+                    new SpeculativeRhoWindow(true, tmpRhoWinnerWorkerTeam, tmpNumberOfComponents, tmpIsSparse);
+                int tmpIndex = 0;
+                while (tmpIndex < tmpDataMatrix.length) {
+                    tmpSpeculativeRhoWindow.clear();
+                    for (int i = tmpIndex; i < tmpDataMatrix.length && !tmpSpeculativeRhoWindow.isFull(); i++) {
+                        if (tmpIsSparse) {
+                            tmpSpeculativeRhoWindow.getSparseBufferVector().setRow(tmpSparseDataMatrix, i);
+                        }
+                        tmpSpeculativeRhoWindow.addDataVector(tmpDataMatrix[i]);
+                    }
+                    tmpSpeculativeRhoWindow.setRhoValues(tmpRhoWinnerWorkerTeam, tmpClusterMatrix, tmpNumberOfDetectedClusters);
+                    while (tmpSpeculativeRhoWindow.hasNextDataVector()) {
+                        float[] tmpDenseVector = tmpSpeculativeRhoWindow.nextDataVector();
+                        Assertions.assertEquals(tmpIsSparse, tmpDenseVector == null);
+                        float tmpFirstRhoValue = 0.1f * Utils.getSumOfComponents(tmpDataMatrix[tmpIndex]);
+                        float tmpRhoValue = tmpFirstRhoValue;
+                        int tmpWinnerIndex = -1;
+                        for (int j = 0; j < tmpNumberOfDetectedClusters; j++) {
+                            float tmpRhoValueOfCluster =
+                                tmpIsSparse ?
+                                    Utils.getScalarProduct(tmpSpeculativeRhoWindow.getSparseVector(), tmpClusterMatrix.getComponents(), j * tmpClusterMatrix.getStride()) :
+                                    tmpClusterMatrix.getScalarProduct(tmpDenseVector, j);
+                            if (tmpRhoValueOfCluster > tmpRhoValue) {
+                                tmpRhoValue = tmpRhoValueOfCluster;
+                                tmpWinnerIndex = j;
+                            }
+                        }
+                        tmpSpeculativeRhoWindow.setRhoWinner(tmpNumberOfDetectedClusters, tmpFirstRhoValue, tmpRhoWinner);
+                        Assertions.assertEquals(tmpWinnerIndex, tmpRhoWinner.getIndexOfCluster());
+                        Assertions.assertEquals(tmpRhoValue, tmpRhoWinner.getRhoValue());
+                        if (tmpIndex % 3 == 0) {
+                            // Create new cluster vector identical to data vector
+                            tmpClusterMatrix.addCluster(tmpDataMatrix[tmpIndex]);
+                            tmpSpeculativeRhoWindow.setModifiedCluster(tmpNumberOfDetectedClusters);
+                            tmpNumberOfDetectedClusters++;
+                        } else if (tmpWinnerIndex >= 0) {
+                            // Move winner cluster vector towards data vector
+                            int tmpOffset = tmpClusterMatrix.getOffset(tmpWinnerIndex);
+                            float[] tmpClusterVector = new float[tmpNumberOfComponents];
+                            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                                tmpClusterVector[j] = 0.5f * tmpClusterMatrix.getComponents()[tmpOffset + j] + 0.5f * tmpDataMatrix[tmpIndex][j];
+                            }
+                            Utils.normalizeVector(tmpClusterVector);
+                            System.arraycopy(tmpClusterVector, 0, tmpClusterMatrix.getComponents(), tmpOffset, tmpNumberOfComponents);
+                            tmpSpeculativeRhoWindow.setModifiedCluster(tmpWinnerIndex);
+                        }
+                        tmpIndex++;
+                    }
+                }
+                Assertions.assertTrue(tmpSpeculativeRhoWindow.getNumberOfRecalculatedRhoValues() > 0L);
+                Assertions.assertTrue(tmpSpeculativeRhoWindow.getNumberOfSpeculativeRhoValues() > tmpSpeculativeRhoWindow.getNumberOfRecalculatedRhoValues());
+                System.out.println("  " + (tmpIsSparse ? "Sparse: " : "Dense: ") + tmpSpeculativeRhoWindow.getExecutionDescription());
+            }
+        }
+
+        // Speculative clustering
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseIrisFlowerDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.2f,
+                new Random(1L)
+            );
+        String tmpExecutionPlan = null;
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aKernel[] tmpArt2aKernels =
+                new Art2aKernel[] {
+                    new Art2aKernel(tmpIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aKernel(tmpSparseIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            for (Art2aKernel tmpArt2aKernel : tmpArt2aKernels) {
+                for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f, 0.99f}) {
+                    Art2aResult tmpSequentialResult = null;
+                    Art2aResult tmpSpeculativeResult = null;
+                    try {
+                        tmpSequentialResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false);
+                        tmpSpeculativeResult = tmpArt2aKernel.getSpeculativeClusterResult(tmpVigilance);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    tmpExecutionPlan = tmpSpeculativeResult.getExecutionPlan();
+                    Assertions.assertTrue(tmpExecutionPlan.startsWith("Speculative"));
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpSpeculativeResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpSpeculativeResult.getNumberOfEpochs());
+                    Assertions.assertEquals(tmpSequentialResult.isConverged(), tmpSpeculativeResult.isConverged());
+                    for (int i = 0; i < tmpSequentialResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(i),
+                            tmpSpeculativeResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getClusterVector(i),
+                            tmpSpeculativeResult.getClusterVector(i)
+                        );
+                    }
+                }
+            }
+        }
+        System.out.println("  " + tmpExecutionPlan);
+    }
+
+    /**
+     * Tests that mini-batch training with a mini-batch size of 1 leads to
+     * results identical to sequential clustering, that mini-batch training
+     * with large mini-batches detects the clusters of combined Gaussian
+     * clouds with deduplicated new cluster proposals, and that illegal
+     * mini-batch sizes are rejected.
+     */
+    @Test
+    public void test_MiniBatch() {
+        System.out.println("----------------");
+        System.out.println("test_MiniBatch()");
+        System.out.println("----------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseIrisFlowerDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // Mini-batch size of 1 is identical to sequential clustering
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aKernel[] tmpArt2aKernels =
+                new Art2aKernel[] {
+                    new Art2aKernel(tmpIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aKernel(tmpSparseIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            for (Art2aKernel tmpArt2aKernel : tmpArt2aKernels) {
+                for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f, 0.99f}) {
+                    Art2aResult tmpSequentialResult = null;
+                    Art2aResult tmpMiniBatchResult = null;
+                    try {
+                        tmpSequentialResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false);
+                        tmpMiniBatchResult = tmpArt2aKernel.getMiniBatchClusterResult(tmpVigilance, 1);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    Assertions.assertTrue(tmpMiniBatchResult.getExecutionPlan().startsWith("Mini-batch"));
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpMiniBatchResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpMiniBatchResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpSequentialResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(i),
+                            tmpMiniBatchResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getClusterVector(i),
+                            tmpMiniBatchResult.getClusterVector(i)
+                        );
+                    }
+                }
+            }
+        }
+        // Large mini-batches (dense and sparse data, negative components are
+        // set to zero for sparse data)
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+            for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+            }
+        }
+        Art2aKernel[] tmpArt2aKernels =
+            new Art2aKernel[] {
+                new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false),
+                new Art2aKernel(SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix), 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false)
+            };
+        for (Art2aKernel tmpArt2aKernel : tmpArt2aKernels) {
+            for (int tmpMiniBatchSize : new int[] {100, 1000}) {
+                Art2aResult tmpMiniBatchResult = null;
+                try {
+                    tmpMiniBatchResult = tmpArt2aKernel.getMiniBatchClusterResult(0.1f, tmpMiniBatchSize);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                System.out.println("  " + tmpMiniBatchResult.getExecutionPlan());
+                Assertions.assertEquals(10, tmpMiniBatchResult.getNumberOfDetectedClusters());
+                Assertions.assertTrue(tmpMiniBatchResult.isConverged());
+                Assertions.assertFalse(tmpMiniBatchResult.getExecutionPlan().contains(" 0 merged cluster proposals"));
+                for (int i = 0; i < tmpMiniBatchResult.getNumberOfDetectedClusters(); i++) {
+                    Assertions.assertEquals(100, tmpMiniBatchResult.getClusterSize(i));
+                }
+            }
+        }
+        // Illegal mini-batch size
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aKernels[0].getMiniBatchClusterResult(0.1f, 0)
+        );
+    }
+
+
+    /**
+     * Tests that lock-free concurrent cluster updates with a single thread
+     * lead to results identical to sequential clustering, that concurrent
+     * cluster updates with several threads detect the clusters of combined
+     * Gaussian clouds (the agreement with sequential clustering is measured
+     * with the Rand index), and that illegal numbers of threads are
+     * rejected.
+     */
+    @Test
+    public void test_Hogwild() {
+        System.out.println("--------------");
+        System.out.println("test_Hogwild()");
+        System.out.println("--------------");
+        float[][] tmpIrisFlowerDataMatrix = this.getIrisFlowerDataMatrix();
+        for (int i = 0; i < tmpIrisFlowerDataMatrix.length; i++) {
+            tmpIrisFlowerDataMatrix[i][i % tmpIrisFlowerDataMatrix[i].length] = 0.0f;
+        }
+        SparseDataMatrix tmpSparseIrisFlowerDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpIrisFlowerDataMatrix);
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // Single thread is identical to sequential clustering
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aKernel[] tmpArt2aKernels =
+                new Art2aKernel[] {
+                    new Art2aKernel(tmpIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aKernel(tmpSparseIrisFlowerDataMatrix, 150, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            for (Art2aKernel tmpArt2aKernel : tmpArt2aKernels) {
+                for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f, 0.99f}) {
+                    Art2aResult tmpSequentialResult = null;
+                    Art2aResult tmpHogwildResult = null;
+                    try {
+                        tmpSequentialResult = tmpArt2aKernel.getClusterResult(tmpVigilance, false);
+                        tmpHogwildResult = tmpArt2aKernel.getHogwildClusterResult(tmpVigilance, 1);
+                    } catch (Exception anException) {
+                        Assertions.fail();
+                    }
+                    Assertions.assertTrue(tmpHogwildResult.getExecutionPlan().startsWith("Hogwild"));
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfDetectedClusters(), tmpHogwildResult.getNumberOfDetectedClusters());
+                    Assertions.assertEquals(tmpSequentialResult.getNumberOfEpochs(), tmpHogwildResult.getNumberOfEpochs());
+                    for (int i = 0; i < tmpSequentialResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getDataVectorIndicesOfCluster(i),
+                            tmpHogwildResult.getDataVectorIndicesOfCluster(i)
+                        );
+                        Assertions.assertArrayEquals(
+                            tmpSequentialResult.getClusterVector(i),
+                            tmpHogwildResult.getClusterVector(i)
+                        );
+                    }
+                }
+            }
+        }
+        // Several threads (dense and sparse data, negative components are set
+        // to zero for sparse data)
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+            for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+            }
+        }
+        Art2aKernel[] tmpArt2aKernels =
+            new Art2aKernel[] {
+                new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false),
+                new Art2aKernel(SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix), 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false)
+            };
+        for (Art2aKernel tmpArt2aKernel : tmpArt2aKernels) {
+            Art2aResult tmpSequentialResult = null;
+            try {
+                tmpSequentialResult = tmpArt2aKernel.getClusterResult(0.1f, false);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            for (int tmpNumberOfThreads : new int[] {2, 4}) {
+                Art2aResult tmpHogwildResult = null;
+                try {
+                    tmpHogwildResult = tmpArt2aKernel.getHogwildClusterResult(0.1f, tmpNumberOfThreads);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                double tmpRandIndex = this.getRandIndex(tmpSequentialResult, tmpHogwildResult, tmpCombinedGaussianCloudDataMatrix.length);
+                System.out.println("  " + tmpHogwildResult.getExecutionPlan());
+                System.out.println("  - Number of detected clusters = " + String.valueOf(tmpHogwildResult.getNumberOfDetectedClusters()));
+                System.out.println("  - Rand index (sequential)     = " + String.valueOf(tmpRandIndex));
+                Assertions.assertEquals(10, tmpHogwildResult.getNumberOfDetectedClusters());
+                Assertions.assertTrue(tmpHogwildResult.isConverged());
+                Assertions.assertTrue(tmpRandIndex >= 0.99);
+            }
+        }
+        // Illegal number of threads
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aKernels[0].getHogwildClusterResult(0.1f, 0)
+        );
+    }
+
+    /**
+     * Tests that all parallelized calculations (automatic and parallel Rho
+     * winner calculation, speculative Rho winner calculation, mini-batch
+     * training, final assignment and concurrent clustering runs with
+     * different vigilance parameters) lead to identical results for 1, 2, 4
+     * and 16 threads (clustering methods are called from a task of a
+     * ForkJoinPool with the corresponding parallelism).
+     */
+    @Test
+    public void test_ThreadCountIndependence() {
+        System.out.println("------------------------------");
+        System.out.println("test_ThreadCountIndependence()");
+        System.out.println("------------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        // High-dimensional random data with many clusters for Rho winner
+        // calculations that are shared by several workers
+        Random tmpRandomNumberGenerator = new Random(1L);
+        float[][] tmpRandomDataMatrix = new float[200][1000];
+        for (float[] tmpDataVector : tmpRandomDataMatrix) {
+            for (int j = 0; j < tmpDataVector.length; j++) {
+                tmpDataVector[j] = tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f};
+        Art2aKernel[] tmpArt2aKernels =
+            new Art2aKernel[] {
+                new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 20, 0.99f, 0.01f, 1.0f, 1L, false),
+                new Art2aKernel(tmpRandomDataMatrix, 200, 2, 0.99f, 0.01f, 1.0f, 1L, true)
+            };
+        for (Art2aKernel tmpArt2aKernel : tmpArt2aKernels) {
+            Art2aResult[][] tmpReferenceResults = null;
+            for (int tmpNumberOfThreads : new int[] {1, 2, 4, 16}) {
+                Art2aResult[][] tmpResults = new Art2aResult[5][tmpVigilances.length];
+                ForkJoinPool tmpForkJoinPool = new ForkJoinPool(tmpNumberOfThreads);
+                try {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        float tmpVigilance = tmpVigilances[i];
+                        tmpResults[0][i] = tmpForkJoinPool.submit(() -> tmpArt2aKernel.getClusterResult(tmpVigilance)).get();
+                        tmpResults[1][i] = tmpForkJoinPool.submit(() -> tmpArt2aKernel.getClusterResult(tmpVigilance, true)).get();
+                        tmpResults[2][i] = tmpForkJoinPool.submit(() -> tmpArt2aKernel.getSpeculativeClusterResult(tmpVigilance)).get();
+                        tmpResults[3][i] = tmpForkJoinPool.submit(() -> tmpArt2aKernel.getMiniBatchClusterResult(tmpVigilance, 256)).get();
+                    }
+                    tmpResults[4] = tmpForkJoinPool.submit(() -> tmpArt2aKernel.getClusterResults(tmpVigilances)).get();
+                } catch (Exception anException) {
+                    Assertions.fail();
+                } finally {
+                    tmpForkJoinPool.shutdown();
+                }
+                System.out.println("  " + String.valueOf(tmpNumberOfThreads) + " threads: " + tmpResults[1][tmpVigilances.length - 1].getExecutionPlan());
+                if (tmpReferenceResults == null) {
+                    tmpReferenceResults = tmpResults;
+                    // Parallelized Rho winner calculations are identical to
+                    // the sequential one
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        Art2aResult tmpSequentialResult = null;
+                        try {
+                            tmpSequentialResult = tmpArt2aKernel.getClusterResult(tmpVigilances[i], false);
+                        } catch (Exception anException) {
+                            Assertions.fail();
+                        }
+                        for (int j : new int[] {0, 1, 2, 4}) {
+                            Assertions.assertTrue(this.isEqualResult(tmpSequentialResult, tmpResults[j][i]));
+                        }
+                    }
+                }
+                for (int j = 0; j < tmpResults.length; j++) {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        Assertions.assertTrue(this.isEqualResult(tmpReferenceResults[j][i], tmpResults[j][i]));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the sample-then-assign clustering with uniform and
+     * length-stratified samples (with and without refinement epoch) detects
+     * the clusters of combined Gaussian clouds and assigns all data vectors
+     * (the agreement with the clustering of all data vectors is measured with
+     * the Rand index), that data vectors with a length of zero outside the
+     * sample are detected, and that illegal sample sizes are rejected.
+     */
+    @Test
+    public void test_SampleClustering() {
+        System.out.println("-----------------------");
+        System.out.println("test_SampleClustering()");
+        System.out.println("-----------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.05f,
+                new Random(1L)
+            );
+        // Sparse data with non-negative components and 5 additional data
+        // vectors with a length of zero
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length + 5][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            if (i < tmpCombinedGaussianCloudDataMatrix.length) {
+                tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+                for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                    tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+                }
+            } else {
+                tmpNonNegativeDataMatrix[i] = new float[tmpCombinedGaussianCloudDataMatrix[0].length];
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix);
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aKernel[] tmpArt2aKernels =
+                new Art2aKernel[] {
+                    new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing),
+                    new Art2aKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing)
+                };
+            int[] tmpNumbersOfDataVectors = new int[] {tmpCombinedGaussianCloudDataMatrix.length, tmpNonNegativeDataMatrix.length};
+            for (int k = 0; k < tmpArt2aKernels.length; k++) {
+                Art2aKernel tmpKernel = tmpArt2aKernels[k];
+                int tmpNumberOfDataVectors = tmpNumbersOfDataVectors[k];
+                Art2aResult tmpResult = null;
+                try {
+                    tmpResult = tmpKernel.getClusterResult(0.5f);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                Assertions.assertEquals(tmpNumberOfDataVectors, tmpResult.getSampleSize());
+                Assertions.assertEquals(0L, tmpResult.getSamplingTime());
+                for (int tmpSampleSize : new int[] {200, 500}) {
+                    for (boolean tmpIsStratifiedSample : new boolean[] {false, true}) {
+                        for (boolean tmpIsRefinementEpoch : new boolean[] {false, true}) {
+                            Art2aResult tmpSampleResult = null;
+                            try {
+                                tmpSampleResult = tmpKernel.getSampleClusterResult(0.5f, tmpSampleSize, tmpIsStratifiedSample, tmpIsRefinementEpoch);
+                            } catch (Exception anException) {
+                                Assertions.fail();
+                            }
+                            double tmpRandIndex = this.getRandIndex(tmpResult, tmpSampleResult, tmpNumberOfDataVectors);
+                            System.out.println("  " + tmpSampleResult.getExecutionPlan());
+                            System.out.println("  - Number of epochs             = " + String.valueOf(tmpSampleResult.getNumberOfEpochs()));
+                            System.out.println("  - Sampling time in nanoseconds = " + String.valueOf(tmpSampleResult.getSamplingTime()));
+                            System.out.println("  - Rand index (all data)        = " + String.valueOf(tmpRandIndex));
+                            Assertions.assertTrue(tmpSampleResult.getExecutionPlan().contains(" sample of " + tmpSampleSize + " data vectors"));
+                            Assertions.assertEquals(tmpIsRefinementEpoch, tmpSampleResult.getExecutionPlan().contains("refinement epoch"));
+                            Assertions.assertEquals(tmpSampleSize, tmpSampleResult.getSampleSize());
+                            Assertions.assertTrue(tmpSampleResult.getSamplingTime() > 0L);
+                            Assertions.assertEquals(10, tmpSampleResult.getNumberOfDetectedClusters());
+                            Assertions.assertArrayEquals(tmpResult.getZeroLengthDataVectorIndices(), tmpSampleResult.getZeroLengthDataVectorIndices());
+                            int tmpNumberOfAssignedDataVectors = tmpSampleResult.getZeroLengthDataVectorIndices().length;
+                            for (int i = 0; i < tmpSampleResult.getNumberOfDetectedClusters(); i++) {
+                                tmpNumberOfAssignedDataVectors += tmpSampleResult.getClusterSize(i);
+                            }
+                            Assertions.assertEquals(tmpNumberOfDataVectors, tmpNumberOfAssignedDataVectors);
+                            Assertions.assertTrue(tmpRandIndex >= 0.99);
+                        }
+                    }
+                }
+            }
+            // Illegal sample sizes
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> tmpArt2aKernels[0].getSampleClusterResult(0.5f, 0, false, false)
+            );
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> tmpArt2aKernels[0].getSampleClusterResult(0.5f, 1001, false, false)
+            );
+        }
+    }
+    /**
+     * Tests that the ensemble clustering with several random seeds detects
+     * the clusters of combined Gaussian clouds with a stability of 1 for each
+     * data vector (in agreement with the clustering run of the first random
+     * seed), that data vectors with a length of zero are not assigned, that
+     * the consensus does not depend on the number of threads, and that
+     * illegal random seeds are rejected.
+     */
+    @Test
+    public void test_EnsembleClustering() {
+        System.out.println("-------------------------");
+        System.out.println("test_EnsembleClustering()");
+        System.out.println("-------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.05f,
+                new Random(1L)
+            );
+        // Sparse data with non-negative components and 5 additional data
+        // vectors with a length of zero
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length + 5][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            if (i < tmpCombinedGaussianCloudDataMatrix.length) {
+                tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+                for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                    tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+                }
+            } else {
+                tmpNonNegativeDataMatrix[i] = new float[tmpCombinedGaussianCloudDataMatrix[0].length];
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix);
+        long[] tmpRandomSeeds = new long[] {1L, 2L, 3L, 4L, 5L};
+        Art2aKernel[] tmpKernels =
+            new Art2aKernel[] {
+                new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, true),
+                new Art2aKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, true)
+            };
+        int[] tmpNumbersOfDataVectors = new int[] {tmpCombinedGaussianCloudDataMatrix.length, tmpNonNegativeDataMatrix.length};
+        for (int k = 0; k < tmpKernels.length; k++) {
+            Art2aKernel tmpKernel = tmpKernels[k];
+            int tmpNumberOfDataVectors = tmpNumbersOfDataVectors[k];
+            Art2aResult tmpResult = null;
+            ConsensusResult tmpConsensusResult = null;
+            ConsensusResult tmpSingleThreadConsensusResult = null;
+            ForkJoinPool tmpForkJoinPool = new ForkJoinPool(1);
+            try {
+                tmpResult = tmpKernel.getClusterResult(0.5f);
+                tmpConsensusResult = tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds);
+                tmpSingleThreadConsensusResult = tmpForkJoinPool.submit(() -> tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds)).get();
+            } catch (Exception anException) {
+                Assertions.fail();
+            } finally {
+                tmpForkJoinPool.shutdown();
+            }
+            System.out.println("  Numbers of detected clusters of runs = " + Arrays.toString(tmpConsensusResult.getNumbersOfDetectedClustersOfRuns()));
+            System.out.println("  - Number of consensus clusters       = " + String.valueOf(tmpConsensusResult.getNumberOfClusters()));
+            System.out.println("  - Number of co-association pairs     = " + String.valueOf(tmpConsensusResult.getNumberOfCoAssociationPairs()));
+            System.out.println("  - Number of voting rounds            = " + String.valueOf(tmpConsensusResult.getNumberOfVotingRounds()));
+            Assertions.assertEquals(tmpRandomSeeds.length, tmpConsensusResult.getNumberOfRuns());
+            Assertions.assertArrayEquals(tmpRandomSeeds, tmpConsensusResult.getRandomSeeds());
+            Assertions.assertEquals(0.5f, tmpConsensusResult.getVigilance());
+            Assertions.assertEquals(10, tmpConsensusResult.getNumberOfClusters());
+            // Consensus clusters correspond to the clusters of the run with
+            // the first random seed
+            Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpConsensusResult.getNumberOfClusters());
+            for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                int[] tmpDataVectorIndices = tmpResult.getDataVectorIndicesOfCluster(i);
+                int tmpClusterIndex = tmpConsensusResult.getClusterIndex(tmpDataVectorIndices[0]);
+                Assertions.assertArrayEquals(tmpDataVectorIndices, tmpConsensusResult.getDataVectorIndicesOfCluster(tmpClusterIndex));
+                Assertions.assertEquals(1.0f, tmpConsensusResult.getClusterStability(tmpClusterIndex));
+            }
+            // Data vectors with a length of zero
+            for (int tmpIndex : tmpResult.getZeroLengthDataVectorIndices()) {
+                Assertions.assertEquals(-1, tmpConsensusResult.getClusterIndex(tmpIndex));
+                Assertions.assertEquals(0.0f, tmpConsensusResult.getStability(tmpIndex));
+            }
+            int tmpNumberOfAssignedDataVectors = tmpNumberOfDataVectors - tmpResult.getZeroLengthDataVectorIndices().length;
+            Assertions.assertTrue(tmpConsensusResult.getNumberOfCoAssociationPairs() >= tmpNumberOfAssignedDataVectors);
+            Assertions.assertTrue(tmpConsensusResult.getNumberOfCoAssociationPairs() <= tmpNumberOfAssignedDataVectors * tmpRandomSeeds.length);
+            // Independent of the number of threads
+            Assertions.assertArrayEquals(tmpConsensusResult.getClusterIndices(), tmpSingleThreadConsensusResult.getClusterIndices());
+            Assertions.assertArrayEquals(tmpConsensusResult.getStabilities(), tmpSingleThreadConsensusResult.getStabilities());
+        }
+        // Illegal random seeds
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpKernels[0].getEnsembleClusterResult(0.5f, null)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpKernels[0].getEnsembleClusterResult(0.5f, new long[0])
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpKernels[0].getEnsembleClusterResult(0.5f, new long[] {1L, 0L})
+        );
+    }
+    /**
+     * Tests the consensus of clustering runs with known cluster indices: A
+     * data vector that changes its cluster in one of three runs has a
+     * stability of 2/3, and a cluster of the reference run (the run with the
+     * most clusters) that is split against the majority of the runs is
+     * merged.
+     */
+    @Test
+    public void test_ConsensusClustering() {
+        System.out.println("--------------------------");
+        System.out.println("test_ConsensusClustering()");
+        System.out.println("--------------------------");
+        ConsensusClustering tmpConsensusClustering =
+            new ConsensusClustering(
+                new int[][] {
+                    {0, 0, 1, 1, -1},
+                    {1, 1, 0, 0, -1},
+                    {0, 0, 0, 1, -1}
+                },
+                new int[] {2, 2, 2}
+            );
+        Assertions.assertEquals(2, tmpConsensusClustering.getNumberOfClusters());
+        Assertions.assertArrayEquals(new int[] {0, 0, 1, 1, -1}, tmpConsensusClustering.getClusterIndexOfDataVector());
+        Assertions.assertArrayEquals(new float[] {1.0f, 1.0f, 2.0f / 3.0f, 1.0f, 0.0f}, tmpConsensusClustering.getStabilities());
+        Assertions.assertEquals(5, tmpConsensusClustering.getNumberOfCoAssociationPairs());
+        // Split cluster of the reference run
+        tmpConsensusClustering =
+            new ConsensusClustering(
+                new int[][] {
+                    {0, 0, 1, 1},
+                    {0, 0, 1, 2},
+                    {1, 1, 0, 0}
+                },
+                new int[] {2, 3, 2}
+            );
+        Assertions.assertEquals(2, tmpConsensusClustering.getNumberOfClusters());
+        Assertions.assertArrayEquals(new int[] {0, 0, 1, 1}, tmpConsensusClustering.getClusterIndexOfDataVector());
+        // Note: The split clusters of the reference run are mapped to the
+        // merged consensus cluster in the second voting round
+        Assertions.assertArrayEquals(new float[] {1.0f, 1.0f, 1.0f, 1.0f}, tmpConsensusClustering.getStabilities());
+        Assertions.assertEquals(2, tmpConsensusClustering.getNumberOfVotingRounds());
+    }
+    /**
+     * Tests that successive clustering runs with the same kernel reuse one
+     * workspace and lead to results identical to those of new kernels (for
+     * different vigilance parameters and execution modes, with and without
+     * preprocessing, dense and sparse data with data vectors of length
+     * zero), and that the results of previous clustering runs are not
+     * changed by the reuse of the workspace.
+     */
+    @Test
+    public void test_ClusteringWorkspace() {
+        System.out.println("--------------------------");
+        System.out.println("test_ClusteringWorkspace()");
+        System.out.println("--------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.05f,
+                new Random(1L)
+            );
+        // Sparse data with non-negative components and 5 additional data
+        // vectors with a length of zero
+        float[][] tmpNonNegativeDataMatrix = new float[tmpCombinedGaussianCloudDataMatrix.length + 5][];
+        for (int i = 0; i < tmpNonNegativeDataMatrix.length; i++) {
+            if (i < tmpCombinedGaussianCloudDataMatrix.length) {
+                tmpNonNegativeDataMatrix[i] = tmpCombinedGaussianCloudDataMatrix[i].clone();
+                for (int j = 0; j < tmpNonNegativeDataMatrix[i].length; j++) {
+                    tmpNonNegativeDataMatrix[i][j] = Math.max(0.0f, tmpNonNegativeDataMatrix[i][j]);
+                }
+            } else {
+                tmpNonNegativeDataMatrix[i] = new float[tmpCombinedGaussianCloudDataMatrix[0].length];
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpNonNegativeDataMatrix);
+        float[] tmpVigilances = new float[] {0.1f, 0.5f, 0.9f};
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            for (int k = 0; k < 2; k++) {
+                boolean tmpIsSparse = k == 1;
+                Art2aKernel tmpKernel =
+                    tmpIsSparse ?
+                        new Art2aKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing) :
+                        new Art2aKernel(tmpNonNegativeDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+                Art2aResult[][] tmpResults = new Art2aResult[3][tmpVigilances.length];
+                Art2aResult[][] tmpReferenceResults = new Art2aResult[3][tmpVigilances.length];
+                try {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        // Automatic execution, sequential execution and
+                        // concurrent cluster updates with a single thread
+                        // (without support of sparse cluster vectors)
+                        tmpResults[0][i] = tmpKernel.getClusterResult(tmpVigilances[i]);
+                        tmpResults[1][i] = tmpKernel.getClusterResult(tmpVigilances[i], false);
+                        tmpResults[2][i] = tmpKernel.getHogwildClusterResult(tmpVigilances[i], 1);
+                        Assertions.assertEquals(1, tmpKernel.getNumberOfWorkspaces());
+                        Art2aKernel[] tmpNewKernels = new Art2aKernel[3];
+                        for (int j = 0; j < 3; j++) {
+                            tmpNewKernels[j] =
+                                tmpIsSparse ?
+                                    new Art2aKernel(tmpSparseDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing) :
+                                    new Art2aKernel(tmpNonNegativeDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+                        }
+                        tmpReferenceResults[0][i] = tmpNewKernels[0].getClusterResult(tmpVigilances[i]);
+                        tmpReferenceResults[1][i] = tmpNewKernels[1].getClusterResult(tmpVigilances[i], false);
+                        tmpReferenceResults[2][i] = tmpNewKernels[2].getHogwildClusterResult(tmpVigilances[i], 1);
+                    }
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                // All results are compared after all clustering runs, i.e.,
+                // they are not changed by successive clustering runs
+                for (int j = 0; j < 3; j++) {
+                    for (int i = 0; i < tmpVigilances.length; i++) {
+                        Assertions.assertTrue(this.isEqualResult(tmpReferenceResults[j][i], tmpResults[j][i]));
+                        Assertions.assertArrayEquals(
+                            tmpReferenceResults[j][i].getZeroLengthDataVectorIndices(),
+                            tmpResults[j][i].getZeroLengthDataVectorIndices()
+                        );
+                        Assertions.assertEquals(5, tmpResults[j][i].getZeroLengthDataVectorIndices().length);
+                    }
+                }
+                tmpKernel.clearWorkspaces();
+                Assertions.assertEquals(0, tmpKernel.getNumberOfWorkspaces());
+            }
+        }
+    }
+
+    /**
+     * Tests that the pool of workspaces of a kernel retains at most one free
+     * workspace per available processor after more concurrent clustering
+     * runs with different vigilance parameters and multi-seed ensemble
+     * clusterings (the ensemble kernels share the pool of the kernel) than
+     * available processors, and that a workspace of concurrent cluster
+     * updates is retained.
+     */
+    @Test
+    public void test_BoundedWorkspacePool() {
+        System.out.println("---------------------------");
+        System.out.println("test_BoundedWorkspacePool()");
+        System.out.println("---------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        float[] tmpVigilances = new float[] {0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f, 0.7f, 0.8f, 0.9f};
+        long[] tmpRandomSeeds = new long[] {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L};
+        Art2aKernel tmpKernel = new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 100, 0.99f, 0.01f, 1.0f, 1L, false);
+        int tmpNumberOfProcessors = Runtime.getRuntime().availableProcessors();
+        int tmpNumberOfConcurrentCalls = 4 * tmpNumberOfProcessors + 4;
+        ExecutorService tmpExecutorService = Executors.newFixedThreadPool(tmpNumberOfConcurrentCalls);
+        try {
+            List<Future<?>> tmpFutureList = new LinkedList<>();
+            for (int i = 0; i < tmpNumberOfConcurrentCalls; i++) {
+                if (i % 2 == 0) {
+                    tmpFutureList.add(tmpExecutorService.submit(() -> tmpKernel.getClusterResults(tmpVigilances)));
+                } else {
+                    tmpFutureList.add(tmpExecutorService.submit(() -> tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds)));
+                }
+            }
+            for (Future<?> tmpFuture : tmpFutureList) {
+                tmpFuture.get();
+            }
+        } catch (Exception anException) {
+            Assertions.fail();
+        } finally {
+            tmpExecutorService.shutdown();
+        }
+        Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() >= 1);
+        Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() <= tmpNumberOfProcessors);
+        // Sequential calls
+        try {
+            tmpKernel.getClusterResults(tmpVigilances);
+            Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() <= tmpNumberOfProcessors);
+            tmpKernel.getEnsembleClusterResult(0.5f, tmpRandomSeeds);
+            Assertions.assertTrue(tmpKernel.getNumberOfWorkspaces() <= tmpNumberOfProcessors);
+            // The workspace of concurrent cluster updates is retained
+            // (without its cluster matrix of maximum capacity)
+            tmpKernel.clearWorkspaces();
+            tmpKernel.getHogwildClusterResult(0.5f, 2);
+            Assertions.assertEquals(1, tmpKernel.getNumberOfWorkspaces());
+        } catch (Exception anException) {
+            Assertions.fail();
+        }
+    }
+    /**
+     * Tests that the scalar products of sparse cluster vectors (gathering of
+     * the non-zero components) are identical to the scalar code of a dense
+     * scalar product (also after removal of empty clusters), and that
+     * clustering of high-dimensional sparse data row vectors with sparse
+     * cluster vectors has identical results for a dense and the corresponding
+     * sparse data matrix (sequential, parallel and pruned rho winner
+     * calculation).
+     */
+    @Test
+    public void test_SparseClusterVectors() {
+        System.out.println("---------------------------");
+        System.out.println("test_SparseClusterVectors()");
+        System.out.println("---------------------------");
+        Random tmpRandomNumberGenerator = new Random(1L);
+        int tmpNumberOfComponents = 1000;
+        int tmpNumberOfClusters = 30;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(tmpNumberOfClusters, tmpNumberOfComponents, false, true);
+        float[][] tmpClusterVectors = new float[tmpNumberOfClusters][tmpNumberOfComponents];
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            // Even cluster vectors are sparse, odd cluster vectors are dense
+            float tmpDensity = i % 2 == 0 ? 0.02f : 0.5f;
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpClusterVectors[i][j] = tmpRandomNumberGenerator.nextFloat() < tmpDensity ? tmpRandomNumberGenerator.nextFloat() : 0.0f;
+            }
+            tmpClusterMatrix.addCluster(tmpClusterVectors[i]);
+            Assertions.assertEquals(i % 2 == 0, tmpClusterMatrix.isSparse(i));
+        }
+        Assertions.assertEquals(tmpNumberOfClusters / 2, tmpClusterMatrix.getNumberOfSparseClusters());
+        float[] tmpVector = new float[tmpNumberOfComponents];
+        for (int j = 0; j < tmpNumberOfComponents; j++) {
+            tmpVector[j] = tmpRandomNumberGenerator.nextFloat();
+        }
+        for (int i = 0; i < tmpNumberOfClusters; i += 2) {
+            float tmpScalarProduct = 0.0f;
+            for (int j = 0; j < tmpNumberOfComponents; j++) {
+                tmpScalarProduct = Math.fma(tmpVector[j], tmpClusterVectors[i][j], tmpScalarProduct);
+            }
+            Assertions.assertEquals(tmpScalarProduct, tmpClusterMatrix.getScalarProduct(tmpVector, i));
+        }
+        // Remove every third cluster vector
+        boolean[] tmpClusterUsageFlags = new boolean[tmpNumberOfClusters];
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            tmpClusterUsageFlags[i] = i % 3 != 0;
+        }
+        tmpClusterMatrix.removeEmptyClusters(tmpClusterUsageFlags, new Utils.ClusterRemovalInfo());
+        Assertions.assertEquals(2 * tmpNumberOfClusters / 3, tmpClusterMatrix.getNumberOfClusters());
+        int tmpIndex = 0;
+        for (int i = 0; i < tmpNumberOfClusters; i++) {
+            if (tmpClusterUsageFlags[i]) {
+                Assertions.assertEquals(i % 2 == 0, tmpClusterMatrix.isSparse(tmpIndex));
+                Assertions.assertEquals(
+                    Utils.getScalarProduct(tmpVector, tmpClusterVectors[i]),
+                    tmpClusterMatrix.getScalarProduct(tmpVector, tmpIndex),
+                    1.0e-3f
+                );
+                tmpIndex++;
+            }
+        }
+        Assertions.assertEquals(10, tmpClusterMatrix.getNumberOfSparseClusters());
+        // High-dimensional sparse data row vectors around 10 centers with
+        // 20 non-zero components each
+        int tmpNumberOfCenters = 10;
+        float[][] tmpDataMatrix = new float[500][tmpNumberOfComponents];
+        int[][] tmpCenterIndices = new int[tmpNumberOfCenters][20];
+        for (int i = 0; i < tmpNumberOfCenters; i++) {
+            for (int j = 0; j < tmpCenterIndices[i].length; j++) {
+                tmpCenterIndices[i][j] = tmpRandomNumberGenerator.nextInt(tmpNumberOfComponents);
+            }
+        }
+        for (int i = 0; i < tmpDataMatrix.length; i++) {
+            for (int tmpComponentIndex : tmpCenterIndices[i % tmpNumberOfCenters]) {
+                tmpDataMatrix[i][tmpComponentIndex] = 0.5f + 0.5f * tmpRandomNumberGenerator.nextFloat();
+            }
+        }
+        SparseDataMatrix tmpSparseDataMatrix = SparseDataMatrix.getSparseDataMatrix(tmpDataMatrix);
+        for (boolean tmpIsDataPreprocessing : new boolean[] {false, true}) {
+            Art2aKernel tmpDenseKernel = new Art2aKernel(tmpDataMatrix, 100, 10, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+            Art2aKernel tmpSparseKernel = new Art2aKernel(tmpSparseDataMatrix, 100, 10, 0.99f, 0.01f, 1.0f, 1L, tmpIsDataPreprocessing);
+            try {
+                Art2aResult tmpSparseResult = tmpSparseKernel.getClusterResult(0.5f, false, false);
+                Assertions.assertEquals(tmpNumberOfCenters, tmpSparseResult.getNumberOfDetectedClusters());
+                for (boolean tmpIsParallelRhoWinnerCalculation : new boolean[] {false, true}) {
+                    for (boolean tmpIsRhoWinnerPruning : new boolean[] {false, true}) {
+                        Art2aResult tmpDenseResult = tmpDenseKernel.getClusterResult(0.5f, tmpIsParallelRhoWinnerCalculation, tmpIsRhoWinnerPruning);
+                        Assertions.assertEquals(tmpSparseResult.getNumberOfDetectedClusters(), tmpDenseResult.getNumberOfDetectedClusters());
+                        Assertions.assertEquals(tmpSparseResult.getNumberOfEpochs(), tmpDenseResult.getNumberOfEpochs());
+                        for (int i = 0; i < tmpSparseResult.getNumberOfDetectedClusters(); i++) {
+                            Assertions.assertArrayEquals(
+                                tmpSparseResult.getDataVectorIndicesOfCluster(i),
+                                tmpDenseResult.getDataVectorIndicesOfCluster(i)
+                            );
+                        }
+                    }
+                }
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+        }
+    }
+
+    /**
+     * Tests the per-epoch numbers of reassigned data vectors and the
+     * assignment-stability convergence criterion (alone and combined with the
+     * convergence criterion of the cluster vectors).
+     */
+    @Test
+    public void test_ReassignmentConvergence() {
+        System.out.println("------------------------------");
+        System.out.println("test_ReassignmentConvergence()");
+        System.out.println("------------------------------");
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        float tmpReassignmentThreshold = 0.01f;
+        Art2aKernel tmpArt2aKernel = new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, false);
+        for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f}) {
+            Art2aResult tmpResult = null;
+            Art2aResult tmpReassignmentResult = null;
+            Art2aResult tmpCombinedResult = null;
+            try {
+                tmpResult = tmpArt2aKernel.getClusterResult(tmpVigilance);
+                tmpReassignmentResult = tmpArt2aKernel.getClusterResultWithReassignmentConvergence(tmpVigilance, tmpReassignmentThreshold, false);
+                tmpCombinedResult = tmpArt2aKernel.getClusterResultWithReassignmentConvergence(tmpVigilance, tmpReassignmentThreshold, true);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            System.out.println(
+                "  Vigilance = " + tmpVigilance +
+                    ": Epochs = " + tmpResult.getNumberOfEpochs() +
+                    ", reassignment = " + tmpReassignmentResult.getNumberOfEpochs() +
+                    ", combined = " + tmpCombinedResult.getNumberOfEpochs() +
+                    ", reassigned data vectors = " + Arrays.toString(tmpCombinedResult.getNumbersOfReassignedDataVectors())
+            );
+            for (Art2aResult tmpArt2aResult : new Art2aResult[] {tmpResult, tmpReassignmentResult, tmpCombinedResult}) {
+                Assertions.assertTrue(tmpArt2aResult.isConverged());
+                int[] tmpNumbersOfReassignedDataVectors = tmpArt2aResult.getNumbersOfReassignedDataVectors();
+                Assertions.assertEquals(tmpArt2aResult.getNumberOfEpochs(), tmpNumbersOfReassignedDataVectors.length);
+                // All data vectors are assigned in the first epoch
+                Assertions.assertEquals(tmpCombinedGaussianCloudDataMatrix.length, tmpNumbersOfReassignedDataVectors[0]);
+            }
+            // Convergence criteria do not change the clustering process of an
+            // epoch: Numbers of reassigned data vectors of common epochs are
+            // identical
+            int[] tmpNumbersOfReassignedDataVectors = tmpCombinedResult.getNumbersOfReassignedDataVectors();
+            int[] tmpReassignmentNumbers = tmpReassignmentResult.getNumbersOfReassignedDataVectors();
+            Assertions.assertArrayEquals(
+                tmpReassignmentNumbers,
+                Arrays.copyOf(tmpNumbersOfReassignedDataVectors, tmpReassignmentNumbers.length)
+            );
+            Assertions.assertTrue(
+                tmpReassignmentNumbers[tmpReassignmentNumbers.length - 1] <
+                    tmpReassignmentThreshold * tmpCombinedGaussianCloudDataMatrix.length
+            );
+            Assertions.assertTrue(tmpReassignmentResult.getNumberOfEpochs() <= tmpCombinedResult.getNumberOfEpochs());
+            Assertions.assertTrue(tmpResult.getNumberOfEpochs() <= tmpCombinedResult.getNumberOfEpochs());
+        }
+        // Illegal reassignment thresholds
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aKernel.getClusterResultWithReassignmentConvergence(0.5f, 0.0f, false)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aKernel.getClusterResultWithReassignmentConvergence(0.5f, 1.1f, true)
+        );
+    }
+
+    /**
+     * Tests per-cluster freezing of converged cluster vectors: Freezing after
+     * the specified number of stable epochs, unfreezing after significant
+     * changes of the assignments and reset, as well as clustering with
+     * freezing in comparison to clustering without freezing.
+     */
+    @Test
+    public void test_ClusterFreezing() {
+        System.out.println("----------------------");
+        System.out.println("test_ClusterFreezing()");
+        System.out.println("----------------------");
+        int tmpNumberOfComponents = 100;
+        ClusterMatrix tmpClusterMatrix = new ClusterMatrix(10, tmpNumberOfComponents);
+        float[] tmpClusterVector = new float[tmpNumberOfComponents];
+        for (int i = 0; i < 2; i++) {
+            Utils.fillVector(tmpClusterVector, 0.0f);
+            tmpClusterVector[i] = 1.0f;
+            tmpClusterMatrix.addCluster(tmpClusterVector);
+        }
+        ClusterFreezing tmpClusterFreezing = new ClusterFreezing(10, 2, 0.99f, true);
+        // Epoch 1 without references, epochs 2 and 3 with stable cluster vectors
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 1, 100));
+        Assertions.assertEquals(0, tmpClusterFreezing.getNumberOfFrozenClusters());
+        Assertions.assertTrue(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 2, 100));
+        Assertions.assertEquals(0, tmpClusterFreezing.getNumberOfFrozenClusters());
+        Assertions.assertTrue(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 3, 100));
+        Assertions.assertEquals(2, tmpClusterFreezing.getNumberOfFrozenClusters());
+        Assertions.assertTrue(tmpClusterFreezing.isFrozen(0));
+        Assertions.assertTrue(tmpClusterFreezing.isFrozen(1));
+        // Few changed assignments: Clusters remain frozen
+        for (int i = 0; i < 30; i++) {
+            tmpClusterFreezing.addAssignment(0, 0);
+            tmpClusterFreezing.addAssignment(1, 1);
+        }
+        tmpClusterFreezing.addAssignment(0, 1);
+        Assertions.assertTrue(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 4, 100));
+        Assertions.assertEquals(2, tmpClusterFreezing.getNumberOfFrozenClusters());
+        // Significant changes of the assignments of cluster 1 (data vectors
+        // without previous cluster): Cluster 1 is unfrozen
+        for (int i = 0; i < 30; i++) {
+            tmpClusterFreezing.addAssignment(0, 0);
+            tmpClusterFreezing.addAssignment(1, 1);
+        }
+        for (int i = 0; i < 5; i++) {
+            tmpClusterFreezing.addAssignment(1, -1);
+        }
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 5, 100));
+        Assertions.assertEquals(1, tmpClusterFreezing.getNumberOfFrozenClusters());
+        Assertions.assertFalse(tmpClusterFreezing.isFrozen(1));
+        // Drift of the cluster vector that is not frozen prevents convergence
+        tmpClusterMatrix.getComponents()[tmpClusterMatrix.getOffset(1) + 1] = 0.0f;
+        tmpClusterMatrix.getComponents()[tmpClusterMatrix.getOffset(1) + 2] = 1.0f;
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 6, 100));
+        Assertions.assertTrue(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 7, 100));
+        // No convergence in the last epoch and after reset
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 100, 100));
+        tmpClusterFreezing.reset();
+        Assertions.assertEquals(0, tmpClusterFreezing.getNumberOfFrozenClusters());
+        Assertions.assertFalse(tmpClusterFreezing.isFrozen(0));
+        Assertions.assertFalse(tmpClusterFreezing.isConverged(tmpClusterMatrix, 2, 8, 100));
+
+        // Clustering with freezing
+        float[][] tmpCombinedGaussianCloudDataMatrix =
+            this.getCombinedGaussianCloudMatrix(
+                10,
+                100,
+                0.1f,
+                new Random(1L)
+            );
+        Art2aKernel tmpArt2aKernel = new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 200, 0.99999f, 0.01f, 1.0f, 1L, false);
+        for (float tmpVigilance : new float[] {0.1f, 0.5f, 0.9f}) {
+            Art2aResult tmpResult = null;
+            Art2aResult tmpFrozenResult = null;
+            try {
+                tmpResult = tmpArt2aKernel.getClusterResult(tmpVigilance);
+                tmpFrozenResult = tmpArt2aKernel.getClusterResultWithClusterFreezing(tmpVigilance, 2);
+            } catch (Exception anException) {
+                Assertions.fail();
+            }
+            System.out.println(
+                "  Vigilance = " + tmpVigilance +
+                    ": Epochs = " + tmpResult.getNumberOfEpochs() +
+                    ", with freezing = " + tmpFrozenResult.getNumberOfEpochs() +
+                    ", clusters = " + tmpResult.getNumberOfDetectedClusters() +
+                    ", with freezing = " + tmpFrozenResult.getNumberOfDetectedClusters()
+            );
+            // Freezing is an approximation: Nearly all data vectors must be
+            // assigned to the same clusters
+            Assertions.assertTrue(tmpFrozenResult.isConverged());
+            Assertions.assertTrue(tmpFrozenResult.getNumberOfEpochs() <= tmpResult.getNumberOfEpochs());
+            Assertions.assertEquals(tmpResult.getNumberOfDetectedClusters(), tmpFrozenResult.getNumberOfDetectedClusters());
+            int tmpNumberOfIdenticalAssignments = 0;
+            for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                boolean[] tmpIsMember = new boolean[tmpCombinedGaussianCloudDataMatrix.length];
+                for (int tmpIndex : tmpResult.getDataVectorIndicesOfCluster(i)) {
+                    tmpIsMember[tmpIndex] = true;
+                }
+                for (int tmpIndex : tmpFrozenResult.getDataVectorIndicesOfCluster(i)) {
+                    if (tmpIsMember[tmpIndex]) {
+                        tmpNumberOfIdenticalAssignments++;
+                    }
+                }
+            }
+            Assertions.assertTrue(tmpNumberOfIdenticalAssignments >= 0.95f * tmpCombinedGaussianCloudDataMatrix.length);
+        }
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> tmpArt2aKernel.getClusterResultWithClusterFreezing(0.5f, 0)
+        );
+    }
+
+    /**
+     * Tests the learning parameter schedules and that clustering with a
+     * decaying learning parameter converges in fewer epochs with the same
+     * cluster structure as clustering with a constant learning parameter.
+     */
+    @Test
+    public void test_LearningParameterSchedule() {
+        System.out.println("--------------------------------");
+        System.out.println("test_LearningParameterSchedule()");
+        System.out.println("--------------------------------");
+        float tmpLearningParameter = 0.01f;
+        LearningParameterSchedule tmpStepDecaySchedule = LearningParameterSchedule.getStepDecaySchedule(0.5f, 2);
+        Assertions.assertEquals(tmpLearningParameter, tmpStepDecaySchedule.getLearningParameter(tmpLearningParameter, 1));
+        Assertions.assertEquals(tmpLearningParameter, tmpStepDecaySchedule.getLearningParameter(tmpLearningParameter, 2));
+        Assertions.assertEquals(0.5f * tmpLearningParameter, tmpStepDecaySchedule.getLearningParameter(tmpLearningParameter, 3), 1.0e-7f);
+        Assertions.assertEquals(0.25f * tmpLearningParameter, tmpStepDecaySchedule.getLearningParameter(tmpLearningParameter, 5), 1.0e-7f);
+        LearningParameterSchedule tmpExponentialDecaySchedule = LearningParameterSchedule.getExponentialDecaySchedule(0.1f);
+        Assertions.assertEquals(tmpLearningParameter, tmpExponentialDecaySchedule.getLearningParameter(tmpLearningParameter, 1));
+        Assertions.assertEquals(tmpLearningParameter * (float) Math.exp(-1.0), tmpExponentialDecaySchedule.getLearningParameter(tmpLearningParameter, 11), 1.0e-7f);
+        LearningParameterSchedule tmpInverseTimeDecaySchedule = LearningParameterSchedule.getInverseTimeDecaySchedule(1.0f);
+        Assertions.assertEquals(tmpLearningParameter, tmpInverseTimeDecaySchedule.getLearningParameter(tmpLearningParameter, 1));
+        Assertions.assertEquals(0.1f * tmpLearningParameter, tmpInverseTimeDecaySchedule.getLearningParameter(tmpLearningParameter, 10), 1.0e-7f);
+        LearningParameterSchedule tmpClusterCountDecaySchedule = LearningParameterSchedule.getClusterCountDecaySchedule(0.1f);
+        Assertions.assertTrue(tmpClusterCountDecaySchedule.isClusterCountDecay());
+        Assertions.assertEquals(tmpLearningParameter, tmpClusterCountDecaySchedule.getLearningParameter(tmpLearningParameter, 10));
+        Assertions.assertEquals(0.5f * tmpLearningParameter, tmpClusterCountDecaySchedule.getClusterLearningParameter(tmpLearningParameter, 10), 1.0e-7f);
+        Assertions.assertEquals(tmpLearningParameter, LearningParameterSchedule.getConstantSchedule().getLearningParameter(tmpLearningParameter, 100));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LearningParameterSchedule.getStepDecaySchedule(1.0f, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LearningParameterSchedule.getStepDecaySchedule(0.5f, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LearningParameterSchedule.getExponentialDecaySchedule(0.0f));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LearningParameterSchedule.getInverseTimeDecaySchedule(-1.0f));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LearningParameterSchedule.getClusterCountDecaySchedule(Float.NaN));
+
+        // Well separated Gaussian clouds: Same cluster structure for all
+        // schedules. Overlapping Gaussian clouds: A constant learning
+        // parameter does not converge within the maximum number of epochs.
+        LearningParameterSchedule[] tmpSchedules =
+            new LearningParameterSchedule[] {
+                LearningParameterSchedule.getConstantSchedule(),
+                tmpStepDecaySchedule,
+                tmpExponentialDecaySchedule,
+                tmpInverseTimeDecaySchedule,
+                tmpClusterCountDecaySchedule
+            };
+        float[][] tmpCombinedGaussianCloudDataMatrix = null;
+        for (float tmpStandardDeviation : new float[] {0.1f, 0.2f}) {
+            tmpCombinedGaussianCloudDataMatrix =
+                this.getCombinedGaussianCloudMatrix(
+                    10,
+                    100,
+                    tmpStandardDeviation,
+                    new Random(1L)
+                );
+            for (LearningParameterSchedule tmpSchedule : tmpSchedules) {
+                Art2aResult tmpResult = null;
+                try {
+                    tmpResult =
+                        new Art2aKernel(tmpCombinedGaussianCloudDataMatrix, 1000, 200, 0.99999f, tmpLearningParameter, 1.0f, 1L, false, tmpSchedule)
+                            .getClusterResult(0.5f);
+                } catch (Exception anException) {
+                    Assertions.fail();
+                }
+                System.out.println(
+                    "  Standard deviation = " + tmpStandardDeviation + ", " + tmpSchedule +
+                        ": Epochs = " + tmpResult.getNumberOfEpochs() +
+                        ", clusters = " + tmpResult.getNumberOfDetectedClusters()
+                );
+                if (tmpStandardDeviation == 0.1f) {
+                    Assertions.assertTrue(tmpResult.isConverged());
+                    Assertions.assertEquals(10, tmpResult.getNumberOfDetectedClusters());
+                    for (int i = 0; i < tmpResult.getNumberOfDetectedClusters(); i++) {
+                        Assertions.assertEquals(100, tmpResult.getClusterSize(i));
+                    }
+                } else if (tmpSchedule == tmpSchedules[0]) {
+                    Assertions.assertFalse(tmpResult.isConverged());
+                    Assertions.assertEquals(200, tmpResult.getNumberOfEpochs());
+                } else {
+                    Assertions.assertTrue(tmpResult.isConverged());
+                    Assertions.assertTrue(tmpResult.getNumberOfEpochs() < 200);
+                }
+            }
+        }
+        float[][] tmpDataMatrix = tmpCombinedGaussianCloudDataMatrix;
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Art2aKernel(tmpDataMatrix, 1000, 200, 0.99999f, tmpLearningParameter, 1.0f, 1L, false, null)
+        );
+    }
+
     /**
      * Test that generated Art2aData object leads to identical clustering
      * results.
@@ -870,6 +2623,73 @@ public class Art2aTest {
         }
         return isEqual;
     }
+
+    /**
+     * Compares two clustering results: Number of detected clusters, number
+     * of epochs, data vector indices and cluster vectors of all clusters.
+     * Note: No checks are performed.
+     *
+     * @param aResult1 Result 1
+     * @param aResult2 Result 2
+     * @return True: Results are identical, false: Otherwise
+     */
+    private boolean isEqualResult(
+        Art2aResult aResult1,
+        Art2aResult aResult2
+    ) {
+        if (aResult1.getNumberOfDetectedClusters() != aResult2.getNumberOfDetectedClusters() ||
+            aResult1.getNumberOfEpochs() != aResult2.getNumberOfEpochs()
+        ) {
+            return false;
+        }
+        for (int i = 0; i < aResult1.getNumberOfDetectedClusters(); i++) {
+            if (!this.compareArrays(aResult1.getDataVectorIndicesOfCluster(i), aResult2.getDataVectorIndicesOfCluster(i)) ||
+                !Arrays.equals(aResult1.getClusterVector(i), aResult2.getClusterVector(i))
+            ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Rand index of two clustering results, i.e., the fraction
+     * of pairs of data vectors on whose grouping (same or different
+     * clusters) both results agree.
+     * Note: No checks are performed.
+     *
+     * @param aResult1 Result 1
+     * @param aResult2 Result 2
+     * @param aNumberOfDataVectors Number of data vectors
+     * @return Rand index in interval [0,1]
+     */
+    private double getRandIndex(
+        Art2aResult aResult1,
+        Art2aResult aResult2,
+        int aNumberOfDataVectors
+    ) {
+        int[] tmpClusterIndices1 = new int[aNumberOfDataVectors];
+        int[] tmpClusterIndices2 = new int[aNumberOfDataVectors];
+        for (int i = 0; i < aResult1.getNumberOfDetectedClusters(); i++) {
+            for (int tmpIndex : aResult1.getDataVectorIndicesOfCluster(i)) {
+                tmpClusterIndices1[tmpIndex] = i;
+            }
+        }
+        for (int i = 0; i < aResult2.getNumberOfDetectedClusters(); i++) {
+            for (int tmpIndex : aResult2.getDataVectorIndicesOfCluster(i)) {
+                tmpClusterIndices2[tmpIndex] = i;
+            }
+        }
+        long tmpNumberOfAgreements = 0L;
+        for (int i = 0; i < aNumberOfDataVectors; i++) {
+            for (int j = i + 1; j < aNumberOfDataVectors; j++) {
+                if ((tmpClusterIndices1[i] == tmpClusterIndices1[j]) == (tmpClusterIndices2[i] == tmpClusterIndices2[j])) {
+                    tmpNumberOfAgreements++;
+                }
+            }
+        }
+        return (double) tmpNumberOfAgreements / ((long) aNumberOfDataVectors * (aNumberOfDataVectors - 1L) / 2L);
+    }
     //</editor-fold>
     // <editor-fold defaultstate="collapsed" desc="Private Gaussian cloud methods">
     /**
@@ -1016,6 +2836,37 @@ public class Art2aTest {
         };
     }
 
+    /**
+     * Tests the replacement of the cluster indices of the data vectors after
+     * the removal of empty clusters so that unchanged assignments are not
+     * counted as reassigned in the next epoch.
+     */
+    @Test
+    public void test_RemoveEmptyClusterIndices() {
+        System.out.println("--------------------------------");
+        System.out.println("test_RemoveEmptyClusterIndices()");
+        System.out.println("--------------------------------");
+        int[] tmpClusterIndexOfDataVector = new int[] {0, 2, -1, 4, 1, 4, 3, 2};
+        boolean[] tmpClusterUsageFlags = new boolean[] {true, false, true, false, true, false};
+        int[] tmpNewClusterIndices = new int[tmpClusterUsageFlags.length];
+        int[] tmpNumbersOfClusterAssignments = new int[] {5, 0, 7, 0, 9, 0};
+        Utils.removeEmptyClusterIndices(tmpClusterIndexOfDataVector, tmpClusterUsageFlags, tmpNewClusterIndices);
+        Utils.removeEmptyClusterValues(tmpNumbersOfClusterAssignments, tmpClusterUsageFlags);
+        // Data vectors of removed clusters 1 and 3 get -1
+        Assertions.assertArrayEquals(new int[] {0, 1, -1, 2, -1, 2, -1, 1}, tmpClusterIndexOfDataVector);
+        Assertions.assertArrayEquals(new int[] {0, -1, 1, -1, 2, -1}, tmpNewClusterIndices);
+        // Remapped cluster indices and compacted cluster values match
+        Assertions.assertArrayEquals(new int[] {5, 7, 9}, Arrays.copyOf(tmpNumbersOfClusterAssignments, 3));
+        // Without removed clusters the cluster indices are not changed
+        int[] tmpUnchangedClusterIndexOfDataVector = new int[] {2, 0, 1, -1};
+        Utils.removeEmptyClusterIndices(
+            tmpUnchangedClusterIndexOfDataVector,
+            new boolean[] {true, true, true, false},
+            tmpNewClusterIndices
+        );
+        Assertions.assertArrayEquals(new int[] {2, 0, 1, -1}, tmpUnchangedClusterIndexOfDataVector);
+    }
+
     /**
      * Returns Iris virginica data
      *
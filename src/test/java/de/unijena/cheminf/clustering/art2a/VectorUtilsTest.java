@@ -0,0 +1,162 @@
+/*
+ * ART-2a Clustering for Java
+ * Copyright (C) 2025 Jonas Schaub, Betuel Sevindik, Achim Zielesny
+ *
+ * Source code is available at
+ * <https://github.com/JonasSchaub/ART2a-Clustering-for-Java>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.unijena.cheminf.clustering.art2a;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Test class for the vectorized (SIMD) vector math of VectorUtils.
+ * <br><br>
+ * Note: Tests are only performed if the JDK Vector API is used (see
+ * Utils.IS_VECTOR_API_USED).
+ */
+public class VectorUtilsTest {
+
+    /**
+     * Vector lengths to test (with and without scalar tails)
+     */
+    private static final int[] VECTOR_LENGTHS = new int[] {1, 3, 7, 16, 29, 64, 167, 1024, 2048};
+
+    /**
+     * Tests vectorized scalar products and squared distances against double
+     * precision reference values within the tolerance documented in
+     * VectorUtils.
+     */
+    @Test
+    public void test_ScalarProductAndSquaredDistance() {
+        Assumptions.assumeTrue(Utils.IS_VECTOR_API_USED, "JDK Vector API is not used.");
+        Random tmpRandom = new Random(1L);
+        for (int tmpLength : VectorUtilsTest.VECTOR_LENGTHS) {
+            int tmpOffset = tmpRandom.nextInt(16);
+            float[] tmpVector = this.getRandomVector(tmpLength, tmpRandom);
+            float[] tmpMatrix = this.getRandomVector(tmpOffset + tmpLength, tmpRandom);
+            double tmpScalarProduct = 0.0;
+            double tmpAbsoluteScalarProduct = 0.0;
+            double tmpSquaredDistance = 0.0;
+            for (int i = 0; i < tmpLength; i++) {
+                double tmpProduct = (double) tmpVector[i] * tmpMatrix[tmpOffset + i];
+                double tmpDelta = (double) tmpVector[i] - tmpMatrix[tmpOffset + i];
+                tmpScalarProduct += tmpProduct;
+                tmpAbsoluteScalarProduct += Math.abs(tmpProduct);
+                tmpSquaredDistance += tmpDelta * tmpDelta;
+            }
+            Assertions.assertEquals(
+                tmpScalarProduct,
+                VectorUtils.getScalarProduct(tmpVector, 0, tmpMatrix, tmpOffset, tmpLength),
+                this.getTolerance(tmpLength, tmpAbsoluteScalarProduct)
+            );
+            Assertions.assertEquals(
+                tmpScalarProduct,
+                Utils.getScalarProduct(tmpVector, tmpMatrix, tmpOffset),
+                this.getTolerance(tmpLength, tmpAbsoluteScalarProduct)
+            );
+            Assertions.assertEquals(
+                tmpSquaredDistance,
+                VectorUtils.getSquaredDistance(tmpVector, 0, tmpMatrix, tmpOffset, tmpLength),
+                this.getTolerance(tmpLength, tmpSquaredDistance)
+            );
+            Assertions.assertEquals(
+                tmpSquaredDistance,
+                Utils.getSquaredDistance(tmpVector, tmpMatrix, tmpOffset),
+                this.getTolerance(tmpLength, tmpSquaredDistance)
+            );
+        }
+    }
+
+    /**
+     * Tests vectorized sums of components and sums of squared differences
+     * against double precision reference values within the tolerance
+     * documented in VectorUtils.
+     */
+    @Test
+    public void test_SumOfComponentsAndSumOfSquaredDifferences() {
+        Assumptions.assumeTrue(Utils.IS_VECTOR_API_USED, "JDK Vector API is not used.");
+        Random tmpRandom = new Random(2L);
+        float tmpValue = 0.25f;
+        for (int tmpLength : VectorUtilsTest.VECTOR_LENGTHS) {
+            float[] tmpVector = this.getRandomVector(tmpLength, tmpRandom);
+            double tmpSumOfComponents = 0.0;
+            double tmpAbsoluteSumOfComponents = 0.0;
+            double tmpSumOfSquaredDifferences = 0.0;
+            double tmpSquaredVectorLength = 0.0;
+            for (float tmpComponent : tmpVector) {
+                double tmpDelta = (double) tmpComponent - tmpValue;
+                tmpSumOfComponents += tmpComponent;
+                tmpAbsoluteSumOfComponents += Math.abs(tmpComponent);
+                tmpSumOfSquaredDifferences += tmpDelta * tmpDelta;
+                tmpSquaredVectorLength += (double) tmpComponent * tmpComponent;
+            }
+            Assertions.assertEquals(
+                tmpSumOfComponents,
+                Utils.getSumOfComponents(tmpVector),
+                this.getTolerance(tmpLength, tmpAbsoluteSumOfComponents)
+            );
+            Assertions.assertEquals(
+                tmpSumOfSquaredDifferences,
+                Utils.getSumOfSquaredDifferences(tmpVector, tmpValue),
+                this.getTolerance(tmpLength, tmpSumOfSquaredDifferences)
+            );
+            Assertions.assertEquals(
+                Math.sqrt(tmpSquaredVectorLength),
+                Utils.getVectorLength(tmpVector),
+                Math.sqrt(tmpSquaredVectorLength) * this.getTolerance(tmpLength, 1.0)
+            );
+        }
+    }
+
+    /**
+     * Returns tolerance as documented in VectorUtils (with a safety factor of
+     * 2).
+     *
+     * @param aLength Number of summands
+     * @param anAbsoluteSum Sum of absolute values of the summands
+     * @return Tolerance
+     */
+    private double getTolerance(int aLength, double anAbsoluteSum) {
+        return 2.0 * aLength * Math.ulp(1.0f) * anAbsoluteSum + Float.MIN_NORMAL;
+    }
+
+    /**
+     * Returns vector with random components in interval [-1,1).
+     *
+     * @param aLength Length of vector
+     * @param aRandom Random number generator
+     * @return Vector with random components
+     */
+    private float[] getRandomVector(int aLength, Random aRandom) {
+        float[] tmpVector = new float[aLength];
+        for (int i = 0; i < aLength; i++) {
+            tmpVector[i] = 2.0f * aRandom.nextFloat() - 1.0f;
+        }
+        return tmpVector;
+    }
+
+}